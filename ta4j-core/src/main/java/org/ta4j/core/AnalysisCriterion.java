@@ -24,8 +24,12 @@
 package org.ta4j.core;
 
 import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.analysis.AnalysisContext;
+import org.ta4j.core.criteria.CriteriaReport;
+import org.ta4j.core.criteria.CriterionAccumulator;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * An analysis criterion.
@@ -52,6 +56,31 @@ public interface AnalysisCriterion {
      */
     double calculate(BarSeries series, TradingRecord tradingRecord);
 
+    /**
+     * Calculates the criterion value for the trading record of a context,
+     * reusing the cash flow and returns the context already holds. The default
+     * implementation calculates the value from the trading record.
+     *
+     * @param context the analysis context of a trading record, not null
+     * @return the criterion value for the positions
+     */
+    default double calculate(AnalysisContext context) {
+        return calculate(context.getBarSeries(), context.getTradingRecord());
+    }
+
+    /**
+     * Returns an accumulator of the criterion value for the trading record, fed
+     * with its bars and positions by a {@link CriteriaReport}. The default
+     * accumulator ignores them and calculates the value from the trading record.
+     *
+     * @param series        a bar series, not null
+     * @param tradingRecord a trading record, not null
+     * @return the accumulator of the criterion value for the positions
+     */
+    default CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return () -> calculate(series, tradingRecord);
+    }
+
     /**
      * @param manager    the bar series manager with entry type of BUY
      * @param strategies a list of strategies
@@ -73,7 +102,7 @@ public interface AnalysisCriterion {
     default Strategy chooseBest(BarSeriesManager manager, TradeType tradeType, List<Strategy> strategies) {
 
         Strategy bestStrategy = strategies.get(0);
-        double bestCriterionValue = calculate(manager.getBarSeries(), manager.run(bestStrategy));
+        double bestCriterionValue = calculate(manager.getBarSeries(), manager.run(bestStrategy, tradeType));
 
         for (int i = 1; i < strategies.size(); i++) {
             Strategy currentStrategy = strategies.get(i);
@@ -88,6 +117,33 @@ public interface AnalysisCriterion {
         return bestStrategy;
     }
 
+    /**
+     * Runs the strategies in parallel (see {@link BarSeriesManager} for the objects
+     * they may share) and chooses the best one. As for the sequential version, the
+     * first strategy wins in case of a tie.
+     *
+     * @param manager    the bar series manager
+     * @param tradeType  the entry type (BUY or SELL) of the first trade in the
+     *                   trading session
+     * @param strategies a list of strategies
+     * @param executor   the executor running the strategies
+     * @return the best strategy (among the provided ones) according to the
+     *         criterion
+     * @throws IllegalStateException if the series of the manager is not
+     *                               concurrent
+     */
+    default Strategy chooseBest(BarSeriesManager manager, TradeType tradeType, List<Strategy> strategies,
+            ExecutorService executor) {
+        double[] criterionValues = manager.analyzeAll(strategies, tradeType, this, executor);
+        int best = 0;
+        for (int i = 1; i < criterionValues.length; i++) {
+            if (betterThan(criterionValues[i], criterionValues[best])) {
+                best = i;
+            }
+        }
+        return strategies.get(best);
+    }
+
     /**
      * @param criterionValue1 the first value
      * @param criterionValue2
@@ -29,6 +29,8 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import org.ta4j.core.indicators.IndicatorRegistry;
+
 /**
  * Sequence of {@link Bar bars} separated by a predefined period (e.g. 15
  * minutes, 1 day, etc.)
@@ -267,4 +269,62 @@ public interface BarSeries extends Serializable {
      */
     BarSeries getSubSeries(int startIndex, int endIndex);
 
+    /**
+     * Returns a read-only view of the bars between <tt>startIndex</tt>
+     * (inclusive) and <tt>endIndex</tt> (exclusive) of this BarSeries. Unlike
+     * {@link #getSubSeries(int, int)}, the bars are not copied: index 0 of the
+     * view reads the bar <tt>startIndex</tt> of this BarSeries.
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a view of the Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex, startIndex < 0
+     *                                  or if there is no bar between the indexes
+     * @see BarSeriesView
+     */
+    default BarSeriesView getView(int startIndex, int endIndex) {
+        return new BarSeriesView(this, startIndex, endIndex);
+    }
+
+    /**
+     * Returns the registry of the indicators shared by everything built on this
+     * series. Asking the registry twice for the same indicator (class, parameters
+     * and inputs) returns the same cached instance. The built-in indicators do
+     * not use it: indicators are only shared when they are explicitly taken from
+     * the registry.
+     *
+     * @return the indicator registry of this series
+     */
+    IndicatorRegistry getIndicatorRegistry();
+
+    /**
+     * @return true if the cached indicators built on this series support
+     *         concurrent evaluation, false otherwise (default)
+     * @see #setConcurrent(boolean)
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+
+    /**
+     * Enables (or disables) the concurrent mode of the cached indicators built on
+     * this series.
+     *
+     * In concurrent mode, the {@link org.ta4j.core.indicators.CachedIndicator
+     * cached indicators} can be shared between threads (e.g. by parallel
+     * backtests): the computed values are published without locking and the
+     * calculations (which may update the state of the indicator) are serialized
+     * per indicator. The mode of an indicator is chosen when it is built, so it
+     * must be set before building the indicators. The series itself is not made
+     * thread-safe: bars must not be added while other threads evaluate its
+     * indicators.
+     *
+     * @param concurrent true to enable the concurrent mode
+     * @throws UnsupportedOperationException if the series does not support the
+     *                                       concurrent mode
+     */
+    default void setConcurrent(boolean concurrent) {
+        throw new UnsupportedOperationException("Concurrent mode not supported by " + getClass().getSimpleName());
+    }
+
 }
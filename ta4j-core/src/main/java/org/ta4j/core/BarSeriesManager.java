@@ -28,13 +28,45 @@ import org.slf4j.LoggerFactory;
 import org.ta4j.core.Trade.TradeType;
 import org.ta4j.core.analysis.cost.CostModel;
 import org.ta4j.core.analysis.cost.ZeroCostModel;
+import org.ta4j.core.rules.RuleCompiler;
+import org.ta4j.core.utils.ParallelTasks;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 
 /**
  * A manager for {@link BarSeries} objects.
  *
  * Used for backtesting. Allows to run a {@link Strategy trading strategy} over
  * the managed bar series.
+ *
+ * Several strategies can be run in parallel with
+ * {@link #runAll(List, TradeType, double, ExecutorService) runAll} and
+ * {@link #analyzeAll(List, TradeType, AnalysisCriterion, ExecutorService)
+ * analyzeAll}, provided that the managed series is
+ * {@link BarSeries#setConcurrent(boolean) concurrent}. The strategies are then
+ * evaluated concurrently, so they must not share mutable objects:
+ * <ul>
+ * <li>the bar series may be shared as long as no bar is added (nor modified)
+ * during the runs;
+ * <li>indicators without state may be shared: the price helpers
+ * ({@link org.ta4j.core.indicators.helpers.ClosePriceIndicator ClosePrice},
+ * {@link org.ta4j.core.indicators.helpers.OpenPriceIndicator OpenPrice}, ...),
+ * {@link org.ta4j.core.indicators.helpers.ConstantIndicator ConstantIndicator},
+ * {@link org.ta4j.core.indicators.helpers.FixedIndicator FixedIndicator} and
+ * {@link org.ta4j.core.indicators.numeric.NumericIndicator numeric operations}
+ * of such indicators;
+ * <li>cached indicators ({@link org.ta4j.core.indicators.CachedIndicator},
+ * {@link org.ta4j.core.indicators.CachedDoubleIndicator}) and the indicators
+ * based on rolling windows update their state when they are read and must not
+ * be shared, unless the series was made {@link BarSeries#setConcurrent(boolean)
+ * concurrent} before building them. This includes the indicators canonicalized
+ * by the {@link BarSeries#getIndicatorRegistry() indicator registry};
+ * <li>rules and strategies hold their indicators and must not be shared either.
+ * </ul>
  */
 public class BarSeriesManager {
 
@@ -48,6 +80,9 @@ public class BarSeriesManager {
     private CostModel transactionCostModel;
     private CostModel holdingCostModel;
 
+    /** True to jump from a signal to the next one (skip-ahead mode) */
+    private boolean skipAhead;
+
     /**
      * Constructor.
      * 
@@ -77,6 +112,50 @@ public class BarSeriesManager {
         return barSeries;
     }
 
+    /**
+     * @return the cost model for transactions of the asset
+     */
+    public CostModel getTransactionCostModel() {
+        return transactionCostModel;
+    }
+
+    /**
+     * @return the cost model for holding asset (e.g. borrowing)
+     */
+    public CostModel getHoldingCostModel() {
+        return holdingCostModel;
+    }
+
+    /**
+     * @return true if the runs are in skip-ahead mode, false otherwise (default)
+     * @see #setSkipAhead(boolean)
+     */
+    public boolean isSkipAhead() {
+        return skipAhead;
+    }
+
+    /**
+     * Enables (or disables) the skip-ahead mode of the runs.
+     *
+     * In skip-ahead mode, the rules of the strategy are first
+     * {@link RuleCompiler compiled} over the run range, then the run jumps from a
+     * trade to the next index satisfying the entry (or exit) rule, as found by
+     * {@link Rule#nextSatisfiedIndex(int, int, TradingRecord)}, instead of asking
+     * the strategy on every bar. The trading records are the same as in the
+     * default mode, as long as the strategy is unstable only before its
+     * {@link Strategy#getUnstablePeriod() unstable period}.
+     *
+     * Only the strategies of the exact class {@link BaseStrategy} are run this
+     * way: the other ones (e.g. subclasses overriding
+     * {@link Strategy#shouldOperate(int, TradingRecord) shouldOperate}) are still
+     * asked on every bar.
+     *
+     * @param skipAhead true to enable the skip-ahead mode
+     */
+    public void setSkipAhead(boolean skipAhead) {
+        this.skipAhead = skipAhead;
+    }
+
     /**
      * Runs the provided strategy over the managed series.
      *
@@ -165,10 +244,17 @@ public class BarSeriesManager {
                     strategy, tradeType);
         }
         TradingRecord tradingRecord = new BaseTradingRecord(tradeType, transactionCostModel, holdingCostModel);
-        for (int i = runBeginIndex; i <= runEndIndex; i++) {
-            // For each bar between both indexes...
-            if (strategy.shouldOperate(i, tradingRecord)) {
-                tradingRecord.operate(i, barSeries.getBar(i).getClosePrice(), amount);
+        if (skipAhead && strategy.getClass() == BaseStrategy.class) {
+            if (runBeginIndex <= runEndIndex) {
+                runSkippingAhead(RuleCompiler.compile(strategy, runBeginIndex, runEndIndex), tradingRecord, amount,
+                        runBeginIndex, runEndIndex);
+            }
+        } else {
+            for (int i = runBeginIndex; i <= runEndIndex; i++) {
+                // For each bar between both indexes...
+                if (strategy.shouldOperate(i, tradingRecord)) {
+                    tradingRecord.operate(i, barSeries.getBar(i).getClosePrice(), amount);
+                }
             }
         }
 
@@ -189,4 +275,131 @@ public class BarSeriesManager {
         return tradingRecord;
     }
 
+    /**
+     * Runs a strategy by jumping from a trade to the next index satisfying its
+     * entry (or exit) rule.
+     *
+     * @param strategy      the trading strategy
+     * @param tradingRecord the trading record to fill
+     * @param amount        the amount used to open/close the trades
+     * @param beginIndex    the start index for the run (included)
+     * @param endIndex      the finish index for the run (included)
+     */
+    private void runSkippingAhead(Strategy strategy, TradingRecord tradingRecord, double amount, int beginIndex,
+            int endIndex) {
+        int i = beginIndex;
+        while (i <= endIndex && strategy.isUnstableAt(i)) {
+            i++;
+        }
+        while (i <= endIndex) {
+            Rule rule = tradingRecord.getCurrentPosition().isNew() ? strategy.getEntryRule()
+                    : strategy.getExitRule();
+            int next = rule.nextSatisfiedIndex(i, endIndex, tradingRecord);
+            if (next < 0) {
+                break;
+            }
+            tradingRecord.operate(next, barSeries.getBar(next).getClosePrice(), amount);
+            i = next + 1;
+        }
+    }
+
+    /**
+     * Runs the provided strategies over the managed series in parallel.
+     *
+     * Opens the positions with a {@link TradeType} BUY trade.
+     *
+     * @param strategies the trading strategies (see the class documentation for
+     *                   the objects they may share)
+     * @param executor   the executor running the strategies
+     * @return the trading records coming from the runs, in the order of the
+     *         strategies
+     * @see #runAll(List, TradeType, double, ExecutorService)
+     */
+    public List<TradingRecord> runAll(List<Strategy> strategies, ExecutorService executor) {
+        return runAll(strategies, TradeType.BUY, executor);
+    }
+
+    /**
+     * Runs the provided strategies over the managed series in parallel.
+     *
+     * @param strategies the trading strategies (see the class documentation for
+     *                   the objects they may share)
+     * @param tradeType  the {@link TradeType} used to open the positions
+     * @param executor   the executor running the strategies
+     * @return the trading records coming from the runs, in the order of the
+     *         strategies
+     * @see #runAll(List, TradeType, double, ExecutorService)
+     */
+    public List<TradingRecord> runAll(List<Strategy> strategies, TradeType tradeType, ExecutorService executor) {
+        return runAll(strategies, tradeType, 1d, executor);
+    }
+
+    /**
+     * Runs the provided strategies over the managed series in parallel, each one
+     * as by {@link #run(Strategy, TradeType, double)}.
+     *
+     * Each strategy is submitted as a task to the executor (e.g. a
+     * {@link java.util.concurrent.ForkJoinPool} or, on recent JVMs, a virtual
+     * thread per task executor). See the class documentation for the objects the
+     * strategies may share.
+     *
+     * @param strategies the trading strategies (see the class documentation for
+     *                   the objects they may share)
+     * @param tradeType  the {@link TradeType} used to open the positions
+     * @param amount     the amount used to open/close the trades
+     * @param executor   the executor running the strategies
+     * @return the trading records coming from the runs, in the order of the
+     *         strategies
+     * @throws IllegalStateException if the managed series is not concurrent
+     * @throws CompletionException   if a run failed with a checked exception or
+     *                               the current thread was interrupted (runtime
+     *                               exceptions and errors are rethrown as is)
+     */
+    public List<TradingRecord> runAll(List<Strategy> strategies, TradeType tradeType, double amount,
+            ExecutorService executor) {
+        checkConcurrent();
+        List<Callable<TradingRecord>> tasks = new ArrayList<>(strategies.size());
+        for (Strategy strategy : strategies) {
+            tasks.add(() -> run(strategy, tradeType, amount));
+        }
+        return ParallelTasks.invokeAll(executor, tasks);
+    }
+
+    /**
+     * Runs the provided strategies over the managed series in parallel and
+     * calculates the criterion value of each trading record (in the same tasks).
+     *
+     * @param strategies the trading strategies (see the class documentation for
+     *                   the objects they may share)
+     * @param tradeType  the {@link TradeType} used to open the positions
+     * @param criterion  the criterion to calculate (shared by the tasks)
+     * @param executor   the executor running the strategies
+     * @return the criterion values, in the order of the strategies
+     * @throws IllegalStateException if the managed series is not concurrent
+     * @throws CompletionException   if a run failed with a checked exception or
+     *                               the current thread was interrupted (runtime
+     *                               exceptions and errors are rethrown as is)
+     * @see #runAll(List, TradeType, double, ExecutorService)
+     */
+    public double[] analyzeAll(List<Strategy> strategies, TradeType tradeType, AnalysisCriterion criterion,
+            ExecutorService executor) {
+        checkConcurrent();
+        List<Callable<Double>> tasks = new ArrayList<>(strategies.size());
+        for (Strategy strategy : strategies) {
+            tasks.add(() -> criterion.calculate(barSeries, run(strategy, tradeType)));
+        }
+        List<Double> results = ParallelTasks.invokeAll(executor, tasks);
+        double[] values = new double[results.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = results.get(i);
+        }
+        return values;
+    }
+
+    private void checkConcurrent() {
+        if (!barSeries.isConcurrent()) {
+            throw new IllegalStateException("The series must be concurrent to run strategies in parallel");
+        }
+    }
+
 }
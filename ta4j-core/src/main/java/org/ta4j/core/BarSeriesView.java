@@ -0,0 +1,313 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.indicators.helpers.ParentIndicator;
+
+/**
+ * Read-only view of a window of a parent {@link BarSeries}.
+ *
+ * Unlike {@link BarSeries#getSubSeries(int, int)}, no bar is copied: the index
+ * <code>i</code> of the view is the index <code>getOffset() + i</code> of the
+ * parent series. The window is fixed when the view is built; the bars added to
+ * the parent series later do not appear in the view. If the parent series has
+ * a maximum bar count, the bars of the window it removes afterwards can no
+ * longer be read through the view.
+ *
+ * The indicators built on the view compute their values from the bars of the
+ * window only. An indicator of the parent series can be read through the view
+ * instead with {@link #fromParent(Indicator)}: its cached values are then
+ * shared, and they are warmed by the bars preceding the window.
+ */
+public class BarSeriesView implements BarSeries {
+
+    private static final long serialVersionUID = 5408373611427392671L;
+
+    /** The parent series */
+    private final BarSeries parent;
+
+    /** The index of the parent series of the first bar of the view */
+    private final int offset;
+
+    /** The number of bars of the view */
+    private final int barCount;
+
+    /** Registry of the shared indicators (created on first use) */
+    private transient volatile IndicatorRegistry indicatorRegistry;
+
+    /** True if the cached indicators built on this view support concurrency */
+    private volatile boolean concurrent;
+
+    /**
+     * Constructor.
+     *
+     * If <tt>startIndex</tt> &lt; parent.getBeginIndex() the view starts with the
+     * first available bar of the parent series. If <tt>endIndex</tt> &gt;
+     * parent.getEndIndex() + 1 the view ends with its last bar.
+     *
+     * @param parent     the parent series
+     * @param startIndex the first index of the window in the parent series
+     *                   (inclusive)
+     * @param endIndex   the last index of the window in the parent series
+     *                   (exclusive)
+     * @throws IllegalArgumentException if endIndex &lt;= startIndex, startIndex
+     *                                  &lt; 0 or if the window holds no bar of the
+     *                                  parent series
+     */
+    public BarSeriesView(BarSeries parent, int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        int start = Math.max(startIndex, Math.max(parent.getBeginIndex(), parent.getRemovedBarsCount()));
+        int end = Math.min(endIndex, parent.getEndIndex() + 1);
+        if (parent.isEmpty() || start >= end) {
+            throw new IllegalArgumentException(String.format("No bar of %s in [%s, %s[", parent.getName(), startIndex,
+                    endIndex));
+        }
+        this.parent = parent;
+        this.offset = start;
+        this.barCount = end - start;
+    }
+
+    /**
+     * @return the parent series
+     */
+    public BarSeries getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the index of the parent series of the first bar of the view
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @param index an index of the view
+     * @return the corresponding index of the parent series
+     */
+    public int toParentIndex(int index) {
+        return offset + index;
+    }
+
+    /**
+     * Reads an indicator of the parent series through the view, translating the
+     * indexes. The values (and their cache) are the ones of the parent
+     * indicator.
+     *
+     * @param parentIndicator an indicator of the parent series
+     * @return the indicator on the view
+     * @throws IllegalArgumentException if the indicator is not built on the
+     *                                  parent series
+     */
+    public ParentIndicator fromParent(Indicator<Double> parentIndicator) {
+        return new ParentIndicator(this, parentIndicator);
+    }
+
+    @Override
+    public String getName() {
+        return parent.getName();
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if i is not an index of the view
+     * @throws IllegalStateException     if the bar has been removed from the
+     *                                   parent series since the view was built
+     */
+    @Override
+    public Bar getBar(int i) {
+        if (i < 0 || i >= barCount) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Size of view: %s bars, index = %s", barCount, i));
+        }
+        int parentIndex = offset + i;
+        if (parentIndex < parent.getRemovedBarsCount()) {
+            // The parent series would return its first remaining bar instead
+            throw new IllegalStateException(String.format("The bar %s of the view (%s of %s) has been removed",
+                    i, parentIndex, parent.getName()));
+        }
+        return parent.getBar(parentIndex);
+    }
+
+    @Override
+    public int getBarCount() {
+        return barCount;
+    }
+
+    /**
+     * @return an unmodifiable list reading the bars of the parent series
+     */
+    @Override
+    public List<Bar> getBarData() {
+        return new BarList();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return 0;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return barCount - 1;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        throw readOnly();
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return 0;
+    }
+
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(ZonedDateTime endTime, Double openPrice, Double highPrice, Double lowPrice, Double closePrice,
+            Double volume, Double amount) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Double openPrice, Double highPrice,
+            Double lowPrice, Double closePrice, Double volume) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Double openPrice, Double highPrice,
+            Double lowPrice, Double closePrice, Double volume, Double amount) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addTrade(long tradeVolume, double tradePrice) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addPrice(double price) {
+        throw readOnly();
+    }
+
+    /**
+     * Returns a view of a window of this view (on the same parent series, without
+     * copying the bars).
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a view with the bars from startIndex to endIndex-1 of this view
+     * @throws IllegalArgumentException if endIndex &lt;= startIndex or startIndex
+     *                                  &lt; 0
+     */
+    @Override
+    public BarSeriesView getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        return new BarSeriesView(parent, offset + Math.min(startIndex, barCount - 1),
+                offset + Math.min(endIndex, barCount));
+    }
+
+    @Override
+    public BarSeriesView getView(int startIndex, int endIndex) {
+        return getSubSeries(startIndex, endIndex);
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        IndicatorRegistry registry = indicatorRegistry;
+        if (registry == null) {
+            synchronized (this) {
+                registry = indicatorRegistry;
+                if (registry == null) {
+                    registry = new IndicatorRegistry(this);
+                    indicatorRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    @Override
+    public void setConcurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("A BarSeriesView is read-only");
+    }
+
+    /**
+     * Bars of the view, read from the parent series.
+     */
+    private class BarList extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            return getBar(index);
+        }
+
+        @Override
+        public int size() {
+            return barCount;
+        }
+    }
+}
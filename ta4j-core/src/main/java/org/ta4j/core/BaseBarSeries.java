@@ -25,6 +25,8 @@ package org.ta4j.core;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.utils.CircularArrayList;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
@@ -53,9 +55,11 @@ public class BaseBarSeries implements BarSeries {
      */
     private final String name;
     /**
-     * List of bars
+     * List of bars. Replaced by a {@link CircularArrayList} as soon as a maximum
+     * bar count is set, so that removing the exceeding bars does not shift the
+     * whole list.
      */
-    private final List<Bar> bars;
+    private List<Bar> bars;
     /**
      * Begin index of the bar series
      */
@@ -72,6 +76,16 @@ public class BaseBarSeries implements BarSeries {
      * Double ber of removed bars
      */
     private int removedBarsCount = 0;
+
+    /**
+     * Registry of the shared indicators (created on first use)
+     */
+    private transient volatile IndicatorRegistry indicatorRegistry;
+    /**
+     * True if the cached indicators built on this series support concurrent
+     * evaluation
+     */
+    private volatile boolean concurrent;
     /**
      * True if the current series is constrained (i.e. its indexes cannot change),
      * false otherwise
@@ -271,6 +285,10 @@ public class BaseBarSeries implements BarSeries {
             throw new IllegalArgumentException("Maximum bar count must be strictly positive");
         }
         this.maximumBarCount = maximumBarCount;
+        if (maximumBarCount != Integer.MAX_VALUE && !(bars instanceof CircularArrayList)) {
+            // Moving series: one more slot for the bar added before removing the oldest
+            bars = new CircularArrayList<>(bars, maximumBarCount + 1);
+        }
         removeExceedingBars();
     }
 
@@ -279,6 +297,31 @@ public class BaseBarSeries implements BarSeries {
         return removedBarsCount;
     }
 
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        IndicatorRegistry registry = indicatorRegistry;
+        if (registry == null) {
+            synchronized (this) {
+                registry = indicatorRegistry;
+                if (registry == null) {
+                    registry = new IndicatorRegistry(this);
+                    indicatorRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    @Override
+    public void setConcurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
     /**
      * @param bar the <code>Bar</code> to be added
      * @apiNote to add bar data directly use #addBar(Duration, ZonedDateTime, Double ,
@@ -0,0 +1,828 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.ta4j.core.indicators.IndicatorRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Column oriented implementation of a {@link BarSeries}.
+ *
+ * <p>
+ * Instead of holding one {@link Bar} object per period, the series stores the
+ * open/high/low/close/volume/amount/trades values in parallel
+ * <code>double</code> arrays and the bar end times as epoch nanoseconds in a
+ * <code>long</code> array. All bars of the series share the same time period
+ * and time zone.
+ *
+ * {@link #getBar(int)} returns a lightweight {@link Bar} view on the columns.
+ * Price indicators (e.g.
+ * {@link org.ta4j.core.indicators.helpers.ClosePriceIndicator}) read the
+ * columns directly through the primitive getters of this class.
+ * </p>
+ */
+public class ColumnarBarSeries implements BarSeries {
+
+    private static final long serialVersionUID = 2857620716582917845L;
+    /**
+     * Name for unnamed series
+     */
+    private static final String UNNAMED_SERIES_NAME = "unnamed_series";
+    /**
+     * Initial capacity of the columns
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * The logger
+     */
+    private final transient Logger log = LoggerFactory.getLogger(getClass());
+    /**
+     * Name of the series
+     */
+    private final String name;
+    /**
+     * Time period shared by all bars of the series
+     */
+    private final Duration timePeriod;
+    /**
+     * Time zone used to rebuild the bar end times
+     */
+    private final ZoneId zone;
+
+    private double[] openPrices;
+    private double[] highPrices;
+    private double[] lowPrices;
+    private double[] closePrices;
+    private double[] volumes;
+    private double[] amounts;
+    private double[] trades;
+    /**
+     * End times of the bars as nanoseconds since the epoch
+     */
+    private long[] endTimes;
+
+    /**
+     * Position of the first retained bar in the columns
+     */
+    private int offset;
+    /**
+     * Number of retained bars
+     */
+    private int size;
+    /**
+     * Begin index of the bar series
+     */
+    private int seriesBeginIndex = -1;
+    /**
+     * End index of the bar series
+     */
+    private int seriesEndIndex = -1;
+    /**
+     * Maximum number of bars for the bar series
+     */
+    private int maximumBarCount = Integer.MAX_VALUE;
+    /**
+     * Number of removed bars
+     */
+    private int removedBarsCount = 0;
+
+    /**
+     * Registry of the shared indicators (created on first use)
+     */
+    private transient volatile IndicatorRegistry indicatorRegistry;
+    /**
+     * True if the cached indicators built on this series support concurrent
+     * evaluation
+     */
+    private volatile boolean concurrent;
+
+    /**
+     * Constructor of an unnamed series with daily bars.
+     */
+    public ColumnarBarSeries() {
+        this(UNNAMED_SERIES_NAME, Duration.ofDays(1));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name       the name of the series
+     * @param timePeriod the time period of the bars
+     */
+    public ColumnarBarSeries(String name, Duration timePeriod) {
+        this(name, timePeriod, ZoneId.systemDefault());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name       the name of the series
+     * @param timePeriod the time period of the bars
+     * @param zone       the time zone of the bar end times
+     */
+    public ColumnarBarSeries(String name, Duration timePeriod, ZoneId zone) {
+        this(name, timePeriod, zone, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param name            the name of the series
+     * @param timePeriod      the time period of the bars
+     * @param zone            the time zone of the bar end times
+     * @param initialCapacity the number of bars the columns can hold before
+     *                        growing
+     */
+    public ColumnarBarSeries(String name, Duration timePeriod, ZoneId zone, int initialCapacity) {
+        if (timePeriod == null) {
+            throw new IllegalArgumentException("Time period cannot be null");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Time zone cannot be null");
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+        this.name = name;
+        this.timePeriod = timePeriod;
+        this.zone = zone;
+        allocate(Math.max(initialCapacity, 1));
+    }
+
+    /**
+     * Constructor. Copies the bars of another series into columns. The time period
+     * and the time zone are taken from the first bar.
+     *
+     * @param name the name of the series
+     * @param bars the list of bars of the series
+     */
+    public ColumnarBarSeries(String name, List<Bar> bars) {
+        this(name, bars.isEmpty() ? Duration.ofDays(1) : bars.get(0).getTimePeriod(),
+                bars.isEmpty() ? ZoneId.systemDefault() : bars.get(0).getEndTime().getZone(), bars.size());
+        for (Bar bar : bars) {
+            addBar(bar);
+        }
+    }
+
+    /**
+     * Constructor. Copies the retained bars of another series into columns.
+     *
+     * @param series the series to copy
+     */
+    public ColumnarBarSeries(BarSeries series) {
+        this(series.getName(), series.isEmpty() ? Collections.<Bar>emptyList() : series.getBarData());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the time period shared by all bars of the series
+     */
+    public Duration getTimePeriod() {
+        return timePeriod;
+    }
+
+    /**
+     * @return the time zone of the bar end times
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Bar getBar(int i) {
+        int slot = slot(i);
+        return new ColumnarBar(this, removedBarsCount + slot - offset);
+    }
+
+    /**
+     * @param i an index
+     * @return the open price of the i-th bar
+     */
+    public double getOpenPrice(int i) {
+        return openPrices[slot(i)];
+    }
+
+    /**
+     * @param i an index
+     * @return the high price of the i-th bar
+     */
+    public double getHighPrice(int i) {
+        return highPrices[slot(i)];
+    }
+
+    /**
+     * @param i an index
+     * @return the low price of the i-th bar
+     */
+    public double getLowPrice(int i) {
+        return lowPrices[slot(i)];
+    }
+
+    /**
+     * @param i an index
+     * @return the close price of the i-th bar
+     */
+    public double getClosePrice(int i) {
+        return closePrices[slot(i)];
+    }
+
+    /**
+     * @param i an index
+     * @return the volume of the i-th bar
+     */
+    public double getVolume(int i) {
+        return volumes[slot(i)];
+    }
+
+    /**
+     * @param i an index
+     * @return the amount of the i-th bar
+     */
+    public double getAmount(int i) {
+        return amounts[slot(i)];
+    }
+
+    /**
+     * @param i an index
+     * @return the number of trades of the i-th bar
+     */
+    public double getTrades(int i) {
+        return trades[slot(i)];
+    }
+
+    /**
+     * @param i an index
+     * @return the end time of the i-th bar as nanoseconds since the epoch
+     */
+    public long getEndTimeNanos(int i) {
+        return endTimes[slot(i)];
+    }
+
+    /**
+     * Copies the open prices of the bars from index <code>from</code> to index
+     * <code>to</code> (both inclusive) into <code>out[0..to - from]</code>.
+     *
+     * @param from the first bar index
+     * @param to   the last bar index
+     * @param out  the array receiving the values
+     */
+    public void fillOpenPrices(int from, int to, double[] out) {
+        copy(openPrices, from, to, out);
+    }
+
+    /**
+     * Copies the high prices of the bars from index <code>from</code> to index
+     * <code>to</code> (both inclusive) into <code>out[0..to - from]</code>.
+     *
+     * @param from the first bar index
+     * @param to   the last bar index
+     * @param out  the array receiving the values
+     */
+    public void fillHighPrices(int from, int to, double[] out) {
+        copy(highPrices, from, to, out);
+    }
+
+    /**
+     * Copies the low prices of the bars from index <code>from</code> to index
+     * <code>to</code> (both inclusive) into <code>out[0..to - from]</code>.
+     *
+     * @param from the first bar index
+     * @param to   the last bar index
+     * @param out  the array receiving the values
+     */
+    public void fillLowPrices(int from, int to, double[] out) {
+        copy(lowPrices, from, to, out);
+    }
+
+    /**
+     * Copies the close prices of the bars from index <code>from</code> to index
+     * <code>to</code> (both inclusive) into <code>out[0..to - from]</code>.
+     *
+     * @param from the first bar index
+     * @param to   the last bar index
+     * @param out  the array receiving the values
+     */
+    public void fillClosePrices(int from, int to, double[] out) {
+        copy(closePrices, from, to, out);
+    }
+
+    /**
+     * Copies the volumes of the bars from index <code>from</code> to index
+     * <code>to</code> (both inclusive) into <code>out[0..to - from]</code>.
+     *
+     * @param from the first bar index
+     * @param to   the last bar index
+     * @param out  the array receiving the values
+     */
+    public void fillVolumes(int from, int to, double[] out) {
+        copy(volumes, from, to, out);
+    }
+
+    @Override
+    public int getBarCount() {
+        if (seriesEndIndex < 0) {
+            return 0;
+        }
+        final int startIndex = Math.max(removedBarsCount, seriesBeginIndex);
+        return seriesEndIndex - startIndex + 1;
+    }
+
+    /**
+     * Returns a read-only list of {@link Bar bar} views on the retained bars. The
+     * bars are not materialized, each access creates a new view.
+     *
+     * @return the raw bar data
+     */
+    @Override
+    public List<Bar> getBarData() {
+        return new BarList();
+    }
+
+    @Override
+    public int getBeginIndex() {
+        return seriesBeginIndex;
+    }
+
+    @Override
+    public int getEndIndex() {
+        return seriesEndIndex;
+    }
+
+    @Override
+    public int getMaximumBarCount() {
+        return maximumBarCount;
+    }
+
+    @Override
+    public void setMaximumBarCount(int maximumBarCount) {
+        if (maximumBarCount <= 0) {
+            throw new IllegalArgumentException("Maximum bar count must be strictly positive");
+        }
+        this.maximumBarCount = maximumBarCount;
+        removeExceedingBars();
+    }
+
+    @Override
+    public int getRemovedBarsCount() {
+        return removedBarsCount;
+    }
+
+    @Override
+    public IndicatorRegistry getIndicatorRegistry() {
+        IndicatorRegistry registry = indicatorRegistry;
+        if (registry == null) {
+            synchronized (this) {
+                registry = indicatorRegistry;
+                if (registry == null) {
+                    registry = new IndicatorRegistry(this);
+                    indicatorRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    @Override
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    @Override
+    public void setConcurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    /**
+     * @param bar the <code>Bar</code> to be added, its time period must match the
+     *            time period of the series
+     */
+    @Override
+    public void addBar(Bar bar, boolean replace) {
+        Objects.requireNonNull(bar);
+        if (!timePeriod.equals(bar.getTimePeriod())) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot add a bar with time period: %s to a series with time period: %s", bar.getTimePeriod(),
+                    timePeriod));
+        }
+        long endTime = toNanos(bar.getEndTime());
+        if (size > 0) {
+            int last = offset + size - 1;
+            if (replace) {
+                set(last, bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(), bar.getClosePrice(),
+                        bar.getVolume(), bar.getAmount(), bar.getTrades(), endTime);
+                return;
+            }
+            if (endTime <= endTimes[last]) {
+                throw new IllegalArgumentException(
+                        String.format("Cannot add a bar with end time:%s that is <= to series end time: %s",
+                                bar.getEndTime(), toZonedDateTime(endTimes[last])));
+            }
+        }
+        append(bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(), bar.getClosePrice(), bar.getVolume(),
+                bar.getAmount(), bar.getTrades(), endTime);
+    }
+
+    /**
+     * Adds an empty bar at the end of the series. Its prices are set by subsequent
+     * calls of {@link #addTrade(long, double)} and {@link #addPrice(double)}.
+     *
+     * @param timePeriod the {@link Duration} of this bar, must match the time
+     *                   period of the series
+     * @param endTime    the {@link ZonedDateTime end time} of this bar
+     */
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime) {
+        this.addBar(new BaseBar(timePeriod, endTime));
+    }
+
+    @Override
+    public void addBar(ZonedDateTime endTime, Double openPrice, Double highPrice, Double lowPrice, Double closePrice,
+            Double volume) {
+        this.addBar(new BaseBar(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, 0));
+    }
+
+    @Override
+    public void addBar(ZonedDateTime endTime, Double openPrice, Double highPrice, Double lowPrice, Double closePrice,
+            Double volume, Double amount) {
+        this.addBar(new BaseBar(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, amount));
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Double openPrice, Double highPrice,
+            Double lowPrice, Double closePrice, Double volume) {
+        this.addBar(new BaseBar(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, 0));
+    }
+
+    @Override
+    public void addBar(Duration timePeriod, ZonedDateTime endTime, Double openPrice, Double highPrice,
+            Double lowPrice, Double closePrice, Double volume, Double amount) {
+        this.addBar(new BaseBar(timePeriod, endTime, openPrice, highPrice, lowPrice, closePrice, volume, amount));
+    }
+
+    @Override
+    public void addTrade(long tradeVolume, double tradePrice) {
+        addTrade(slot(seriesEndIndex), tradeVolume, tradePrice);
+    }
+
+    @Override
+    public void addPrice(double price) {
+        addPrice(slot(seriesEndIndex), price);
+    }
+
+    /**
+     * Returns a new ColumnarBarSeries that is a subset of this series. The new
+     * series holds a copy of the columns between <tt>startIndex</tt> (inclusive)
+     * and <tt>endIndex</tt> (exclusive) of this series.
+     *
+     * @param startIndex the startIndex (inclusive)
+     * @param endIndex   the endIndex (exclusive)
+     * @return a new BarSeries with Bars from startIndex to endIndex-1
+     * @throws IllegalArgumentException if endIndex <= startIndex or startIndex < 0
+     * @see BaseBarSeries#getSubSeries(int, int)
+     */
+    @Override
+    public ColumnarBarSeries getSubSeries(int startIndex, int endIndex) {
+        if (startIndex < 0) {
+            throw new IllegalArgumentException(String.format("the startIndex: %s must not be negative", startIndex));
+        }
+        if (startIndex >= endIndex) {
+            throw new IllegalArgumentException(
+                    String.format("the endIndex: %s must be greater than startIndex: %s", endIndex, startIndex));
+        }
+        if (size == 0) {
+            return new ColumnarBarSeries(name, timePeriod, zone);
+        }
+        int start = Math.max(startIndex - removedBarsCount, 0);
+        int end = Math.min(endIndex - removedBarsCount, size);
+        ColumnarBarSeries subSeries = new ColumnarBarSeries(name, timePeriod, zone, Math.max(end - start, 0));
+        for (int i = offset + start; i < offset + end; i++) {
+            subSeries.append(openPrices[i], highPrices[i], lowPrices[i], closePrices[i], volumes[i], amounts[i],
+                    trades[i], endTimes[i]);
+        }
+        return subSeries;
+    }
+
+    /**
+     * @param i an index of the series
+     * @return the position of the i-th bar in the columns
+     */
+    private int slot(int i) {
+        int innerIndex = i - removedBarsCount;
+        if (innerIndex < 0) {
+            if (i < 0) {
+                // Cannot return the i-th bar if i < 0
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(i));
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Bar series `{}` ({} bars): bar {} already removed, use {}-th instead", name, size, i,
+                        removedBarsCount);
+            }
+            if (size == 0) {
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(removedBarsCount));
+            }
+            innerIndex = 0;
+        } else if (innerIndex >= size) {
+            // Cannot return the n-th bar if n >= size
+            throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(i));
+        }
+        return offset + innerIndex;
+    }
+
+    /**
+     * Copies a range of a column, the retained bars in bulk.
+     */
+    private void copy(double[] column, int from, int to, double[] out) {
+        DoubleIndicator.checkFillRange(from, to, out);
+        // Checks the bounds of the range
+        slot(from);
+        slot(to);
+        int i = from;
+        for (; i <= to && i < removedBarsCount; i++) {
+            out[i - from] = column[slot(i)];
+        }
+        if (i <= to) {
+            System.arraycopy(column, slot(i), out, i - from, to - i + 1);
+        }
+    }
+
+    /**
+     * @param index an out of bounds bar index
+     * @return a message for an OutOfBoundsException
+     */
+    private String buildOutOfBoundsMessage(int index) {
+        return String.format("Size of series: %s bars, %s bars removed, index = %s", size, removedBarsCount, index);
+    }
+
+    private void append(double open, double high, double low, double close, double volume, double amount,
+            double tradeCount, long endTime) {
+        ensureCapacity();
+        set(offset + size, open, high, low, close, volume, amount, tradeCount, endTime);
+        size++;
+        if (seriesBeginIndex == -1) {
+            // Begin index set to 0 only if it wasn't initialized
+            seriesBeginIndex = 0;
+        }
+        seriesEndIndex++;
+        removeExceedingBars();
+    }
+
+    private void set(int slot, double open, double high, double low, double close, double volume, double amount,
+            double tradeCount, long endTime) {
+        openPrices[slot] = open;
+        highPrices[slot] = high;
+        lowPrices[slot] = low;
+        closePrices[slot] = close;
+        volumes[slot] = volume;
+        amounts[slot] = amount;
+        trades[slot] = tradeCount;
+        endTimes[slot] = endTime;
+    }
+
+    /**
+     * @see BaseBar#addTrade(double, double)
+     */
+    private void addTrade(int slot, double tradeVolume, double tradePrice) {
+        addPrice(slot, tradePrice);
+        volumes[slot] += tradeVolume;
+        amounts[slot] += tradeVolume * tradePrice;
+        trades[slot]++;
+    }
+
+    /**
+     * @see BaseBar#addPrice(double)
+     */
+    private void addPrice(int slot, double price) {
+        if (openPrices[slot] == -1) {
+            openPrices[slot] = price;
+        }
+        closePrices[slot] = price;
+        if (highPrices[slot] < price) {
+            highPrices[slot] = price;
+        }
+        if (lowPrices[slot] > price) {
+            lowPrices[slot] = price;
+        }
+    }
+
+    /**
+     * Makes room for one more bar at the end of the columns. Removed bars are
+     * dropped by moving the retained ones to the front of the columns, so that a
+     * series with a maximum bar count does not grow.
+     */
+    private void ensureCapacity() {
+        int capacity = closePrices.length;
+        if (offset + size < capacity) {
+            return;
+        }
+        if (offset > 0 && size < capacity / 2 + 1) {
+            compact();
+        } else {
+            resize(capacity + (capacity >> 1) + 1);
+        }
+    }
+
+    private void compact() {
+        System.arraycopy(openPrices, offset, openPrices, 0, size);
+        System.arraycopy(highPrices, offset, highPrices, 0, size);
+        System.arraycopy(lowPrices, offset, lowPrices, 0, size);
+        System.arraycopy(closePrices, offset, closePrices, 0, size);
+        System.arraycopy(volumes, offset, volumes, 0, size);
+        System.arraycopy(amounts, offset, amounts, 0, size);
+        System.arraycopy(trades, offset, trades, 0, size);
+        System.arraycopy(endTimes, offset, endTimes, 0, size);
+        offset = 0;
+    }
+
+    private void resize(int capacity) {
+        openPrices = Arrays.copyOfRange(openPrices, offset, offset + capacity);
+        highPrices = Arrays.copyOfRange(highPrices, offset, offset + capacity);
+        lowPrices = Arrays.copyOfRange(lowPrices, offset, offset + capacity);
+        closePrices = Arrays.copyOfRange(closePrices, offset, offset + capacity);
+        volumes = Arrays.copyOfRange(volumes, offset, offset + capacity);
+        amounts = Arrays.copyOfRange(amounts, offset, offset + capacity);
+        trades = Arrays.copyOfRange(trades, offset, offset + capacity);
+        endTimes = Arrays.copyOfRange(endTimes, offset, offset + capacity);
+        offset = 0;
+    }
+
+    private void allocate(int capacity) {
+        openPrices = new double[capacity];
+        highPrices = new double[capacity];
+        lowPrices = new double[capacity];
+        closePrices = new double[capacity];
+        volumes = new double[capacity];
+        amounts = new double[capacity];
+        trades = new double[capacity];
+        endTimes = new long[capacity];
+    }
+
+    /**
+     * Removes the N first bars which exceed the maximum bar count.
+     */
+    private void removeExceedingBars() {
+        if (size > maximumBarCount) {
+            // Removing old bars
+            int nbBarsToRemove = size - maximumBarCount;
+            offset += nbBarsToRemove;
+            size -= nbBarsToRemove;
+            // Updating removed bars count
+            removedBarsCount += nbBarsToRemove;
+        }
+    }
+
+    private static long toNanos(ZonedDateTime time) {
+        Instant instant = time.toInstant();
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    private ZonedDateTime toZonedDateTime(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND), Math.floorMod(nanos, NANOS_PER_SECOND))
+                .atZone(zone);
+    }
+
+    /**
+     * Read-only list of bar views.
+     */
+    private class BarList extends AbstractList<Bar> implements RandomAccess {
+
+        @Override
+        public Bar get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(buildOutOfBoundsMessage(index));
+            }
+            return new ColumnarBar(ColumnarBarSeries.this, removedBarsCount + index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * A {@link Bar} view on one row of the columns of a {@link ColumnarBarSeries}.
+     * The row is looked up by its series index on each access. Modifications
+     * through {@link #addTrade(double, double)} and {@link #addPrice(double)}
+     * are written to the columns.
+     */
+    private static final class ColumnarBar implements Bar {
+
+        private static final long serialVersionUID = -6230817416021736958L;
+
+        private final ColumnarBarSeries series;
+        /** The index of the bar in the series */
+        private final int index;
+
+        private ColumnarBar(ColumnarBarSeries series, int index) {
+            this.series = series;
+            this.index = index;
+        }
+
+        @Override
+        public double getOpenPrice() {
+            return series.openPrices[series.slot(index)];
+        }
+
+        @Override
+        public double getLowPrice() {
+            return series.lowPrices[series.slot(index)];
+        }
+
+        @Override
+        public double getHighPrice() {
+            return series.highPrices[series.slot(index)];
+        }
+
+        @Override
+        public double getClosePrice() {
+            return series.closePrices[series.slot(index)];
+        }
+
+        @Override
+        public double getVolume() {
+            return series.volumes[series.slot(index)];
+        }
+
+        @Override
+        public double getTrades() {
+            return series.trades[series.slot(index)];
+        }
+
+        @Override
+        public double getAmount() {
+            return series.amounts[series.slot(index)];
+        }
+
+        @Override
+        public Duration getTimePeriod() {
+            return series.timePeriod;
+        }
+
+        @Override
+        public ZonedDateTime getBeginTime() {
+            return getEndTime().minus(series.timePeriod);
+        }
+
+        @Override
+        public ZonedDateTime getEndTime() {
+            return series.toZonedDateTime(series.endTimes[series.slot(index)]);
+        }
+
+        @Override
+        public void addTrade(double tradeVolume, double tradePrice) {
+            series.addTrade(series.slot(index), tradeVolume, tradePrice);
+        }
+
+        @Override
+        public void addPrice(double price) {
+            series.addPrice(series.slot(index), price);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("{end time: %1s, close price: %2$f, open price: %3$f, low price: %4$f, "
+                    + "high price: %5$f, volume: %6$f}",
+                    getEndTime().withZoneSameInstant(ZoneId.systemDefault()), getClosePrice(), getOpenPrice(),
+                    getLowPrice(), getHighPrice(), getVolume());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+/**
+ * {@link Indicator} of primitive <code>double</code> values.
+ *
+ * Numeric indicators implement this interface to provide their values without
+ * boxing them into {@link Double} objects. {@link #getValue(int)} remains
+ * available as a bridge for the generic {@link Indicator} API.
+ */
+public interface DoubleIndicator extends Indicator<Double> {
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    double getDouble(int index);
+
+    /**
+     * Writes the values of the indicator from index <code>from</code> to index
+     * <code>to</code> (both inclusive) into <code>out[0..to - from]</code>.
+     *
+     * The default implementation calls {@link #getDouble(int)} for each index.
+     * Cached indicators compute the missing values and populate their cache in a
+     * single sweep, and indicators backed by primitive arrays copy them in bulk.
+     *
+     * @param from the first bar index
+     * @param to   the last bar index
+     * @param out  the array receiving the values
+     * @throws IllegalArgumentException if <code>from &gt; to</code> or if
+     *                                  <code>out</code> cannot hold the range
+     */
+    default void fill(int from, int to, double[] out) {
+        checkFillRange(from, to, out);
+        for (int i = from; i <= to; i++) {
+            out[i - from] = getDouble(i);
+        }
+    }
+
+    /**
+     * @param index the bar index
+     * @return the boxed value of the indicator
+     */
+    @Override
+    default Double getValue(int index) {
+        return getDouble(index);
+    }
+
+    /**
+     * Checks the arguments of {@link #fill(int, int, double[])}.
+     *
+     * @param from the first bar index
+     * @param to   the last bar index
+     * @param out  the array receiving the values
+     * @throws IllegalArgumentException if <code>from &gt; to</code> or if
+     *                                  <code>out</code> cannot hold the range
+     */
+    static void checkFillRange(int from, int to, double[] out) {
+        if (from > to) {
+            throw new IllegalArgumentException(String.format("Invalid range [%s, %s]", from, to));
+        }
+        if (out.length < to - from + 1) {
+            throw new IllegalArgumentException(
+                    String.format("Array of length %s cannot hold range [%s, %s]", out.length, from, to));
+        }
+    }
+
+    /**
+     * Returns the provided indicator as a {@link DoubleIndicator}. Indicators
+     * which already implement this interface are returned as they are, the others
+     * are wrapped to unbox their values.
+     *
+     * @param indicator an indicator of {@link Double} values
+     * @return the indicator as a {@link DoubleIndicator}
+     */
+    static DoubleIndicator of(Indicator<Double> indicator) {
+        if (indicator instanceof DoubleIndicator) {
+            return (DoubleIndicator) indicator;
+        }
+        return new DoubleIndicator() {
+
+            @Override
+            public double getDouble(int index) {
+                return indicator.getValue(index);
+            }
+
+            @Override
+            public Double getValue(int index) {
+                return indicator.getValue(index);
+            }
+
+            @Override
+            public BarSeries getBarSeries() {
+                return indicator.getBarSeries();
+            }
+
+            @Override
+            public String toString() {
+                return indicator.toString();
+            }
+        };
+    }
+}
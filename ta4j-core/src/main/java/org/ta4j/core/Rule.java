@@ -87,4 +87,41 @@ public interface Rule {
      *         otherwise
      */
     boolean isSatisfied(int index, TradingRecord tradingRecord);
+
+    /**
+     * Tells whether the rule depends on the trading record (or on the order of
+     * its evaluations, like a {@link org.ta4j.core.rules.JustOnceRule}). Rules
+     * which do not, i.e. which are a function of the bar index only, can be
+     * precomputed over a range of bars by the
+     * {@link org.ta4j.core.rules.RuleCompiler rule compiler}.
+     *
+     * @return true if this rule may depend on the trading record (default), false
+     *         if it only depends on the bar index
+     */
+    default boolean usesTradingRecord() {
+        return true;
+    }
+
+    /**
+     * Returns the first index of a range for which the rule is satisfied.
+     *
+     * The default implementation evaluates the rule for each index of the range,
+     * in order. Rules which can find the next satisfied index faster (e.g.
+     * {@link org.ta4j.core.rules.PrecomputedRule precomputed rules}) override it.
+     *
+     * @param from          the first index of the range
+     * @param to            the last index of the range
+     * @param tradingRecord the potentially needed trading history (unchanged
+     *                      over the range)
+     * @return the first index of the range for which the rule is satisfied, or -1
+     *         if there is none
+     */
+    default int nextSatisfiedIndex(int from, int to, TradingRecord tradingRecord) {
+        for (int i = from; i <= to; i++) {
+            if (isSatisfied(i, tradingRecord)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
@@ -0,0 +1,103 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * The analysis inputs of a trading record over a bar series.
+ *
+ * The {@link CashFlow cash flow} and the {@link Returns returns} of the
+ * trading record are calculated on first use and then shared by all the
+ * criteria evaluated with the context (see
+ * {@link org.ta4j.core.AnalysisCriterion#calculate(AnalysisContext)}), instead
+ * of being rebuilt by each of them.
+ *
+ * <pre>
+ * AnalysisContext context = new AnalysisContext(series, tradingRecord);
+ * double maximumDrawdown = new MaximumDrawdownCriterion().calculate(context);
+ * double valueAtRisk = new ValueAtRiskCriterion(0.95).calculate(context); // same returns
+ * </pre>
+ *
+ * The trading record must not change while the context is in use. A context
+ * is not thread-safe.
+ */
+public class AnalysisContext {
+
+    private final BarSeries series;
+
+    private final TradingRecord tradingRecord;
+
+    private CashFlow cashFlow;
+
+    private final Map<Returns.ReturnType, Returns> returns = new EnumMap<>(Returns.ReturnType.class);
+
+    /**
+     * Constructor.
+     *
+     * @param series        a bar series, not null
+     * @param tradingRecord a trading record, not null
+     */
+    public AnalysisContext(BarSeries series, TradingRecord tradingRecord) {
+        this.series = Objects.requireNonNull(series);
+        this.tradingRecord = Objects.requireNonNull(tradingRecord);
+    }
+
+    /**
+     * @return the bar series
+     */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /**
+     * @return the trading record
+     */
+    public TradingRecord getTradingRecord() {
+        return tradingRecord;
+    }
+
+    /**
+     * @return the cash flow of the closed positions of the trading record
+     */
+    public CashFlow getCashFlow() {
+        if (cashFlow == null) {
+            cashFlow = new CashFlow(series, tradingRecord);
+        }
+        return cashFlow;
+    }
+
+    /**
+     * @param type the type of the return rates
+     * @return the returns of the positions of the trading record
+     */
+    public Returns getReturns(Returns.ReturnType type) {
+        return returns.computeIfAbsent(type, t -> new Returns(series, tradingRecord, t));
+    }
+}
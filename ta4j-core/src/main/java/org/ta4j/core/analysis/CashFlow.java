@@ -24,13 +24,11 @@
 package org.ta4j.core.analysis;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.Indicator;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
 
 
 /**
@@ -39,7 +37,7 @@ import java.util.List;
  * This class allows to follow the money cash flow involved by a list of
  * positions over a bar series.
  */
-public class CashFlow implements Indicator<Double> {
+public class CashFlow implements DoubleIndicator {
 
     /**
      * The bar series
@@ -47,9 +45,14 @@ public class CashFlow implements Indicator<Double> {
     private final BarSeries barSeries;
 
     /**
-     * The cash flow values
+     * The cash flow values (the first {@link #size} ones)
      */
-    private List<Double> values;
+    private double[] values;
+
+    /**
+     * The number of cash flow values
+     */
+    private int size;
 
     /**
      * Constructor for cash flows of a closed position.
@@ -59,7 +62,7 @@ public class CashFlow implements Indicator<Double> {
      */
     public CashFlow(BarSeries barSeries, Position position) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList((1d)));
+        init();
         calculate(position);
         fillToTheEnd();
     }
@@ -72,7 +75,7 @@ public class CashFlow implements Indicator<Double> {
      */
     public CashFlow(BarSeries barSeries, TradingRecord tradingRecord) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList(1d));
+        init();
         calculate(tradingRecord);
 
         fillToTheEnd();
@@ -88,7 +91,7 @@ public class CashFlow implements Indicator<Double> {
      */
     public CashFlow(BarSeries barSeries, TradingRecord tradingRecord, int finalIndex) {
         this.barSeries = barSeries;
-        values = new ArrayList<>(Collections.singletonList(1d));
+        init();
         calculate(tradingRecord, finalIndex);
 
         fillToTheEnd();
@@ -100,7 +103,28 @@ public class CashFlow implements Indicator<Double> {
      */
     @Override
     public Double getValue(int index) {
-        return values.get(index);
+        return getDouble(index);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the cash flow value at the index-th position
+     */
+    @Override
+    public double getDouble(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+        }
+        return values[index];
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        DoubleIndicator.checkFillRange(from, to, out);
+        if (to >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", to, size));
+        }
+        System.arraycopy(values, from, out, 0, to - from + 1);
     }
 
     @Override
@@ -136,40 +160,60 @@ public class CashFlow implements Indicator<Double> {
      * @param finalIndex index up until cash flow of open positions is considered
      */
     private void calculate(Position position, int finalIndex) {
-        boolean isLongTrade = position.getEntry().isBuy();
-        int endIndex = determineEndIndex(position, finalIndex, barSeries.getEndIndex());
         final int entryIndex = position.getEntry().getIndex();
         int begin = entryIndex + 1;
-        if (begin > values.size()) {
-            Double lastValue = values.get(values.size() - 1);
-            values.addAll(Collections.nCopies(begin - values.size(), lastValue));
+        if (begin > size) {
+            extend(begin, values[size - 1]);
         }
         // Trade is not valid if net balance at the entryIndex is negative
-        if (values.get(values.size() - 1) > (0)) {
-            int startingIndex = Math.max(begin, 1);
-
-            int nPeriods = endIndex - entryIndex;
-            Double holdingCost = position.getHoldingCost(endIndex);
-            Double avgCost = holdingCost / (nPeriods);
-
-            // Add intermediate cash flows during position
-            Double netEntryPrice = position.getEntry().getNetPrice();
-            for (int i = startingIndex; i < endIndex; i++) {
-                Double intermediateNetPrice = addCost(barSeries.getBar(i).getClosePrice(), avgCost, isLongTrade);
-                Double ratio = getIntermediateRatio(isLongTrade, netEntryPrice, intermediateNetPrice);
-                values.add(values.get(entryIndex)*(ratio));
-            }
-
-            // add net cash flow at exit position
-            Double exitPrice;
-            if (position.getExit() != null) {
-                exitPrice = position.getExit().getNetPrice();
-            } else {
-                exitPrice = barSeries.getBar(endIndex).getClosePrice();
-            }
-            Double ratio = getIntermediateRatio(isLongTrade, netEntryPrice, addCost(exitPrice, avgCost, isLongTrade));
-            values.add(values.get(entryIndex)*(ratio));
+        if (values[size - 1] > 0) {
+            double[] positionValues = positionValues(barSeries, position, finalIndex, values[entryIndex]);
+            ensureCapacity(size + positionValues.length);
+            System.arraycopy(positionValues, 0, values, size, positionValues.length);
+            size += positionValues.length;
+        }
+    }
+
+    /**
+     * Calculates the cash flow of the bars of a position, from the bar after its
+     * entry to its exit (or final) bar.
+     *
+     * @param series     the bar series
+     * @param position   the position
+     * @param finalIndex index up until cash flow of open positions is considered
+     * @param entryValue the cash flow value at the entry bar of the position
+     * @return the cash flow values of the bars after the entry one
+     */
+    public static double[] positionValues(BarSeries series, Position position, int finalIndex, double entryValue) {
+        boolean isLongTrade = position.getEntry().isBuy();
+        int endIndex = determineEndIndex(position, finalIndex, series.getEndIndex());
+        final int entryIndex = position.getEntry().getIndex();
+        int startingIndex = Math.max(entryIndex + 1, 1);
+
+        int nPeriods = endIndex - entryIndex;
+        double holdingCost = position.getHoldingCost(endIndex);
+        double avgCost = holdingCost / nPeriods;
+
+        // Add intermediate cash flows during position
+        double netEntryPrice = position.getEntry().getNetPrice();
+        double[] positionValues = new double[Math.max(0, endIndex - startingIndex) + 1];
+        int count = 0;
+        for (int i = startingIndex; i < endIndex; i++) {
+            double intermediateNetPrice = addCost(series.getBar(i).getClosePrice(), avgCost, isLongTrade);
+            double ratio = getIntermediateRatio(isLongTrade, netEntryPrice, intermediateNetPrice);
+            positionValues[count++] = entryValue * ratio;
+        }
+
+        // add net cash flow at exit position
+        double exitPrice;
+        if (position.getExit() != null) {
+            exitPrice = position.getExit().getNetPrice();
+        } else {
+            exitPrice = series.getBar(endIndex).getClosePrice();
         }
+        double ratio = getIntermediateRatio(isLongTrade, netEntryPrice, addCost(exitPrice, avgCost, isLongTrade));
+        positionValues[count] = entryValue * ratio;
+        return positionValues;
     }
 
     /**
@@ -179,7 +223,7 @@ public class CashFlow implements Indicator<Double> {
      * @param entryPrice  price ratio denominator
      * @param exitPrice   price ratio numerator
      */
-    private static Double getIntermediateRatio(boolean isLongTrade, Double entryPrice, Double exitPrice) {
+    private static double getIntermediateRatio(boolean isLongTrade, double entryPrice, double exitPrice) {
         double ratio;
         if (isLongTrade) {
             ratio = exitPrice / (entryPrice);
@@ -223,7 +267,7 @@ public class CashFlow implements Indicator<Double> {
      * @param holdingCost share of the holding cost per period
      * @param isLongTrade true, if the entry trade type is BUY
      */
-    static Double addCost(Double rawPrice, Double holdingCost, boolean isLongTrade) {
+    static double addCost(double rawPrice, double holdingCost, boolean isLongTrade) {
         double netPrice;
         if (isLongTrade) {
             netPrice = rawPrice - (holdingCost);
@@ -237,9 +281,38 @@ public class CashFlow implements Indicator<Double> {
      * Fills with last value till the end of the series.
      */
     private void fillToTheEnd() {
-        if (barSeries.getEndIndex() >= values.size()) {
-            Double lastValue = values.get(values.size() - 1);
-            values.addAll(Collections.nCopies(barSeries.getEndIndex() - values.size() + 1, lastValue));
+        if (barSeries.getEndIndex() >= size) {
+            extend(barSeries.getEndIndex() + 1, values[size - 1]);
+        }
+    }
+
+    /**
+     * Starts the cash flow values with 1 (at the index 0).
+     */
+    private void init() {
+        values = new double[Math.max(1, barSeries.getEndIndex() + 1)];
+        values[0] = 1d;
+        size = 1;
+    }
+
+    /**
+     * Appends a value up to a size.
+     *
+     * @param newSize the new number of values
+     * @param value   the appended value
+     */
+    private void extend(int newSize, double value) {
+        ensureCapacity(newSize);
+        Arrays.fill(values, size, newSize, value);
+        size = newSize;
+    }
+
+    /**
+     * @param capacity the minimum number of values the buffer must hold
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
         }
     }
 
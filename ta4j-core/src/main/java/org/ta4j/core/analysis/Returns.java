@@ -24,13 +24,12 @@
 package org.ta4j.core.analysis;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.Indicator;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 
-
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 import static java.lang.Double.NaN;
@@ -41,19 +40,19 @@ import static java.lang.Double.NaN;
  *
  * This class allows to compute the return rate of a price time-series
  */
-public class Returns implements Indicator<Double> {
+public class Returns implements DoubleIndicator {
 
     public enum  ReturnType {
         LOG {
             @Override
-            public Double calculate(Double xNew, Double xOld) {
+            public double calculate(double xNew, double xOld) {
                 // r_i = ln(P_i/P_(i-1))
                 return Math.log(xNew / (xOld));
             }
         },
         ARITHMETIC {
             @Override
-            public Double calculate(Double xNew, Double xOld) {
+            public double calculate(double xNew, double xOld) {
                 // r_i = P_i/P_(i-1) - 1
                 return xNew / xOld - 1;
             }
@@ -62,7 +61,7 @@ public class Returns implements Indicator<Double> {
         /**
          * @return calculate a single return rate
          */
-        public abstract Double calculate(Double xNew, Double xOld);
+        public abstract double calculate(double xNew, double xOld);
     }
 
     private final ReturnType type;
@@ -73,9 +72,14 @@ public class Returns implements Indicator<Double> {
     private final BarSeries barSeries;
 
     /**
-     * The return rates
+     * The return rates (the first {@link #size} ones)
+     */
+    private double[] values;
+
+    /**
+     * The number of return rates
      */
-    private List<Double> values;
+    private int size;
 
     /**
      * Constructor.
@@ -86,8 +90,7 @@ public class Returns implements Indicator<Double> {
     public Returns(BarSeries barSeries, Position position, ReturnType type) {
         this.barSeries = barSeries;
         this.type = type;
-        // at index 0, there is no return
-        values = new ArrayList<>(Collections.singletonList(NaN));
+        init();
         calculate(position);
 
         fillToTheEnd();
@@ -102,15 +105,28 @@ public class Returns implements Indicator<Double> {
     public Returns(BarSeries barSeries, TradingRecord tradingRecord, ReturnType type) {
         this.barSeries = barSeries;
         this.type = type;
-        // at index 0, there is no return
-        values = new ArrayList<>(Collections.singletonList(NaN));
+        init();
         calculate(tradingRecord);
 
         fillToTheEnd();
     }
 
+    /**
+     * @return a read-only view of the return rates (NaN at the index 0)
+     */
     public List<Double> getValues() {
-        return values;
+        return new AbstractList<Double>() {
+
+            @Override
+            public Double get(int index) {
+                return getDouble(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     /**
@@ -119,7 +135,28 @@ public class Returns implements Indicator<Double> {
      */
     @Override
     public Double getValue(int index) {
-        return values.get(index);
+        return getDouble(index);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the return rate value at the index-th position
+     */
+    @Override
+    public double getDouble(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, size));
+        }
+        return values[index];
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        DoubleIndicator.checkFillRange(from, to, out);
+        if (to >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", to, size));
+        }
+        System.arraycopy(values, from, out, 0, to - from + 1);
     }
 
     @Override
@@ -146,53 +183,60 @@ public class Returns implements Indicator<Double> {
      * @param finalIndex index up until cash flow of open positions is considered
      */
     public void calculate(Position position, int finalIndex) {
-        boolean isLongTrade = position.getEntry().isBuy();
-        int endIndex = CashFlow.determineEndIndex(position, finalIndex, barSeries.getEndIndex());
         final int entryIndex = position.getEntry().getIndex();
         int begin = entryIndex + 1;
-        if (begin > values.size()) {
-            values.addAll(Collections.nCopies(begin - values.size(), 0d));
+        if (begin > size) {
+            extend(begin, 0d);
         }
+        double[] positionValues = positionValues(barSeries, position, finalIndex, type);
+        ensureCapacity(size + positionValues.length);
+        System.arraycopy(positionValues, 0, values, size, positionValues.length);
+        size += positionValues.length;
+    }
 
-        int startingIndex = Math.max(begin, 1);
+    /**
+     * Calculates the return rates of the bars of a position, from the bar after
+     * its entry to its exit (or final) bar.
+     *
+     * @param series     the bar series
+     * @param position   the position
+     * @param finalIndex index up until returns of open positions are considered
+     * @param type       the type of the return rates
+     * @return the return rates of the bars after the entry one
+     */
+    public static double[] positionValues(BarSeries series, Position position, int finalIndex, ReturnType type) {
+        boolean isLongTrade = position.getEntry().isBuy();
+        int endIndex = CashFlow.determineEndIndex(position, finalIndex, series.getEndIndex());
+        final int entryIndex = position.getEntry().getIndex();
+        int startingIndex = Math.max(entryIndex + 1, 1);
         int nPeriods = endIndex - entryIndex;
-        Double holdingCost = position.getHoldingCost(endIndex);
-        Double avgCost = holdingCost / (nPeriods);
+        double holdingCost = position.getHoldingCost(endIndex);
+        double avgCost = holdingCost / nPeriods;
+        // the returns of a short position are the opposite of the asset returns
+        double sign = isLongTrade ? 1 : -1;
 
         // returns are per period (iterative). Base price needs to be updated
         // accordingly
-        Double lastPrice = position.getEntry().getNetPrice();
+        double lastPrice = position.getEntry().getNetPrice();
+        double[] positionValues = new double[Math.max(0, endIndex - startingIndex) + 1];
+        int count = 0;
         for (int i = startingIndex; i < endIndex; i++) {
-            Double intermediateNetPrice = CashFlow.addCost(barSeries.getBar(i).getClosePrice(), avgCost, isLongTrade);
-            Double assetReturn = type.calculate(intermediateNetPrice, lastPrice);
-
-            Double strategyReturn;
-            if (position.getEntry().isBuy()) {
-                strategyReturn = assetReturn;
-            } else {
-                strategyReturn = assetReturn*(-1);
-            }
-            values.add(strategyReturn);
+            double closePrice = series.getBar(i).getClosePrice();
+            double intermediateNetPrice = CashFlow.addCost(closePrice, avgCost, isLongTrade);
+            positionValues[count++] = type.calculate(intermediateNetPrice, lastPrice) * sign;
             // update base price
-            lastPrice = barSeries.getBar(i).getClosePrice();
+            lastPrice = closePrice;
         }
 
         // add net return at exit position
-        Double exitPrice;
+        double exitPrice;
         if (position.getExit() != null) {
             exitPrice = position.getExit().getNetPrice();
         } else {
-            exitPrice = barSeries.getBar(endIndex).getClosePrice();
-        }
-
-        Double strategyReturn;
-        Double assetReturn = type.calculate(CashFlow.addCost(exitPrice, avgCost, isLongTrade), lastPrice);
-        if (position.getEntry().isBuy()) {
-            strategyReturn = assetReturn;
-        } else {
-            strategyReturn = assetReturn*(-1);
+            exitPrice = series.getBar(endIndex).getClosePrice();
         }
-        values.add(strategyReturn);
+        positionValues[count] = type.calculate(CashFlow.addCost(exitPrice, avgCost, isLongTrade), lastPrice) * sign;
+        return positionValues;
     }
 
     /**
@@ -209,8 +253,38 @@ public class Returns implements Indicator<Double> {
      * Fills with zeroes until the end of the series.
      */
     private void fillToTheEnd() {
-        if (barSeries.getEndIndex() >= values.size()) {
-            values.addAll(Collections.nCopies(barSeries.getEndIndex() - values.size() + 1, 0d));
+        if (barSeries.getEndIndex() >= size) {
+            extend(barSeries.getEndIndex() + 1, 0d);
+        }
+    }
+
+    /**
+     * Starts the return rates with NaN (at index 0, there is no return).
+     */
+    private void init() {
+        values = new double[Math.max(1, barSeries.getEndIndex() + 1)];
+        values[0] = NaN;
+        size = 1;
+    }
+
+    /**
+     * Appends a value up to a size.
+     *
+     * @param newSize the new number of values
+     * @param value   the appended value
+     */
+    private void extend(int newSize, double value) {
+        ensureCapacity(newSize);
+        Arrays.fill(values, size, newSize, value);
+        size = newSize;
+    }
+
+    /**
+     * @param capacity the minimum number of values the buffer must hold
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
         }
     }
-}
\ No newline at end of file
+}
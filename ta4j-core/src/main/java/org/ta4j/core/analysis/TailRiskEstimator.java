@@ -0,0 +1,225 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import java.util.Arrays;
+
+import org.ta4j.core.utils.QuickSelect;
+
+/**
+ * Value at risk and expected shortfall of a stream of return rates.
+ *
+ * The return rates are added one by one (e.g. at each bar of a live trading
+ * session) and kept sorted (binary search and array shift), so that the value
+ * at risk is read in O(1) and the expected shortfall in O(tail) at any time.
+ * With a window size, only the last return rates are kept: the estimator
+ * gives the tail risk of a rolling window.
+ *
+ * The values are the ones of the
+ * {@link org.ta4j.core.criteria.ValueAtRiskCriterion} and
+ * {@link org.ta4j.core.criteria.ExpectedShortfallCriterion} for the same
+ * return rates: the tail holds the <code>n - (int) (n * confidence)</code>
+ * lowest return rates, and both measures are non-positive. For a bounded
+ * memory approximation over an unbounded stream, see
+ * {@link org.ta4j.core.utils.P2QuantileEstimator}.
+ */
+public class TailRiskEstimator {
+
+    /** Confidence level as absolute value (e.g. 0.95) */
+    private final double confidence;
+
+    /** The maximum number of kept return rates */
+    private final int windowSize;
+
+    /** The kept return rates, sorted */
+    private double[] sorted;
+
+    /** The kept return rates, in insertion order (circular, with a window size only) */
+    private final double[] window;
+
+    /** The index of the oldest return rate in the window */
+    private int head;
+
+    /** The number of kept return rates */
+    private int count;
+
+    /**
+     * Constructor of an estimator of all the added return rates.
+     *
+     * @param confidence the confidence level
+     */
+    public TailRiskEstimator(double confidence) {
+        this.confidence = confidence;
+        this.windowSize = Integer.MAX_VALUE;
+        this.sorted = new double[16];
+        this.window = null;
+    }
+
+    /**
+     * Constructor of an estimator of the last return rates.
+     *
+     * @param confidence the confidence level
+     * @param windowSize the number of return rates of the rolling window
+     */
+    public TailRiskEstimator(double confidence, int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException(String.format("Window size must be positive: %s", windowSize));
+        }
+        this.confidence = confidence;
+        this.windowSize = windowSize;
+        this.sorted = new double[windowSize];
+        this.window = new double[windowSize];
+    }
+
+    /**
+     * Adds a return rate (removing the oldest one if the window is full).
+     *
+     * @param returnRate the return rate
+     */
+    public void add(double returnRate) {
+        if (window != null) {
+            if (count == windowSize) {
+                remove(window[head]);
+                window[head] = returnRate;
+                head = (head + 1) % windowSize;
+            } else {
+                window[(head + count) % windowSize] = returnRate;
+            }
+        } else if (count == sorted.length) {
+            sorted = Arrays.copyOf(sorted, count * 2);
+        }
+        int position = Arrays.binarySearch(sorted, 0, count, returnRate);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        System.arraycopy(sorted, position, sorted, position + 1, count - position);
+        sorted[position] = returnRate;
+        count++;
+    }
+
+    private void remove(double returnRate) {
+        int position = Arrays.binarySearch(sorted, 0, count, returnRate);
+        System.arraycopy(sorted, position + 1, sorted, position, count - position - 1);
+        count--;
+    }
+
+    /**
+     * Forgets all the return rates.
+     */
+    public void reset() {
+        count = 0;
+        head = 0;
+    }
+
+    /**
+     * @return the number of kept return rates
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the value at risk of the kept return rates, 0 if none
+     */
+    public double getValueAtRisk() {
+        if (count == 0) {
+            return 0;
+        }
+        return nonPositive(sorted[tailSize(count, confidence) - 1]);
+    }
+
+    /**
+     * @return the expected shortfall of the kept return rates, 0 if none
+     */
+    public double getExpectedShortfall() {
+        if (count == 0) {
+            return 0;
+        }
+        int nInTail = tailSize(count, confidence);
+        double sum = 0;
+        for (int i = 0; i < nInTail; i++) {
+            sum = sum + sorted[i];
+        }
+        return nonPositive(sum / nInTail);
+    }
+
+    /**
+     * Calculates the value at risk of return rates by selection (no sort).
+     *
+     * @param returnRates the return rates (reordered)
+     * @param count       the number of return rates (from the index 0)
+     * @param confidence  the confidence level
+     * @return the value at risk, 0 if there is no return rate
+     */
+    public static double valueAtRisk(double[] returnRates, int count, double confidence) {
+        if (count == 0) {
+            return 0;
+        }
+        int nInTail = tailSize(count, confidence);
+        return nonPositive(QuickSelect.select(returnRates, 0, count, nInTail - 1));
+    }
+
+    /**
+     * Calculates the expected shortfall of return rates by selection (only the
+     * tail is sorted).
+     *
+     * @param returnRates the return rates (reordered)
+     * @param count       the number of return rates (from the index 0)
+     * @param confidence  the confidence level
+     * @return the expected shortfall, 0 if there is no return rate
+     */
+    public static double expectedShortfall(double[] returnRates, int count, double confidence) {
+        if (count == 0) {
+            return 0;
+        }
+        int nInTail = tailSize(count, confidence);
+        // The tail events are moved before the (nInTail - 1)-th smallest one, then
+        // sorted so that they are summed in ascending order
+        QuickSelect.select(returnRates, 0, count, nInTail - 1);
+        Arrays.sort(returnRates, 0, nInTail);
+        double sum = 0;
+        for (int i = 0; i < nInTail; i++) {
+            sum = sum + returnRates[i];
+        }
+        return nonPositive(sum / nInTail);
+    }
+
+    /**
+     * @param count      the number of return rates
+     * @param confidence the confidence level
+     * @return the number of return rates in the tail, F(x_var) &gt;= alpha
+     *         (=1-confidence)
+     */
+    private static int tailSize(int count, double confidence) {
+        int nInBody = (int) (count * confidence);
+        return count - nInBody;
+    }
+
+    /**
+     * @return the value, 0 if it is positive (the measures represent a loss)
+     */
+    private static double nonPositive(double value) {
+        return value > 0 ? 0 : value;
+    }
+}
@@ -61,6 +61,12 @@ public class AverageReturnPerBarCriterion extends AbstractAnalysisCriterion {
         return Math.pow(grossReturn.calculate(series, tradingRecord), 1 / bars);
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> values[1] == 0 ? 1d : Math.pow(values[0], 1 / values[1]),
+                grossReturn.accumulator(series, tradingRecord), numberOfBars.accumulator(series, tradingRecord));
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
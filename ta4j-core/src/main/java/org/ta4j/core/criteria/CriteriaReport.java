@@ -0,0 +1,135 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
+import org.ta4j.core.analysis.CashFlow;
+import org.ta4j.core.analysis.Returns;
+
+/**
+ * Calculates several criteria of a trading record in a single pass.
+ *
+ * Calculated one by one, the criteria rebuild their inputs (e.g. a
+ * {@link CashFlow} for the drawdown, {@link Returns} for the value at risk)
+ * and iterate over the positions on their own. A report builds the cash flow
+ * and the returns once, and walks them and the positions once, feeding the
+ * {@link CriterionAccumulator accumulators} of all its criteria. The criteria
+ * without a dedicated accumulator are calculated from the trading record.
+ *
+ * <pre>
+ * CriteriaReport report = new CriteriaReport(new GrossReturnCriterion(), new MaximumDrawdownCriterion());
+ * double[] values = report.calculate(series, tradingRecord);
+ * </pre>
+ */
+public class CriteriaReport {
+
+    private final List<AnalysisCriterion> criteria;
+
+    /**
+     * Constructor.
+     *
+     * @param criteria the criteria of the report
+     */
+    public CriteriaReport(AnalysisCriterion... criteria) {
+        this(Arrays.asList(criteria));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param criteria the criteria of the report
+     */
+    public CriteriaReport(List<AnalysisCriterion> criteria) {
+        this.criteria = Collections.unmodifiableList(criteria);
+    }
+
+    /**
+     * @return the criteria of the report
+     */
+    public List<AnalysisCriterion> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * @param series        a bar series, not null
+     * @param tradingRecord a trading record, not null
+     * @return the values of the criteria for the trading record, in the order of
+     *         the criteria
+     */
+    public double[] calculate(BarSeries series, TradingRecord tradingRecord) {
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    /**
+     * @param context the analysis context of a trading record (whose cash flow
+     *                and log returns are reused), not null
+     * @return the values of the criteria for the trading record, in the order of
+     *         the criteria
+     */
+    public double[] calculate(AnalysisContext context) {
+        final BarSeries series = context.getBarSeries();
+        final TradingRecord tradingRecord = context.getTradingRecord();
+        final CriterionAccumulator[] accumulators = new CriterionAccumulator[criteria.size()];
+        boolean usesBars = false;
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i] = criteria.get(i).accumulator(series, tradingRecord);
+            usesBars |= accumulators[i].usesBars();
+        }
+        for (Position position : tradingRecord.getPositions()) {
+            for (CriterionAccumulator accumulator : accumulators) {
+                accumulator.onPosition(position);
+            }
+        }
+        if (usesBars && !series.isEmpty()) {
+            final int beginIndex = series.getBeginIndex();
+            final int endIndex = series.getEndIndex();
+            final double[] cashFlow = new double[endIndex - beginIndex + 1];
+            final double[] logReturns = new double[cashFlow.length];
+            context.getCashFlow().fill(beginIndex, endIndex, cashFlow);
+            context.getReturns(Returns.ReturnType.LOG).fill(beginIndex, endIndex, logReturns);
+            for (int index = beginIndex; index <= endIndex; index++) {
+                double cashFlowValue = cashFlow[index - beginIndex];
+                double logReturn = logReturns[index - beginIndex];
+                for (CriterionAccumulator accumulator : accumulators) {
+                    if (accumulator.usesBars()) {
+                        accumulator.onBar(index, cashFlowValue, logReturn);
+                    }
+                }
+            }
+        }
+        final double[] values = new double[accumulators.length];
+        for (int i = 0; i < accumulators.length; i++) {
+            values[i] = accumulators[i].getValue();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,238 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.CashFlow;
+import org.ta4j.core.analysis.Returns;
+
+/**
+ * Tracks the values of several criteria of a trading record while it is
+ * traded (e.g. by a live bot or an incremental backtest).
+ *
+ * The tracker is told when a bar is added to the series ({@link #onBar()})
+ * and when a trade is added to the trading record ({@link #onTrade()}). It
+ * feeds the {@link CriterionAccumulator accumulators} of its criteria with
+ * each new bar and each closed position once: the cash flow and returns of the
+ * bars of a position are calculated when it closes, the bars out of the
+ * positions being flat. The values are then read without walking the history
+ * again, in constant time for the criteria whose accumulator only keeps sums
+ * and counts (e.g. the drawdown, the net profit, the win ratio or the
+ * expectancy).
+ *
+ * At any time, the values are the ones of
+ * {@link AnalysisCriterion#calculate(BarSeries, TradingRecord)} for the bars
+ * and the trades reported so far.
+ *
+ * <pre>
+ * CriteriaTracker tracker = new CriteriaTracker(series, tradingRecord, new MaximumDrawdownCriterion(),
+ *         new NetProfitCriterion());
+ * // for each new bar
+ * series.addBar(bar);
+ * tracker.onBar();
+ * if (tradingRecord.operate(series.getEndIndex(), bar.getClosePrice(), amount)) {
+ *     tracker.onTrade();
+ * }
+ * double maximumDrawdown = tracker.getValue(0);
+ * </pre>
+ *
+ * The trades must be reported in order and the series must not drop its first
+ * bars (no maximum bar count).
+ */
+public class CriteriaTracker {
+
+    private final BarSeries series;
+
+    private final TradingRecord tradingRecord;
+
+    private final List<AnalysisCriterion> criteria;
+
+    private final CriterionAccumulator[] accumulators;
+
+    /** True if one of the accumulators uses the bars */
+    private final boolean usesBars;
+
+    /** The index of the last bar fed to the accumulators */
+    private int lastIndex = -1;
+
+    /** The cash flow at the last fed bar */
+    private double cashFlow = 1d;
+
+    /** The number of positions fed to the accumulators */
+    private int positionCount;
+
+    /**
+     * Constructor.
+     *
+     * @param series        a bar series, not null
+     * @param tradingRecord a trading record of the series, not null
+     * @param criteria      the tracked criteria
+     */
+    public CriteriaTracker(BarSeries series, TradingRecord tradingRecord, AnalysisCriterion... criteria) {
+        this(series, tradingRecord, Arrays.asList(criteria));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param series        a bar series, not null
+     * @param tradingRecord a trading record of the series, not null
+     * @param criteria      the tracked criteria
+     */
+    public CriteriaTracker(BarSeries series, TradingRecord tradingRecord, List<AnalysisCriterion> criteria) {
+        this.series = series;
+        this.tradingRecord = tradingRecord;
+        this.criteria = Collections.unmodifiableList(criteria);
+        this.accumulators = new CriterionAccumulator[criteria.size()];
+        boolean anyUsesBars = false;
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i] = criteria.get(i).accumulator(series, tradingRecord);
+            anyUsesBars |= accumulators[i].usesBars();
+        }
+        this.usesBars = anyUsesBars;
+        onTrade();
+    }
+
+    /**
+     * @return the tracked criteria
+     */
+    public List<AnalysisCriterion> getCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Feeds the bars added to the series. The bars of the open position, if any,
+     * are fed once it is closed.
+     */
+    public void onBar() {
+        final Position currentPosition = tradingRecord.getCurrentPosition();
+        if (currentPosition.isOpened()) {
+            feedFlatBars(Math.min(currentPosition.getEntry().getIndex(), series.getEndIndex()));
+        } else {
+            feedFlatBars(series.getEndIndex());
+        }
+    }
+
+    /**
+     * Feeds the positions closed in the trading record (with their bars), then
+     * the bars added to the series.
+     */
+    public void onTrade() {
+        final List<Position> positions = tradingRecord.getPositions();
+        while (positionCount < positions.size()) {
+            feedPosition(positions.get(positionCount++));
+        }
+        onBar();
+    }
+
+    /**
+     * @param index the index of a criterion
+     * @return the value of the criterion
+     */
+    public double getValue(int index) {
+        return accumulators[index].getValue(flatBarCount());
+    }
+
+    /**
+     * @return the values of the criteria, in the order of the criteria
+     */
+    public double[] getValues() {
+        final int flatBars = flatBarCount();
+        final double[] values = new double[accumulators.length];
+        for (int i = 0; i < accumulators.length; i++) {
+            values[i] = accumulators[i].getValue(flatBars);
+        }
+        return values;
+    }
+
+    /**
+     * @return the number of bars of the series after the fed ones (they are flat
+     *         until a position including them is closed)
+     */
+    private int flatBarCount() {
+        if (!usesBars || series.isEmpty()) {
+            return 0;
+        }
+        return Math.max(0, series.getEndIndex() - Math.max(lastIndex, series.getBeginIndex() - 1));
+    }
+
+    /**
+     * Feeds the bars up to an index as flat bars (keeping the last cash flow,
+     * with a return of 0).
+     *
+     * @param index the index of the last bar to feed
+     */
+    private void feedFlatBars(int index) {
+        if (!usesBars) {
+            return;
+        }
+        for (int i = Math.max(lastIndex + 1, series.getBeginIndex()); i <= index; i++) {
+            // at index 0, there is no return
+            feedBar(i, cashFlow, i == 0 ? Double.NaN : 0d);
+        }
+    }
+
+    /**
+     * Feeds a closed position and its bars.
+     *
+     * @param position the closed position
+     */
+    private void feedPosition(Position position) {
+        if (usesBars) {
+            final int entryIndex = position.getEntry().getIndex();
+            final int exitIndex = position.getExit().getIndex();
+            feedFlatBars(entryIndex);
+            // A position is not valid if the cash flow at its entry is not positive
+            final double[] cashFlows = cashFlow > 0
+                    ? CashFlow.positionValues(series, position, exitIndex, cashFlow)
+                    : null;
+            final double[] logReturns = Returns.positionValues(series, position, exitIndex, Returns.ReturnType.LOG);
+            for (int k = 0; k < logReturns.length; k++) {
+                feedBar(entryIndex + 1 + k, cashFlows != null ? cashFlows[k] : cashFlow, logReturns[k]);
+            }
+            if (cashFlows != null) {
+                cashFlow = cashFlows[cashFlows.length - 1];
+            }
+        }
+        for (CriterionAccumulator accumulator : accumulators) {
+            accumulator.onPosition(position);
+        }
+    }
+
+    private void feedBar(int index, double cashFlowValue, double logReturn) {
+        for (CriterionAccumulator accumulator : accumulators) {
+            if (accumulator.usesBars()) {
+                accumulator.onBar(index, cashFlowValue, logReturn);
+            }
+        }
+        lastIndex = index;
+    }
+}
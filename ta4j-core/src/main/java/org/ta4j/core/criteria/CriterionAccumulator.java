@@ -0,0 +1,206 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.Position;
+
+/**
+ * Accumulator of the value of an {@link AnalysisCriterion criterion} for a
+ * trading record.
+ *
+ * A {@link CriteriaReport} walks the bars and the positions of a trading
+ * record once and feeds them to the accumulators of all its criteria: the
+ * closed positions in order, then (if one of the accumulators
+ * {@link #usesBars() uses them}) the cash flow and return of each bar in
+ * increasing index order. The value is read once everything has been fed.
+ *
+ * A {@link CriteriaTracker} feeds them online instead, as the bars arrive and
+ * the positions close: the bars and the positions are then interleaved, so an
+ * accumulator must not depend on their relative order.
+ *
+ * The accumulators built by {@link AnalysisCriterion#accumulator} give the
+ * same values as {@link AnalysisCriterion#calculate(org.ta4j.core.BarSeries,
+ * org.ta4j.core.TradingRecord)}.
+ */
+@FunctionalInterface
+public interface CriterionAccumulator {
+
+    /**
+     * @return true if the accumulator needs the bars (see
+     *         {@link #onBar(int, double, double)}), false otherwise (default)
+     */
+    default boolean usesBars() {
+        return false;
+    }
+
+    /**
+     * Called for each bar of the series, in increasing index order, if
+     * {@link #usesBars()}.
+     *
+     * @param index     the bar index
+     * @param cashFlow  the cash flow of the trading record at the index (see
+     *                  {@link org.ta4j.core.analysis.CashFlow})
+     * @param logReturn the log return of the trading record at the index (see
+     *                  {@link org.ta4j.core.analysis.Returns})
+     */
+    default void onBar(int index, double cashFlow, double logReturn) {
+    }
+
+    /**
+     * Called for each closed position of the trading record, in order.
+     *
+     * @param position the position
+     */
+    default void onPosition(Position position) {
+    }
+
+    /**
+     * @return the criterion value of the fed bars and positions
+     */
+    double getValue();
+
+    /**
+     * Returns the criterion value of the fed bars and positions followed by flat
+     * bars, i.e. bars whose cash flow is the one of the last fed bar and whose
+     * log return is 0. The criteria of a trading record see the bars of its open
+     * position (and the bars after its last position) that way, so that a
+     * {@link CriteriaTracker} can read the value while the position is open and
+     * feed the actual bars once it is closed.
+     *
+     * The default implementation ignores the flat bars, which is right for the
+     * accumulators that do not use the bars or whose value does not change with
+     * them (e.g. the maximum drawdown).
+     *
+     * @param flatBars the number of flat bars after the fed ones
+     * @return the criterion value of the fed bars and positions, followed by the
+     *         flat bars
+     */
+    default double getValue(int flatBars) {
+        return getValue();
+    }
+
+    /**
+     * @param value the value of a closed position
+     * @return an accumulator of the sum of the values of the closed positions
+     */
+    static CriterionAccumulator sum(ToDoubleFunction<Position> value) {
+        return new CriterionAccumulator() {
+
+            private double sum = 0d;
+
+            @Override
+            public void onPosition(Position position) {
+                if (position.isClosed()) {
+                    sum = sum + value.applyAsDouble(position);
+                }
+            }
+
+            @Override
+            public double getValue() {
+                return sum;
+            }
+        };
+    }
+
+    /**
+     * @param predicate the condition on a position
+     * @return an accumulator of the number of positions satisfying the condition
+     */
+    static CriterionAccumulator count(Predicate<Position> predicate) {
+        return new CriterionAccumulator() {
+
+            private int count = 0;
+
+            @Override
+            public void onPosition(Position position) {
+                if (predicate.test(position)) {
+                    count++;
+                }
+            }
+
+            @Override
+            public double getValue() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Combines the values of several accumulators, which are all fed with the
+     * bars and positions of the combined one.
+     *
+     * @param combiner     the function of the values of the accumulators (in
+     *                     order)
+     * @param accumulators the accumulators
+     * @return the combined accumulator
+     */
+    static CriterionAccumulator combine(ToDoubleFunction<double[]> combiner, CriterionAccumulator... accumulators) {
+        boolean usesBars = false;
+        for (CriterionAccumulator accumulator : accumulators) {
+            usesBars |= accumulator.usesBars();
+        }
+        final boolean combinedUsesBars = usesBars;
+        return new CriterionAccumulator() {
+
+            @Override
+            public boolean usesBars() {
+                return combinedUsesBars;
+            }
+
+            @Override
+            public void onBar(int index, double cashFlow, double logReturn) {
+                for (CriterionAccumulator accumulator : accumulators) {
+                    if (accumulator.usesBars()) {
+                        accumulator.onBar(index, cashFlow, logReturn);
+                    }
+                }
+            }
+
+            @Override
+            public void onPosition(Position position) {
+                for (CriterionAccumulator accumulator : accumulators) {
+                    accumulator.onPosition(position);
+                }
+            }
+
+            @Override
+            public double getValue() {
+                return getValue(0);
+            }
+
+            @Override
+            public double getValue(int flatBars) {
+                double[] values = new double[accumulators.length];
+                for (int i = 0; i < accumulators.length; i++) {
+                    values[i] = accumulators[i].getValue(flatBars);
+                }
+                return combiner.applyAsDouble(values);
+            }
+        };
+    }
+}
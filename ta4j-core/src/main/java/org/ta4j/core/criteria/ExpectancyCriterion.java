@@ -62,6 +62,14 @@ public class ExpectancyCriterion extends AbstractAnalysisCriterion {
         return calculate(series, profitLossRatio, numberOfWinningPositions, numberOfPositions);
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> calculate(series, values[0], values[1], values[2]),
+                profitLossRatioCriterion.accumulator(series, tradingRecord),
+                numberOfWinningPositionsCriterion.accumulator(series, tradingRecord),
+                numberOfPositionsCriterion.accumulator(series, tradingRecord));
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -26,10 +26,9 @@ package org.ta4j.core.criteria;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.analysis.Returns;
-
-import java.util.Collections;
-import java.util.List;
+import org.ta4j.core.analysis.TailRiskEstimator;
 
 
 /**
@@ -67,8 +66,12 @@ public class ExpectedShortfallCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
-        return calculateES(returns, confidence);
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public double calculate(AnalysisContext context) {
+        return calculateES(context.getReturns(Returns.ReturnType.LOG), confidence);
     }
 
     /**
@@ -78,30 +81,24 @@ public class ExpectedShortfallCriterion extends AbstractAnalysisCriterion {
      * @param confidence the confidence level
      * @return the relative Expected Shortfall
      */
-    private static Double calculateES(Returns returns, Double confidence) {
-        // select non-NaN returns
-        List<Double> returnRates = returns.getValues().subList(1, returns.getSize() + 1);
-        double expectedShortfall = 0;
-        if (!returnRates.isEmpty()) {
-            // F(x_var) >= alpha (=1-confidence)
-            int nInBody = (int) (returns.getSize() * confidence);
-            int nInTail = returns.getSize() - nInBody;
+    private static double calculateES(Returns returns, Double confidence) {
+        // select non-NaN returns, copied so that the returns keep their order
+        double[] returnRates = new double[Math.max(0, returns.getSize())];
+        if (returnRates.length > 0) {
+            returns.fill(1, returnRates.length, returnRates);
+        }
+        return TailRiskEstimator.expectedShortfall(returnRates, returnRates.length, confidence);
+    }
 
-            // calculate average tail loss
-            Collections.sort(returnRates);
-            List<Double> tailEvents = returnRates.subList(0, nInTail);
-            double sum = 0;
-            for (int i = 0; i < nInTail; i++) {
-                sum = sum+(tailEvents.get(i));
-            }
-            expectedShortfall = sum / nInTail;
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return new ReturnRatesAccumulator(series.getBarCount() - 1) {
 
-            // ES is non-positive
-            if (expectedShortfall > 0) {
-                expectedShortfall = 0;
+            @Override
+            protected double getValue(double[] returnRates, int count) {
+                return TailRiskEstimator.expectedShortfall(returnRates, count, confidence);
             }
-        }
-        return expectedShortfall;
+        };
     }
 
     /** The higher the criterion value, the better. */
@@ -78,28 +78,43 @@ public class LinearTransactionCostCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        double totalCosts = 0;
-        double tradedAmount = initialAmount;
-
+        CriterionAccumulator accumulator = accumulator(series, tradingRecord);
         for (Position position : tradingRecord.getPositions()) {
-            double tradeCost = getTradeCost(series, position, tradedAmount);
-            totalCosts = totalCosts + tradeCost;
-            // To calculate the new traded amount:
-            // - Remove the cost of the *first* trade
-            // - Multiply by the profit ratio
-            // - Remove the cost of the *second* trade
-            tradedAmount = tradedAmount - getTradeCost(position.getEntry(), tradedAmount);
-            tradedAmount = tradedAmount * grossReturn.calculate(series, position);
-            tradedAmount = tradedAmount - getTradeCost(position.getExit(), tradedAmount);
+            accumulator.onPosition(position);
         }
+        return accumulator.getValue();
+    }
 
-        // Special case: if the current position is open
-        Position currentPosition = tradingRecord.getCurrentPosition();
-        if (currentPosition.isOpened()) {
-            totalCosts = totalCosts + getTradeCost(currentPosition.getEntry(), tradedAmount);
-        }
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return new CriterionAccumulator() {
+
+            private double totalCosts = 0;
+            private double tradedAmount = initialAmount;
+
+            @Override
+            public void onPosition(Position position) {
+                double tradeCost = getTradeCost(series, position, tradedAmount);
+                totalCosts = totalCosts + tradeCost;
+                // To calculate the new traded amount:
+                // - Remove the cost of the *first* trade
+                // - Multiply by the profit ratio
+                // - Remove the cost of the *second* trade
+                tradedAmount = tradedAmount - getTradeCost(position.getEntry(), tradedAmount);
+                tradedAmount = tradedAmount * grossReturn.calculate(series, position);
+                tradedAmount = tradedAmount - getTradeCost(position.getExit(), tradedAmount);
+            }
 
-        return totalCosts;
+            @Override
+            public double getValue() {
+                // Special case: if the current position is open
+                Position currentPosition = tradingRecord.getCurrentPosition();
+                if (currentPosition.isOpened()) {
+                    return totalCosts + getTradeCost(currentPosition.getEntry(), tradedAmount);
+                }
+                return totalCosts;
+            }
+        };
     }
 
     /** The lower the criterion value, the better. */
@@ -49,6 +49,12 @@ public class LosingPositionsRatioCriterion extends AbstractAnalysisCriterion {
         return numberOfLosingPositions / tradingRecord.getPositionCount();
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> values[0] / tradingRecord.getPositionCount(),
+                numberOfLosingPositionsCriterion.accumulator(series, tradingRecord));
+    }
+
     /** The lower the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -26,6 +26,7 @@ package org.ta4j.core.criteria;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.analysis.CashFlow;
 
 
@@ -48,8 +49,17 @@ public class MaximumDrawdownCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        CashFlow cashFlow = new CashFlow(series, tradingRecord);
-        return calculateMaximumDrawdown(series, cashFlow);
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public double calculate(AnalysisContext context) {
+        return calculateMaximumDrawdown(context.getBarSeries(), context.getCashFlow());
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return new MaximumDrawdownAccumulator();
     }
 
     /** The lower the criterion value, the better. */
@@ -65,23 +75,44 @@ public class MaximumDrawdownCriterion extends AbstractAnalysisCriterion {
      * @param cashFlow the cash flow
      * @return the maximum drawdown from a cash flow over a series
      */
-    private Double calculateMaximumDrawdown(BarSeries series, CashFlow cashFlow) {
-        double maximumDrawdown = 0d;
-        double maxPeak = 0d;
+    private double calculateMaximumDrawdown(BarSeries series, CashFlow cashFlow) {
+        MaximumDrawdownAccumulator accumulator = new MaximumDrawdownAccumulator();
         if (!series.isEmpty()) {
             // The series is not empty
             for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
-                double value = cashFlow.getValue(i);
-                if (value > maxPeak ) {
-                    maxPeak = value;
-                }
+                accumulator.onBar(i, cashFlow.getDouble(i), Double.NaN);
+            }
+        }
+        return accumulator.getValue();
+    }
 
-                double drawdown = (maxPeak - value) / maxPeak;
-                if (drawdown > maximumDrawdown) {
-                    maximumDrawdown = drawdown;
-                }
+    /**
+     * Maximum drawdown of the cash flow values of the bars.
+     */
+    private static class MaximumDrawdownAccumulator implements CriterionAccumulator {
+
+        private double maximumDrawdown = 0d;
+        private double maxPeak = 0d;
+
+        @Override
+        public boolean usesBars() {
+            return true;
+        }
+
+        @Override
+        public void onBar(int index, double cashFlow, double logReturn) {
+            if (cashFlow > maxPeak) {
+                maxPeak = cashFlow;
+            }
+            double drawdown = (maxPeak - cashFlow) / maxPeak;
+            if (drawdown > maximumDrawdown) {
+                maximumDrawdown = drawdown;
             }
         }
-        return maximumDrawdown;
+
+        @Override
+        public double getValue() {
+            return maximumDrawdown;
+        }
     }
 }
@@ -54,6 +54,11 @@ public class NumberOfBarsCriterion extends AbstractAnalysisCriterion {
                 .reduce(0d, (a,b) -> a+b);
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.sum(position -> calculate(series, position));
+    }
+
     /** The lower the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -55,6 +55,11 @@ public class NumberOfBreakEvenPositionsCriterion extends AbstractAnalysisCriteri
         return false;
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.count(this::isBreakEvenPosition);
+    }
+
     /** The lower the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
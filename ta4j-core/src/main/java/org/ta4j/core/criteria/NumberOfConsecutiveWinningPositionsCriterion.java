@@ -61,6 +61,33 @@ public class NumberOfConsecutiveWinningPositionsCriterion extends AbstractAnalys
         return (double) maxConsecutiveWins;
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return new CriterionAccumulator() {
+
+            private int maxConsecutiveWins = 0;
+            private int consecutiveWins = 0;
+
+            @Override
+            public void onPosition(Position position) {
+                if (isWinningPosition(position)) {
+                    consecutiveWins = consecutiveWins + 1;
+                } else {
+                    if (maxConsecutiveWins < consecutiveWins) {
+                        maxConsecutiveWins = consecutiveWins;
+                    }
+                    consecutiveWins = 0; // reset
+                }
+            }
+
+            @Override
+            public double getValue() {
+                // in case all positions are winning positions
+                return Math.max(maxConsecutiveWins, consecutiveWins);
+            }
+        };
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -44,6 +44,11 @@ public class NumberOfLosingPositionsCriterion extends AbstractAnalysisCriterion
         return numberOfLosingPositions;
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.count(Position::hasLoss);
+    }
+
     /** The lower the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -43,6 +43,11 @@ public class NumberOfPositionsCriterion extends AbstractAnalysisCriterion {
         return (double) tradingRecord.getPositionCount();
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.count(position -> true);
+    }
+
     /** The lower the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
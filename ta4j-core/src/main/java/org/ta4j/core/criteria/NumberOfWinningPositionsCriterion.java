@@ -44,6 +44,11 @@ public class NumberOfWinningPositionsCriterion extends AbstractAnalysisCriterion
         return numberOfWinningPositions;
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.count(Position::hasProfit);
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
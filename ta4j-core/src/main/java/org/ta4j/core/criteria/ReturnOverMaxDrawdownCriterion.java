@@ -27,6 +27,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.criteria.pnl.GrossReturnCriterion;
 
 
@@ -55,15 +56,27 @@ public class ReturnOverMaxDrawdownCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        final Double maxDrawdown = maxDrawdownCriterion.calculate(series, tradingRecord);
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public double calculate(AnalysisContext context) {
+        final double maxDrawdown = maxDrawdownCriterion.calculate(context);
         if (maxDrawdown == 0) {
             return NaN;
         } else {
-            final Double totalProfit = grossReturnCriterion.calculate(series, tradingRecord);
-            return totalProfit / (maxDrawdown);
+            final double totalProfit = grossReturnCriterion.calculate(context);
+            return totalProfit / maxDrawdown;
         }
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> values[1] == 0 ? NaN : values[0] / values[1],
+                grossReturnCriterion.accumulator(series, tradingRecord),
+                maxDrawdownCriterion.accumulator(series, tradingRecord));
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import java.util.Arrays;
+
+/**
+ * Collects the log returns of the bars (from the index 1, as
+ * {@link org.ta4j.core.analysis.Returns#getValues()}) for the tail risk
+ * criteria.
+ */
+abstract class ReturnRatesAccumulator implements CriterionAccumulator {
+
+    /** The return rates of the bars from the index 1 */
+    private double[] returnRates;
+
+    /** The number of return rates (the highest fed bar index) */
+    private int count;
+
+    /**
+     * @param capacity the expected number of return rates
+     */
+    ReturnRatesAccumulator(int capacity) {
+        this.returnRates = new double[Math.max(1, capacity)];
+    }
+
+    @Override
+    public boolean usesBars() {
+        return true;
+    }
+
+    @Override
+    public void onBar(int index, double cashFlow, double logReturn) {
+        if (index >= 1) {
+            if (index > returnRates.length) {
+                returnRates = Arrays.copyOf(returnRates, Math.max(index, returnRates.length * 2));
+            }
+            returnRates[index - 1] = logReturn;
+            count = Math.max(count, index);
+        }
+    }
+
+    @Override
+    public double getValue() {
+        return getValue(0);
+    }
+
+    @Override
+    public double getValue(int flatBars) {
+        // the return rates of the flat bars are 0
+        return getValue(Arrays.copyOf(returnRates, count + flatBars), count + flatBars);
+    }
+
+    /**
+     * @param returnRates the return rates (may be reordered)
+     * @param count       the number of return rates
+     * @return the criterion value of the return rates
+     */
+    protected abstract double getValue(double[] returnRates, int count);
+}
@@ -27,6 +27,7 @@ import org.ta4j.core.AnalysisCriterion;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.helpers.PositionStatistics;
 import org.ta4j.core.criteria.helpers.StandardDeviationCriterion;
 import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
 
@@ -99,20 +100,33 @@ public class SqnCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty())
+        return sqn(PositionStatistics.of(criterion, series, tradingRecord));
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return PositionStatistics.accumulator(criterion, series, tradingRecord, this::sqn);
+    }
+
+    /**
+     * @param statistics the statistics of the criterion per position
+     * @return the SQN of the positions
+     */
+    private double sqn(PositionStatistics statistics) {
+        if (statistics.getCount() == 0) {
             return 0d;
-        double numberOfPositions = numberOfPositionsCriterion.calculate(series, tradingRecord);
-        double pnl = criterion.calculate(series, tradingRecord);
-        double avgPnl = pnl / (numberOfPositions);
-        double stdDevPnl = standardDeviationCriterion.calculate(series, tradingRecord);
+        }
+        double numberOfPositions = statistics.getCount();
+        double avgPnl = statistics.getAverage();
+        double stdDevPnl = statistics.getStandardDeviation();
         if (stdDevPnl == 0) {
             return 0d;
         }
-        if (nPositions != null && numberOfPositions> (100)) {
+        if (nPositions != null && numberOfPositions > 100) {
             numberOfPositions = nPositions;
         }
         // SQN = (Average (PnL) / StdDev(PnL)) * SquareRoot(NumberOfTrades)
-        return avgPnl / (stdDevPnl)*(Math.sqrt(numberOfPositions));
+        return avgPnl / stdDevPnl * Math.sqrt(numberOfPositions);
     }
 
     /** The higher the criterion value, the better. */
@@ -26,10 +26,9 @@ package org.ta4j.core.criteria;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.AnalysisContext;
 import org.ta4j.core.analysis.Returns;
-
-import java.util.Collections;
-import java.util.List;
+import org.ta4j.core.analysis.TailRiskEstimator;
 
 
 /**
@@ -64,8 +63,12 @@ public class ValueAtRiskCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
-        return calculateVaR(returns, confidence);
+        return calculate(new AnalysisContext(series, tradingRecord));
+    }
+
+    @Override
+    public double calculate(AnalysisContext context) {
+        return calculateVaR(context.getReturns(Returns.ReturnType.LOG), confidence);
     }
 
     /**
@@ -75,25 +78,24 @@ public class ValueAtRiskCriterion extends AbstractAnalysisCriterion {
      * @param confidence the confidence level
      * @return the relative Value at Risk
      */
-    private static Double calculateVaR(Returns returns, Double confidence) {
-        // select non-NaN returns
-        List<Double> returnRates = returns.getValues().subList(1, returns.getSize() + 1);
-        double valueAtRisk = 0;
-        if (!returnRates.isEmpty()) {
-            // F(x_var) >= alpha (=1-confidence)
-            int nInBody = (int) (returns.getSize() * confidence);
-            int nInTail = returns.getSize() - nInBody;
+    private static double calculateVaR(Returns returns, Double confidence) {
+        // select non-NaN returns, copied so that the returns keep their order
+        double[] returnRates = new double[Math.max(0, returns.getSize())];
+        if (returnRates.length > 0) {
+            returns.fill(1, returnRates.length, returnRates);
+        }
+        return TailRiskEstimator.valueAtRisk(returnRates, returnRates.length, confidence);
+    }
 
-            // The series is not empty, nInTail > 0
-            Collections.sort(returnRates);
-            valueAtRisk = returnRates.get(nInTail - 1);
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return new ReturnRatesAccumulator(series.getBarCount() - 1) {
 
-            // VaR is non-positive
-            if (valueAtRisk > 0) {
-                valueAtRisk = 0;
+            @Override
+            protected double getValue(double[] returnRates, int count) {
+                return TailRiskEstimator.valueAtRisk(returnRates, count, confidence);
             }
-        }
-        return valueAtRisk;
+        };
     }
 
     @Override
@@ -57,6 +57,13 @@ public class VersusBuyAndHoldCriterion extends AbstractAnalysisCriterion {
         return criterion.calculate(series, tradingRecord) / (criterion.calculate(series, fakeRecord));
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(
+                values -> values[0] / (criterion.calculate(series, createBuyAndHoldTradingRecord(series))),
+                criterion.accumulator(series, tradingRecord));
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
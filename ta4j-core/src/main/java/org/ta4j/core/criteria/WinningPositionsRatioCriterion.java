@@ -48,6 +48,12 @@ public class WinningPositionsRatioCriterion extends AbstractAnalysisCriterion {
         return numberOfWinningPositions / tradingRecord.getPositionCount();
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> values[0] / tradingRecord.getPositionCount(),
+                numberOfWinningPositionsCriterion.accumulator(series, tradingRecord));
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -28,6 +28,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 import org.ta4j.core.criteria.NumberOfPositionsCriterion;
 
 
@@ -66,6 +67,13 @@ public class AverageCriterion extends AbstractAnalysisCriterion {
         return criterion.calculate(series, tradingRecord) / numberOfPositions;
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> values[1] == 0 ? 0d : values[0] / values[1],
+                criterion.accumulator(series, tradingRecord),
+                numberOfPositionsCriterion.accumulator(series, tradingRecord));
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
@@ -0,0 +1,231 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria.helpers;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Position;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.CriterionAccumulator;
+
+/**
+ * Statistics of the values of a criterion per position of a trading record.
+ *
+ * The criterion is calculated once for the trading record and once for each
+ * of its closed positions, in a <code>double[]</code> metric vector from which
+ * the average, the variance, the standard deviation and the standard error are
+ * derived (the variance in a single pass over the vector), instead of
+ * calculating the criterion again for each of them. As for the
+ * {@link AverageCriterion average criterion}, the average is the value of the
+ * criterion for the trading record divided by the number of positions.
+ *
+ * All the statistics are 0 if there is no position.
+ */
+public class PositionStatistics {
+
+    /** The value of the criterion for the trading record */
+    private final double total;
+
+    /** The values of the criterion for the positions (the first count ones) */
+    private final double[] values;
+
+    /** The number of positions */
+    private final int count;
+
+    /**
+     * Constructor.
+     *
+     * @param total  the value of the criterion for the trading record
+     * @param values the values of the criterion for the positions
+     * @param count  the number of positions (the first values)
+     */
+    public PositionStatistics(double total, double[] values, int count) {
+        if (count < 0 || count > values.length) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid number of positions %s for %s values", count, values.length));
+        }
+        this.total = total;
+        this.values = values;
+        this.count = count;
+    }
+
+    /**
+     * Calculates the criterion for a trading record and its closed positions.
+     *
+     * @param criterion     the criterion
+     * @param series        a bar series, not null
+     * @param tradingRecord a trading record, not null
+     * @return the statistics of the criterion per position
+     */
+    public static PositionStatistics of(AnalysisCriterion criterion, BarSeries series,
+            TradingRecord tradingRecord) {
+        final double[] values = new double[tradingRecord.getPositionCount()];
+        if (values.length == 0) {
+            return new PositionStatistics(0d, values, 0);
+        }
+        int count = 0;
+        for (Position position : tradingRecord.getPositions()) {
+            values[count++] = criterion.calculate(series, position);
+        }
+        return new PositionStatistics(criterion.calculate(series, tradingRecord), values, count);
+    }
+
+    /**
+     * Returns an accumulator of a statistic of a criterion (see
+     * {@link AnalysisCriterion#accumulator(BarSeries, TradingRecord)}). The
+     * value of the criterion for the trading record is accumulated by the
+     * accumulator of the criterion.
+     *
+     * @param criterion     the criterion
+     * @param series        a bar series, not null
+     * @param tradingRecord a trading record, not null
+     * @param statistic     the statistic
+     * @return the accumulator of the statistic of the criterion per position
+     */
+    public static CriterionAccumulator accumulator(AnalysisCriterion criterion, BarSeries series,
+            TradingRecord tradingRecord, ToDoubleFunction<PositionStatistics> statistic) {
+        final CriterionAccumulator totalAccumulator = criterion.accumulator(series, tradingRecord);
+        return new CriterionAccumulator() {
+
+            private double[] values = new double[Math.max(1, tradingRecord.getPositionCount())];
+
+            private int count;
+
+            @Override
+            public boolean usesBars() {
+                return totalAccumulator.usesBars();
+            }
+
+            @Override
+            public void onBar(int index, double cashFlow, double logReturn) {
+                totalAccumulator.onBar(index, cashFlow, logReturn);
+            }
+
+            @Override
+            public void onPosition(Position position) {
+                totalAccumulator.onPosition(position);
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                values[count++] = criterion.calculate(series, position);
+            }
+
+            @Override
+            public double getValue() {
+                return getValue(0);
+            }
+
+            @Override
+            public double getValue(int flatBars) {
+                final double total = count == 0 ? 0d : totalAccumulator.getValue(flatBars);
+                return statistic.applyAsDouble(new PositionStatistics(total, values, count));
+            }
+        };
+    }
+
+    /**
+     * @return the number of positions
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the value of the criterion for the trading record
+     */
+    public double getTotal() {
+        return total;
+    }
+
+    /**
+     * @param index the index of a position
+     * @return the value of the criterion for the position
+     */
+    public double getValue(int index) {
+        if (index >= count) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, Size: %s", index, count));
+        }
+        return values[index];
+    }
+
+    /**
+     * @return the average of the criterion per position
+     */
+    public double getAverage() {
+        if (count == 0) {
+            return 0d;
+        }
+        return total / count;
+    }
+
+    /**
+     * @return the variance of the values of the criterion for the positions
+     */
+    public double getVariance() {
+        if (count == 0) {
+            return 0d;
+        }
+        final double average = total / count;
+        double variance = 0;
+        for (int i = 0; i < count; i++) {
+            variance = variance + Math.pow(values[i] - average, 2);
+        }
+        return variance / count;
+    }
+
+    /**
+     * @return the standard deviation of the values of the criterion for the
+     *         positions
+     */
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return 0d;
+        }
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * @return the standard error of the values of the criterion for the positions
+     */
+    public double getStandardError() {
+        if (count == 0) {
+            return 0d;
+        }
+        return getStandardDeviation() / Math.sqrt(count);
+    }
+
+    /**
+     * @return the standard deviation relative to the average (coefficient of
+     *         variation)
+     */
+    public double getRelativeStandardDeviation() {
+        if (count == 0) {
+            return 0d;
+        }
+        return getStandardDeviation() / getAverage();
+    }
+}
@@ -28,6 +28,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 
 
 /**
@@ -42,6 +43,7 @@ import org.ta4j.core.criteria.AbstractAnalysisCriterion;
  */
 public class RelativeStandardDeviationCriterion extends AbstractAnalysisCriterion {
 
+    private final AnalysisCriterion criterion;
     private final StandardDeviationCriterion standardDeviationCriterion;
     private final AverageCriterion averageCriterion;
 
@@ -52,6 +54,7 @@ public class RelativeStandardDeviationCriterion extends AbstractAnalysisCriterio
      *                  is calculated
      */
     public RelativeStandardDeviationCriterion(AnalysisCriterion criterion) {
+        this.criterion = criterion;
         this.standardDeviationCriterion = new StandardDeviationCriterion(criterion);
         this.averageCriterion = new AverageCriterion(criterion);
     }
@@ -64,11 +67,13 @@ public class RelativeStandardDeviationCriterion extends AbstractAnalysisCriterio
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty()) {
-            return 0d;
-        }
-        double average = averageCriterion.calculate(series, tradingRecord);
-        return standardDeviationCriterion.calculate(series, tradingRecord) / average;
+        return PositionStatistics.of(criterion, series, tradingRecord).getRelativeStandardDeviation();
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return PositionStatistics.accumulator(criterion, series, tradingRecord,
+                PositionStatistics::getRelativeStandardDeviation);
     }
 
     /** The higher the criterion value, the better. */
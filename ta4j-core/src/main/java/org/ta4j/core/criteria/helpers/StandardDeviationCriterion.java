@@ -28,6 +28,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 
 /**
  * Standard deviation criterion.
@@ -37,6 +38,7 @@ import org.ta4j.core.criteria.AbstractAnalysisCriterion;
  */
 public class StandardDeviationCriterion extends AbstractAnalysisCriterion {
 
+    private final AnalysisCriterion criterion;
     private final VarianceCriterion varianceCriterion;
 
     /**
@@ -46,6 +48,7 @@ public class StandardDeviationCriterion extends AbstractAnalysisCriterion {
      *                  calculated
      */
     public StandardDeviationCriterion(AnalysisCriterion criterion) {
+        this.criterion = criterion;
         this.varianceCriterion = new VarianceCriterion(criterion);
     }
 
@@ -56,10 +59,13 @@ public class StandardDeviationCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty()) {
-            return 0d;
-        }
-        return Math.sqrt(varianceCriterion.calculate(series, tradingRecord));
+        return PositionStatistics.of(criterion, series, tradingRecord).getStandardDeviation();
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return PositionStatistics.accumulator(criterion, series, tradingRecord,
+                PositionStatistics::getStandardDeviation);
     }
 
     /** The higher the criterion value, the better. */
@@ -28,6 +28,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 import org.ta4j.core.criteria.NumberOfPositionsCriterion;
 
 /**
@@ -38,6 +39,7 @@ import org.ta4j.core.criteria.NumberOfPositionsCriterion;
  */
 public class StandardErrorCriterion extends AbstractAnalysisCriterion {
 
+    private final AnalysisCriterion criterion;
     private final StandardDeviationCriterion standardDeviationCriterion;
     private final NumberOfPositionsCriterion numberOfPositionsCriterion = new NumberOfPositionsCriterion();
 
@@ -48,6 +50,7 @@ public class StandardErrorCriterion extends AbstractAnalysisCriterion {
      *                  calculated
      */
     public StandardErrorCriterion(AnalysisCriterion criterion) {
+        this.criterion = criterion;
         this.standardDeviationCriterion = new StandardDeviationCriterion(criterion);
     }
 
@@ -59,11 +62,12 @@ public class StandardErrorCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty()) {
-            return 0d;
-        }
-        Double numberOfPositions = numberOfPositionsCriterion.calculate(series, tradingRecord);
-        return standardDeviationCriterion.calculate(series, tradingRecord) / Math.sqrt(numberOfPositions);
+        return PositionStatistics.of(criterion, series, tradingRecord).getStandardError();
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return PositionStatistics.accumulator(criterion, series, tradingRecord, PositionStatistics::getStandardError);
     }
 
     /** The lower the criterion value, the better. */
@@ -28,13 +28,15 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 import org.ta4j.core.criteria.NumberOfPositionsCriterion;
 
 /**
  * Variance criterion.
  * 
  * <p>
- * Calculates the standard deviation for a Criterion.
+ * Calculates the variance of a Criterion per position (see
+ * {@link PositionStatistics}).
  */
 public class VarianceCriterion extends AbstractAnalysisCriterion {
 
@@ -65,21 +67,12 @@ public class VarianceCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        if (tradingRecord.getPositions().isEmpty()) {
-            return 0d;
-        }
-        double criterionValue = criterion.calculate(series, tradingRecord);
-        double numberOfPositions = numberOfPositionsCriterion.calculate(series, tradingRecord);
-
-        double variance = 0;
-        double average = criterionValue / numberOfPositions;
+        return PositionStatistics.of(criterion, series, tradingRecord).getVariance();
+    }
 
-        for (Position position : tradingRecord.getPositions()) {
-            Double pow = Math.pow(criterion.calculate(series, position) - average, 2);
-            variance = variance + pow;
-        }
-        variance = variance / numberOfPositions;
-        return variance;
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return PositionStatistics.accumulator(criterion, series, tradingRecord, PositionStatistics::getVariance);
     }
 
     /** The higher the criterion value, the better. */
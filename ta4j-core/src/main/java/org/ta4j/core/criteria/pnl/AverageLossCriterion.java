@@ -27,6 +27,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 import org.ta4j.core.criteria.NumberOfLosingPositionsCriterion;
 
 
@@ -53,12 +54,24 @@ public class AverageLossCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        Double numberOfLosingPositions = numberOfLosingPositionsCriterion.calculate(series, tradingRecord);
-        if (numberOfLosingPositions == 0) {
-            return 0d;
-        }
-        Double grossLoss = grossLossCriterion.calculate(series, tradingRecord);
-        if (grossLoss == 0) {
+        return average(grossLossCriterion.calculate(series, tradingRecord),
+                numberOfLosingPositionsCriterion.calculate(series, tradingRecord));
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> average(values[0], values[1]),
+                grossLossCriterion.accumulator(series, tradingRecord),
+                numberOfLosingPositionsCriterion.accumulator(series, tradingRecord));
+    }
+
+    /**
+     * @param grossLoss               the gross loss of the positions
+     * @param numberOfLosingPositions the number of losing positions
+     * @return the average loss, 0 if none
+     */
+    private static double average(double grossLoss, double numberOfLosingPositions) {
+        if (numberOfLosingPositions == 0 || grossLoss == 0) {
             return 0d;
         }
         return grossLoss / (numberOfLosingPositions);
@@ -27,6 +27,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 import org.ta4j.core.criteria.NumberOfWinningPositionsCriterion;
 
 
@@ -53,12 +54,24 @@ public class AverageProfitCriterion extends AbstractAnalysisCriterion {
 
     @Override
     public double calculate(BarSeries series, TradingRecord tradingRecord) {
-        Double numberOfWinningPositions = numberOfWinningPositionsCriterion.calculate(series, tradingRecord);
-        if (numberOfWinningPositions == 0) {
-            return 0d;
-        }
-        Double grossProfit = grossProfitCriterion.calculate(series, tradingRecord);
-        if (grossProfit == 0) {
+        return average(grossProfitCriterion.calculate(series, tradingRecord),
+                numberOfWinningPositionsCriterion.calculate(series, tradingRecord));
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> average(values[0], values[1]),
+                grossProfitCriterion.accumulator(series, tradingRecord),
+                numberOfWinningPositionsCriterion.accumulator(series, tradingRecord));
+    }
+
+    /**
+     * @param grossProfit              the gross profit of the positions
+     * @param numberOfWinningPositions the number of winning positions
+     * @return the average profit, 0 if none
+     */
+    private static double average(double grossProfit, double numberOfWinningPositions) {
+        if (numberOfWinningPositions == 0 || grossProfit == 0) {
             return 0d;
         }
         return grossProfit / (numberOfWinningPositions);
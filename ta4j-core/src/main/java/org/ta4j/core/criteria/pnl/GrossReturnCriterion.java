@@ -27,6 +27,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 
 
 /**
@@ -51,6 +52,24 @@ public class GrossReturnCriterion extends AbstractAnalysisCriterion {
                 .reduce(1d, (a,b)->a*b);
     }
 
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return new CriterionAccumulator() {
+
+            private double grossReturn = 1d;
+
+            @Override
+            public void onPosition(Position position) {
+                grossReturn = grossReturn * calculateProfit(series, position);
+            }
+
+            @Override
+            public double getValue() {
+                return grossReturn;
+            }
+        };
+    }
+
     /** The higher the criterion value, the better. */
     @Override
     public boolean betterThan(double criterionValue1, double criterionValue2) {
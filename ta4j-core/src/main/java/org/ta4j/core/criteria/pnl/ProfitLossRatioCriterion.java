@@ -27,6 +27,7 @@ import org.ta4j.core.BarSeries;
 import org.ta4j.core.Position;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.criteria.AbstractAnalysisCriterion;
+import org.ta4j.core.criteria.CriterionAccumulator;
 
 
 /**
@@ -60,7 +61,22 @@ public class ProfitLossRatioCriterion extends AbstractAnalysisCriterion {
             // only loosing positions means a ratio of 0
             return 0d;
         }
-        double averageLoss = averageLossCriterion.calculate(series, tradingRecord);
+        return ratio(averageProfit, averageLossCriterion.calculate(series, tradingRecord));
+    }
+
+    @Override
+    public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+        return CriterionAccumulator.combine(values -> values[0] == 0 ? 0d : ratio(values[0], values[1]),
+                averageProfitCriterion.accumulator(series, tradingRecord),
+                averageLossCriterion.accumulator(series, tradingRecord));
+    }
+
+    /**
+     * @param averageProfit the (non-zero) average profit
+     * @param averageLoss   the average loss
+     * @return the profit loss ratio
+     */
+    private static double ratio(double averageProfit, double averageLoss) {
         if (averageLoss == 0) {
             // only winning positions means a ratio of 1
             return 1d;
@@ -0,0 +1,203 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.helpers.TRIndicator;
+
+/**
+ * Bank of average true range indicators of all the lengths from 1 to
+ * <code>maxBarCount</code>.
+ *
+ * The ATRs of all the lengths are modified moving averages of the same true
+ * range: they are advanced together, one true range value per bar, and give
+ * the same values as the {@link ATRIndicator ATR indicators} of each length.
+ * Indicators needing the ATRs of many lengths (e.g. {@link RWIHighIndicator})
+ * read them from a bank (which may be shared, e.g. through the
+ * {@link IndicatorRegistry#atrBank(int) indicator registry}) instead of
+ * building (and warming) an ATR indicator per length.
+ *
+ * The bank keeps the ATRs of the last evaluated bar only: reading the bars in
+ * increasing order costs O(maxBarCount) per bar, reading an earlier bar
+ * restarts the averages from the first bar. The value of the last bar of the
+ * series is provisional (recomputed as long as the last bar may change).
+ *
+ * The value of the indicator is a copy of the ATRs of a bar, indexed by length
+ * minus one; {@link #getDouble(int, int)} reads a single ATR without
+ * allocation.
+ */
+public class ATRBankIndicator extends AbstractIndicator<double[]> {
+
+    private final TRIndicator trIndicator;
+
+    private final int maxBarCount;
+
+    /** The multiplier of each length */
+    private final double[] multipliers;
+
+    /** The ATRs of the bar <code>lastIndex</code> */
+    private final double[] values;
+
+    /** The provisional ATRs of a bar after <code>lastIndex</code> */
+    private final double[] provisionalValues;
+
+    /** The index of the (final) ATRs in <code>values</code>, -1 if none */
+    private int lastIndex = -1;
+
+    /** Serializes the evaluations in concurrent mode (null otherwise) */
+    private final ReentrantLock lock;
+
+    /**
+     * Constructor.
+     *
+     * @param series      the bar series
+     * @param maxBarCount the highest ATR length
+     */
+    public ATRBankIndicator(BarSeries series, int maxBarCount) {
+        this(new TRIndicator(series), maxBarCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tr          the true range indicator
+     * @param maxBarCount the highest ATR length
+     */
+    public ATRBankIndicator(TRIndicator tr, int maxBarCount) {
+        super(tr.getBarSeries());
+        if (maxBarCount < 1) {
+            throw new IllegalArgumentException(String.format("Bar count must be positive: %s", maxBarCount));
+        }
+        this.trIndicator = tr;
+        this.maxBarCount = maxBarCount;
+        this.multipliers = new double[maxBarCount];
+        for (int n = 1; n <= maxBarCount; n++) {
+            multipliers[n - 1] = 1.0 / n;
+        }
+        this.values = new double[maxBarCount];
+        this.provisionalValues = new double[maxBarCount];
+        this.lock = tr.getBarSeries().isConcurrent() ? new ReentrantLock() : null;
+    }
+
+    @Override
+    public double[] getValue(int index) {
+        if (lock != null) {
+            lock.lock();
+            try {
+                return Arrays.copyOf(row(index), maxBarCount);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return Arrays.copyOf(row(index), maxBarCount);
+    }
+
+    /**
+     * @param index    the bar index
+     * @param barCount the ATR length, from 1 to <code>maxBarCount</code>
+     * @return the average true range of the length at the index
+     */
+    public double getDouble(int index, int barCount) {
+        if (barCount < 1 || barCount > maxBarCount) {
+            throw new IllegalArgumentException(
+                    String.format("Bar count %s is not between 1 and %s", barCount, maxBarCount));
+        }
+        if (lock != null) {
+            lock.lock();
+            try {
+                return row(index)[barCount - 1];
+            } finally {
+                lock.unlock();
+            }
+        }
+        return row(index)[barCount - 1];
+    }
+
+    /**
+     * @param index the bar index
+     * @return the ATRs of the bar (not to be modified)
+     */
+    private double[] row(int index) {
+        if (index == lastIndex) {
+            return values;
+        }
+        if (index < lastIndex) {
+            // Restarts from the first bar
+            lastIndex = -1;
+        }
+        final int endIndex = getBarSeries().getEndIndex();
+        while (lastIndex < index && lastIndex + 1 < endIndex) {
+            advance(values, ++lastIndex);
+        }
+        if (lastIndex == index) {
+            return values;
+        }
+        // The last bar (and beyond) may still change
+        System.arraycopy(values, 0, provisionalValues, 0, maxBarCount);
+        for (int i = lastIndex + 1; i <= index; i++) {
+            advance(provisionalValues, i);
+        }
+        return provisionalValues;
+    }
+
+    /**
+     * Advances the averages of all the lengths to the index.
+     *
+     * @param averages the averages of the previous bar
+     * @param index    the bar index
+     */
+    private void advance(double[] averages, int index) {
+        final double tr = trIndicator.getDouble(index);
+        if (index == 0) {
+            Arrays.fill(averages, tr);
+            return;
+        }
+        for (int k = 0; k < maxBarCount; k++) {
+            double prevValue = averages[k];
+            averages[k] = (tr - prevValue) * multipliers[k] + prevValue;
+        }
+    }
+
+    /**
+     * @return the true range indicator
+     */
+    public TRIndicator getTRIndicator() {
+        return trIndicator;
+    }
+
+    /**
+     * @return the highest ATR length
+     */
+    public int getMaxBarCount() {
+        return maxBarCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " maxBarCount: " + maxBarCount;
+    }
+}
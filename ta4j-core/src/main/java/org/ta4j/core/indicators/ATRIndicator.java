@@ -24,13 +24,14 @@
 package org.ta4j.core.indicators;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.indicators.helpers.TRIndicator;
 
 
 /**
  * Average true range indicator.
  */
-public class ATRIndicator extends AbstractIndicator<Double> {
+public class ATRIndicator extends AbstractIndicator<Double> implements DoubleIndicator {
 
     private final TRIndicator trIndicator;
     private final MMAIndicator averageTrueRangeIndicator;
@@ -42,12 +43,17 @@ public class ATRIndicator extends AbstractIndicator<Double> {
     public ATRIndicator(TRIndicator tr, int barCount) {
         super(tr.getBarSeries());
         this.trIndicator = tr;
-        this.averageTrueRangeIndicator = new MMAIndicator(new TRIndicator(tr.getBarSeries()), barCount);
+        this.averageTrueRangeIndicator = new MMAIndicator(tr, barCount);
     }
 
     @Override
-    public Double getValue(int index) {
-        return averageTrueRangeIndicator.getValue(index);
+    public double getDouble(int index) {
+        return averageTrueRangeIndicator.getDouble(index);
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        averageTrueRangeIndicator.fill(from, to, out);
     }
 
     public TRIndicator getTRIndicator() {
@@ -23,31 +23,32 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 /**
  * Base class for Exponential Moving Average implementations.
  */
-public abstract class AbstractEMAIndicator extends RecursiveCachedIndicator<Double> {
+public abstract class AbstractEMAIndicator extends RecursiveCachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final int barCount;
     private final double multiplier;
 
     protected AbstractEMAIndicator(Indicator<Double> indicator, int barCount, double multiplier) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
         this.multiplier = multiplier;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == 0) {
-            return indicator.getValue(0);
+            return indicator.getDouble(0);
         }
-        double prevValue = getValue(index - 1);
-        return (indicator.getValue(index) - prevValue) * multiplier + prevValue;
+        double prevValue = getDouble(index - 1);
+        return (indicator.getDouble(index) - prevValue) * multiplier + prevValue;
     }
 
     @Override
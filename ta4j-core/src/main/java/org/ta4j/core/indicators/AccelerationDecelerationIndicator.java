@@ -30,7 +30,7 @@ import org.ta4j.core.indicators.helpers.MedianPriceIndicator;
 /**
  * Acceleration-deceleration indicator.
  */
-public class AccelerationDecelerationIndicator extends CachedIndicator<Double> {
+public class AccelerationDecelerationIndicator extends CachedDoubleIndicator {
 
     private final AwesomeOscillatorIndicator awesome;
     private final SMAIndicator sma;
@@ -46,7 +46,7 @@ public class AccelerationDecelerationIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return awesome.getValue(index) - sma.getValue(index);
+    protected double calculate(int index) {
+        return awesome.getDouble(index) - sma.getDouble(index);
     }
 }
@@ -33,7 +33,7 @@ import org.ta4j.core.indicators.helpers.MedianPriceIndicator;
  *
  * see https://www.tradingview.com/wiki/Awesome_Oscillator_(AO)
  */
-public class AwesomeOscillatorIndicator extends CachedIndicator<Double> {
+public class AwesomeOscillatorIndicator extends CachedDoubleIndicator {
 
     private final SMAIndicator sma5;
 
@@ -71,7 +71,7 @@ public class AwesomeOscillatorIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return sma5.getValue(index) - sma34.getValue(index);
+    protected double calculate(int index) {
+        return sma5.getDouble(index) - sma34.getDouble(index);
     }
 }
@@ -35,7 +35,7 @@ import org.ta4j.core.indicators.statistics.MeanDeviationIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:commodity_channel_in">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:commodity_channel_in</a>
  */
-public class CCIIndicator extends CachedIndicator<Double> {
+public class CCIIndicator extends CachedDoubleIndicator {
 
     private final Double factor;
     private final TypicalPriceIndicator typicalPriceInd;
@@ -59,10 +59,10 @@ public class CCIIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        final double typicalPrice = typicalPriceInd.getValue(index);
-        final double typicalPriceAvg = smaInd.getValue(index);
-        final double meanDeviation = meanDeviationInd.getValue(index);
+    protected double calculate(int index) {
+        final double typicalPrice = typicalPriceInd.getDouble(index);
+        final double typicalPriceAvg = smaInd.getDouble(index);
+        final double meanDeviation = meanDeviationInd.getDouble(index);
         if (meanDeviation == 0) {
             return 0d;
         }
@@ -38,7 +38,7 @@ import org.ta4j.core.indicators.helpers.LossIndicator;
  *      "http://www.investopedia.com/terms/c/chandemomentumoscillator.asp">
  *      href="http://www.investopedia.com/terms/c/chandemomentumoscillator.asp"</a>
  */
-public class CMOIndicator extends CachedIndicator<Double> {
+public class CMOIndicator extends CachedDoubleIndicator {
 
     private final GainIndicator gainIndicator;
     private final LossIndicator lossIndicator;
@@ -58,14 +58,14 @@ public class CMOIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         double sumOfGains =0;
         for (int i = Math.max(1, index - barCount + 1); i <= index; i++) {
-            sumOfGains = sumOfGains + gainIndicator.getValue(i);
+            sumOfGains = sumOfGains + gainIndicator.getDouble(i);
         }
         double sumOfLosses =0;
         for (int i = Math.max(1, index - barCount + 1); i <= index; i++) {
-            sumOfLosses = sumOfLosses + lossIndicator.getValue(i);
+            sumOfLosses = sumOfLosses + lossIndicator.getDouble(i);
         }
         return ((sumOfGains - sumOfLosses) / (sumOfGains+sumOfLosses)) * 100;
     }
@@ -0,0 +1,298 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cached {@link DoubleIndicator indicator}.
+ *
+ * Numeric counterpart of {@link CachedIndicator}: the results are calculated as
+ * primitive <code>double</code> values and cached in a <code>double</code>
+ * array, so that neither the calculation nor the cache boxes them.
+ *
+ * If the series is {@link BarSeries#isConcurrent() concurrent}, the indicator
+ * can be evaluated by several threads: the computed results are read without
+ * locking, and the calculations (which may update the state of the indicator,
+ * e.g. its rolling windows) are serialized by a lock per indicator.
+ */
+public abstract class CachedDoubleIndicator extends AbstractIndicator<Double> implements DoubleIndicator {
+
+    /**
+     * List of cached results
+     */
+    private final DoubleResultList results;
+
+    /**
+     * List of cached results in concurrent mode (null otherwise)
+     */
+    private final ConcurrentDoubleResultList concurrentResults;
+
+    /**
+     * Serializes the calculations in concurrent mode (null otherwise)
+     */
+    final ReentrantLock lock;
+
+    /**
+     * Should always be the index of the last result in the results list. I.E. the
+     * last calculated result.
+     */
+    protected int highestResultIndex = -1;
+
+    /**
+     * Constructor.
+     *
+     * @param series the related bar series
+     */
+    protected CachedDoubleIndicator(BarSeries series) {
+        super(series);
+        int limit = series.getMaximumBarCount();
+        if (series.isConcurrent()) {
+            results = null;
+            concurrentResults = new ConcurrentDoubleResultList();
+            lock = new ReentrantLock();
+        } else {
+            results = limit == Integer.MAX_VALUE ? new DoubleResultList() : new DoubleResultList(limit + 1);
+            concurrentResults = null;
+            lock = null;
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indicator a related indicator (with a bar series)
+     */
+    protected CachedDoubleIndicator(Indicator<?> indicator) {
+        this(indicator.getBarSeries());
+    }
+
+    /**
+     * @param index the bar index
+     * @return the value of the indicator
+     */
+    protected abstract double calculate(int index);
+
+    @Override
+    public double getDouble(int index) {
+        BarSeries series = getBarSeries();
+        if (series == null) {
+            // Series is null; the indicator doesn't need cache.
+            // (e.g. simple computation of the value)
+            // --> Calculating the value
+            double result = calculate(index);
+            if (log.isTraceEnabled()) {
+                log.trace("{}({}): {}", this, index, result);
+            }
+            return result;
+        }
+
+        // Series is not null
+
+        if (concurrentResults != null) {
+            return getConcurrently(series, index);
+        }
+
+        final int removedBarsCount = series.getRemovedBarsCount();
+        final int maximumResultCount = series.getMaximumBarCount();
+
+        double result;
+        if (index < removedBarsCount) {
+            // Result already removed from cache
+            if (log.isTraceEnabled()) {
+                log.trace("{}: result from bar {} already removed from cache, use {}-th instead",
+                        getClass().getSimpleName(), index, removedBarsCount);
+            }
+            increaseLengthTo(removedBarsCount, maximumResultCount);
+            highestResultIndex = removedBarsCount;
+            if (results.isComputed(0)) {
+                result = results.get(0);
+            } else {
+                // It should be "result = calculate(removedBarsCount);".
+                // We use "result = calculate(0);" as a workaround
+                // to fix issue #120 (https://github.com/mdeverdelhan/ta4j/issues/120).
+                result = calculate(0);
+                results.set(0, result);
+            }
+        } else {
+            if (index == series.getEndIndex()) {
+                // Don't cache result if last bar
+                result = calculate(index);
+            } else {
+                increaseLengthTo(index, maximumResultCount);
+                if (index > highestResultIndex) {
+                    // Result not calculated yet
+                    highestResultIndex = index;
+                    result = calculate(index);
+                    results.set(results.size() - 1, result);
+                } else {
+                    // Result covered by current cache
+                    int resultInnerIndex = results.size() - 1 - (highestResultIndex - index);
+                    if (results.isComputed(resultInnerIndex)) {
+                        result = results.get(resultInnerIndex);
+                    } else {
+                        result = calculate(index);
+                        results.set(resultInnerIndex, result);
+                    }
+                }
+            }
+
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("{}({}): {}", this, index, result);
+        }
+        return result;
+    }
+
+    /**
+     * Concurrent version of {@link #getDouble(int)}, with the same caching rules.
+     *
+     * @param series the bar series
+     * @param index  the bar index
+     * @return the value of the indicator
+     */
+    private double getConcurrently(BarSeries series, int index) {
+        final int removedBarsCount = series.getRemovedBarsCount();
+        final boolean removed = index < removedBarsCount;
+        // Don't cache result if last bar
+        final boolean cached = removed || index != series.getEndIndex();
+        final int resultIndex = removed ? removedBarsCount : index;
+        if (cached) {
+            ConcurrentDoubleResultList.Segment segment = concurrentResults.current();
+            if (segment.isComputed(resultIndex)) {
+                return segment.get(resultIndex);
+            }
+        }
+        lock.lock();
+        try {
+            if (cached) {
+                // Calculated by another thread meanwhile?
+                ConcurrentDoubleResultList.Segment segment = concurrentResults.current();
+                if (segment.isComputed(resultIndex)) {
+                    return segment.get(resultIndex);
+                }
+            }
+            // See the non-concurrent version for calculate(0)
+            double result = calculate(removed ? 0 : index);
+            if (cached) {
+                concurrentResults.set(resultIndex, result, series.getMaximumBarCount());
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("{}({}): {}", this, index, result);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the index of the highest cached result, -1 if none
+     */
+    int getHighestResultIndex() {
+        return concurrentResults != null ? concurrentResults.getHighestIndex() : highestResultIndex;
+    }
+
+    /**
+     * Computes the missing values of the range and populates the cache in a single
+     * sweep: the cache is grown once, then the values are read or calculated in
+     * increasing index order (so that recursive indicators find their previous
+     * value in the cache).
+     */
+    @Override
+    public void fill(int from, int to, double[] out) {
+        DoubleIndicator.checkFillRange(from, to, out);
+        BarSeries series = getBarSeries();
+        if (series == null || concurrentResults != null) {
+            DoubleIndicator.super.fill(from, to, out);
+            return;
+        }
+        final int removedBarsCount = series.getRemovedBarsCount();
+        final int lastCachedIndex = Math.min(to, series.getEndIndex() - 1);
+        int i = from;
+        for (; i <= to && i < removedBarsCount; i++) {
+            out[i - from] = getDouble(i);
+        }
+        if (i <= lastCachedIndex) {
+            increaseLengthTo(lastCachedIndex, series.getMaximumBarCount());
+            highestResultIndex = Math.max(highestResultIndex, lastCachedIndex);
+            for (; i <= lastCachedIndex; i++) {
+                int resultInnerIndex = results.size() - 1 - (highestResultIndex - i);
+                double result;
+                if (results.isComputed(resultInnerIndex)) {
+                    result = results.get(resultInnerIndex);
+                } else {
+                    result = calculate(i);
+                    results.set(resultInnerIndex, result);
+                }
+                out[i - from] = result;
+            }
+        }
+        // The last bar (and beyond) is not cached
+        for (; i <= to; i++) {
+            out[i - from] = getDouble(i);
+        }
+    }
+
+    /**
+     * Increases the size of cached results buffer.
+     *
+     * @param index     the index to increase length to
+     * @param maxLength the maximum length of the results buffer
+     */
+    private void increaseLengthTo(int index, int maxLength) {
+        if (highestResultIndex > -1) {
+            int newResultsCount = Math.min(index - highestResultIndex, maxLength);
+            if (newResultsCount == maxLength) {
+                results.clear();
+                results.addEmpty(maxLength);
+            } else if (newResultsCount > 0) {
+                results.addEmpty(newResultsCount);
+                removeExceedingResults(maxLength);
+            }
+        } else {
+            // First use of cache
+            assert results.size() == 0 : "Cache results list should be empty";
+            results.addEmpty(Math.min(index + 1, maxLength));
+        }
+    }
+
+    /**
+     * Removes the N first results which exceed the maximum bar count. (i.e. keeps
+     * only the last maximumResultCount results)
+     *
+     * @param maximumResultCount the number of results to keep
+     */
+    private void removeExceedingResults(int maximumResultCount) {
+        int resultCount = results.size();
+        if (resultCount > maximumResultCount) {
+            // Removing old results
+            results.removeFirst(resultCount - maximumResultCount);
+        }
+    }
+}
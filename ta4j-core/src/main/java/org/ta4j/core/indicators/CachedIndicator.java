@@ -25,21 +25,28 @@ package org.ta4j.core.indicators;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.utils.CircularArrayList;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Cached {@link Indicator indicator}.
  *
  * Caches the constructor of the indicator. Avoid to calculate the same index of
  * the indicator twice.
+ *
+ * If the series is {@link BarSeries#isConcurrent() concurrent}, the accesses to
+ * the cache and the calculations are serialized by a lock per indicator, so
+ * that the indicator can be evaluated by several threads.
  */
 public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
     /**
-     * List of cached results
+     * List of cached results. A {@link CircularArrayList} if the series has a
+     * maximum bar count, so that removing the exceeding results does not shift
+     * the whole list.
      */
     private final List<T> results;
 
@@ -49,6 +56,11 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
      */
     protected int highestResultIndex = -1;
 
+    /**
+     * Serializes the evaluations in concurrent mode (null otherwise)
+     */
+    final ReentrantLock lock;
+
     /**
      * Constructor.
      *
@@ -57,7 +69,8 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
     protected CachedIndicator(BarSeries series) {
         super(series);
         int limit = series.getMaximumBarCount();
-        results = limit == Integer.MAX_VALUE ? new ArrayList<>() : new ArrayList<>(limit);
+        results = limit == Integer.MAX_VALUE ? new ArrayList<>() : new CircularArrayList<>(limit + 1);
+        lock = series.isConcurrent() ? new ReentrantLock() : null;
     }
 
     /**
@@ -91,6 +104,23 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
 
         // Series is not null
 
+        if (lock != null) {
+            lock.lock();
+            try {
+                return getCachedValue(series, index);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return getCachedValue(series, index);
+    }
+
+    /**
+     * @param series the bar series
+     * @param index  the bar index
+     * @return the value of the indicator, read from or stored in the cache
+     */
+    private T getCachedValue(BarSeries series, int index) {
         final int removedBarsCount = series.getRemovedBarsCount();
         final int maximumResultCount = series.getMaximumBarCount();
 
@@ -151,15 +181,26 @@ public abstract class CachedIndicator<T> extends AbstractIndicator<T> {
             int newResultsCount = Math.min(index - highestResultIndex, maxLength);
             if (newResultsCount == maxLength) {
                 results.clear();
-                results.addAll(Collections.nCopies(maxLength, null));
+                addEmptyResults(maxLength);
             } else if (newResultsCount > 0) {
-                results.addAll(Collections.nCopies(newResultsCount, null));
+                addEmptyResults(newResultsCount);
                 removeExceedingResults(maxLength);
             }
         } else {
             // First use of cache
             assert results.isEmpty() : "Cache results list should be empty";
-            results.addAll(Collections.nCopies(Math.min(index + 1, maxLength), null));
+            addEmptyResults(Math.min(index + 1, maxLength));
+        }
+    }
+
+    /**
+     * Appends empty (i.e. not calculated yet) results to the cache.
+     *
+     * @param count the number of results to append
+     */
+    private void addEmptyResults(int count) {
+        for (int i = 0; i < count; i++) {
+            results.add(null);
         }
     }
 
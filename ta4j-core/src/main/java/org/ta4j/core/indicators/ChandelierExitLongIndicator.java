@@ -35,7 +35,7 @@ import org.ta4j.core.indicators.helpers.HighestValueIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chandelier_exit">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chandelier_exit</a>
  */
-public class ChandelierExitLongIndicator extends CachedIndicator<Double> {
+public class ChandelierExitLongIndicator extends CachedDoubleIndicator {
 
     private final HighestValueIndicator high;
     private final ATRIndicator atr;
@@ -65,7 +65,7 @@ public class ChandelierExitLongIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return high.getValue(index) - (atr.getValue(index)*(k));
+    protected double calculate(int index) {
+        return high.getDouble(index) - (atr.getDouble(index)*(k));
     }
 }
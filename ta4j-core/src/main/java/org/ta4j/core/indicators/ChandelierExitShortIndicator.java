@@ -35,7 +35,7 @@ import org.ta4j.core.indicators.helpers.LowestValueIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chandelier_exit">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chandelier_exit</a>
  */
-public class ChandelierExitShortIndicator extends CachedIndicator<Double> {
+public class ChandelierExitShortIndicator extends CachedDoubleIndicator {
 
     private final LowestValueIndicator low;
     private final ATRIndicator atr;
@@ -65,7 +65,7 @@ public class ChandelierExitShortIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return low.getValue(index)+(atr.getValue(index)*(k));
+    protected double calculate(int index) {
+        return low.getDouble(index)+(atr.getDouble(index)*(k));
     }
 }
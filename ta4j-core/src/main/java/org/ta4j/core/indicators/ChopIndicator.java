@@ -42,7 +42,7 @@ import org.ta4j.core.indicators.helpers.LowestValueIndicator;
  * by the 'scaleTo' arg of the constructor
  *
  */
-public class ChopIndicator extends CachedIndicator<Double> {
+public class ChopIndicator extends CachedDoubleIndicator {
 
     private final ATRIndicator atrIndicator;
     private final int timeFrame;
@@ -70,12 +70,12 @@ public class ChopIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    public Double calculate(int index) {
-        Double summ = atrIndicator.getValue(index);
+    protected double calculate(int index) {
+        Double summ = atrIndicator.getDouble(index);
         for (int i = 1; i < timeFrame; ++i) {
-            summ = summ+(atrIndicator.getValue(index - i));
+            summ = summ+(atrIndicator.getDouble(index - i));
         }
-        Double a = summ / ((hvi.getValue(index) - (lvi.getValue(index))));
+        Double a = summ / ((hvi.getDouble(index) - (lvi.getDouble(index))));
         // TODO: implement Num.log10(Num)
         return scaleUpTo*(Math.log10(a)) / (log10n);
     }
@@ -0,0 +1,155 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * List of cached <code>double</code> results of a
+ * {@link CachedDoubleIndicator} in concurrent mode.
+ *
+ * The results are stored by bar index in a {@link Segment} (a window of bar
+ * indices) published through a volatile field. A result is published by
+ * setting its bit in the computed bitmap of the segment (CAS) after its value
+ * has been written, so that the readers never lock: a reader seeing the bit
+ * also sees the value. A single thread at a time may {@link #set(int, double,
+ * int) set} results (the indicator serializes its calculations); when the
+ * window has to move or grow, the computed results are copied to a new segment
+ * which is then published.
+ */
+final class ConcurrentDoubleResultList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Window of cached results, from bar index <code>firstIndex</code>.
+     */
+    static final class Segment {
+
+        private final int firstIndex;
+
+        private final double[] values;
+
+        /** One bit per value, set once the value is published */
+        private final AtomicLongArray computed;
+
+        private Segment(int firstIndex, int capacity) {
+            this.firstIndex = firstIndex;
+            this.values = new double[capacity];
+            this.computed = new AtomicLongArray((capacity + 63) >>> 6);
+        }
+
+        /**
+         * @param index the bar index
+         * @return true if the result of the bar is published in this segment
+         */
+        boolean isComputed(int index) {
+            int i = index - firstIndex;
+            return i >= 0 && i < values.length && (computed.get(i >>> 6) & (1L << i)) != 0;
+        }
+
+        /**
+         * @param index the bar index of a computed result
+         * @return the result
+         */
+        double get(int index) {
+            return values[index - firstIndex];
+        }
+
+        private void publish(int i, double value) {
+            values[i] = value;
+            long bit = 1L << i;
+            long word;
+            do {
+                word = computed.get(i >>> 6);
+            } while (!computed.compareAndSet(i >>> 6, word, word | bit));
+        }
+    }
+
+    private volatile Segment segment = new Segment(0, DEFAULT_CAPACITY);
+
+    /** The highest bar index set so far */
+    private volatile int highestIndex = -1;
+
+    /**
+     * @return the current segment, to be used for both
+     *         {@link Segment#isComputed(int)} and {@link Segment#get(int)}
+     */
+    Segment current() {
+        return segment;
+    }
+
+    /**
+     * @return the highest bar index set so far, -1 if none
+     */
+    int getHighestIndex() {
+        return highestIndex;
+    }
+
+    /**
+     * Publishes a result. Must not be called by several threads at the same time.
+     *
+     * @param index        the bar index
+     * @param value        the result
+     * @param maximumCount the maximum number of results to keep (the maximum bar
+     *                     count of the series)
+     */
+    void set(int index, double value, int maximumCount) {
+        Segment current = segment;
+        if (index >= current.firstIndex + current.values.length) {
+            current = relocate(current, index, maximumCount);
+        }
+        if (index >= current.firstIndex) {
+            current.publish(index - current.firstIndex, value);
+        }
+        // Otherwise the result is older than the kept window: not cached
+        if (index > highestIndex) {
+            highestIndex = index;
+        }
+    }
+
+    /**
+     * Publishes a new segment covering the index (and the most recent results of
+     * the current one).
+     */
+    private Segment relocate(Segment current, int index, int maximumCount) {
+        int firstIndex = current.firstIndex;
+        int capacity = Math.max(index - firstIndex + 1, current.values.length * 2);
+        if (maximumCount < Integer.MAX_VALUE) {
+            // Keeps at most maximumCount + 1 results, with as much room ahead
+            int keptCount = maximumCount + 1;
+            firstIndex = Math.max(firstIndex, index + 1 - keptCount);
+            capacity = Math.min(Math.max(index - firstIndex + 1, current.values.length * 2), 2 * keptCount);
+        }
+        Segment relocated = new Segment(firstIndex, capacity);
+        int end = Math.min(current.firstIndex + current.values.length, index);
+        for (int i = firstIndex; i < end; i++) {
+            if (current.isComputed(i)) {
+                relocated.publish(i - firstIndex, current.get(i));
+            }
+        }
+        segment = relocated;
+        return relocated;
+    }
+}
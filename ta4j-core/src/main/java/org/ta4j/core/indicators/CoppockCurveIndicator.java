@@ -34,7 +34,7 @@ import org.ta4j.core.indicators.helpers.SumIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:coppock_curve">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:coppock_curve</a>
  */
-public class CoppockCurveIndicator extends CachedIndicator<Double> {
+public class CoppockCurveIndicator extends CachedDoubleIndicator {
 
     private final WMAIndicator wma;
 
@@ -66,7 +66,7 @@ public class CoppockCurveIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return wma.getValue(index);
+    protected double calculate(int index) {
+        return wma.getDouble(index);
     }
 }
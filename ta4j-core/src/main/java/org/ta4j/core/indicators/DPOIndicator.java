@@ -46,7 +46,7 @@ import org.ta4j.core.indicators.numeric.NumericIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:detrended_price_osci">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:detrended_price_osci</a>
  */
-public class DPOIndicator extends CachedIndicator<Double> {
+public class DPOIndicator extends CachedDoubleIndicator {
 
     private final NumericIndicator indicatorMinusPreviousSMAIndicator;
     private final String name;
@@ -79,8 +79,8 @@ public class DPOIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return indicatorMinusPreviousSMAIndicator.getValue(index);
+    protected double calculate(int index) {
+        return indicatorMinusPreviousSMAIndicator.getDouble(index);
     }
 
     @Override
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
@@ -40,12 +41,12 @@ import java.util.Set;
  *      https://school.stockcharts.com/doku.php?id=technical_indicators:distance_from_ma
  *      </a>
  */
-public class DistanceFromMAIndicator extends CachedIndicator<Double> {
+public class DistanceFromMAIndicator extends CachedDoubleIndicator {
     private static final Set<Class<?>> supportedMovingAverages = new HashSet<>(
             Arrays.asList(EMAIndicator.class, DoubleEMAIndicator.class, TripleEMAIndicator.class, SMAIndicator.class,
                     WMAIndicator.class, ZLEMAIndicator.class, HMAIndicator.class, KAMAIndicator.class,
                     LWMAIndicator.class, AbstractEMAIndicator.class, MMAIndicator.class));
-    private final Indicator<Double> movingAverage;
+    private final DoubleIndicator movingAverage;
 
     /**
      * Constructor.
@@ -59,14 +60,14 @@ public class DistanceFromMAIndicator extends CachedIndicator<Double> {
             throw new IllegalArgumentException(
                     "Passed indicator must be a moving average based indicator. " + movingAverage.toString());
         }
-        this.movingAverage = movingAverage;
+        this.movingAverage = DoubleIndicator.of(movingAverage);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         Bar currentBar = getBarSeries().getBar(index);
         Double closePrice = currentBar.getClosePrice();
-        Double maValue = movingAverage.getValue(index);
+        Double maValue = movingAverage.getDouble(index);
         return (closePrice - (maValue)) / (maValue);
     }
 }
@@ -34,7 +34,7 @@ import org.ta4j.core.Indicator;
  *      "https://en.wikipedia.org/wiki/Double _exponential_moving_average">
  *      https://en.wikipedia.org/wiki/Double _exponential_moving_average</a>
  */
-public class DoubleEMAIndicator extends CachedIndicator<Double> {
+public class DoubleEMAIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
     private final EMAIndicator ema;
@@ -54,8 +54,8 @@ public class DoubleEMAIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return ema.getValue(index)*2 - (emaEma.getValue(index));
+    protected double calculate(int index) {
+        return ema.getDouble(index)*2 - (emaEma.getDouble(index));
     }
 
     @Override
@@ -0,0 +1,152 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+/**
+ * List of cached <code>double</code> results of a
+ * {@link CachedDoubleIndicator}.
+ *
+ * The values are stored in a circular <code>double</code> array, a bitmap
+ * tells which of them have been calculated already. Removing results from the
+ * head of the list only moves the head of the circular array.
+ */
+final class DoubleResultList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The circular array of values */
+    private double[] values;
+    /** One bit per slot of the values, set if the value is calculated */
+    private long[] computed;
+    /** Position of the first result in the circular array */
+    private int head;
+    /** Number of results */
+    private int size;
+
+    DoubleResultList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity the number of results the list can hold before
+     *                        growing
+     */
+    DoubleResultList(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        this.values = new double[capacity];
+        this.computed = new long[(capacity + 63) >>> 6];
+    }
+
+    /**
+     * @return the number of results (calculated or not)
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of a result
+     * @return true if the result has been calculated, false otherwise
+     */
+    boolean isComputed(int index) {
+        int slot = slot(index);
+        return (computed[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * @param index the index of a result
+     * @return the result
+     */
+    double get(int index) {
+        return values[slot(index)];
+    }
+
+    /**
+     * Stores a calculated result.
+     *
+     * @param index the index of the result
+     * @param value the value of the result
+     */
+    void set(int index, double value) {
+        int slot = slot(index);
+        values[slot] = value;
+        computed[slot >>> 6] |= 1L << slot;
+    }
+
+    /**
+     * Appends results which are not calculated yet.
+     *
+     * @param count the number of results to append
+     */
+    void addEmpty(int count) {
+        ensureCapacity(size + count);
+        for (int i = 0; i < count; i++) {
+            int slot = slot(size + i);
+            computed[slot >>> 6] &= ~(1L << slot);
+        }
+        size += count;
+    }
+
+    /**
+     * Removes the first results.
+     *
+     * @param count the number of results to remove
+     */
+    void removeFirst(int count) {
+        head = slot(count);
+        size -= count;
+    }
+
+    /**
+     * Removes all results.
+     */
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private int slot(int index) {
+        int slot = head + index;
+        return slot < values.length ? slot : slot - values.length;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= values.length) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1) + 1);
+        double[] newValues = new double[newCapacity];
+        long[] newComputed = new long[(newCapacity + 63) >>> 6];
+        for (int i = 0; i < size; i++) {
+            int slot = slot(i);
+            newValues[i] = values[slot];
+            if ((computed[slot >>> 6] & (1L << slot)) != 0) {
+                newComputed[i >>> 6] |= 1L << i;
+            }
+        }
+        values = newValues;
+        computed = newComputed;
+        head = 0;
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.*;
@@ -37,13 +38,13 @@ import org.ta4j.core.indicators.helpers.*;
  * @see <a href="https://www.investopedia.com/terms/f/fisher-transform.asp">
  *      https://www.investopedia.com/terms/f/fisher-transform.asp</a>
  */
-public class FisherIndicator extends RecursiveCachedIndicator<Double> {
+public class FisherIndicator extends RecursiveCachedDoubleIndicator {
     
     private static final Double VALUE_MAX = 0.999;
     private static final Double VALUE_MIN = -0.999;
 
-    private final Indicator<Double> ref;
-    private final Indicator<Double> intermediateValue;
+    private final DoubleIndicator ref;
+    private final DoubleIndicator intermediateValue;
     private final Double densityFactor;
     private final Double gamma;
     private final Double delta;
@@ -131,46 +132,46 @@ public class FisherIndicator extends RecursiveCachedIndicator<Double> {
     public FisherIndicator(Indicator<Double> ref, int barCount, final Double alphaD, final Double betaD,
             final Double gammaD, final Double deltaD, Double densityFactorD, boolean isPriceIndicator) {
         super(ref);
-        this.ref = ref;
+        this.ref = DoubleIndicator.of(ref);
         this.gamma = gammaD;
         this.delta = deltaD;
         this.densityFactor = densityFactorD;
 
         double alpha = alphaD;
         double beta = betaD;
-        final Indicator<Double> periodHigh = new HighestValueIndicator(
+        final DoubleIndicator periodHigh = new HighestValueIndicator(
                 isPriceIndicator ? new HighPriceIndicator(ref.getBarSeries()) : ref, barCount);
-        final Indicator<Double> periodLow = new LowestValueIndicator(
+        final DoubleIndicator periodLow = new LowestValueIndicator(
                 isPriceIndicator ? new LowPriceIndicator(ref.getBarSeries()) : ref, barCount);
 
-        intermediateValue = new RecursiveCachedIndicator<Double>(ref) {
+        intermediateValue = new RecursiveCachedDoubleIndicator(ref) {
 
             @Override
-            protected Double calculate(int index) {
+            protected double calculate(int index) {
                 if (index <= 0) {
                     return 0d;
                 }
 
                 // Value = (alpha * 2 * ((ref - MinL) / (MaxH - MinL) - 0.5) + beta *
                 // priorValue) / densityFactor
-                double currentRef = FisherIndicator.this.ref.getValue(index);
-                double minL = periodLow.getValue(index);
-                double maxH = periodHigh.getValue(index);
+                double currentRef = FisherIndicator.this.ref.getDouble(index);
+                double minL = periodLow.getDouble(index);
+                double maxH = periodHigh.getDouble(index);
                 double term1 = ((currentRef - minL) / (maxH - minL)) - 0.5;
                 double term2 = alpha * 2 * term1;
-                double term3 = term2+(beta*(getValue(index - 1)));
+                double term3 = term2+(beta*(getDouble(index - 1)));
                 return term3 / FisherIndicator.this.densityFactor;
             }
         };
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index <= 0) {
             return 0d;
         }
 
-        double value = intermediateValue.getValue(index);
+        double value = intermediateValue.getDouble(index);
 
         if (value> (VALUE_MAX)) {
             value = VALUE_MAX;
@@ -180,7 +181,7 @@ public class FisherIndicator extends RecursiveCachedIndicator<Double> {
 
         // Fisher = gamma * Log((1 + Value) / (1 - Value)) + delta * priorFisher
         double term1 = Math.log((1+value) / (1 - value));
-        double term2 = getValue(index - 1);
+        double term2 = getDouble(index - 1);
         return gamma * term1 + delta * term2;
     }
 
@@ -33,7 +33,7 @@ import org.ta4j.core.indicators.numeric.NumericIndicator;
  * @see <a href="http://alanhull.com/hull-moving-average">
  *      http://alanhull.com/hull-moving-average</a>
  */
-public class HMAIndicator extends CachedIndicator<Double> {
+public class HMAIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
     private final WMAIndicator sqrtWma;
@@ -50,8 +50,8 @@ public class HMAIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return sqrtWma.getValue(index);
+    protected double calculate(int index) {
+        return sqrtWma.getDouble(index);
     }
 
     @Override
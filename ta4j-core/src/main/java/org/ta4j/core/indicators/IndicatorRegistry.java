@@ -0,0 +1,359 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.indicators.helpers.LowPriceIndicator;
+import org.ta4j.core.indicators.helpers.MedianPriceIndicator;
+import org.ta4j.core.indicators.helpers.OpenPriceIndicator;
+import org.ta4j.core.indicators.helpers.TRIndicator;
+import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
+import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+
+/**
+ * Registry of the shared indicators of a bar series.
+ *
+ * Indicators are canonicalized by their class, their parameters and the
+ * identity of their input indicators: asking twice for the same indicator
+ * returns the same (cached) instance, so that the indicators and strategies
+ * built on a series share their sub-indicators, their caches and their work.
+ *
+ * <pre>
+ * IndicatorRegistry registry = series.getIndicatorRegistry();
+ * ClosePriceIndicator close = registry.closePrice();
+ * SMAIndicator sma = registry.sma(close, 20); // same instance on every call
+ * MyIndicator mine = registry.get(MyIndicator.class, () -&gt; new MyIndicator(close, 3), close, 3);
+ * </pre>
+ *
+ * Only indicators whose values depend on nothing else than their parameters
+ * and inputs should be registered. The built-in indicators do not use the
+ * registry: sharing is explicit, e.g. in a
+ * {@link org.ta4j.core.optimization.StrategyFactory strategy factory}.
+ *
+ * The registry itself is thread-safe, but the cached indicators it returns are
+ * only thread-safe if the series is {@link BarSeries#setConcurrent(boolean)
+ * concurrent} (see {@link org.ta4j.core.BarSeriesManager}). The registered
+ * indicators are forgotten when the concurrent mode of the series changes, so
+ * that the registry does not return indicators built in the other mode.
+ *
+ * The registry keeps at most {@link #getMaximumSize()} indicators; the least
+ * recently used one is forgotten when another one is registered beyond that
+ * size.
+ *
+ * @see BarSeries#getIndicatorRegistry()
+ */
+public class IndicatorRegistry {
+
+    /** The default maximum number of registered indicators */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final BarSeries series;
+
+    private final int maximumSize;
+
+    /** The registered indicators, in access order */
+    private final Map<Key, Indicator<?>> indicators;
+
+    /** The concurrent mode of the series when the indicators were registered */
+    private boolean concurrent;
+
+    /**
+     * Constructor keeping at most {@link #DEFAULT_MAXIMUM_SIZE} indicators.
+     *
+     * @param series the bar series of the registered indicators
+     */
+    public IndicatorRegistry(BarSeries series) {
+        this(series, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param series      the bar series of the registered indicators
+     * @param maximumSize the maximum number of registered indicators
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public IndicatorRegistry(BarSeries series, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid maximum size: %s", maximumSize));
+        }
+        this.series = Objects.requireNonNull(series);
+        this.maximumSize = maximumSize;
+        this.concurrent = series.isConcurrent();
+        this.indicators = new LinkedHashMap<Key, Indicator<?>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -3187402519640873215L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Indicator<?>> eldest) {
+                return size() > IndicatorRegistry.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @return the bar series of the registered indicators
+     */
+    public BarSeries getBarSeries() {
+        return series;
+    }
+
+    /**
+     * @return the maximum number of registered indicators
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the registered indicator of the provided type and parameters,
+     * registering the one built by the factory if there is none.
+     *
+     * @param type       the type of the indicator
+     * @param factory    the factory building the indicator from the parameters
+     * @param parameters the parameters of the indicator (the input indicators are
+     *                   compared by identity, the other parameters with
+     *                   {@link Objects#deepEquals(Object, Object)})
+     * @param <I>        the type of the indicator
+     * @return the shared indicator
+     * @throws IllegalArgumentException if an indicator does not belong to the
+     *                                  series of this registry
+     */
+    public synchronized <I extends Indicator<?>> I get(Class<I> type, Supplier<? extends I> factory,
+            Object... parameters) {
+        for (Object parameter : parameters) {
+            if (parameter instanceof Indicator && ((Indicator<?>) parameter).getBarSeries() != series) {
+                throw new IllegalArgumentException(
+                        String.format("Input indicator %s does not belong to series %s", parameter, series.getName()));
+            }
+        }
+        if (series.isConcurrent() != concurrent) {
+            // The registered indicators were built for the other mode
+            indicators.clear();
+            concurrent = series.isConcurrent();
+        }
+        final Key key = new Key(type, parameters);
+        final Indicator<?> registered = indicators.get(key);
+        if (registered != null) {
+            return type.cast(registered);
+        }
+        final I indicator = factory.get();
+        if (indicator.getBarSeries() != series) {
+            throw new IllegalArgumentException(
+                    String.format("Indicator %s does not belong to series %s", indicator, series.getName()));
+        }
+        indicators.put(key, indicator);
+        return indicator;
+    }
+
+    /**
+     * @return the number of registered indicators
+     */
+    public synchronized int size() {
+        return indicators.size();
+    }
+
+    /**
+     * Forgets the registered indicators. The indicators already handed out are not
+     * affected.
+     */
+    public synchronized void clear() {
+        indicators.clear();
+    }
+
+    /**
+     * @return the shared close price indicator
+     */
+    public ClosePriceIndicator closePrice() {
+        return get(ClosePriceIndicator.class, () -> new ClosePriceIndicator(series));
+    }
+
+    /**
+     * @return the shared open price indicator
+     */
+    public OpenPriceIndicator openPrice() {
+        return get(OpenPriceIndicator.class, () -> new OpenPriceIndicator(series));
+    }
+
+    /**
+     * @return the shared high price indicator
+     */
+    public HighPriceIndicator highPrice() {
+        return get(HighPriceIndicator.class, () -> new HighPriceIndicator(series));
+    }
+
+    /**
+     * @return the shared low price indicator
+     */
+    public LowPriceIndicator lowPrice() {
+        return get(LowPriceIndicator.class, () -> new LowPriceIndicator(series));
+    }
+
+    /**
+     * @return the shared volume indicator
+     */
+    public VolumeIndicator volume() {
+        return get(VolumeIndicator.class, () -> new VolumeIndicator(series));
+    }
+
+    /**
+     * @return the shared typical price indicator
+     */
+    public TypicalPriceIndicator typicalPrice() {
+        return get(TypicalPriceIndicator.class, () -> new TypicalPriceIndicator(series));
+    }
+
+    /**
+     * @return the shared median price indicator
+     */
+    public MedianPriceIndicator medianPrice() {
+        return get(MedianPriceIndicator.class, () -> new MedianPriceIndicator(series));
+    }
+
+    /**
+     * @return the shared true range indicator
+     */
+    public TRIndicator tr() {
+        return get(TRIndicator.class, () -> new TRIndicator(series));
+    }
+
+    /**
+     * @param barCount the time frame
+     * @return the shared average true range indicator
+     */
+    public ATRIndicator atr(int barCount) {
+        return get(ATRIndicator.class, () -> new ATRIndicator(tr(), barCount), barCount);
+    }
+
+    /**
+     * @param maxBarCount the highest ATR length
+     * @return the shared bank of the average true ranges of the lengths from 1 to
+     *         maxBarCount
+     */
+    public ATRBankIndicator atrBank(int maxBarCount) {
+        return get(ATRBankIndicator.class, () -> new ATRBankIndicator(tr(), maxBarCount), maxBarCount);
+    }
+
+    /**
+     * @param indicator the input indicator
+     * @param barCount  the time frame
+     * @return the shared simple moving average of the indicator
+     */
+    public SMAIndicator sma(Indicator<Double> indicator, int barCount) {
+        return get(SMAIndicator.class, () -> new SMAIndicator(indicator, barCount), indicator, barCount);
+    }
+
+    /**
+     * @param indicator the input indicator
+     * @param barCount  the time frame
+     * @return the shared exponential moving average of the indicator
+     */
+    public EMAIndicator ema(Indicator<Double> indicator, int barCount) {
+        return get(EMAIndicator.class, () -> new EMAIndicator(indicator, barCount), indicator, barCount);
+    }
+
+    /**
+     * @param indicator the input indicator
+     * @param barCount  the time frame
+     * @return the shared modified moving average of the indicator
+     */
+    public MMAIndicator mma(Indicator<Double> indicator, int barCount) {
+        return get(MMAIndicator.class, () -> new MMAIndicator(indicator, barCount), indicator, barCount);
+    }
+
+    /**
+     * @param indicator the input indicator
+     * @param barCount  the time frame
+     * @return the shared standard deviation of the indicator
+     */
+    public StandardDeviationIndicator standardDeviation(Indicator<Double> indicator, int barCount) {
+        return get(StandardDeviationIndicator.class, () -> new StandardDeviationIndicator(indicator, barCount),
+                indicator, barCount);
+    }
+
+    /**
+     * Registry key: the indicator type and its parameters, indicators being
+     * compared by identity.
+     */
+    private static final class Key {
+
+        private final Class<?> type;
+
+        private final Object[] parameters;
+
+        private final int hash;
+
+        private Key(Class<?> type, Object[] parameters) {
+            this.type = type;
+            this.parameters = parameters;
+            int h = type.hashCode();
+            for (Object parameter : parameters) {
+                h = 31 * h + (parameter instanceof Indicator ? System.identityHashCode(parameter)
+                        : Arrays.deepHashCode(new Object[] { parameter }));
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            if (type != other.type || parameters.length != other.parameters.length) {
+                return false;
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                final Object parameter = parameters[i];
+                final Object otherParameter = other.parameters[i];
+                if (parameter instanceof Indicator || otherParameter instanceof Indicator) {
+                    if (parameter != otherParameter) {
+                        return false;
+                    }
+                } else if (!Objects.deepEquals(parameter, otherParameter)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 
@@ -33,9 +34,9 @@ import org.ta4j.core.Indicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:kaufman_s_adaptive_moving_average">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:kaufman_s_adaptive_moving_average</a>
  */
-public class KAMAIndicator extends RecursiveCachedIndicator<Double> {
+public class KAMAIndicator extends RecursiveCachedDoubleIndicator {
 
-    private final Indicator<Double> price;
+    private final DoubleIndicator price;
 
     private final int barCountEffectiveRatio;
 
@@ -54,7 +55,7 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Double> {
      */
     public KAMAIndicator(Indicator<Double> price, int barCountEffectiveRatio, int barCountFast, int barCountSlow) {
         super(price);
-        this.price = price;
+        this.price = DoubleIndicator.of(price);
         this.barCountEffectiveRatio = barCountEffectiveRatio;
         fastest = 2 / ((double) barCountFast + 1);
         slowest = 2 / ((double) barCountSlow + 1);
@@ -73,8 +74,8 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        double currentPrice = price.getValue(index);
+    protected double calculate(int index) {
+        double currentPrice = price.getDouble(index);
         if (index < barCountEffectiveRatio) {
             return currentPrice;
         }
@@ -85,10 +86,10 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Double> {
          * Close).
          */
         int startChangeIndex = Math.max(0, index - barCountEffectiveRatio);
-        double change = Math.abs(currentPrice - price.getValue(startChangeIndex));
+        double change = Math.abs(currentPrice - price.getDouble(startChangeIndex));
         double volatility =0;
         for (int i = startChangeIndex; i < index; i++) {
-            volatility = volatility + Math.abs(price.getValue(i + 1) - price.getValue(i));
+            volatility = volatility + Math.abs(price.getDouble(i + 1) - price.getDouble(i));
         }
         double er = change / volatility;
         /*
@@ -99,7 +100,7 @@ public class KAMAIndicator extends RecursiveCachedIndicator<Double> {
         /*
          * KAMA Current KAMA = Prior KAMA + SC x (Price - Prior KAMA)
          */
-        Double priorKAMA = getValue(index - 1);
+        Double priorKAMA = getDouble(index - 1);
         return priorKAMA + (sc * (currentPrice - priorKAMA));
     }
 
@@ -37,7 +37,7 @@ import org.ta4j.core.Indicator;
  *      https://school.stockcharts.com/doku.php?id=technical_indicators:know_sure_thing_kst
  *      </a>
  */
-public class KSTIndicator extends CachedIndicator<Double> {
+public class KSTIndicator extends CachedDoubleIndicator {
     private final SMAIndicator RCMA1;
     private final SMAIndicator RCMA2;
     private final SMAIndicator RCMA3;
@@ -82,7 +82,7 @@ public class KSTIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return ((RCMA1.getValue(index)*(1)) +(RCMA2.getValue(index)*(2)) +(RCMA3.getValue(index)*(3)) +(RCMA4.getValue(index)*(4)));
+    protected double calculate(int index) {
+        return ((RCMA1.getDouble(index)*(1)) +(RCMA2.getDouble(index)*(2)) +(RCMA3.getDouble(index)*(3)) +(RCMA4.getDouble(index)*(4)));
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 
@@ -33,19 +34,19 @@ import org.ta4j.core.Indicator;
  *      "https://www.investopedia.com/terms/l/linearlyweightedmovingaverage.asp">
  *      https://www.investopedia.com/terms/l/linearlyweightedmovingaverage.asp</a>
  */
-public class LWMAIndicator extends CachedIndicator<Double> {
+public class LWMAIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final int barCount;
 
     public LWMAIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         double sum = 0;
         double denominator = 0;
         int count = 0;
@@ -58,7 +59,7 @@ public class LWMAIndicator extends CachedIndicator<Double> {
         for (int i = startIndex; i <= index; i++) {
             count++;
             denominator = denominator+(count);
-            sum = sum+(indicator.getValue(i)*(count));
+            sum = sum+(indicator.getDouble(i)*(count));
         }
         return sum / (denominator);
     }
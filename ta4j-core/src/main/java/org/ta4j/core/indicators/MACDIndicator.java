@@ -34,7 +34,7 @@ import org.ta4j.core.Indicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:moving_average_convergence_divergence_macd">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:moving_average_convergence_divergence_macd</a>
  */
-public class MACDIndicator extends CachedIndicator<Double> {
+public class MACDIndicator extends CachedDoubleIndicator {
 
     private final EMAIndicator shortTermEma;
     private final EMAIndicator longTermEma;
@@ -83,7 +83,7 @@ public class MACDIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return shortTermEma.getValue(index) - (longTermEma.getValue(index));
+    protected double calculate(int index) {
+        return shortTermEma.getDouble(index) - (longTermEma.getDouble(index));
     }
 }
@@ -37,7 +37,7 @@ import org.ta4j.core.indicators.numeric.NumericIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:mass_index">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:mass_index</a>
  */
-public class MassIndexIndicator extends CachedIndicator<Double> {
+public class MassIndexIndicator extends CachedDoubleIndicator {
 
     private final EMAIndicator singleEma;
     private final EMAIndicator doubleEma;
@@ -60,11 +60,11 @@ public class MassIndexIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         final int startIndex = Math.max(0, index - barCount + 1);
         double massIndex = 0;
         for (int i = startIndex; i <= index; i++) {
-            Double emaRatio = singleEma.getValue(i) / (doubleEma.getValue(i));
+            Double emaRatio = singleEma.getDouble(i) / (doubleEma.getDouble(i));
             massIndex = massIndex+(emaRatio);
         }
         return massIndex;
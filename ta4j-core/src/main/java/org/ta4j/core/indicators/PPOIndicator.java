@@ -33,7 +33,7 @@ import org.ta4j.core.Indicator;
  * @see <a href=
  *      "https://www.investopedia.com/terms/p/ppo.asp">https://www.investopedia.com/terms/p/ppo.asp</a>
  */
-public class PPOIndicator extends CachedIndicator<Double> {
+public class PPOIndicator extends CachedDoubleIndicator {
 
     private final EMAIndicator shortTermEma;
     private final EMAIndicator longTermEma;
@@ -64,9 +64,9 @@ public class PPOIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        double shortEmaValue = shortTermEma.getValue(index);
-        double longEmaValue = longTermEma.getValue(index);
+    protected double calculate(int index) {
+        double shortEmaValue = shortTermEma.getDouble(index);
+        double longEmaValue = longTermEma.getDouble(index);
         return ((shortEmaValue - longEmaValue) / longEmaValue) * 100;
     }
 }
@@ -23,36 +23,52 @@
  */
 package org.ta4j.core.indicators;
 
+import java.util.Arrays;
+
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
-import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
-import org.ta4j.core.indicators.helpers.LowestValueIndicator;
-
-import static java.lang.Double.NaN;
-
 
 /**
  * Parabolic SAR indicator.
  *
+ * The SAR is computed by a forward-only engine: the state of each bar (trend,
+ * acceleration factor, extreme points and SAR) is derived from the state of
+ * the previous bar and kept in primitive arrays, so that the whole history is
+ * computed in a single linear pass and the bars can then be read in any
+ * order. The state of the last bar of the series is provisional: it is
+ * recomputed from the previous one as long as the last bar may change.
+ *
  * @see <a href=
  *      "https://www.investopedia.com/trading/introduction-to-parabolic-sar/">
  *      https://www.investopedia.com/trading/introduction-to-parabolic-sar/</a>
  * @see <a href="https://www.investopedia.com/terms/p/parabolicindicator.asp">
  *      https://www.investopedia.com/terms/p/parabolicindicator.asp</a>
  */
-public class ParabolicSarIndicator extends RecursiveCachedIndicator<Double> {
-
-    private final Double maxAcceleration;
-    private final Double accelerationIncrement;
-    private final Double accelerationStart;
-    private Double accelerationFactor;
-    private boolean currentTrend; // true if uptrend, false otherwise
-    private int startTrendIndex = 0; // index of start bar of the current trend
+public class ParabolicSarIndicator extends CachedDoubleIndicator {
+
+    private final double maxAcceleration;
+    private final double accelerationIncrement;
+    private final double accelerationStart;
     private final LowPriceIndicator lowPriceIndicator;
     private final HighPriceIndicator highPriceIndicator;
-    private Double currentExtremePoint; // the extreme point of the current calculation
-    private Double minMaxExtremePoint; // depending on trend the maximum or minimum extreme point value of trend
+
+    /** The index of the first bar (without SAR), -1 if not known yet */
+    private int firstIndex = -1;
+
+    /** The index of the first kept state */
+    private int baseIndex;
+
+    /** The index of the last final state, -1 if none */
+    private int lastIndex = -1;
+
+    /** The states of the bars from <code>baseIndex</code> */
+    private double[] sars = new double[16];
+    private double[] accelerationFactors = new double[16];
+    private boolean[] upTrends = new boolean[16]; // true if uptrend, false otherwise
+    private int[] startTrendIndexes = new int[16]; // index of start bar of the trend
+    private double[] currentExtremePoints = new double[16]; // the extreme point of the calculation
+    private double[] minMaxExtremePoints = new double[16]; // depending on trend the maximum or minimum extreme point
 
     /**
      * Constructor with default parameters
@@ -88,98 +104,184 @@ public class ParabolicSarIndicator extends RecursiveCachedIndicator<Double> {
         highPriceIndicator = new HighPriceIndicator(series);
         lowPriceIndicator = new LowPriceIndicator(series);
         maxAcceleration = maxA;
-        accelerationFactor = aF;
         accelerationIncrement = increment;
         accelerationStart = aF;
     }
 
     @Override
-    protected Double calculate(int index) {
-        Double sar = NaN;
-        if (index == getBarSeries().getBeginIndex()) {
-            return sar; // no trend detection possible for the first value
-        } else if (index == getBarSeries().getBeginIndex() + 1) {// start trend detection
-            currentTrend = getBarSeries().getBar(getBarSeries().getBeginIndex())
-                    .getClosePrice()
-                     < (getBarSeries().getBar(index).getClosePrice());
-            if (!currentTrend) { // down trend
-                sar = new HighestValueIndicator(highPriceIndicator, 2).getValue(index); // put the highest high value of
-                                                                                        // two first bars
-                currentExtremePoint = sar;
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // up trend
-                sar = new LowestValueIndicator(lowPriceIndicator, 2).getValue(index); // put the lowest low value of two
-                                                                                      // first bars
-                currentExtremePoint = sar;
-                minMaxExtremePoint = currentExtremePoint;
+    protected double calculate(int index) {
+        BarSeries series = getBarSeries();
+        if (firstIndex < 0) {
+            if (series.isEmpty()) {
+                return Double.NaN;
+            }
+            // no trend detection possible for the first value
+            firstIndex = Math.max(series.getBeginIndex(), series.getRemovedBarsCount());
+            baseIndex = firstIndex;
+            lastIndex = firstIndex;
+            sars[0] = Double.NaN;
+        }
+        if (index <= lastIndex) {
+            return index < baseIndex ? Double.NaN : sars[index - baseIndex];
+        }
+        final int endIndex = series.getEndIndex();
+        for (int i = lastIndex + 1; i <= index; i++) {
+            if (i - baseIndex == sars.length) {
+                grow(series.getMaximumBarCount());
+            }
+            next(i);
+            if (i < endIndex) {
+                lastIndex = i;
+            }
+            // else: provisional state of the last bar, recomputed on the next call
+        }
+        return sars[index - baseIndex];
+    }
 
+    /**
+     * Computes the state of a bar from the state of the previous one.
+     *
+     * @param index the bar index
+     */
+    private void next(int index) {
+        final int slot = index - baseIndex;
+        if (index == firstIndex + 1) { // start trend detection
+            boolean upTrend = getBarSeries().getBar(firstIndex).getClosePrice() < getBarSeries().getBar(index)
+                    .getClosePrice();
+            double sar;
+            if (!upTrend) { // down trend
+                // put the highest high value of two first bars
+                sar = Math.max(highPriceIndicator.getDouble(firstIndex), highPriceIndicator.getDouble(index));
+            } else { // up trend
+                // put the lowest low value of two first bars
+                sar = Math.min(lowPriceIndicator.getDouble(firstIndex), lowPriceIndicator.getDouble(index));
             }
-            return sar;
+            set(slot, sar, upTrend, accelerationStart, firstIndex, sar, sar);
+            return;
         }
 
-        Double priorSar = getValue(index - 1);
-        if (currentTrend) { // if up trend
-            sar = priorSar+(accelerationFactor*((currentExtremePoint - (priorSar))));
-            currentTrend = lowPriceIndicator.getValue(index)> (sar);
-            if (!currentTrend) { // check if sar touches the low price
-                if (minMaxExtremePoint> (highPriceIndicator.getValue(index)))
-                    sar = minMaxExtremePoint; // sar starts at the highest extreme point of previous up trend
-                else
-                    sar = highPriceIndicator.getValue(index);
-                currentTrend = false; // switch to down trend and reset values
-                startTrendIndex = index;
-                accelerationFactor = accelerationStart;
-                currentExtremePoint = getBarSeries().getBar(index).getLowPrice(); // put point on max
-                minMaxExtremePoint = currentExtremePoint;
+        final int previous = slot - 1;
+        final double priorSar = sars[previous];
+        final double currentExtremePoint = currentExtremePoints[previous];
+        final double minMaxExtremePoint = minMaxExtremePoints[previous];
+        final double accelerationFactor = accelerationFactors[previous];
+        final int startTrendIndex = startTrendIndexes[previous];
+        final double high = highPriceIndicator.getDouble(index);
+        final double low = lowPriceIndicator.getDouble(index);
+        double sar;
+        if (upTrends[previous]) { // if up trend
+            sar = priorSar + (accelerationFactor * (currentExtremePoint - priorSar));
+            if (!(low > sar)) { // check if sar touches the low price
+                // sar starts at the highest extreme point of previous up trend
+                sar = minMaxExtremePoint > high ? minMaxExtremePoint : high;
+                // switch to down trend and reset values
+                set(slot, sar, false, accelerationStart, index, low, low);
             } else { // up trend is going on
-                Double lowestPriceOfTwoPreviousBars = new LowestValueIndicator(lowPriceIndicator,
-                        Math.min(2, index - startTrendIndex)).getValue(index - 1);
-                if (sar> (lowestPriceOfTwoPreviousBars))
+                double lowestPriceOfTwoPreviousBars = lowPriceIndicator.getDouble(index - 1);
+                if (index - startTrendIndex > 1) {
+                    lowestPriceOfTwoPreviousBars = Math.min(lowestPriceOfTwoPreviousBars,
+                            lowPriceIndicator.getDouble(index - 2));
+                }
+                if (sar > lowestPriceOfTwoPreviousBars)
                     sar = lowestPriceOfTwoPreviousBars;
-                currentExtremePoint = new HighestValueIndicator(highPriceIndicator, index - startTrendIndex + 1)
-                        .getValue(index);
-                if (currentExtremePoint> (minMaxExtremePoint)) {
-                    incrementAcceleration();
-                    minMaxExtremePoint = currentExtremePoint;
+                double extremePoint = Math.max(trendExtreme(index - 1, true), high);
+                if (extremePoint > minMaxExtremePoint) {
+                    set(slot, sar, true, incrementAcceleration(accelerationFactor), startTrendIndex, extremePoint,
+                            extremePoint);
+                } else {
+                    set(slot, sar, true, accelerationFactor, startTrendIndex, extremePoint, minMaxExtremePoint);
                 }
-
             }
         } else { // downtrend
-            sar = priorSar - (accelerationFactor*(((priorSar - (currentExtremePoint)))));
-            currentTrend = highPriceIndicator.getValue(index) >= (sar);
-            if (currentTrend) { // check if switch to up trend
-                if (minMaxExtremePoint < (lowPriceIndicator.getValue(index)))
-                    sar = minMaxExtremePoint; // sar starts at the lowest extreme point of previous down trend
-                else
-                    sar = lowPriceIndicator.getValue(index);
-                accelerationFactor = accelerationStart;
-                startTrendIndex = index;
-                currentExtremePoint = getBarSeries().getBar(index).getHighPrice();
-                minMaxExtremePoint = currentExtremePoint;
-            } else { // down trend io going on
-                Double highestPriceOfTwoPreviousBars = new HighestValueIndicator(highPriceIndicator,
-                        Math.min(2, index - startTrendIndex)).getValue(index - 1);
-                if (sar < (highestPriceOfTwoPreviousBars))
+            sar = priorSar - (accelerationFactor * (priorSar - currentExtremePoint));
+            if (high >= sar) { // check if switch to up trend
+                // sar starts at the lowest extreme point of previous down trend
+                sar = minMaxExtremePoint < low ? minMaxExtremePoint : low;
+                set(slot, sar, true, accelerationStart, index, high, high);
+            } else { // down trend is going on
+                double highestPriceOfTwoPreviousBars = highPriceIndicator.getDouble(index - 1);
+                if (index - startTrendIndex > 1) {
+                    highestPriceOfTwoPreviousBars = Math.max(highestPriceOfTwoPreviousBars,
+                            highPriceIndicator.getDouble(index - 2));
+                }
+                if (sar < highestPriceOfTwoPreviousBars)
                     sar = highestPriceOfTwoPreviousBars;
-                currentExtremePoint = new LowestValueIndicator(lowPriceIndicator, index - startTrendIndex + 1)
-                        .getValue(index);
-                if (currentExtremePoint < (minMaxExtremePoint)) {
-                    incrementAcceleration();
-                    minMaxExtremePoint = currentExtremePoint;
+                double extremePoint = Math.min(trendExtreme(index - 1, false), low);
+                if (extremePoint < minMaxExtremePoint) {
+                    set(slot, sar, false, incrementAcceleration(accelerationFactor), startTrendIndex, extremePoint,
+                            extremePoint);
+                } else {
+                    set(slot, sar, false, accelerationFactor, startTrendIndex, extremePoint, minMaxExtremePoint);
                 }
             }
         }
-        return sar;
+    }
+
+    /**
+     * @param index   the index of the previous bar
+     * @param upTrend true for the highest high, false for the lowest low
+     * @return the highest high (or lowest low) of the trend up to the previous
+     *         bar
+     */
+    private double trendExtreme(int index, boolean upTrend) {
+        if (index == firstIndex + 1) {
+            // The first trend starts with the SAR as extreme point: the extreme
+            // price of the two first bars is read from the bars
+            return upTrend
+                    ? Math.max(highPriceIndicator.getDouble(firstIndex), highPriceIndicator.getDouble(firstIndex + 1))
+                    : Math.min(lowPriceIndicator.getDouble(firstIndex), lowPriceIndicator.getDouble(firstIndex + 1));
+        }
+        return currentExtremePoints[index - baseIndex];
+    }
+
+    private void set(int slot, double sar, boolean upTrend, double accelerationFactor, int startTrendIndex,
+            double currentExtremePoint, double minMaxExtremePoint) {
+        sars[slot] = sar;
+        upTrends[slot] = upTrend;
+        accelerationFactors[slot] = accelerationFactor;
+        startTrendIndexes[slot] = startTrendIndex;
+        currentExtremePoints[slot] = currentExtremePoint;
+        minMaxExtremePoints[slot] = minMaxExtremePoint;
     }
 
     /**
      * Increments the acceleration factor.
+     *
+     * @param accelerationFactor the acceleration factor
+     * @return the incremented acceleration factor
+     */
+    private double incrementAcceleration(double accelerationFactor) {
+        if (accelerationFactor >= maxAcceleration) {
+            return maxAcceleration;
+        }
+        return accelerationFactor + accelerationIncrement;
+    }
+
+    /**
+     * Makes room for one more state: drops the states of the bars removed from
+     * the series (at most once every maximumBarCount bars) or doubles the
+     * capacity.
+     *
+     * @param maximumBarCount the maximum bar count of the series
      */
-    private void incrementAcceleration() {
-        if (accelerationFactor >= (maxAcceleration)) {
-            accelerationFactor = maxAcceleration;
+    private void grow(int maximumBarCount) {
+        final int count = sars.length;
+        if (maximumBarCount <= count / 2) {
+            int removed = count - maximumBarCount;
+            System.arraycopy(sars, removed, sars, 0, maximumBarCount);
+            System.arraycopy(accelerationFactors, removed, accelerationFactors, 0, maximumBarCount);
+            System.arraycopy(upTrends, removed, upTrends, 0, maximumBarCount);
+            System.arraycopy(startTrendIndexes, removed, startTrendIndexes, 0, maximumBarCount);
+            System.arraycopy(currentExtremePoints, removed, currentExtremePoints, 0, maximumBarCount);
+            System.arraycopy(minMaxExtremePoints, removed, minMaxExtremePoints, 0, maximumBarCount);
+            baseIndex += removed;
         } else {
-            accelerationFactor = accelerationFactor+(accelerationIncrement);
+            sars = Arrays.copyOf(sars, count * 2);
+            accelerationFactors = Arrays.copyOf(accelerationFactors, count * 2);
+            upTrends = Arrays.copyOf(upTrends, count * 2);
+            startTrendIndexes = Arrays.copyOf(startTrendIndexes, count * 2);
+            currentExtremePoints = Arrays.copyOf(currentExtremePoints, count * 2);
+            minMaxExtremePoints = Arrays.copyOf(minMaxExtremePoints, count * 2);
         }
     }
-}
\ No newline at end of file
+}
@@ -31,7 +31,7 @@ import org.ta4j.core.Indicator;
  * 
  * To preserve trend direction, default calculation does not use absolute value.
  */
-public class RAVIIndicator extends CachedIndicator<Double> {
+public class RAVIIndicator extends CachedDoubleIndicator {
 
     private final SMAIndicator shortSma;
     private final SMAIndicator longSma;
@@ -50,9 +50,9 @@ public class RAVIIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        double shortMA = shortSma.getValue(index);
-        double longMA = longSma.getValue(index);
+    protected double calculate(int index) {
+        double shortMA = shortSma.getDouble(index);
+        double longMA = longSma.getDouble(index);
         return ((shortMA - longMA) / longMA) * 100;
     }
 }
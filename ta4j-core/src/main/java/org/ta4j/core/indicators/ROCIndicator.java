@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 
@@ -35,9 +36,9 @@ import org.ta4j.core.Indicator;
  * @see <a href=
  *      "https://www.investopedia.com/terms/p/pricerateofchange.asp">https://www.investopedia.com/terms/p/pricerateofchange.asp</a>
  */
-public class ROCIndicator extends CachedIndicator<Double> {
+public class ROCIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final int barCount;
 
     /**
@@ -48,15 +49,15 @@ public class ROCIndicator extends CachedIndicator<Double> {
      */
     public ROCIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         int nIndex = Math.max(index - barCount, 0);
-        double nPeriodsAgoValue = indicator.getValue(nIndex);
-        double currentValue = indicator.getValue(index);
+        double nPeriodsAgoValue = indicator.getDouble(nIndex);
+        double currentValue = indicator.getDouble(index);
         return ((currentValue - nPeriodsAgoValue) / nPeriodsAgoValue)*100;
     }
 
@@ -33,7 +33,7 @@ import org.ta4j.core.indicators.helpers.LossIndicator;
  *
  * Computed using original Welles Wilder formula.
  */
-public class RSIIndicator extends CachedIndicator<Double> {
+public class RSIIndicator extends CachedDoubleIndicator {
 
     private final MMAIndicator averageGainIndicator;
     private final MMAIndicator averageLossIndicator;
@@ -45,10 +45,10 @@ public class RSIIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         // compute relative strength
-        Double averageGain = averageGainIndicator.getValue(index);
-        Double averageLoss = averageLossIndicator.getValue(index);
+        Double averageGain = averageGainIndicator.getDouble(index);
+        Double averageLoss = averageLossIndicator.getDouble(index);
         if (averageLoss == 0) {
             if (averageGain == 0) {
                 return 0d;
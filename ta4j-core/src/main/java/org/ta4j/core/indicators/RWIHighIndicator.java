@@ -35,10 +35,13 @@ import static java.lang.Double.NaN;
  *      "http://https://rtmath.net/helpFinAnalysis/html/934563a8-9171-42d2-8444-486691234b1d.html">Source
  *      of formular</a>
  */
-public class RWIHighIndicator extends CachedIndicator<Double> {
+public class RWIHighIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
 
+    /** The ATRs of the lengths from 1 to barCount */
+    private final ATRBankIndicator atrBank;
+
     /**
      * Constructor.
      *
@@ -46,12 +49,30 @@ public class RWIHighIndicator extends CachedIndicator<Double> {
      * @param barCount the time frame
      */
     public RWIHighIndicator(BarSeries series, int barCount) {
-        super(series);
+        this(new ATRBankIndicator(series, barCount), barCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param atrBank  the ATRs of the series, which may be shared with other
+     *                 indicators (e.g. the {@link RWILowIndicator})
+     * @param barCount the time frame
+     * @throws IllegalArgumentException if the bank has no ATR of the length
+     *                                  barCount
+     */
+    public RWIHighIndicator(ATRBankIndicator atrBank, int barCount) {
+        super(atrBank.getBarSeries());
+        if (barCount > atrBank.getMaxBarCount()) {
+            throw new IllegalArgumentException(String.format("No ATR of length %s in the bank (maximum %s)",
+                    barCount, atrBank.getMaxBarCount()));
+        }
         this.barCount = barCount;
+        this.atrBank = atrBank;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index - barCount + 1 < getBarSeries().getBeginIndex()) {
             return NaN;
         }
@@ -64,12 +85,12 @@ public class RWIHighIndicator extends CachedIndicator<Double> {
         return maxRWIH;
     }
 
-    private Double calcRWIHFor(final int index, final int n) {
+    private double calcRWIHFor(final int index, final int n) {
         BarSeries series = getBarSeries();
-        Double high = series.getBar(index).getHighPrice();
-        Double lowN = series.getBar(index + 1 - n).getLowPrice();
-        Double atrN = new ATRIndicator(series, n).getValue(index);
-        Double sqrtN = Math.sqrt(n);
+        double high = series.getBar(index).getHighPrice();
+        double lowN = series.getBar(index + 1 - n).getLowPrice();
+        double atrN = atrBank.getDouble(index, n);
+        double sqrtN = Math.sqrt(n);
 
         return high - (lowN) / (atrN*(sqrtN));
     }
@@ -35,10 +35,13 @@ import static java.lang.Double.NaN;
  *      "http://https://rtmath.net/helpFinAnalysis/html/934563a8-9171-42d2-8444-486691234b1d.html">Source
  *      of formular</a>
  */
-public class RWILowIndicator extends CachedIndicator<Double> {
+public class RWILowIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
 
+    /** The ATRs of the lengths from 1 to barCount */
+    private final ATRBankIndicator atrBank;
+
     /**
      * Constructor.
      *
@@ -46,12 +49,30 @@ public class RWILowIndicator extends CachedIndicator<Double> {
      * @param barCount the time frame
      */
     public RWILowIndicator(BarSeries series, int barCount) {
-        super(series);
+        this(new ATRBankIndicator(series, barCount), barCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param atrBank  the ATRs of the series, which may be shared with other
+     *                 indicators (e.g. the {@link RWIHighIndicator})
+     * @param barCount the time frame
+     * @throws IllegalArgumentException if the bank has no ATR of the length
+     *                                  barCount
+     */
+    public RWILowIndicator(ATRBankIndicator atrBank, int barCount) {
+        super(atrBank.getBarSeries());
+        if (barCount > atrBank.getMaxBarCount()) {
+            throw new IllegalArgumentException(String.format("No ATR of length %s in the bank (maximum %s)",
+                    barCount, atrBank.getMaxBarCount()));
+        }
         this.barCount = barCount;
+        this.atrBank = atrBank;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index - barCount + 1 < getBarSeries().getBeginIndex()) {
             return NaN;
         }
@@ -64,11 +85,11 @@ public class RWILowIndicator extends CachedIndicator<Double> {
         return minRWIL;
     }
 
-    private Double calcRWIHFor(final int index, final int n) {
+    private double calcRWIHFor(final int index, final int n) {
         BarSeries series = getBarSeries();
         double low = series.getBar(index).getLowPrice();
         double highN = series.getBar(index + 1 - n).getHighPrice();
-        double atrN = new ATRIndicator(series, n).getValue(index);
+        double atrN = atrBank.getDouble(index, n);
         double sqrtN = Math.sqrt(n);
 
         return highN - (low) / (atrN*(sqrtN));
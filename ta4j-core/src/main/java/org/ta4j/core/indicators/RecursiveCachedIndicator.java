@@ -74,8 +74,16 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
                 if (index - startIndex > RECURSION_THRESHOLD) {
                     // Too many uncalculated values; the risk for a StackOverflowError becomes high.
                     // Calculating the previous values iteratively
-                    for (int prevIdx = startIndex; prevIdx < index; prevIdx++) {
-                        super.getValue(prevIdx);
+                    if (lock != null) {
+                        // Concurrent mode: the fill is done once, the other threads wait for it
+                        lock.lock();
+                        try {
+                            fillIteratively(Math.max(removedBarsCount, highestResultIndex), index);
+                        } finally {
+                            lock.unlock();
+                        }
+                    } else {
+                        fillIteratively(startIndex, index);
                     }
                 }
             }
@@ -83,4 +91,10 @@ public abstract class RecursiveCachedIndicator<T> extends CachedIndicator<T> {
 
         return super.getValue(index);
     }
+
+    private void fillIteratively(int startIndex, int index) {
+        for (int prevIdx = startIndex; prevIdx < index; prevIdx++) {
+            super.getValue(prevIdx);
+        }
+    }
 }
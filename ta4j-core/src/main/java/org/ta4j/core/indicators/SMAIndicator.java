@@ -23,7 +23,9 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
+import org.ta4j.core.utils.RollingSum;
 
 /**
  * Simple moving average (SMA) indicator.
@@ -31,27 +33,25 @@ import org.ta4j.core.Indicator;
  * @see <a href=
  *      "https://www.investopedia.com/terms/s/sma.asp">https://www.investopedia.com/terms/s/sma.asp</a>
  */
-public class SMAIndicator extends CachedIndicator<Double> {
+public class SMAIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     private final int barCount;
 
+    private final RollingSum sum;
+
     public SMAIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
+        this.sum = new RollingSum(getBarSeries(), this.indicator::getDouble, barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
-        double sum = 0;
-        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
-            sum = sum + (indicator.getValue(i));
-        }
-
+    protected double calculate(int index) {
         final int realBarCount = Math.min(barCount, index + 1);
-        return sum / realBarCount;
+        return sum.getSum(index) / realBarCount;
     }
 
     @Override
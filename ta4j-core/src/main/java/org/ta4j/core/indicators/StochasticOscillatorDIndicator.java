@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 
@@ -32,9 +33,9 @@ import org.ta4j.core.Indicator;
  * Receive {@link StochasticOscillatorKIndicator} and returns its
  * {@link SMAIndicator SMAIndicator(3)}.
  */
-public class StochasticOscillatorDIndicator extends CachedIndicator<Double> {
+public class StochasticOscillatorDIndicator extends CachedDoubleIndicator {
 
-    private Indicator<Double> indicator;
+    private DoubleIndicator indicator;
 
     public StochasticOscillatorDIndicator(StochasticOscillatorKIndicator k) {
         this(new SMAIndicator(k, 3));
@@ -42,12 +43,12 @@ public class StochasticOscillatorDIndicator extends CachedIndicator<Double> {
 
     public StochasticOscillatorDIndicator(Indicator<Double> indicator) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
     }
 
     @Override
-    protected Double calculate(int index) {
-        return indicator.getValue(index);
+    protected double calculate(int index) {
+        return indicator.getDouble(index);
     }
 
     @Override
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.*;
@@ -36,8 +37,8 @@ import org.ta4j.core.indicators.helpers.*;
  * indicator, HighPriceIndicator and LowPriceIndicator and returns
  * StochasticOsiclatorK over this indicator.
  */
-public class StochasticOscillatorKIndicator extends CachedIndicator<Double> {
-    private final Indicator<Double> indicator;
+public class StochasticOscillatorKIndicator extends CachedDoubleIndicator {
+    private final DoubleIndicator indicator;
 
     private final int barCount;
 
@@ -53,21 +54,21 @@ public class StochasticOscillatorKIndicator extends CachedIndicator<Double> {
     public StochasticOscillatorKIndicator(Indicator<Double> indicator, int barCount, HighPriceIndicator highPriceIndicator,
             LowPriceIndicator lowPriceIndicator) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
         this.highPriceIndicator = highPriceIndicator;
         this.lowPriceIndicator = lowPriceIndicator;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         HighestValueIndicator highestHigh = new HighestValueIndicator(highPriceIndicator, barCount);
         LowestValueIndicator lowestMin = new LowestValueIndicator(lowPriceIndicator, barCount);
 
-        double highestHighPrice = highestHigh.getValue(index);
-        double lowestLowPrice = lowestMin.getValue(index);
+        double highestHighPrice = highestHigh.getDouble(index);
+        double lowestLowPrice = lowestMin.getDouble(index);
 
-        return ((indicator.getValue(index) - lowestLowPrice) / (highestHighPrice - lowestLowPrice))*100;
+        return ((indicator.getDouble(index) - lowestLowPrice) / (highestHighPrice - lowestLowPrice))*100;
     }
 
     @Override
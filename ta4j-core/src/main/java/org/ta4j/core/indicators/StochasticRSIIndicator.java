@@ -35,7 +35,7 @@ import org.ta4j.core.indicators.helpers.LowestValueIndicator;
  * 
  * Stoch RSI = (RSI - MinimumRSIn) / (MaximumRSIn - MinimumRSIn)
  */
-public class StochasticRSIIndicator extends CachedIndicator<Double> {
+public class StochasticRSIIndicator extends CachedDoubleIndicator {
 
     private final RSIIndicator rsi;
     private final LowestValueIndicator minRsi;
@@ -76,9 +76,9 @@ public class StochasticRSIIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        Double minRsiValue = minRsi.getValue(index);
-        return (rsi.getValue(index) - minRsiValue) / (maxRsi.getValue(index) - minRsiValue);
+    protected double calculate(int index) {
+        Double minRsiValue = minRsi.getDouble(index);
+        return (rsi.getDouble(index) - minRsiValue) / (maxRsi.getDouble(index) - minRsiValue);
     }
 
 }
@@ -39,7 +39,7 @@ import org.ta4j.core.Indicator;
  * @see <a href=
  *      "https://www.investopedia.com/terms/t/triple-exponential-moving-average.asp">https://www.investopedia.com/terms/t/triple-exponential-moving-average.asp</a>
  */
-public class TripleEMAIndicator extends CachedIndicator<Double> {
+public class TripleEMAIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
     private final EMAIndicator ema;
@@ -61,9 +61,9 @@ public class TripleEMAIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         // trix = 3 * ( ema - emaEma ) + emaEmaEma
-        return (3)*(ema.getValue(index) - (emaEma.getValue(index)))+(emaEmaEma.getValue(index));
+        return (3)*(ema.getDouble(index) - (emaEma.getDouble(index)))+(emaEmaEma.getDouble(index));
     }
 
     @Override
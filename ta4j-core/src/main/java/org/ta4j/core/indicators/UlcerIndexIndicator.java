@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 
@@ -35,9 +36,9 @@ import org.ta4j.core.Indicator;
  * @see <a href=
  *      "https://en.wikipedia.org/wiki/Ulcer_index">https://en.wikipedia.org/wiki/Ulcer_index</a>
  */
-public class UlcerIndexIndicator extends CachedIndicator<Double> {
+public class UlcerIndexIndicator extends CachedDoubleIndicator {
 
-    private Indicator<Double> indicator;
+    private DoubleIndicator indicator;
     private int barCount;
 
     /**
@@ -48,18 +49,18 @@ public class UlcerIndexIndicator extends CachedIndicator<Double> {
      */
     public UlcerIndexIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         final int startIndex = Math.max(0, index - barCount + 1);
         final int numberOfObservations = index - startIndex + 1;
         double squaredAverage = 0;
-        double highestValue = indicator.getValue(startIndex);
+        double highestValue = indicator.getDouble(startIndex);
         for (int i = startIndex; i <= index; i++) {
-            double currentValue = indicator.getValue(i);
+            double currentValue = indicator.getDouble(i);
             if (currentValue> (highestValue)) {
                 highestValue = currentValue;
             }
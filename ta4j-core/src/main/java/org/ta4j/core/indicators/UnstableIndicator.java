@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 import static java.lang.Double.NaN;
@@ -31,22 +32,22 @@ import static java.lang.Double.NaN;
 /**
  * Indicator that returns NaN in unstable period
  */
-public class UnstableIndicator extends CachedIndicator<Double> {
+public class UnstableIndicator extends CachedDoubleIndicator {
 
     private final int unstablePeriod;
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     public UnstableIndicator(Indicator<Double> indicator, int unstablePeriod) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.unstablePeriod = unstablePeriod;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index < unstablePeriod) {
             return NaN;
         }
-        return indicator.getValue(index);
+        return indicator.getDouble(index);
     }
 }
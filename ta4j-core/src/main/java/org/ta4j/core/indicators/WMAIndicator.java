@@ -23,34 +23,35 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 
 /**
  * WMA indicator.
  */
-public class WMAIndicator extends CachedIndicator<Double> {
+public class WMAIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     public WMAIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == 0) {
-            return indicator.getValue(0);
+            return indicator.getDouble(0);
         }
 
         double value =0;
         int loopLength = (index - barCount < 0) ? index + 1 : barCount;
         int actualIndex = index;
         for (int i = loopLength; i > 0; i--) {
-            value = value+((i)*(indicator.getValue(actualIndex)));
+            value = value+((i)*(indicator.getDouble(actualIndex)));
             actualIndex--;
         }
 
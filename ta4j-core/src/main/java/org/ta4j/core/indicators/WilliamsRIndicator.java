@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.*;
@@ -35,9 +36,9 @@ import org.ta4j.core.indicators.helpers.*;
  * @see <a href=
  *      "https://www.investopedia.com/terms/w/williamsr.asp">https://www.investopedia.com/terms/w/williamsr.asp</a>
  */
-public class WilliamsRIndicator extends CachedIndicator<Double> {
+public class WilliamsRIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> closePriceIndicator;
+    private final DoubleIndicator closePriceIndicator;
     private final int barCount;
     private final HighPriceIndicator highPriceIndicator;
     private final LowPriceIndicator lowPriceIndicator;
@@ -59,14 +60,14 @@ public class WilliamsRIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         HighestValueIndicator highestHigh = new HighestValueIndicator(highPriceIndicator, barCount);
         LowestValueIndicator lowestMin = new LowestValueIndicator(lowPriceIndicator, barCount);
 
-        Double highestHighPrice = highestHigh.getValue(index);
-        Double lowestLowPrice = lowestMin.getValue(index);
+        Double highestHighPrice = highestHigh.getDouble(index);
+        Double lowestLowPrice = lowestMin.getDouble(index);
 
-        return ((highestHighPrice - (closePriceIndicator.getValue(index)))
+        return ((highestHighPrice - (closePriceIndicator.getDouble(index)))
                  / (highestHighPrice - (lowestLowPrice)))*(multiplier);
     }
 
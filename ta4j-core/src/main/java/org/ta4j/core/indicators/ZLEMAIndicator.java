@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
 
@@ -33,33 +34,33 @@ import org.ta4j.core.Indicator;
  *      "http://www.fmlabs.com/reference/default.htm?url=ZeroLagExpMA.htm">
  *      http://www.fmlabs.com/reference/default.htm?url=ZeroLagExpMA.htm</a>
  */
-public class ZLEMAIndicator extends RecursiveCachedIndicator<Double> {
+public class ZLEMAIndicator extends RecursiveCachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final int barCount;
     private final Double k;
     private final int lag;
 
     public ZLEMAIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
         k = 2 / ((double) barCount + 1);
         lag = (barCount - 1) / 2;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index + 1 < barCount) {
             // Starting point of the ZLEMA
-            return new SMAIndicator(indicator, barCount).getValue(index);
+            return new SMAIndicator(indicator, barCount).getDouble(index);
         }
         if (index == 0) {
             // If the barCount is bigger than the indicator's value count
-            return indicator.getValue(0);
+            return indicator.getDouble(0);
         }
-        double zlemaPrev = getValue(index - 1);
-        return k*(2 * indicator.getValue(index) - indicator.getValue(index - lag)) + ((1 - k) * zlemaPrev);
+        double zlemaPrev = getDouble(index - 1);
+        return k*(2 * indicator.getDouble(index) - indicator.getDouble(index - lag)) + ((1 - k) * zlemaPrev);
     }
 
     @Override
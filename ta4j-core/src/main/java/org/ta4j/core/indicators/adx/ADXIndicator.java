@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.adx;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.MMAIndicator;
 
 
@@ -34,7 +34,7 @@ import org.ta4j.core.indicators.MMAIndicator;
  * @see <a
  *      href="https://www.investopedia.com/terms/a/adx.asp>https://www.investopedia.com/terms/a/adx.asp</a>
  */
-public class ADXIndicator extends CachedIndicator<Double> {
+public class ADXIndicator extends CachedDoubleIndicator {
 
     private final MMAIndicator averageDXIndicator;
     private final int diBarCount;
@@ -52,8 +52,8 @@ public class ADXIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return averageDXIndicator.getValue(index);
+    protected double calculate(int index) {
+        return averageDXIndicator.getDouble(index);
     }
 
     @Override
@@ -24,13 +24,13 @@
 package org.ta4j.core.indicators.adx;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * DX indicator.
  */
-public class DXIndicator extends CachedIndicator<Double> {
+public class DXIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
     private final PlusDIIndicator plusDIIndicator;
@@ -44,9 +44,9 @@ public class DXIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        Double pdiValue = plusDIIndicator.getValue(index);
-        Double mdiValue = minusDIIndicator.getValue(index);
+    protected double calculate(int index) {
+        Double pdiValue = plusDIIndicator.getDouble(index);
+        Double mdiValue = minusDIIndicator.getDouble(index);
         if ((pdiValue + mdiValue) == 0) {
             return 0d;
         }
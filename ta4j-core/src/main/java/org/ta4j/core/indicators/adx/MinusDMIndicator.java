@@ -25,20 +25,20 @@ package org.ta4j.core.indicators.adx;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * -DM indicator.
  */
-public class MinusDMIndicator extends CachedIndicator<Double> {
+public class MinusDMIndicator extends CachedDoubleIndicator {
 
     public MinusDMIndicator(BarSeries series) {
         super(series);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == 0) {
             return 0d;
         }
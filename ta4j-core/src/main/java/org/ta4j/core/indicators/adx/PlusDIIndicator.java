@@ -25,7 +25,7 @@ package org.ta4j.core.indicators.adx;
 
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.indicators.ATRIndicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.MMAIndicator;
 
 
@@ -38,7 +38,7 @@ import org.ta4j.core.indicators.MMAIndicator;
  * @see <a
  *      href="https://www.investopedia.com/terms/a/adx.asp>https://www.investopedia.com/terms/a/adx.asp</a>
  */
-public class PlusDIIndicator extends CachedIndicator<Double> {
+public class PlusDIIndicator extends CachedDoubleIndicator {
 
     private final MMAIndicator avgPlusDMIndicator;
     private final ATRIndicator atrIndicator;
@@ -52,8 +52,8 @@ public class PlusDIIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return avgPlusDMIndicator.getValue(index) / (atrIndicator.getValue(index))*100;
+    protected double calculate(int index) {
+        return avgPlusDMIndicator.getDouble(index) / (atrIndicator.getDouble(index))*100;
     }
 
     @Override
@@ -23,9 +23,10 @@
  */
 package org.ta4j.core.indicators.aroon;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
 
@@ -39,11 +40,11 @@ import static java.lang.Double.NaN;
  * @see <a href=
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:aroon">chart_school:technical_indicators:aroon</a>
  */
-public class AroonDownIndicator extends CachedIndicator<Double> {
+public class AroonDownIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
     private final LowestValueIndicator lowestLowPriceIndicator;
-    private final Indicator<Double> lowPriceIndicator;
+    private final DoubleIndicator lowPriceIndicator;
 
     /**
      * Constructor.
@@ -55,7 +56,7 @@ public class AroonDownIndicator extends CachedIndicator<Double> {
     public AroonDownIndicator(Indicator<Double> lowPriceIndicator, int barCount) {
         super(lowPriceIndicator);
         this.barCount = barCount;
-        this.lowPriceIndicator = lowPriceIndicator;
+        this.lowPriceIndicator = DoubleIndicator.of(lowPriceIndicator);
         // + 1 needed for last possible iteration in loop
         this.lowestLowPriceIndicator = new LowestValueIndicator(lowPriceIndicator, barCount + 1);
     }
@@ -71,7 +72,7 @@ public class AroonDownIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (Double.isNaN(getBarSeries().getBar(index).getLowPrice()))
             return NaN;
 
@@ -79,7 +80,7 @@ public class AroonDownIndicator extends CachedIndicator<Double> {
         int endIndex = Math.max(0, index - barCount);
         int nbBars = 0;
         for (int i = index; i > endIndex; i--) {
-            if (Objects.equals(lowPriceIndicator.getValue(i), lowestLowPriceIndicator.getValue(index))) {
+            if (Objects.equals(lowPriceIndicator.getDouble(i), lowestLowPriceIndicator.getDouble(index))) {
                 break;
             }
             nbBars++;
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.aroon;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -34,7 +34,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:aroon_oscillator">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:aroon_oscillator</a>
  */
-public class AroonOscillatorIndicator extends CachedIndicator<Double> {
+public class AroonOscillatorIndicator extends CachedDoubleIndicator {
 
     private final AroonDownIndicator aroonDownIndicator;
     private final AroonUpIndicator aroonUpIndicator;
@@ -48,8 +48,8 @@ public class AroonOscillatorIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return aroonUpIndicator.getValue(index) - aroonDownIndicator.getValue(index);
+    protected double calculate(int index) {
+        return aroonUpIndicator.getDouble(index) - aroonDownIndicator.getDouble(index);
     }
 
     @Override
@@ -23,9 +23,10 @@
  */
 package org.ta4j.core.indicators.aroon;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 
@@ -40,11 +41,11 @@ import static java.lang.Double.NaN;
  * @see <a href=
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:aroon">chart_school:technical_indicators:aroon</a>
  */
-public class AroonUpIndicator extends CachedIndicator<Double> {
+public class AroonUpIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
     private final HighestValueIndicator highestHighPriceIndicator;
-    private final Indicator<Double> highPriceIndicator;
+    private final DoubleIndicator highPriceIndicator;
 
     /**
      * Constructor.
@@ -56,7 +57,7 @@ public class AroonUpIndicator extends CachedIndicator<Double> {
     public AroonUpIndicator(Indicator<Double> highPriceIndicator, int barCount) {
         super(highPriceIndicator);
         this.barCount = barCount;
-        this.highPriceIndicator = highPriceIndicator;
+        this.highPriceIndicator = DoubleIndicator.of(highPriceIndicator);
         // + 1 needed for last possible iteration in loop
         this.highestHighPriceIndicator = new HighestValueIndicator(highPriceIndicator, barCount + 1);
     }
@@ -72,7 +73,7 @@ public class AroonUpIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (Double.isNaN(getBarSeries().getBar(index).getHighPrice())) {
             return NaN;
         }
@@ -80,7 +81,7 @@ public class AroonUpIndicator extends CachedIndicator<Double> {
         int endIndex = Math.max(0, index - barCount);
         int nbBars = 0;
         for (int i = index; i > endIndex; i--) {
-            if (Objects.equals(highPriceIndicator.getValue(i), highestHighPriceIndicator.getValue(index))) {
+            if (Objects.equals(highPriceIndicator.getDouble(i), highestHighPriceIndicator.getDouble(index))) {
                 break;
             }
             nbBars++;
@@ -23,7 +23,7 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -33,7 +33,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:bollinger_band_width">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:bollinger_band_width</a>
  */
-public class BollingerBandWidthIndicator extends CachedIndicator<Double> {
+public class BollingerBandWidthIndicator extends CachedDoubleIndicator {
 
     private final BollingerBandsUpperIndicator bbu;
     private final BollingerBandsMiddleIndicator bbm;
@@ -55,7 +55,7 @@ public class BollingerBandWidthIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return ((bbu.getValue(index) - bbl.getValue(index)) / bbm.getValue(index))*100;
+    protected double calculate(int index) {
+        return ((bbu.getDouble(index) - bbl.getDouble(index)) / bbm.getDouble(index))*100;
     }
 }
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -33,9 +34,9 @@ import org.ta4j.core.indicators.CachedIndicator;
  * the Upper Bollinger Band.
  * 
  */
-public class BollingerBandsLowerIndicator extends CachedIndicator<Double> {
+public class BollingerBandsLowerIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final BollingerBandsMiddleIndicator bbm;
     private final double k;
 
@@ -64,13 +65,13 @@ public class BollingerBandsLowerIndicator extends CachedIndicator<Double> {
     public BollingerBandsLowerIndicator(BollingerBandsMiddleIndicator bbm, Indicator<Double> indicator, double k) {
         super(indicator);
         this.bbm = bbm;
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.k = k;
     }
 
     @Override
-    protected Double calculate(int index) {
-        return bbm.getValue(index) - indicator.getValue(index) * k;
+    protected double calculate(int index) {
+        return bbm.getDouble(index) - indicator.getDouble(index) * k;
     }
 
     /**
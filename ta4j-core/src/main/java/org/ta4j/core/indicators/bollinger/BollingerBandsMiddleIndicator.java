@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -33,9 +34,9 @@ import org.ta4j.core.indicators.CachedIndicator;
  * the Upper Bollinger Band.
  * 
  */
-public class BollingerBandsMiddleIndicator extends CachedIndicator<Double> {
+public class BollingerBandsMiddleIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     /**
      * Constructor.
@@ -45,12 +46,12 @@ public class BollingerBandsMiddleIndicator extends CachedIndicator<Double> {
      */
     public BollingerBandsMiddleIndicator(Indicator<Double> indicator) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
     }
 
     @Override
-    protected Double calculate(int index) {
-        return indicator.getValue(index);
+    protected double calculate(int index) {
+        return indicator.getDouble(index);
     }
 
     public Indicator<Double> getIndicator() {
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -33,9 +34,9 @@ import org.ta4j.core.indicators.CachedIndicator;
  * the Upper Bollinger Band.
  * 
  */
-public class BollingerBandsUpperIndicator extends CachedIndicator<Double> {
+public class BollingerBandsUpperIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> deviation;
+    private final DoubleIndicator deviation;
 
     private final BollingerBandsMiddleIndicator bbm;
 
@@ -66,13 +67,13 @@ public class BollingerBandsUpperIndicator extends CachedIndicator<Double> {
     public BollingerBandsUpperIndicator(BollingerBandsMiddleIndicator bbm, Indicator<Double> deviation, double k) {
         super(deviation);
         this.bbm = bbm;
-        this.deviation = deviation;
+        this.deviation = DoubleIndicator.of(deviation);
         this.k = k;
     }
 
     @Override
-    protected Double calculate(int index) {
-        return bbm.getValue(index) + (deviation.getValue(index) * k);
+    protected double calculate(int index) {
+        return bbm.getDouble(index) + (deviation.getDouble(index) * k);
     }
 
     /**
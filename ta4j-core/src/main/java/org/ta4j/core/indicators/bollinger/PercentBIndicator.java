@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.bollinger;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
 
@@ -36,9 +37,9 @@ import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
  *      href="http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:bollinger_band_perce>
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:bollinger_band_perce</a>
  */
-public class PercentBIndicator extends CachedIndicator<Double> {
+public class PercentBIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     private final BollingerBandsUpperIndicator bbu;
 
@@ -53,7 +54,7 @@ public class PercentBIndicator extends CachedIndicator<Double> {
      */
     public PercentBIndicator(Indicator<Double> indicator, int barCount, double k) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         BollingerBandsMiddleIndicator bbm = new BollingerBandsMiddleIndicator(new SMAIndicator(indicator, barCount));
         StandardDeviationIndicator sd = new StandardDeviationIndicator(indicator, barCount);
         this.bbu = new BollingerBandsUpperIndicator(bbm, sd, (k));
@@ -61,10 +62,10 @@ public class PercentBIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        Double value = indicator.getValue(index);
-        Double upValue = bbu.getValue(index);
-        Double lowValue = bbl.getValue(index);
+    protected double calculate(int index) {
+        Double value = indicator.getDouble(index);
+        Double upValue = bbu.getDouble(index);
+        Double lowValue = bbl.getDouble(index);
         return (value - lowValue) / (upValue - lowValue);
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.candles;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
@@ -45,7 +46,7 @@ public class DojiIndicator extends CachedIndicator<Boolean> {
     /**
      * Body height
      */
-    private final Indicator<Double> bodyHeightInd;
+    private final DoubleIndicator bodyHeightInd;
     /**
      * Average body height
      */
@@ -71,10 +72,10 @@ public class DojiIndicator extends CachedIndicator<Boolean> {
     @Override
     protected Boolean calculate(int index) {
         if (index < 1) {
-            return bodyHeightInd.getValue(index) == 0;
+            return bodyHeightInd.getDouble(index) == 0;
         }
-        double averageBodyHeight = averageBodyHeightInd.getValue(index - 1);
-        double currentBodyHeight = bodyHeightInd.getValue(index);
+        double averageBodyHeight = averageBodyHeightInd.getDouble(index - 1);
+        double currentBodyHeight = bodyHeightInd.getDouble(index);
         return currentBodyHeight < averageBodyHeight * factor;
     }
 }
@@ -83,9 +83,9 @@ public class ThreeBlackCrowsIndicator extends CachedIndicator<Boolean> {
      * @return true if the bar/candle has a very short lower shadow, false otherwise
      */
     private boolean hasVeryShortLowerShadow(int index) {
-        double currentLowerShadow = lowerShadowInd.getValue(index);
+        double currentLowerShadow = lowerShadowInd.getDouble(index);
         // We use the white candle index to remove to bias of the previous crows
-        double averageLowerShadow = averageLowerShadowInd.getValue(whiteCandleIndex);
+        double averageLowerShadow = averageLowerShadowInd.getDouble(whiteCandleIndex);
 
         return currentLowerShadow < averageLowerShadow * factor;
     }
@@ -83,9 +83,9 @@ public class ThreeWhiteSoldiersIndicator extends CachedIndicator<Boolean> {
      * @return true if the bar/candle has a very short upper shadow, false otherwise
      */
     private boolean hasVeryShortUpperShadow(int index) {
-        double currentUpperShadow = upperShadowInd.getValue(index);
+        double currentUpperShadow = upperShadowInd.getDouble(index);
         // We use the black candle index to remove to bias of the previous soldiers
-        double averageUpperShadow = averageUpperShadowInd.getValue(blackCandleIndex);
+        double averageUpperShadow = averageUpperShadowInd.getDouble(blackCandleIndex);
 
         return currentUpperShadow < averageUpperShadow * factor;
     }
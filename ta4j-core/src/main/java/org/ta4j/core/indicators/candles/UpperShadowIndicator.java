@@ -25,7 +25,7 @@ package org.ta4j.core.indicators.candles;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -38,7 +38,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:chart_analysis:introduction_to_candlesticks#formation">
  *      http://stockcharts.com/school/doku.php?id=chart_school:chart_analysis:introduction_to_candlesticks#formation</a>
  */
-public class UpperShadowIndicator extends CachedIndicator<Double> {
+public class UpperShadowIndicator extends CachedDoubleIndicator {
 
     /**
      * Constructor.
@@ -50,7 +50,7 @@ public class UpperShadowIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         Bar t = getBarSeries().getBar(index);
         final double openPrice = t.getOpenPrice();
         final double closePrice = t.getClosePrice();
@@ -24,21 +24,29 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.ColumnarBarSeries;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * Amount indicator.
  *
  */
-public class AmountIndicator extends CachedIndicator<Double> {
+public class AmountIndicator extends CachedDoubleIndicator {
+
+    /** The columns of the series, if it is a {@link ColumnarBarSeries} */
+    private final ColumnarBarSeries columns;
 
     public AmountIndicator(BarSeries series) {
         super(series);
+        this.columns = series instanceof ColumnarBarSeries ? (ColumnarBarSeries) series : null;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
+        if (columns != null) {
+            return columns.getAmount(index);
+        }
         return getBarSeries().getBar(index).getAmount();
     }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
@@ -111,7 +112,7 @@ public class BooleanTransformIndicator extends CachedIndicator<Boolean> {
         isZero
     }
 
-    private Indicator<Double> indicator;
+    private DoubleIndicator indicator;
     private Double coefficient;
     private BooleanTransformType type;
     private BooleanTransformSimpleType simpleType;
@@ -125,7 +126,7 @@ public class BooleanTransformIndicator extends CachedIndicator<Boolean> {
      */
     public BooleanTransformIndicator(Indicator<Double> indicator, Double coefficient, BooleanTransformType type) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.coefficient = coefficient;
         this.type = type;
     }
@@ -138,14 +139,14 @@ public class BooleanTransformIndicator extends CachedIndicator<Boolean> {
      */
     public BooleanTransformIndicator(Indicator<Double> indicator, BooleanTransformSimpleType type) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.simpleType = type;
     }
 
     @Override
     protected Boolean calculate(int index) {
 
-        Double val = indicator.getValue(index);
+        Double val = indicator.getDouble(index);
 
         if (type != null) {
             switch (type) {
@@ -25,7 +25,7 @@ package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -34,14 +34,14 @@ import org.ta4j.core.indicators.CachedIndicator;
  * @see <a href="http://www.investopedia.com/terms/c/close_location_value.asp">
  *      http://www.investopedia.com/terms/c/close_location_value.asp</a>
  */
-public class CloseLocationValueIndicator extends CachedIndicator<Double> {
+public class CloseLocationValueIndicator extends CachedDoubleIndicator {
 
     public CloseLocationValueIndicator(BarSeries series) {
         super(series);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         final Bar bar = getBarSeries().getBar(index);
         final double low = bar.getLowPrice();
         final double high = bar.getHighPrice();
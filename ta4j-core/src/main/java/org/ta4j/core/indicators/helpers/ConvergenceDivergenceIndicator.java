@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.indicators.CachedIndicator;
@@ -114,10 +115,10 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
     }
 
     /** The actual indicator. */
-    private final Indicator<Double> ref;
+    private final DoubleIndicator ref;
 
     /** The other indicator. */
-    private final Indicator<Double> other;
+    private final DoubleIndicator other;
 
     /** The barCount. */
     private final int barCount;
@@ -134,6 +135,12 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
     /** The minimum slope for convergence or divergence. **/
     private final Double minSlope;
 
+    /** The correlation coefficient between ref and other. **/
+    private final CorrelationCoefficientIndicator correlation;
+
+    /** The regression line of ref. **/
+    private final SimpleLinearRegressionIndicator regression;
+
     /**
      * Constructor. <br/>
      * <br/>
@@ -165,13 +172,15 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
     public ConvergenceDivergenceIndicator(Indicator<Double> ref, Indicator<Double> other, int barCount,
             ConvergenceDivergenceType type, Double minStrength, Double minSlope) {
         super(ref);
-        this.ref = ref;
-        this.other = other;
+        this.ref = DoubleIndicator.of(ref);
+        this.other = DoubleIndicator.of(other);
         this.barCount = barCount;
         this.type = type;
         this.strictType = null;
         this.minStrength = Math.abs(minStrength);
         this.minSlope = minSlope;
+        this.correlation = new CorrelationCoefficientIndicator(ref, other, barCount);
+        this.regression = new SimpleLinearRegressionIndicator(ref, barCount);
     }
 
     /**
@@ -185,13 +194,15 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
     public ConvergenceDivergenceIndicator(Indicator<Double> ref, Indicator<Double> other, int barCount,
             ConvergenceDivergenceType type) {
         super(ref);
-        this.ref = ref;
-        this.other = other;
+        this.ref = DoubleIndicator.of(ref);
+        this.other = DoubleIndicator.of(other);
         this.barCount = barCount;
         this.type = type;
         this.strictType = null;
         this.minStrength = Math.abs(0.8);
         this.minSlope = 0.3;
+        this.correlation = new CorrelationCoefficientIndicator(ref, other, barCount);
+        this.regression = new SimpleLinearRegressionIndicator(ref, barCount);
     }
 
     /**
@@ -205,13 +216,15 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
     public ConvergenceDivergenceIndicator(Indicator<Double> ref, Indicator<Double> other, int barCount,
             ConvergenceDivergenceStrictType strictType) {
         super(ref);
-        this.ref = ref;
-        this.other = other;
+        this.ref = DoubleIndicator.of(ref);
+        this.other = DoubleIndicator.of(other);
         this.barCount = barCount;
         this.type = null;
         this.strictType = strictType;
         this.minStrength = null;
         this.minSlope = null;
+        this.correlation = null;
+        this.regression = null;
     }
 
     @Override
@@ -307,8 +320,7 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
      * @return true, if positive convergent
      */
     private Boolean calculatePositiveConvergence(int index) {
-        CorrelationCoefficientIndicator cc = new CorrelationCoefficientIndicator(ref, other, barCount);
-        boolean isConvergent = cc.getValue(index) >= minStrength;
+        boolean isConvergent = correlation.getDouble(index) >= minStrength;
 
         Double slope = calculateSlopeRel(index);
         boolean isPositive = slope >= Math.abs(minSlope);
@@ -321,8 +333,7 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
      * @return true, if negative convergent
      */
     private Boolean calculateNegativeConvergence(int index) {
-        CorrelationCoefficientIndicator cc = new CorrelationCoefficientIndicator(ref, other, barCount);
-        boolean isConvergent = cc.getValue(index) >= (minStrength);
+        boolean isConvergent = correlation.getDouble(index) >= (minStrength);
 
         Double slope = calculateSlopeRel(index);
         boolean isNegative = slope <= Math.abs(minSlope)*-1;
@@ -336,8 +347,7 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
      */
     private Boolean calculatePositiveDivergence(int index) {
 
-        CorrelationCoefficientIndicator cc = new CorrelationCoefficientIndicator(ref, other, barCount);
-        boolean isDivergent = cc.getValue(index) <= (minStrength*-1);
+        boolean isDivergent = correlation.getDouble(index) <= (minStrength*-1);
 
         if (isDivergent) {
             // If "isDivergent" and "ref" is positive, then "other" must be negative.
@@ -354,8 +364,7 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
      */
     private Boolean calculateNegativeDivergence(int index) {
 
-        CorrelationCoefficientIndicator cc = new CorrelationCoefficientIndicator(ref, other, barCount);
-        boolean isDivergent = cc.getValue(index) <= (minStrength * -1);
+        boolean isDivergent = correlation.getDouble(index) <= (minStrength * -1);
 
         if (isDivergent) {
             // If "isDivergent" and "ref" is positive, then "other" must be negative.
@@ -371,9 +380,8 @@ public class ConvergenceDivergenceIndicator extends CachedIndicator<Boolean> {
      * @return the relative slope
      */
     private Double calculateSlopeRel(int index) {
-        SimpleLinearRegressionIndicator slrRef = new SimpleLinearRegressionIndicator(ref, barCount);
         int firstIndex = Math.max(0, index - barCount + 1);
-        return (slrRef.getValue(index) - slrRef.getValue(firstIndex)) / slrRef.getValue(index);
+        return (regression.getDouble(index) - regression.getDouble(firstIndex)) / regression.getDouble(index);
     }
 
 }
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.CachedIndicator;
 
@@ -34,9 +35,9 @@ import org.ta4j.core.indicators.CachedIndicator;
 public class CrossIndicator extends CachedIndicator<Boolean> {
 
     /** Upper indicator */
-    private final Indicator<Double> up;
+    private final DoubleIndicator up;
     /** Lower indicator */
-    private final Indicator<Double> low;
+    private final DoubleIndicator low;
 
     /**
      * Constructor.
@@ -47,26 +48,26 @@ public class CrossIndicator extends CachedIndicator<Boolean> {
     public CrossIndicator(Indicator<Double> up, Indicator<Double> low) {
         // TODO: check if up series is equal to low series
         super(up);
-        this.up = up;
-        this.low = low;
+        this.up = DoubleIndicator.of(up);
+        this.low = DoubleIndicator.of(low);
     }
 
     @Override
     protected Boolean calculate(int index) {
 
         int i = index;
-        if (i == 0 || up.getValue(i) >= (low.getValue(i))) {
+        if (i == 0 || up.getDouble(i) >= (low.getDouble(i))) {
             return false;
         }
 
         i--;
-        if (up.getValue(i)>=(low.getValue(i))) {
+        if (up.getDouble(i)>=(low.getDouble(i))) {
             return true;
         }
-        while (i > 0 && up.getValue(i)==(low.getValue(i))) {
+        while (i > 0 && up.getDouble(i)==(low.getDouble(i))) {
             i--;
         }
-        return (i != 0) && (up.getValue(i)>(low.getValue(i)));
+        return (i != 0) && (up.getDouble(i)>(low.getDouble(i)));
     }
 
     /**
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 import static java.lang.Double.NaN;
 
@@ -39,9 +40,9 @@ import static java.lang.Double.NaN;
  * percentage from the precious value.
  *
  */
-public class DifferencePercentageIndicator extends CachedIndicator<Double> {
+public class DifferencePercentageIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final Double percentageThreshold;
     private Double lastNotification;
 
@@ -55,14 +56,14 @@ public class DifferencePercentageIndicator extends CachedIndicator<Double> {
 
     public DifferencePercentageIndicator(Indicator<Double> indicator, Double percentageThreshold) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.percentageThreshold = percentageThreshold;
 
     }
 
     @Override
-    protected Double calculate(int index) {
-        Double value = indicator.getValue((index));
+    protected double calculate(int index) {
+        Double value = indicator.getDouble((index));
         if (lastNotification == null) {
             lastNotification = value;
             return NaN;
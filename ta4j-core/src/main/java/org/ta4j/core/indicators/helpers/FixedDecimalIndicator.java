@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 
 import java.math.BigDecimal;
 
@@ -31,7 +32,7 @@ import java.math.BigDecimal;
 /**
  * A fixed decimal indicator.
  */
-public class FixedDecimalIndicator extends FixedIndicator<Double> {
+public class FixedDecimalIndicator extends FixedIndicator<Double> implements DoubleIndicator {
 
     /**
      * Constructor.
@@ -56,4 +57,9 @@ public class FixedDecimalIndicator extends FixedIndicator<Double> {
             addValue(Double.parseDouble(value));
         }
     }
+
+    @Override
+    public double getDouble(int index) {
+        return super.getValue(index);
+    }
 }
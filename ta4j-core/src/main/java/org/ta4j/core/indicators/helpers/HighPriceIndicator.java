@@ -24,19 +24,37 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.ColumnarBarSeries;
 import org.ta4j.core.indicators.AbstractIndicator;
 
 /**
  * High price indicator.
  */
-public class HighPriceIndicator extends AbstractIndicator<Double> {
+public class HighPriceIndicator extends AbstractIndicator<Double> implements DoubleIndicator {
+
+    /** The columns of the series, if it is a {@link ColumnarBarSeries} */
+    private final ColumnarBarSeries columns;
 
     public HighPriceIndicator(BarSeries series) {
         super(series);
+        this.columns = series instanceof ColumnarBarSeries ? (ColumnarBarSeries) series : null;
     }
 
     @Override
-    public Double getValue(int index) {
+    public double getDouble(int index) {
+        if (columns != null) {
+            return columns.getHighPrice(index);
+        }
         return getBarSeries().getBar(index).getHighPrice();
     }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        if (columns != null) {
+            columns.fillHighPrices(from, to, out);
+        } else {
+            DoubleIndicator.super.fill(from, to, out);
+        }
+    }
 }
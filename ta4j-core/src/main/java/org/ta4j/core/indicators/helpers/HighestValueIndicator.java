@@ -23,38 +23,36 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.utils.RollingExtremum;
 
 
 /**
  * Highest value indicator.
+ *
+ * NaN values are ignored, the highest value of a window containing only NaN values
+ * is NaN.
  */
-public class HighestValueIndicator extends CachedIndicator<Double> {
+public class HighestValueIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     private final int barCount;
 
+    private final RollingExtremum highest;
+
     public HighestValueIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
+        this.highest = new RollingExtremum(getBarSeries(), this.indicator::getDouble, barCount, true);
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (indicator.getValue(index).isNaN() && barCount != 1) {
-            return new HighestValueIndicator(indicator, barCount - 1).getValue(index - 1);
-        }
-        int end = Math.max(0, index - barCount + 1);
-        Double highest = indicator.getValue(index);
-        for (int i = index - 1; i >= end; i--) {
-            if (highest < (indicator.getValue(i))) {
-                highest = indicator.getValue(i);
-            }
-        }
-        return highest;
+    protected double calculate(int index) {
+        return highest.getValue(index);
     }
 
     @Override
@@ -23,29 +23,30 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * Gain indicator.
  */
-public class LossIndicator extends CachedIndicator<Double> {
+public class LossIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     public LossIndicator(Indicator<Double> indicator) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == 0) {
             return 0d;
         }
-        if (indicator.getValue(index) < (indicator.getValue(index - 1))) {
-            return indicator.getValue(index - 1) - (indicator.getValue(index));
+        if (indicator.getDouble(index) < (indicator.getDouble(index - 1))) {
+            return indicator.getDouble(index - 1) - (indicator.getDouble(index));
         } else {
             return 0d;
         }
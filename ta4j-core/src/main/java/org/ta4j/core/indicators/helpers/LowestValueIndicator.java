@@ -23,38 +23,36 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.utils.RollingExtremum;
 
 
 /**
  * Lowest value indicator.
+ *
+ * NaN values are ignored, the lowest value of a window containing only NaN values
+ * is NaN.
  */
-public class LowestValueIndicator extends CachedIndicator<Double> {
+public class LowestValueIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
 
     private final int barCount;
 
+    private final RollingExtremum lowest;
+
     public LowestValueIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
+        this.lowest = new RollingExtremum(getBarSeries(), this.indicator::getDouble, barCount, false);
     }
 
     @Override
-    protected Double calculate(int index) {
-        if (indicator.getValue(index).isNaN() && barCount != 1) {
-            return new LowestValueIndicator(indicator, barCount - 1).getValue(index - 1);
-        }
-        int end = Math.max(0, index - barCount + 1);
-        Double lowest = indicator.getValue(index);
-        for (int i = index - 1; i >= end; i--) {
-            if (lowest > indicator.getValue(i)) {
-                lowest = indicator.getValue(i);
-            }
-        }
-        return lowest;
+    protected double calculate(int index) {
+        return lowest.getValue(index);
     }
 
     @Override
@@ -25,20 +25,28 @@ package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.ColumnarBarSeries;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * Average high-low indicator.
  */
-public class MedianPriceIndicator extends CachedIndicator<Double> {
+public class MedianPriceIndicator extends CachedDoubleIndicator {
+
+    /** The columns of the series, if it is a {@link ColumnarBarSeries} */
+    private final ColumnarBarSeries columns;
 
     public MedianPriceIndicator(BarSeries series) {
         super(series);
+        this.columns = series instanceof ColumnarBarSeries ? (ColumnarBarSeries) series : null;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
+        if (columns != null) {
+            return (columns.getHighPrice(index) + columns.getLowPrice(index)) / 2;
+        }
         final Bar bar = getBarSeries().getBar(index);
         return (bar.getHighPrice() + bar.getLowPrice()) / 2;
     }
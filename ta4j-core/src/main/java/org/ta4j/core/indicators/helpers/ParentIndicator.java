@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import org.ta4j.core.BarSeriesView;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.AbstractIndicator;
+
+/**
+ * Indicator of a parent series read through a {@link BarSeriesView view}.
+ *
+ * The index <code>i</code> of the view is translated to the index
+ * <code>view.getOffset() + i</code> of the parent indicator, so that the values
+ * (and the cache) of the parent indicator are shared by all its views. The
+ * indexes after the end of the view are rejected: they would read bars that
+ * are not part of the window.
+ */
+public class ParentIndicator extends AbstractIndicator<Double> implements DoubleIndicator {
+
+    private final DoubleIndicator parentIndicator;
+
+    private final int offset;
+
+    /**
+     * Constructor.
+     *
+     * @param view            the view
+     * @param parentIndicator an indicator of the parent series of the view
+     * @throws IllegalArgumentException if the indicator is not built on the
+     *                                  parent series of the view
+     */
+    public ParentIndicator(BarSeriesView view, Indicator<Double> parentIndicator) {
+        super(view);
+        if (parentIndicator.getBarSeries() != view.getParent()) {
+            throw new IllegalArgumentException("The indicator must be built on the parent series of the view");
+        }
+        this.parentIndicator = DoubleIndicator.of(parentIndicator);
+        this.offset = view.getOffset();
+    }
+
+    @Override
+    public double getDouble(int index) {
+        checkIndex(index);
+        return parentIndicator.getDouble(offset + index);
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        DoubleIndicator.checkFillRange(from, to, out);
+        checkIndex(to);
+        parentIndicator.fill(offset + from, offset + to, out);
+    }
+
+    private void checkIndex(int index) {
+        if (index > getBarSeries().getEndIndex()) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %s after the end of the view (%s)", index, getBarSeries().getEndIndex()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + offset + ")[" + parentIndicator + "]";
+    }
+}
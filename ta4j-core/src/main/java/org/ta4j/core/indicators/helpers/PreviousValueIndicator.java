@@ -23,17 +23,18 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * Returns the previous (n-th) value of an indicator
  */
-public class PreviousValueIndicator extends CachedIndicator<Double> {
+public class PreviousValueIndicator extends CachedDoubleIndicator {
 
     private final int n;
-    private Indicator<Double> indicator;
+    private DoubleIndicator indicator;
 
     /**
      * Constructor.
@@ -58,12 +59,12 @@ public class PreviousValueIndicator extends CachedIndicator<Double> {
             throw new IllegalArgumentException("n must be positive number, but was: " + n);
         }
         this.n = n;
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
     }
 
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         int previousValue = Math.max(0, (index - n));
-        return this.indicator.getValue(previousValue);
+        return this.indicator.getDouble(previousValue);
     }
 
     @Override
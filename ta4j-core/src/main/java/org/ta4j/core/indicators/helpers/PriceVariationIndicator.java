@@ -24,20 +24,20 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * Price variation indicator.
  */
-public class PriceVariationIndicator extends CachedIndicator<Double> {
+public class PriceVariationIndicator extends CachedDoubleIndicator {
 
     public PriceVariationIndicator(BarSeries series) {
         super(series);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         Double previousBarClosePrice = getBarSeries().getBar(Math.max(0, index - 1)).getClosePrice();
         Double currentBarClosePrice = getBarSeries().getBar(index).getClosePrice();
         return currentBarClosePrice / (previousBarClosePrice);
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.helpers;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -32,9 +33,9 @@ import org.ta4j.core.indicators.CachedIndicator;
  *
  * I.e.: operand0 + operand1 + ... + operandN
  */
-public class SumIndicator extends CachedIndicator<Double> {
+public class SumIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double>[] operands;
+    private final DoubleIndicator[] operands;
 
     /**
      * Constructor. (operand0 plus operand1 plus ... plus operandN)
@@ -45,14 +46,17 @@ public class SumIndicator extends CachedIndicator<Double> {
     public SumIndicator(Indicator<Double>... operands) {
         // TODO: check if first series is equal to the other ones
         super(operands[0]);
-        this.operands = operands;
+        this.operands = new DoubleIndicator[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            this.operands[i] = DoubleIndicator.of(operands[i]);
+        }
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         double sum =0;
-        for (Indicator<Double> operand : operands) {
-            sum = sum+(operand.getValue(index));
+        for (DoubleIndicator operand : operands) {
+            sum = sum+(operand.getDouble(index));
         }
         return sum;
     }
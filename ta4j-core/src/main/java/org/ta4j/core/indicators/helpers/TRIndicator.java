@@ -24,20 +24,20 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * True range indicator.
  */
-public class TRIndicator extends CachedIndicator<Double> {
+public class TRIndicator extends CachedDoubleIndicator {
 
     public TRIndicator(BarSeries series) {
         super(series);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         Double ts = getBarSeries().getBar(index).getHighPrice() - (getBarSeries().getBar(index).getLowPrice());
         Double ys = index == 0 ? 0
                 : getBarSeries().getBar(index).getHighPrice() - (getBarSeries().getBar(index - 1).getClosePrice());
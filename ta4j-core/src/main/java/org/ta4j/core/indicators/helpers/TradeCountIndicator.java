@@ -24,19 +24,27 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.ColumnarBarSeries;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 /**
  * Trade count indicator.
  */
-public class TradeCountIndicator extends CachedIndicator<Double> {
+public class TradeCountIndicator extends CachedDoubleIndicator {
+
+    /** The columns of the series, if it is a {@link ColumnarBarSeries} */
+    private final ColumnarBarSeries columns;
 
     public TradeCountIndicator(BarSeries series) {
         super(series);
+        this.columns = series instanceof ColumnarBarSeries ? (ColumnarBarSeries) series : null;
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
+        if (columns != null) {
+            return columns.getTrades(index);
+        }
         return getBarSeries().getBar(index).getTrades();
     }
 }
\ No newline at end of file
@@ -24,14 +24,19 @@
 package org.ta4j.core.indicators.helpers;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.ColumnarBarSeries;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
+import org.ta4j.core.utils.RollingSum;
 
 /**
  * Volume indicator.
  */
-public class VolumeIndicator extends CachedIndicator<Double> {
+public class VolumeIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
+    /** The columns of the series, if it is a {@link ColumnarBarSeries} */
+    private final ColumnarBarSeries columns;
+    private final RollingSum sumOfVolume;
 
     public VolumeIndicator(BarSeries series) {
         this(series, 1);
@@ -39,16 +44,29 @@ public class VolumeIndicator extends CachedIndicator<Double> {
 
     public VolumeIndicator(BarSeries series, int barCount) {
         super(series);
+        this.columns = series instanceof ColumnarBarSeries ? (ColumnarBarSeries) series : null;
         this.barCount = barCount;
+        this.sumOfVolume = new RollingSum(series, this::getVolume, barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
-        int startIndex = Math.max(0, index - barCount + 1);
-        double sumOfVolume = 0;
-        for (int i = startIndex; i <= index; i++) {
-            sumOfVolume = sumOfVolume + getBarSeries().getBar(i).getVolume();
+    protected double calculate(int index) {
+        if (barCount == 1) {
+            return getVolume(index);
         }
-        return sumOfVolume;
+        return sumOfVolume.getSum(index);
     }
-}
\ No newline at end of file
+
+    private double getVolume(int index) {
+        return columns != null ? columns.getVolume(index) : getBarSeries().getBar(index).getVolume();
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        if (columns != null && barCount == 1) {
+            columns.fillVolumes(from, to, out);
+        } else {
+            super.fill(from, to, out);
+        }
+    }
+}
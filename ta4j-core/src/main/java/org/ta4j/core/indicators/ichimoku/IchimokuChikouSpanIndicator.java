@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.ichimoku;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 
 
@@ -36,7 +36,7 @@ import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud</a>
  */
-public class IchimokuChikouSpanIndicator extends CachedIndicator<Double> {
+public class IchimokuChikouSpanIndicator extends CachedDoubleIndicator {
 
     /**
      * The close price
@@ -70,10 +70,10 @@ public class IchimokuChikouSpanIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         int spanIndex = index + timeDelay;
         if (spanIndex <= getBarSeries().getEndIndex()) {
-            return closePriceIndicator.getValue(spanIndex);
+            return closePriceIndicator.getDouble(spanIndex);
         } else {
             return Double.NaN;
         }
@@ -23,9 +23,10 @@
  */
 package org.ta4j.core.indicators.ichimoku;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.HighestValueIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
@@ -39,13 +40,13 @@ import org.ta4j.core.indicators.helpers.LowestValueIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud</a>
  */
-public class IchimokuLineIndicator extends CachedIndicator<Double> {
+public class IchimokuLineIndicator extends CachedDoubleIndicator {
 
     /** The period high */
-    private final Indicator<Double> periodHigh;
+    private final DoubleIndicator periodHigh;
 
     /** The period low */
-    private final Indicator<Double> periodLow;
+    private final DoubleIndicator periodLow;
 
     /**
      * Contructor.
@@ -60,7 +61,7 @@ public class IchimokuLineIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return (periodHigh.getValue(index) + periodLow.getValue(index)) / 2;
+    protected double calculate(int index) {
+        return (periodHigh.getDouble(index) + periodLow.getDouble(index)) / 2;
     }
 }
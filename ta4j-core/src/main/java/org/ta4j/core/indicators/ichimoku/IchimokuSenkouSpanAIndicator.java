@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.ichimoku;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 
@@ -35,7 +35,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud</a>
  */
-public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Double> {
+public class IchimokuSenkouSpanAIndicator extends CachedDoubleIndicator {
 
     /** The Tenkan-sen indicator */
     private final IchimokuTenkanSenIndicator conversionLine;
@@ -86,12 +86,12 @@ public class IchimokuSenkouSpanAIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
 
         // at index=7 we need index=3 when offset=5
         int spanIndex = index - offset + 1;
         if (spanIndex >= getBarSeries().getBeginIndex()) {
-            return (conversionLine.getValue(spanIndex) + baseLine.getValue(spanIndex)) / 2;
+            return (conversionLine.getDouble(spanIndex) + baseLine.getDouble(spanIndex)) / 2;
         } else {
             return Double.NaN;
         }
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.ichimoku;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 
@@ -35,7 +35,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:ichimoku_cloud</a>
  */
-public class IchimokuSenkouSpanBIndicator extends CachedIndicator<Double> {
+public class IchimokuSenkouSpanBIndicator extends CachedDoubleIndicator {
 
     // ichimoku avg line indicator
     IchimokuLineIndicator lineIndicator;
@@ -81,10 +81,10 @@ public class IchimokuSenkouSpanBIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         int spanIndex = index - offset + 1;
         if (spanIndex >= getBarSeries().getBeginIndex()) {
-            return lineIndicator.getValue(spanIndex);
+            return lineIndicator.getDouble(spanIndex);
         } else {
             return Double.NaN;
         }
@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators.keltner;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.AbstractIndicator;
 import org.ta4j.core.indicators.EMAIndicator;
@@ -37,7 +38,7 @@ import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:keltner_channels">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:keltner_channels</a>
  */
-public class KeltnerChannelMiddleIndicator extends AbstractIndicator<Double> {
+public class KeltnerChannelMiddleIndicator extends AbstractIndicator<Double> implements DoubleIndicator {
 
     private final EMAIndicator emaIndicator;
 
@@ -51,8 +52,13 @@ public class KeltnerChannelMiddleIndicator extends AbstractIndicator<Double> {
     }
 
     @Override
-    public Double getValue(int index) {
-        return emaIndicator.getValue(index);
+    public double getDouble(int index) {
+        return emaIndicator.getDouble(index);
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        emaIndicator.fill(from, to, out);
     }
 
     public int getBarCount() {
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.keltner;
 
 import org.ta4j.core.indicators.ATRIndicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -34,7 +34,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:keltner_channels">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:keltner_channels</a>
  */
-public class KeltnerChannelUpperIndicator extends CachedIndicator<Double> {
+public class KeltnerChannelUpperIndicator extends CachedDoubleIndicator {
 
     private final ATRIndicator averageTrueRangeIndicator;
 
@@ -54,9 +54,9 @@ public class KeltnerChannelUpperIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return keltnerMiddleIndicator.getValue(index)
-                +(ratio*(averageTrueRangeIndicator.getValue(index)));
+    protected double calculate(int index) {
+        return keltnerMiddleIndicator.getDouble(index)
+                +(ratio*(averageTrueRangeIndicator.getDouble(index)));
     }
 
     public int getBarCount() {
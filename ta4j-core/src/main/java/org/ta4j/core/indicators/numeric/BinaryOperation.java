@@ -24,16 +24,17 @@
 package org.ta4j.core.indicators.numeric;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
-import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
 
 /**
  * Objects of this class defer evaluation of an arithmetic operation.
  * 
  * This is a lightweight version of the CombineIndicator; it doesn't cache.
  */
-class BinaryOperation implements Indicator<Double> {
+class BinaryOperation implements DoubleIndicator {
 
     public static BinaryOperation sum(Indicator<Double> left, Indicator<Double> right) {
         return new BinaryOperation((a,b) -> a+b, left, right);
@@ -59,21 +60,32 @@ class BinaryOperation implements Indicator<Double> {
         return new BinaryOperation(Math::max, left, right);
     }
 
-    private final BinaryOperator<Double> operator;
-    private final Indicator<Double> left;
-    private final Indicator<Double> right;
+    private final DoubleBinaryOperator operator;
+    private final DoubleIndicator left;
+    private final DoubleIndicator right;
 
-    private BinaryOperation(BinaryOperator<Double> operator, Indicator<Double> left, Indicator<Double> right) {
+    private BinaryOperation(DoubleBinaryOperator operator, Indicator<Double> left, Indicator<Double> right) {
         this.operator = operator;
-        this.left = left;
-        this.right = right;
+        this.left = DoubleIndicator.of(left);
+        this.right = DoubleIndicator.of(right);
     }
 
     @Override
-    public Double getValue(int index) {
-        Double n1 = left.getValue(index);
-        Double n2 = right.getValue(index);
-        return operator.apply(n1, n2);
+    public double getDouble(int index) {
+        double n1 = left.getDouble(index);
+        double n2 = right.getDouble(index);
+        return operator.applyAsDouble(n1, n2);
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        DoubleIndicator.checkFillRange(from, to, out);
+        double[] rightValues = new double[to - from + 1];
+        left.fill(from, to, out);
+        right.fill(from, to, rightValues);
+        for (int i = 0; i < rightValues.length; i++) {
+            out[i] = operator.applyAsDouble(out[i], rightValues[i]);
+        }
     }
 
     @Override
@@ -24,6 +24,7 @@
 package org.ta4j.core.indicators.numeric;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Rule;
 import org.ta4j.core.indicators.EMAIndicator;
@@ -53,7 +54,7 @@ import org.ta4j.core.rules.UnderIndicatorRule;
  * objects. These are also overloaded to accept both Indicator<Double> and Number
  * arguments.
  */
-public class NumericIndicator implements Indicator<Double> {
+public class NumericIndicator implements DoubleIndicator {
 
     /**
      * Creates a fluent NumericIndicator wrapped around a "regular" indicator.
@@ -84,10 +85,10 @@ public class NumericIndicator implements Indicator<Double> {
         return of(new VolumeIndicator(bs));
     }
 
-    protected final Indicator<Double> delegate;
+    protected final DoubleIndicator delegate;
 
     protected NumericIndicator(Indicator<Double> delegate) {
-        this.delegate = delegate;
+        this.delegate = DoubleIndicator.of(delegate);
     }
 
     public Indicator<Double> delegate() {
@@ -220,8 +221,13 @@ public class NumericIndicator implements Indicator<Double> {
     }
 
     @Override
-    public Double getValue(int index) {
-        return delegate.getValue(index);
+    public double getDouble(int index) {
+        return delegate.getDouble(index);
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        delegate.fill(from, to, out);
     }
 
     @Override
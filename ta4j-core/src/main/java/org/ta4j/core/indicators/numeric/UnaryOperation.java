@@ -24,16 +24,17 @@
 package org.ta4j.core.indicators.numeric;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 
-import java.util.function.UnaryOperator;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * Objects of this class defer the evaluation of a unary operator, like sqrt().
  * 
  * There may be other unary operations on Double that could be added here.
  */
-class UnaryOperation implements Indicator<Double>{
+class UnaryOperation implements DoubleIndicator {
 
     public static UnaryOperation sqrt(Indicator<Double>operand) {
         return new UnaryOperation(Math::sqrt, operand);
@@ -43,18 +44,26 @@ class UnaryOperation implements Indicator<Double>{
         return new UnaryOperation(Math::abs, operand);
     }
 
-    private final UnaryOperator<Double>operator;
-    private final Indicator<Double>operand;
+    private final DoubleUnaryOperator operator;
+    private final DoubleIndicator operand;
 
-    private UnaryOperation(UnaryOperator<Double>operator, Indicator<Double>operand) {
+    private UnaryOperation(DoubleUnaryOperator operator, Indicator<Double>operand) {
         this.operator = operator;
-        this.operand = operand;
+        this.operand = DoubleIndicator.of(operand);
     }
 
     @Override
-    public Double getValue(int index) {
-        Double n = operand.getValue(index);
-        return operator.apply(n);
+    public double getDouble(int index) {
+        double n = operand.getDouble(index);
+        return operator.applyAsDouble(n);
+    }
+
+    @Override
+    public void fill(int from, int to, double[] out) {
+        operand.fill(from, to, out);
+        for (int i = 0; i <= to - from; i++) {
+            out[i] = operator.applyAsDouble(out[i]);
+        }
     }
 
     @Override
@@ -25,7 +25,7 @@ package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 
 import java.time.temporal.IsoFields;
 import java.util.ArrayList;
@@ -41,7 +41,7 @@ import static java.lang.Double.NaN;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points</a>
  */
-public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Double> {
+public class DeMarkPivotPointIndicator extends RecursiveCachedDoubleIndicator {
 
     private final TimeLevel timeLevel;
 
@@ -82,7 +82,7 @@ public class DeMarkPivotPointIndicator extends RecursiveCachedIndicator<Double>
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         return calcPivotPoint(getBarsOfPreviousPeriod(index));
     }
 
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Bar;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 
 import java.util.List;
 
@@ -38,7 +38,7 @@ import static java.lang.Double.NaN;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points</a>
  */
-public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Double> {
+public class DeMarkReversalIndicator extends RecursiveCachedDoubleIndicator {
 
     private final DeMarkPivotPointIndicator pivotPointIndicator;
     private final DeMarkPivotLevel level;
@@ -64,8 +64,8 @@ public class DeMarkReversalIndicator extends RecursiveCachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        Double x = pivotPointIndicator.getValue(index)*((4));
+    protected double calculate(int index) {
+        Double x = pivotPointIndicator.getDouble(index)*((4));
         Double result;
 
         if (level == DeMarkPivotLevel.SUPPORT) {
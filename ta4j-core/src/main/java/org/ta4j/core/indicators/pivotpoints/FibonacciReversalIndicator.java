@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Bar;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 
 import java.util.List;
 
@@ -38,7 +38,7 @@ import static java.lang.Double.NaN;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points</a>
  */
-public class FibonacciReversalIndicator extends RecursiveCachedIndicator<Double> {
+public class FibonacciReversalIndicator extends RecursiveCachedDoubleIndicator {
 
     private final PivotPointIndicator pivotPointIndicator;
     private final FibReversalTyp fibReversalTyp;
@@ -101,7 +101,7 @@ public class FibonacciReversalIndicator extends RecursiveCachedIndicator<Double>
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         List<Integer> barsOfPreviousPeriod = pivotPointIndicator.getBarsOfPreviousPeriod(index);
         if (barsOfPreviousPeriod.isEmpty())
             return NaN;
@@ -114,8 +114,8 @@ public class FibonacciReversalIndicator extends RecursiveCachedIndicator<Double>
         }
 
         if (fibReversalTyp == FibReversalTyp.RESISTANCE) {
-            return pivotPointIndicator.getValue(index)+(fibonacciFactor*(high - (low)));
+            return pivotPointIndicator.getDouble(index)+(fibonacciFactor*(high - (low)));
         }
-        return pivotPointIndicator.getValue(index) - (fibonacciFactor*(high - (low)));
+        return pivotPointIndicator.getDouble(index) - (fibonacciFactor*(high - (low)));
     }
 }
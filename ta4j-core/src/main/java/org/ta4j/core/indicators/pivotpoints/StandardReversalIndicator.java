@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.pivotpoints;
 
 import org.ta4j.core.Bar;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 
 import java.util.List;
 
@@ -38,7 +38,7 @@ import static java.lang.Double.NaN;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:pivot_points</a>
  */
-public class StandardReversalIndicator extends RecursiveCachedIndicator<Double> {
+public class StandardReversalIndicator extends RecursiveCachedDoubleIndicator {
 
     private final PivotPointIndicator pivotPointIndicator;
     private final PivotLevel level;
@@ -58,7 +58,7 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Double>
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         List<Integer> barsOfPreviousPeriod = pivotPointIndicator.getBarsOfPreviousPeriod(index);
         if (barsOfPreviousPeriod.isEmpty()) {
             return NaN;
@@ -90,7 +90,7 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Double>
             low = Math.min(getBarSeries().getBar(i).getLowPrice(), low);
             high = Math.max(getBarSeries().getBar(i).getHighPrice(), high);
         }
-        return high+(2 * ((pivotPointIndicator.getValue(index) - (low))));
+        return high+(2 * ((pivotPointIndicator.getDouble(index) - (low))));
     }
 
     private Double calculateR2(List<Integer> barsOfPreviousPeriod, int index) {
@@ -101,7 +101,7 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Double>
             low = Math.min(getBarSeries().getBar(i).getLowPrice(), low);
             high = Math.max(getBarSeries().getBar(i).getHighPrice(), high);
         }
-        return pivotPointIndicator.getValue(index) + (high - low);
+        return pivotPointIndicator.getDouble(index) + (high - low);
     }
 
     private Double calculateR1(List<Integer> barsOfPreviousPeriod, int index) {
@@ -109,7 +109,7 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Double>
         for (int i : barsOfPreviousPeriod) {
             low = Math.min(getBarSeries().getBar(i).getLowPrice(), low);
         }
-        return 2 * (pivotPointIndicator.getValue(index)) - (low);
+        return 2 * (pivotPointIndicator.getDouble(index)) - (low);
     }
 
     private Double calculateS1(List<Integer> barsOfPreviousPeriod, int index) {
@@ -117,7 +117,7 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Double>
         for (int i : barsOfPreviousPeriod) {
             high = Math.max(getBarSeries().getBar(i).getHighPrice(),high);
         }
-        return 2 * (pivotPointIndicator.getValue(index)) - (high);
+        return 2 * (pivotPointIndicator.getDouble(index)) - (high);
     }
 
     private Double calculateS2(List<Integer> barsOfPreviousPeriod, int index) {
@@ -128,7 +128,7 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Double>
             high = Math.max(getBarSeries().getBar(i).getHighPrice(), high);
             low = Math.min(getBarSeries().getBar(i).getLowPrice(), low);
         }
-        return pivotPointIndicator.getValue(index) - ((high - (low)));
+        return pivotPointIndicator.getDouble(index) - ((high - (low)));
     }
 
     private Double calculateS3(List<Integer> barsOfPreviousPeriod, int index) {
@@ -139,6 +139,6 @@ public class StandardReversalIndicator extends RecursiveCachedIndicator<Double>
             high = Math.max(getBarSeries().getBar(i).getHighPrice(), high);
             low = Math.min(getBarSeries().getBar(i).getLowPrice(), low);
         }
-        return low - (2 * ((high - (pivotPointIndicator.getValue(index)))));
+        return low - (2 * ((high - (pivotPointIndicator.getDouble(index)))));
     }
 }
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -34,11 +35,9 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:correlation_coeffici">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:correlation_coeffici</a>
  */
-public class CorrelationCoefficientIndicator extends CachedIndicator<Double> {
+public class CorrelationCoefficientIndicator extends CachedDoubleIndicator {
 
-    private final VarianceIndicator variance1;
-    private final VarianceIndicator variance2;
-    private final CovarianceIndicator covariance;
+    private final RollingMoments moments;
 
     /**
      * Constructor.
@@ -49,18 +48,13 @@ public class CorrelationCoefficientIndicator extends CachedIndicator<Double> {
      */
     public CorrelationCoefficientIndicator(Indicator<Double> indicator1, Indicator<Double> indicator2, int barCount) {
         super(indicator1);
-        variance1 = new VarianceIndicator(indicator1, barCount);
-        variance2 = new VarianceIndicator(indicator2, barCount);
-        covariance = new CovarianceIndicator(indicator1, indicator2, barCount);
+        moments = new RollingMoments(DoubleIndicator.of(indicator1), DoubleIndicator.of(indicator2), barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
-        Double cov = covariance.getValue(index);
-        Double var1 = variance1.getValue(index);
-        Double var2 = variance2.getValue(index);
-        Double multipliedSqrt = Math.sqrt(var1 * var2);
-        return cov / multipliedSqrt;
-
+    protected double calculate(int index) {
+        moments.moveTo(index);
+        double multipliedSqrt = Math.sqrt(moments.getVarianceX() * moments.getVarianceY());
+        return moments.getCovariance() / multipliedSqrt;
     }
 }
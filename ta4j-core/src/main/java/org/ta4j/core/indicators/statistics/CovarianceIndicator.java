@@ -23,20 +23,17 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 /**
  * Covariance indicator.
  */
-public class CovarianceIndicator extends CachedIndicator<Double> {
+public class CovarianceIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator1;
-    private final Indicator<Double> indicator2;
     private final int barCount;
-    private final SMAIndicator sma1;
-    private final SMAIndicator sma2;
+    private final RollingMoments moments;
 
     /**
      * Constructor.
@@ -47,26 +44,13 @@ public class CovarianceIndicator extends CachedIndicator<Double> {
      */
     public CovarianceIndicator(Indicator<Double> indicator1, Indicator<Double> indicator2, int barCount) {
         super(indicator1);
-        this.indicator1 = indicator1;
-        this.indicator2 = indicator2;
         this.barCount = barCount;
-        sma1 = new SMAIndicator(indicator1, barCount);
-        sma2 = new SMAIndicator(indicator2, barCount);
+        this.moments = new RollingMoments(DoubleIndicator.of(indicator1), DoubleIndicator.of(indicator2), barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        double covariance = 0;
-        double average1 = sma1.getValue(index);
-        double average2 = sma2.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            double mul = (indicator1.getValue(i) - average1) * (indicator2.getValue(i) - average2);
-            covariance = covariance + mul;
-        }
-        covariance = covariance / numberOfObservations;
-        return covariance;
+    protected double calculate(int index) {
+        return moments.moveTo(index).getCovariance();
     }
 
     @Override
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 
 
@@ -35,9 +36,9 @@ import org.ta4j.core.indicators.SMAIndicator;
  *      "http://en.wikipedia.org/wiki/Mean_absolute_deviation#Average_absolute_deviation">
  *      http://en.wikipedia.org/wiki/Mean_absolute_deviation#Average_absolute_deviation</a>
  */
-public class MeanDeviationIndicator extends CachedIndicator<Double> {
+public class MeanDeviationIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final int barCount;
     private final SMAIndicator sma;
 
@@ -49,22 +50,22 @@ public class MeanDeviationIndicator extends CachedIndicator<Double> {
      */
     public MeanDeviationIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
         sma = new SMAIndicator(indicator, barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         double absoluteDeviations = 0;
 
-        final Double average = sma.getValue(index);
+        final Double average = sma.getDouble(index);
         final int startIndex = Math.max(0, index - barCount + 1);
         final int nbValues = index - startIndex + 1;
 
         for (int i = startIndex; i <= index; i++) {
             // For each period...
-            absoluteDeviations = absoluteDeviations + Math.abs(indicator.getValue(i) - average);
+            absoluteDeviations = absoluteDeviations + Math.abs(indicator.getDouble(i) - average);
         }
         return absoluteDeviations / nbValues;
     }
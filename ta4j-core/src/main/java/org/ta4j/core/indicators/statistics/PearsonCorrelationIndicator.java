@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 
 import static java.lang.Double.NaN;
 
@@ -36,11 +37,12 @@ import static java.lang.Double.NaN;
  *      "http://www.statisticshowto.com/probability-and-statistics/correlation-coefficient-formula/">
  *      http://www.statisticshowto.com/probability-and-statistics/correlation-coefficient-formula/</a>
  */
-public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Double> {
+public class PearsonCorrelationIndicator extends RecursiveCachedDoubleIndicator {
 
-    private final Indicator<Double> indicator1;
-    private final Indicator<Double> indicator2;
+    private final DoubleIndicator indicator1;
+    private final DoubleIndicator indicator2;
     private final int barCount;
+    private final RollingMoments moments;
 
     /**
      * Constructor.
@@ -51,42 +53,62 @@ public class PearsonCorrelationIndicator extends RecursiveCachedIndicator<Double
      */
     public PearsonCorrelationIndicator(Indicator<Double> indicator1, Indicator<Double> indicator2, int barCount) {
         super(indicator1);
-        this.indicator1 = indicator1;
-        this.indicator2 = indicator2;
+        this.indicator1 = DoubleIndicator.of(indicator1);
+        this.indicator2 = DoubleIndicator.of(indicator2);
         this.barCount = barCount;
+        this.moments = new RollingMoments(this.indicator1, this.indicator2, barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
+        final int beginIndex = getBarSeries().getBeginIndex();
+        if (beginIndex > 0 && index - barCount + 1 < beginIndex) {
+            // Partial window of a series which does not begin at 0
+            return scan(beginIndex, index);
+        }
+        moments.moveTo(index);
+        double n = barCount;
+        double k = moments.getCount();
+        double meanX = moments.getMeanX();
+        double meanY = moments.getMeanY();
+        // n * Sxx - Sx * Sx, with Sxx = M2x + k * meanX^2 and Sx = k * meanX
+        double toSqrt = (n * moments.getM2X() + k * (n - k) * meanX * meanX)
+                * (n * moments.getM2Y() + k * (n - k) * meanY * meanY);
+        if (toSqrt > 0) {
+            return (n * moments.getCoMoment() + k * (n - k) * meanX * meanY) / Math.sqrt(toSqrt);
+        }
+        return NaN;
+    }
+
+    private double scan(int startIndex, int index) {
 
         double n = barCount;
 
-        double Sx =0;
-        double Sy =0;
-        double Sxx =0;
-        double Syy =0;
-        double Sxy =0;
+        double Sx = 0;
+        double Sy = 0;
+        double Sxx = 0;
+        double Syy = 0;
+        double Sxy = 0;
 
-        for (int i = Math.max(getBarSeries().getBeginIndex(), index - barCount + 1); i <= index; i++) {
+        for (int i = Math.max(startIndex, index - barCount + 1); i <= index; i++) {
 
-            Double x = indicator1.getValue(i);
-            Double y = indicator2.getValue(i);
+            double x = indicator1.getDouble(i);
+            double y = indicator2.getDouble(i);
 
-            Sx = Sx+(x);
-            Sy = Sy+(y);
-            Sxy = Sxy+(x*(y));
-            Sxx = Sxx+(x*(x));
-            Syy = Syy+(y*(y));
+            Sx += x;
+            Sy += y;
+            Sxy += x * y;
+            Sxx += x * x;
+            Syy += y * y;
         }
 
         // (n * Sxx - Sx * Sx) * (n * Syy - Sy * Sy)
-        Double toSqrt = (n*(Sxx) - (Sx*(Sx)))
-                *(n*(Syy) - (Sy*(Sy)));
+        double toSqrt = (n * Sxx - Sx * Sx) * (n * Syy - Sy * Sy);
 
-        if (toSqrt> ((0))) {
+        if (toSqrt > 0) {
             // pearson = (n * Sxy - Sx * Sy) / sqrt((n * Sxx - Sx * Sx) * (n * Syy - Sy *
             // Sy))
-            return (n*(Sxy) - (Sx*(Sy))) / Math.sqrt(toSqrt);
+            return (n * Sxy - Sx * Sy) / Math.sqrt(toSqrt);
         }
 
         return NaN;
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 import static java.lang.Double.NaN;
 
@@ -55,9 +56,9 @@ import static java.lang.Double.NaN;
  * http://www.fool.com/knowledge-center/2015/11/03/annualized-return-vs-cumulative-return.aspx
  *
  */
-public class PeriodicalGrowthRateIndicator extends CachedIndicator<Double> {
+public class PeriodicalGrowthRateIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
+    private final DoubleIndicator indicator;
     private final int barCount;
 
     /**
@@ -69,7 +70,7 @@ public class PeriodicalGrowthRateIndicator extends CachedIndicator<Double> {
      */
     public PeriodicalGrowthRateIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
+        this.indicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
     }
 
@@ -89,7 +90,7 @@ public class PeriodicalGrowthRateIndicator extends CachedIndicator<Double> {
 
         for (int i = 1; i <= completeTimeFrames; i++) {
             int index = i * barCount;
-            Double currentReturn = getValue(index);
+            Double currentReturn = getDouble(index);
 
             // Skip NaN at the end of a series
             if (!Double.isNaN(currentReturn)) {
@@ -102,9 +103,9 @@ public class PeriodicalGrowthRateIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
 
-        Double currentValue = indicator.getValue(index);
+        Double currentValue = indicator.getDouble(index);
 
         int helpPartialTimeframe = index % barCount;
         // TODO: implement Num.floor()
@@ -121,7 +122,7 @@ public class PeriodicalGrowthRateIndicator extends CachedIndicator<Double> {
         // b.) if at the end of a series incomplete timeframes would remain
         double timeframedReturn = NaN;
         if (index >= barCount /* (a) */ && helpIndexTimeframes < helpFullTimeframes /* (b) */) {
-            double movingValue = indicator.getValue(index - barCount);
+            double movingValue = indicator.getDouble(index - barCount);
             double movingSimpleReturn = (currentValue - movingValue) / movingValue;
 
             timeframedReturn = Math.pow(1 + movingSimpleReturn, 1 / partialTimeframeHeld) - 1;
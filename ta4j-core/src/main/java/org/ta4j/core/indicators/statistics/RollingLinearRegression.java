@@ -0,0 +1,222 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Rolling simple linear regression (least squares) engine.
+ *
+ * Regresses the values of an indicator against their bar index over a sliding
+ * window of bars. Only the sum of the values (Σy) and the sum of the values
+ * weighted by their distance to the end of the window are maintained: both
+ * are updated in O(1) when the window slides by one bar, and the sums over the
+ * x-values (Σx, Σx²) are known in closed form. The sums are re-seeded from a
+ * full scan of the window every <code>barCount</code> steps to bound the
+ * accumulated rounding error.
+ *
+ * Random access, windows reaching bars removed from a moving series and
+ * non-finite values fall back to a full scan of the window. The last bar of the
+ * series is only added provisionally since its value may still change.
+ *
+ * Usage: position the engine with {@link #moveTo(int)}, then read the
+ * regression line of the window ending at that index.
+ */
+public class RollingLinearRegression {
+
+    private final BarSeries series;
+
+    private final DoubleIndicator indicator;
+
+    private final int barCount;
+
+    /** The sums of the window ending at lastIndex */
+    private final Sums committed = new Sums();
+
+    /** The provisional sums of the window ending at the last bar */
+    private final Sums provisional = new Sums();
+
+    /** The sums of the index the engine was moved to */
+    private Sums current = committed;
+
+    /** The index the engine was moved to */
+    private int currentIndex = -1;
+
+    /** The index of the committed sums, -1 if there are none */
+    private int lastIndex = -1;
+
+    /** The number of steps since the last full scan */
+    private int steps;
+
+    /**
+     * Constructor.
+     *
+     * @param indicator the indicator for the y-values
+     * @param barCount  the number of bars of the window
+     */
+    public RollingLinearRegression(DoubleIndicator indicator, int barCount) {
+        if (barCount < 1) {
+            throw new IllegalArgumentException(String.format("Bar count must be positive: %s", barCount));
+        }
+        this.series = indicator.getBarSeries();
+        this.indicator = indicator;
+        this.barCount = barCount;
+    }
+
+    /**
+     * Moves the engine to the window ending at the provided index.
+     *
+     * @param index the bar index
+     * @return this engine
+     */
+    public RollingLinearRegression moveTo(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        currentIndex = index;
+        if (series != null && index >= series.getEndIndex()) {
+            if (index > series.getEndIndex() || index == 0 || !isRetained(index - barCount)) {
+                provisional.scan(startIndex, index);
+            } else {
+                // The committed sums stay on the previous index
+                moveTo(index - 1);
+                currentIndex = index;
+                provisional.copy(committed);
+                provisional.slide(index);
+            }
+            current = provisional;
+            return this;
+        }
+        current = committed;
+        final boolean retained = series == null || startIndex >= series.getRemovedBarsCount();
+        if (retained && lastIndex >= 0 && index == lastIndex) {
+            return this;
+        }
+        // The leaving bar must still be in the series to be removed from the sums
+        if (retained && lastIndex >= 0 && index == lastIndex + 1 && steps < barCount
+                && isRetained(index - barCount)) {
+            committed.slide(index);
+            steps++;
+        } else {
+            committed.scan(startIndex, index);
+            steps = 0;
+        }
+        // Non-finite values cannot be removed from the sums later
+        lastIndex = Double.isFinite(committed.sumY) && Double.isFinite(committed.weightedSumY) ? index : -1;
+        return this;
+    }
+
+    /**
+     * @param index a bar index
+     * @return true if the bar of the index has not been removed from the series
+     *         (or is before the first bar)
+     */
+    private boolean isRetained(int index) {
+        return series == null || index < 0 || index >= series.getRemovedBarsCount();
+    }
+
+    /**
+     * @return the number of observations of the window
+     */
+    public int getCount() {
+        return current.count;
+    }
+
+    /**
+     * @return the slope of the regression line, NaN if there are less than 2
+     *         observations
+     */
+    public double getSlope() {
+        final double n = current.count;
+        if (n < 2) {
+            return Double.NaN;
+        }
+        // With x = i - startIndex: Σx = n(n-1)/2, Σ(x - xBar)² = n(n²-1)/12 and
+        // Σxy = (n-1)Σy - weightedSumY
+        final double sxx = n * (n * n - 1) / 12;
+        final double sxy = (n - 1) * current.sumY / 2 - current.weightedSumY;
+        return sxy / sxx;
+    }
+
+    /**
+     * @return the intercept of the regression line (at bar index 0), NaN if there
+     *         are less than 2 observations
+     */
+    public double getIntercept() {
+        final double n = current.count;
+        final double xBar = currentIndex - (n - 1) / 2;
+        return current.sumY / n - getSlope() * xBar;
+    }
+
+    /**
+     * @return the value of the regression line at the index the engine was moved
+     *         to, NaN if there are less than 2 observations
+     */
+    public double getY() {
+        return getSlope() * currentIndex + getIntercept();
+    }
+
+    /**
+     * Sums of a window.
+     */
+    private final class Sums {
+
+        private int count;
+
+        /** Σy */
+        private double sumY;
+
+        /** Σ(endIndex - i) * y(i) */
+        private double weightedSumY;
+
+        private void scan(int startIndex, int index) {
+            count = index - startIndex + 1;
+            sumY = 0;
+            weightedSumY = 0;
+            for (int i = startIndex; i <= index; i++) {
+                double y = indicator.getDouble(i);
+                sumY += y;
+                weightedSumY += (index - i) * y;
+            }
+        }
+
+        private void slide(int index) {
+            // Every value gets one bar further from the end of the window
+            weightedSumY += sumY;
+            sumY += indicator.getDouble(index);
+            if (index - barCount >= 0) {
+                double leaving = indicator.getDouble(index - barCount);
+                sumY -= leaving;
+                weightedSumY -= barCount * leaving;
+            } else {
+                count++;
+            }
+        }
+
+        private void copy(Sums other) {
+            count = other.count;
+            sumY = other.sumY;
+            weightedSumY = other.weightedSumY;
+        }
+    }
+}
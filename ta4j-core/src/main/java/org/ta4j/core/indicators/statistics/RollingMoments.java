@@ -0,0 +1,276 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+
+/**
+ * Rolling moments engine.
+ *
+ * Maintains the count, the means, the sums of squared deviations (M2) and the
+ * co-moment of one or two indicators over a sliding window of bars, using
+ * Welford's updates: the entering bar is added to and the leaving bar removed
+ * from the moments, so that each sequential step is O(1) and numerically
+ * stable. The moments are re-seeded from a full scan of the window every
+ * <code>barCount</code> steps to bound the accumulated rounding error.
+ *
+ * Random access, windows reaching bars removed from a moving series and
+ * non-finite values fall back to a full scan of the window. The last bar of the
+ * series is only added provisionally since its values may still change.
+ *
+ * Usage: position the engine with {@link #moveTo(int)}, then read the moments
+ * of the window ending at that index.
+ */
+public class RollingMoments {
+
+    private final BarSeries series;
+
+    private final DoubleIndicator x;
+
+    private final DoubleIndicator y;
+
+    private final int barCount;
+
+    /** The moments of the window ending at lastIndex */
+    private final Moments committed = new Moments();
+
+    /** The provisional moments of the window ending at the last bar */
+    private final Moments provisional = new Moments();
+
+    /** The moments of the index the engine was moved to */
+    private Moments current = committed;
+
+    /** The index of the committed moments, -1 if there are none */
+    private int lastIndex = -1;
+
+    /** The number of steps since the last full scan */
+    private int steps;
+
+    /**
+     * Constructor for the moments of a single indicator.
+     *
+     * @param x        the indicator
+     * @param barCount the number of bars of the window
+     */
+    public RollingMoments(DoubleIndicator x, int barCount) {
+        this(x, x, barCount);
+    }
+
+    /**
+     * Constructor for the moments and co-moment of two indicators.
+     *
+     * @param x        the first indicator
+     * @param y        the second indicator
+     * @param barCount the number of bars of the window
+     */
+    public RollingMoments(DoubleIndicator x, DoubleIndicator y, int barCount) {
+        if (barCount < 1) {
+            throw new IllegalArgumentException(String.format("Bar count must be positive: %s", barCount));
+        }
+        this.series = x.getBarSeries();
+        this.x = x;
+        this.y = y;
+        this.barCount = barCount;
+    }
+
+    /**
+     * Moves the engine to the window ending at the provided index.
+     *
+     * @param index the bar index
+     * @return this engine
+     */
+    public RollingMoments moveTo(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        if (series != null && index >= series.getEndIndex()) {
+            if (index > series.getEndIndex() || index == 0 || !isRetained(index - barCount)) {
+                provisional.scan(startIndex, index);
+            } else {
+                // The committed moments stay on the previous index
+                moveTo(index - 1);
+                provisional.copy(committed);
+                provisional.slide(index);
+            }
+            current = provisional;
+            return this;
+        }
+        current = committed;
+        final boolean retained = series == null || startIndex >= series.getRemovedBarsCount();
+        if (retained && lastIndex >= 0 && index == lastIndex) {
+            return this;
+        }
+        // The leaving bar must still be in the series to be removed from the moments
+        if (retained && lastIndex >= 0 && index == lastIndex + 1 && steps < barCount
+                && isRetained(index - barCount)) {
+            committed.slide(index);
+            steps++;
+        } else {
+            committed.scan(startIndex, index);
+            steps = 0;
+        }
+        // Non-finite values cannot be removed from the moments later
+        lastIndex = committed.isFinite() ? index : -1;
+        return this;
+    }
+
+    /**
+     * @param index a bar index
+     * @return true if the bar of the index has not been removed from the series
+     *         (or is before the first bar)
+     */
+    private boolean isRetained(int index) {
+        return series == null || index < 0 || index >= series.getRemovedBarsCount();
+    }
+
+    /**
+     * @return the number of observations of the window
+     */
+    public int getCount() {
+        return current.count;
+    }
+
+    /**
+     * @return the mean of the first indicator
+     */
+    public double getMeanX() {
+        return current.meanX;
+    }
+
+    /**
+     * @return the mean of the second indicator
+     */
+    public double getMeanY() {
+        return current.meanY;
+    }
+
+    /**
+     * @return the sum of squared deviations from the mean of the first indicator
+     */
+    public double getM2X() {
+        return current.m2x;
+    }
+
+    /**
+     * @return the sum of squared deviations from the mean of the second indicator
+     */
+    public double getM2Y() {
+        return current.m2y;
+    }
+
+    /**
+     * @return the sum of the products of the deviations of both indicators
+     */
+    public double getCoMoment() {
+        return current.cxy;
+    }
+
+    /**
+     * @return the (population) variance of the first indicator
+     */
+    public double getVarianceX() {
+        return current.m2x / current.count;
+    }
+
+    /**
+     * @return the (population) variance of the second indicator
+     */
+    public double getVarianceY() {
+        return current.m2y / current.count;
+    }
+
+    /**
+     * @return the (population) covariance of both indicators
+     */
+    public double getCovariance() {
+        return current.cxy / current.count;
+    }
+
+    /**
+     * Moments of a window.
+     */
+    private final class Moments {
+
+        private int count;
+        private double meanX;
+        private double meanY;
+        private double m2x;
+        private double m2y;
+        private double cxy;
+
+        private void scan(int startIndex, int index) {
+            count = 0;
+            meanX = 0;
+            meanY = 0;
+            m2x = 0;
+            m2y = 0;
+            cxy = 0;
+            for (int i = startIndex; i <= index; i++) {
+                add(x.getDouble(i), y.getDouble(i));
+            }
+        }
+
+        private void slide(int index) {
+            add(x.getDouble(index), y.getDouble(index));
+            if (index - barCount >= 0) {
+                remove(x.getDouble(index - barCount), y.getDouble(index - barCount));
+            }
+        }
+
+        private void add(double xValue, double yValue) {
+            count++;
+            final double dx = xValue - meanX;
+            final double dy = yValue - meanY;
+            meanX += dx / count;
+            meanY += dy / count;
+            m2x += dx * (xValue - meanX);
+            m2y += dy * (yValue - meanY);
+            cxy += dx * (yValue - meanY);
+        }
+
+        private void remove(double xValue, double yValue) {
+            count--;
+            final double dx = xValue - meanX;
+            final double dy = yValue - meanY;
+            meanX -= dx / count;
+            meanY -= dy / count;
+            m2x = Math.max(0, m2x - dx * (xValue - meanX));
+            m2y = Math.max(0, m2y - dy * (yValue - meanY));
+            cxy -= dx * (yValue - meanY);
+        }
+
+        private void copy(Moments other) {
+            count = other.count;
+            meanX = other.meanX;
+            meanY = other.meanY;
+            m2x = other.m2x;
+            m2y = other.m2y;
+            cxy = other.cxy;
+        }
+
+        private boolean isFinite() {
+            return Double.isFinite(meanX) && Double.isFinite(meanY) && Double.isFinite(m2x) && Double.isFinite(m2y)
+                    && Double.isFinite(cxy);
+        }
+    }
+}
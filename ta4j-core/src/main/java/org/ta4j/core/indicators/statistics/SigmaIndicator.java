@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 
 
@@ -33,9 +34,9 @@ import org.ta4j.core.indicators.SMAIndicator;
  *
  * see http://www.statisticshowto.com/probability-and-statistics/z-score/
  */
-public class SigmaIndicator extends CachedIndicator<Double> {
+public class SigmaIndicator extends CachedDoubleIndicator {
 
-    private Indicator<Double> ref;
+    private DoubleIndicator ref;
     private int barCount;
 
     private SMAIndicator mean;
@@ -49,16 +50,16 @@ public class SigmaIndicator extends CachedIndicator<Double> {
      */
     public SigmaIndicator(Indicator<Double> ref, int barCount) {
         super(ref);
-        this.ref = ref;
+        this.ref = DoubleIndicator.of(ref);
         this.barCount = barCount;
         mean = new SMAIndicator(ref, barCount);
         sd = new StandardDeviationIndicator(ref, barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         // z-score = (ref - mean) / sd
-        return (ref.getValue(index) - (mean.getValue(index))) / (sd.getValue(index));
+        return (ref.getDouble(index) - (mean.getDouble(index))) / (sd.getDouble(index));
     }
 
     @Override
@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 import static java.lang.Double.NaN;
 
@@ -34,8 +35,11 @@ import static java.lang.Double.NaN;
  * A moving (i.e. over the time frame) simple linear regression (least squares).
  * y = slope * x + intercept See also:
  * http://introcs.cs.princeton.edu/java/97data/LinearRegression.java.html
+ *
+ * The regression line is maintained by a {@link RollingLinearRegression}, each
+ * sequential bar costs O(1) whatever the time frame.
  */
-public class SimpleLinearRegressionIndicator extends CachedIndicator<Double> {
+public class SimpleLinearRegressionIndicator extends CachedDoubleIndicator {
 
     /**
      * The type for the outcome of the {@link SimpleLinearRegressionIndicator}
@@ -44,11 +48,9 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Double> {
         Y, SLOPE, INTERCEPT
     }
 
-    private final Indicator<Double> indicator;
     private final int barCount;
-    private double slope;
-    private double intercept;
     private final SimpleLinearRegressionType type;
+    private final RollingLinearRegression regression;
 
     /**
      * Constructor for the y-values of the formula (y = slope * x + intercept).
@@ -69,60 +71,27 @@ public class SimpleLinearRegressionIndicator extends CachedIndicator<Double> {
      */
     public SimpleLinearRegressionIndicator(Indicator<Double> indicator, int barCount, SimpleLinearRegressionType type) {
         super(indicator);
-        this.indicator = indicator;
         this.barCount = barCount;
         this.type = type;
+        // Less than 2 observations per window never give a regression line
+        this.regression = barCount < 2 ? null : new RollingLinearRegression(DoubleIndicator.of(indicator), barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        if (index - startIndex + 1 < 2) {
+    protected double calculate(int index) {
+        if (regression == null || regression.moveTo(index).getCount() < 2) {
             // Not enough observations to compute a regression line
             return NaN;
         }
-        calculateRegressionLine(startIndex, index);
 
         if (type == SimpleLinearRegressionType.SLOPE) {
-            return slope;
+            return regression.getSlope();
         }
 
         if (type == SimpleLinearRegressionType.INTERCEPT) {
-            return intercept;
-        }
-
-        return slope * index + intercept;
-    }
-
-    /**
-     * Calculates the regression line.
-     *
-     * @param startIndex the start index (inclusive) in the bar series
-     * @param endIndex   the end index (inclusive) in the bar series
-     */
-    private void calculateRegressionLine(int startIndex, int endIndex) {
-        // First pass: compute xBar and yBar
-        double sumX = 0;
-        double sumY = 0;
-        for (int i = startIndex; i <= endIndex; i++) {
-            sumX = sumX + i;
-            sumY = sumY + indicator.getValue(i);
-        }
-        double nbObservations = endIndex - startIndex + 1;
-        double xBar = sumX / nbObservations;
-        double yBar = sumY / nbObservations;
-
-        // Second pass: compute slope and intercept
-        double xxBar = 0;
-        double xyBar = 0;
-        for (int i = startIndex; i <= endIndex; i++) {
-            double dX = i - xBar;
-            double dY = indicator.getValue(i) - yBar;
-            xxBar = xxBar + dX * dX;
-            xyBar = xyBar + dX * dY;
+            return regression.getIntercept();
         }
 
-        slope = xyBar / xxBar;
-        intercept = yBar - slope * xBar;
+        return regression.getY();
     }
 }
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 /**
  * Standard deviation indicator.
@@ -33,7 +33,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:standard_deviation_volatility">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:standard_deviation_volatility</a>
  */
-public class StandardDeviationIndicator extends CachedIndicator<Double> {
+public class StandardDeviationIndicator extends CachedDoubleIndicator {
 
     private final VarianceIndicator variance;
 
@@ -49,7 +49,7 @@ public class StandardDeviationIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return Math.sqrt(variance.getValue(index));
+    protected double calculate(int index) {
+        return Math.sqrt(variance.getDouble(index));
     }
 }
@@ -24,13 +24,13 @@
 package org.ta4j.core.indicators.statistics;
 
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * Standard error indicator.
  */
-public class StandardErrorIndicator extends CachedIndicator<Double> {
+public class StandardErrorIndicator extends CachedDoubleIndicator {
 
     private int barCount;
 
@@ -49,9 +49,9 @@ public class StandardErrorIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         final int startIndex = Math.max(0, index - barCount + 1);
         final int numberOfObservations = index - startIndex + 1;
-        return sdev.getValue(index) / Math.sqrt(numberOfObservations);
+        return sdev.getDouble(index) / Math.sqrt(numberOfObservations);
     }
 }
@@ -23,19 +23,18 @@
  */
 package org.ta4j.core.indicators.statistics;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
-import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
  * Variance indicator.
  */
-public class VarianceIndicator extends CachedIndicator<Double> {
+public class VarianceIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> indicator;
     private final int barCount;
-    private final SMAIndicator sma;
+    private final RollingMoments moments;
 
     /**
      * Constructor.
@@ -45,23 +44,13 @@ public class VarianceIndicator extends CachedIndicator<Double> {
      */
     public VarianceIndicator(Indicator<Double> indicator, int barCount) {
         super(indicator);
-        this.indicator = indicator;
         this.barCount = barCount;
-        this.sma = new SMAIndicator(indicator, barCount);
+        this.moments = new RollingMoments(DoubleIndicator.of(indicator), barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
-        final int startIndex = Math.max(0, index - barCount + 1);
-        final int numberOfObservations = index - startIndex + 1;
-        double variance = 0;
-        double average = sma.getValue(index);
-        for (int i = startIndex; i <= index; i++) {
-            double pow = Math.pow(indicator.getValue(i) - average, 2);
-            variance = variance + pow;
-        }
-        variance = variance / numberOfObservations;
-        return variance;
+    protected double calculate(int index) {
+        return moments.moveTo(index).getVarianceX();
     }
 
     @Override
@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Base class for {@link StreamingIndicator streaming indicators}.
+ *
+ * Subclasses derive the provisional value of the newest bar from their
+ * committed state in {@link #compute(Bar)}, remembering what they need to
+ * commit it in {@link #commit()} once the next bar starts.
+ */
+public abstract class AbstractStreamingIndicator implements StreamingIndicator {
+
+    private boolean started;
+
+    private double value = Double.NaN;
+
+    @Override
+    public double onBar(Bar bar) {
+        next();
+        return update(compute(bar));
+    }
+
+    @Override
+    public double onBarUpdate(Bar bar) {
+        if (!started) {
+            return onBar(bar);
+        }
+        return update(compute(bar));
+    }
+
+    @Override
+    public double getValue() {
+        return value;
+    }
+
+    @Override
+    public void reset() {
+        started = false;
+        value = Double.NaN;
+        clear();
+    }
+
+    /**
+     * @return true if a bar (or value) has been seen since the last reset
+     */
+    protected boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Commits the current bar (if any) before a new one starts.
+     */
+    protected final void next() {
+        if (started) {
+            commit();
+        }
+        started = true;
+    }
+
+    /**
+     * @param value the provisional value of the newest bar
+     * @return the value
+     */
+    protected final double update(double value) {
+        this.value = value;
+        return value;
+    }
+
+    /**
+     * Computes the provisional value of the newest bar from the committed state.
+     * This method may be called several times for the same bar and must not
+     * modify the committed state.
+     *
+     * @param bar the newest bar
+     * @return the provisional value
+     */
+    protected abstract double compute(Bar bar);
+
+    /**
+     * Folds the last computed bar into the committed state.
+     */
+    protected abstract void commit();
+
+    /**
+     * Clears the committed state.
+     */
+    protected abstract void clear();
+}
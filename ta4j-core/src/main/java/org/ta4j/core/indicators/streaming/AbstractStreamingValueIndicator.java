@@ -0,0 +1,89 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Base class for streaming indicators of a single value per bar (close price by
+ * default).
+ *
+ * The values can also be pushed directly through {@link #onValue(double)} and
+ * {@link #onValueUpdate(double)}, e.g. to stream an indicator of another
+ * streaming indicator.
+ */
+public abstract class AbstractStreamingValueIndicator extends AbstractStreamingIndicator {
+
+    private final ToDoubleFunction<Bar> input;
+
+    /**
+     * Constructor.
+     *
+     * @param input the value of a bar
+     */
+    protected AbstractStreamingValueIndicator(ToDoubleFunction<Bar> input) {
+        this.input = input;
+    }
+
+    /**
+     * Commits the current value (if any) and starts a new one.
+     *
+     * @param value the new value
+     * @return the provisional value of the indicator
+     */
+    public double onValue(double value) {
+        next();
+        return update(compute(value));
+    }
+
+    /**
+     * Replaces the newest value. Starts a new one if no value has been seen yet.
+     *
+     * @param value the current newest value
+     * @return the provisional value of the indicator
+     */
+    public double onValueUpdate(double value) {
+        if (!isStarted()) {
+            return onValue(value);
+        }
+        return update(compute(value));
+    }
+
+    @Override
+    protected double compute(Bar bar) {
+        return compute(input.applyAsDouble(bar));
+    }
+
+    /**
+     * Computes the provisional value of the indicator from the committed state.
+     * This method may be called several times for the same bar and must not
+     * modify the committed state.
+     *
+     * @param value the newest value
+     * @return the provisional value
+     */
+    protected abstract double compute(double value);
+}
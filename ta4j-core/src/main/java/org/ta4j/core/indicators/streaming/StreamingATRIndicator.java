@@ -0,0 +1,97 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Streaming average true range.
+ *
+ * Streaming counterpart of {@link org.ta4j.core.indicators.ATRIndicator}: the
+ * true range of the newest bar only needs the committed previous close, and is
+ * averaged by a modified moving average.
+ */
+public class StreamingATRIndicator extends AbstractStreamingIndicator {
+
+    private final StreamingMMAIndicator average;
+
+    private boolean hasPrevious;
+
+    private double previousClose;
+
+    private double pendingClose;
+
+    private double trueRange = Double.NaN;
+
+    /**
+     * Constructor.
+     *
+     * @param barCount the time frame
+     */
+    public StreamingATRIndicator(int barCount) {
+        this.average = new StreamingMMAIndicator(barCount);
+    }
+
+    @Override
+    protected double compute(Bar bar) {
+        double high = bar.getHighPrice();
+        double low = bar.getLowPrice();
+        double ts = Math.abs(high - low);
+        double ys = hasPrevious ? Math.abs(high - previousClose) : 0;
+        double yst = hasPrevious ? Math.abs(previousClose - low) : 0;
+        trueRange = Math.max(Math.max(ts, ys), yst);
+        pendingClose = bar.getClosePrice();
+        return average.compute(trueRange);
+    }
+
+    @Override
+    protected void commit() {
+        average.commit();
+        previousClose = pendingClose;
+        hasPrevious = true;
+    }
+
+    @Override
+    protected void clear() {
+        average.reset();
+        hasPrevious = false;
+        trueRange = Double.NaN;
+    }
+
+    /**
+     * @return the true range of the newest bar, NaN if no bar has been seen yet
+     */
+    public double getTrueRange() {
+        return trueRange;
+    }
+
+    public int getBarCount() {
+        return average.getBarCount();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + getBarCount();
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Streaming Bollinger Bands.
+ *
+ * Streaming counterpart of the
+ * {@link org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator
+ * middle}, {@link org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator
+ * upper} and {@link org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator
+ * lower} bands over an SMA and a (population) standard deviation of the same
+ * time frame. The value is the middle band.
+ *
+ * The window mean and sum of squared deviations are updated in O(1) per bar
+ * (Welford updates) and recomputed from the window every <code>barCount</code>
+ * bars to discard the rounding drift.
+ */
+public class StreamingBollingerBandsIndicator extends AbstractStreamingValueIndicator {
+
+    private final int barCount;
+
+    private final double k;
+
+    private final ValueWindow window;
+
+    private double mean;
+
+    private double m2;
+
+    private int commitCount;
+
+    private double pendingValue;
+
+    private double pendingMean;
+
+    private double pendingM2;
+
+    private double deviation = Double.NaN;
+
+    /**
+     * Constructor of Bollinger Bands of the close price.
+     *
+     * @param barCount the time frame
+     * @param k        the number of standard deviations between the middle band
+     *                 and the upper/lower bands (normally 2)
+     */
+    public StreamingBollingerBandsIndicator(int barCount, double k) {
+        this(Bar::getClosePrice, barCount, k);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param input    the value of a bar
+     * @param barCount the time frame
+     * @param k        the number of standard deviations between the middle band
+     *                 and the upper/lower bands (normally 2)
+     */
+    public StreamingBollingerBandsIndicator(ToDoubleFunction<Bar> input, int barCount, double k) {
+        super(input);
+        this.barCount = barCount;
+        this.k = k;
+        this.window = new ValueWindow(barCount);
+    }
+
+    @Override
+    protected double compute(double value) {
+        pendingValue = value;
+        int count = window.getCount();
+        double newMean = mean;
+        double newM2 = m2;
+        if (window.isFull()) {
+            // Removes the leaving value
+            double leaving = window.oldest();
+            count--;
+            if (count == 0) {
+                newMean = 0;
+                newM2 = 0;
+            } else {
+                double delta = leaving - newMean;
+                newMean -= delta / count;
+                newM2 -= delta * (leaving - newMean);
+            }
+        }
+        count++;
+        double delta = value - newMean;
+        newMean += delta / count;
+        newM2 += delta * (value - newMean);
+        pendingMean = newMean;
+        pendingM2 = Math.max(newM2, 0);
+        deviation = Math.sqrt(pendingM2 / count);
+        return pendingMean;
+    }
+
+    @Override
+    protected void commit() {
+        window.push(pendingValue);
+        if (++commitCount % barCount == 0) {
+            int count = window.getCount();
+            double sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += window.get(i);
+            }
+            mean = sum / count;
+            m2 = 0;
+            for (int i = 0; i < count; i++) {
+                double delta = window.get(i) - mean;
+                m2 += delta * delta;
+            }
+        } else {
+            mean = pendingMean;
+            m2 = pendingM2;
+        }
+    }
+
+    @Override
+    protected void clear() {
+        window.clear();
+        mean = 0;
+        m2 = 0;
+        commitCount = 0;
+        deviation = Double.NaN;
+    }
+
+    /**
+     * @return the middle band (SMA) for the newest bar
+     */
+    public double getMiddle() {
+        return getValue();
+    }
+
+    /**
+     * @return the upper band for the newest bar
+     */
+    public double getUpper() {
+        return getValue() + deviation * k;
+    }
+
+    /**
+     * @return the lower band for the newest bar
+     */
+    public double getLower() {
+        return getValue() - deviation * k;
+    }
+
+    /**
+     * @return the standard deviation for the newest bar
+     */
+    public double getDeviation() {
+        return deviation;
+    }
+
+    public int getBarCount() {
+        return barCount;
+    }
+
+    public double getK() {
+        return k;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount + " k: " + k;
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Streaming exponential moving average (EMA).
+ *
+ * Streaming counterpart of {@link org.ta4j.core.indicators.EMAIndicator}: the
+ * first value is the first input, then each value is derived from the previous
+ * committed one in O(1).
+ */
+public class StreamingEMAIndicator extends AbstractStreamingValueIndicator {
+
+    private final int barCount;
+
+    private final double multiplier;
+
+    private boolean hasPrevious;
+
+    private double previous;
+
+    private double pending;
+
+    /**
+     * Constructor of an EMA of the close price.
+     *
+     * @param barCount the EMA time frame
+     */
+    public StreamingEMAIndicator(int barCount) {
+        this(Bar::getClosePrice, barCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param input    the value of a bar
+     * @param barCount the EMA time frame
+     */
+    public StreamingEMAIndicator(ToDoubleFunction<Bar> input, int barCount) {
+        this(input, barCount, 2.0 / (barCount + 1));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param input      the value of a bar
+     * @param barCount   the time frame
+     * @param multiplier the smoothing factor
+     */
+    protected StreamingEMAIndicator(ToDoubleFunction<Bar> input, int barCount, double multiplier) {
+        super(input);
+        this.barCount = barCount;
+        this.multiplier = multiplier;
+    }
+
+    @Override
+    protected double compute(double value) {
+        pending = hasPrevious ? (value - previous) * multiplier + previous : value;
+        return pending;
+    }
+
+    @Override
+    protected void commit() {
+        previous = pending;
+        hasPrevious = true;
+    }
+
+    @Override
+    protected void clear() {
+        hasPrevious = false;
+    }
+
+    public int getBarCount() {
+        return barCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
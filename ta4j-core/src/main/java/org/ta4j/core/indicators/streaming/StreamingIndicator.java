@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Push-based indicator for live feeds.
+ *
+ * Instead of being evaluated at random indices, a streaming indicator is fed
+ * the bars of a feed in order: {@link #onBar(Bar)} when a new bar starts and
+ * {@link #onBarUpdate(Bar)} each time the newest bar changes (trade added, bar
+ * replaced, ...). The state of the completed bars is committed once, so that
+ * each call is O(1) whatever the length of the history. The value of the newest
+ * bar is provisional: it is derived from the committed state and recomputed on
+ * each update.
+ *
+ * Streaming indicators are not thread-safe.
+ *
+ * @see StreamingSeriesIndicator
+ */
+public interface StreamingIndicator {
+
+    /**
+     * Commits the current bar (if any) and starts a new one.
+     *
+     * @param bar the new bar
+     * @return the provisional value of the indicator for the new bar
+     */
+    double onBar(Bar bar);
+
+    /**
+     * Recomputes the value of the newest bar after it has been modified or
+     * replaced. Starts a new bar if no bar has been seen yet.
+     *
+     * @param bar the current state of the newest bar
+     * @return the provisional value of the indicator for the newest bar
+     */
+    double onBarUpdate(Bar bar);
+
+    /**
+     * @return the value of the indicator for the newest bar, NaN if no bar has
+     *         been seen yet
+     */
+    double getValue();
+
+    /**
+     * Forgets all the bars seen so far.
+     */
+    void reset();
+}
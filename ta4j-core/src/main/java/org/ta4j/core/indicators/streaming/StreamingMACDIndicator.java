@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Streaming moving average convergence divergence (MACD).
+ *
+ * Streaming counterpart of {@link org.ta4j.core.indicators.MACDIndicator}. The
+ * value is the MACD line (short term EMA - long term EMA); the signal line (EMA
+ * of the MACD line) and the histogram are streamed along.
+ */
+public class StreamingMACDIndicator extends AbstractStreamingValueIndicator {
+
+    private final StreamingEMAIndicator shortTermEma;
+
+    private final StreamingEMAIndicator longTermEma;
+
+    private final StreamingEMAIndicator signalEma;
+
+    private double signal = Double.NaN;
+
+    /**
+     * Constructor of a MACD(12, 26) of the close price with a signal line of 9
+     * bars.
+     */
+    public StreamingMACDIndicator() {
+        this(Bar::getClosePrice, 12, 26, 9);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param input          the value of a bar
+     * @param shortBarCount  the short time frame (normally 12)
+     * @param longBarCount   the long time frame (normally 26)
+     * @param signalBarCount the signal line time frame (normally 9)
+     */
+    public StreamingMACDIndicator(ToDoubleFunction<Bar> input, int shortBarCount, int longBarCount,
+            int signalBarCount) {
+        super(input);
+        if (shortBarCount > longBarCount) {
+            throw new IllegalArgumentException("Long term period count must be greater than short term period count");
+        }
+        this.shortTermEma = new StreamingEMAIndicator(shortBarCount);
+        this.longTermEma = new StreamingEMAIndicator(longBarCount);
+        this.signalEma = new StreamingEMAIndicator(signalBarCount);
+    }
+
+    @Override
+    protected double compute(double value) {
+        double macd = shortTermEma.compute(value) - longTermEma.compute(value);
+        signal = signalEma.compute(macd);
+        return macd;
+    }
+
+    @Override
+    protected void commit() {
+        shortTermEma.commit();
+        longTermEma.commit();
+        signalEma.commit();
+    }
+
+    @Override
+    protected void clear() {
+        shortTermEma.reset();
+        longTermEma.reset();
+        signalEma.reset();
+        signal = Double.NaN;
+    }
+
+    /**
+     * @return the signal line for the newest bar, NaN if no bar has been seen yet
+     */
+    public double getSignal() {
+        return signal;
+    }
+
+    /**
+     * @return the MACD histogram (MACD line - signal line) for the newest bar
+     */
+    public double getHistogram() {
+        return getValue() - signal;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " shortBarCount: " + shortTermEma.getBarCount() + " longBarCount: "
+                + longTermEma.getBarCount() + " signalBarCount: " + signalEma.getBarCount();
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Streaming modified moving average.
+ *
+ * Streaming counterpart of {@link org.ta4j.core.indicators.MMAIndicator}, used
+ * by the streaming RSI and ATR.
+ */
+public class StreamingMMAIndicator extends StreamingEMAIndicator {
+
+    /**
+     * Constructor of an MMA of the close price.
+     *
+     * @param barCount the MMA time frame
+     */
+    public StreamingMMAIndicator(int barCount) {
+        this(Bar::getClosePrice, barCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param input    the value of a bar
+     * @param barCount the MMA time frame
+     */
+    public StreamingMMAIndicator(ToDoubleFunction<Bar> input, int barCount) {
+        super(input, barCount, 1.0 / barCount);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Streaming relative strength index.
+ *
+ * Streaming counterpart of {@link org.ta4j.core.indicators.RSIIndicator}
+ * (original Welles Wilder formula): the average gain and loss are modified
+ * moving averages updated in O(1) per bar.
+ */
+public class StreamingRSIIndicator extends AbstractStreamingValueIndicator {
+
+    private final StreamingMMAIndicator averageGain;
+
+    private final StreamingMMAIndicator averageLoss;
+
+    private boolean hasPrevious;
+
+    private double previous;
+
+    private double pending;
+
+    /**
+     * Constructor of an RSI of the close price.
+     *
+     * @param barCount the time frame
+     */
+    public StreamingRSIIndicator(int barCount) {
+        this(Bar::getClosePrice, barCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param input    the value of a bar
+     * @param barCount the time frame
+     */
+    public StreamingRSIIndicator(ToDoubleFunction<Bar> input, int barCount) {
+        super(input);
+        this.averageGain = new StreamingMMAIndicator(barCount);
+        this.averageLoss = new StreamingMMAIndicator(barCount);
+    }
+
+    @Override
+    protected double compute(double value) {
+        pending = value;
+        double gain = hasPrevious && value > previous ? value - previous : 0;
+        double loss = hasPrevious && value < previous ? previous - value : 0;
+        double gainAverage = averageGain.compute(gain);
+        double lossAverage = averageLoss.compute(loss);
+        if (lossAverage == 0) {
+            return gainAverage == 0 ? 0 : 100;
+        }
+        double relativeStrength = gainAverage / lossAverage;
+        return 100 - (100 / (1 + relativeStrength));
+    }
+
+    @Override
+    protected void commit() {
+        averageGain.commit();
+        averageLoss.commit();
+        previous = pending;
+        hasPrevious = true;
+    }
+
+    @Override
+    protected void clear() {
+        averageGain.reset();
+        averageLoss.reset();
+        hasPrevious = false;
+    }
+
+    public int getBarCount() {
+        return averageGain.getBarCount();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + getBarCount();
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.function.ToDoubleFunction;
+
+import org.ta4j.core.Bar;
+
+/**
+ * Streaming simple moving average (SMA).
+ *
+ * Streaming counterpart of {@link org.ta4j.core.indicators.SMAIndicator}: the
+ * window sum is updated in O(1) per bar and recomputed from the window every
+ * <code>barCount</code> bars to discard the rounding drift.
+ */
+public class StreamingSMAIndicator extends AbstractStreamingValueIndicator {
+
+    private final int barCount;
+
+    private final ValueWindow window;
+
+    private double sum;
+
+    private int commitCount;
+
+    private double pendingValue;
+
+    private double pendingSum;
+
+    /**
+     * Constructor of an SMA of the close price.
+     *
+     * @param barCount the time frame
+     */
+    public StreamingSMAIndicator(int barCount) {
+        this(Bar::getClosePrice, barCount);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param input    the value of a bar
+     * @param barCount the time frame
+     */
+    public StreamingSMAIndicator(ToDoubleFunction<Bar> input, int barCount) {
+        super(input);
+        this.barCount = barCount;
+        this.window = new ValueWindow(barCount);
+    }
+
+    @Override
+    protected double compute(double value) {
+        pendingValue = value;
+        pendingSum = sum + value;
+        int count = window.getCount() + 1;
+        if (window.isFull()) {
+            pendingSum -= window.oldest();
+            count--;
+        }
+        return pendingSum / count;
+    }
+
+    @Override
+    protected void commit() {
+        window.push(pendingValue);
+        if (++commitCount % barCount == 0) {
+            sum = 0;
+            for (int i = 0; i < window.getCount(); i++) {
+                sum += window.get(i);
+            }
+        } else {
+            sum = pendingSum;
+        }
+    }
+
+    @Override
+    protected void clear() {
+        window.clear();
+        sum = 0;
+        commitCount = 0;
+    }
+
+    public int getBarCount() {
+        return barCount;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " barCount: " + barCount;
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import java.util.Arrays;
+
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.indicators.AbstractIndicator;
+
+/**
+ * {@link DoubleIndicator} view of a {@link StreamingIndicator} following a bar
+ * series.
+ *
+ * The bars added to the series are pushed to the streaming indicator when the
+ * indicator is evaluated, so that rules and strategies can use it like any
+ * other indicator. Unlike {@link org.ta4j.core.indicators.CachedIndicator
+ * cached indicators}, the provisional value of the last bar is cached: it is
+ * only recomputed (through {@link StreamingIndicator#onBarUpdate(Bar)}) when
+ * the last bar has changed, e.g. after <code>addBar(bar, true)</code>,
+ * <code>addPrice(price)</code> or <code>addTrade(volume, price)</code>. The
+ * last bar is detected as changed when one of its prices, volume or amount
+ * differs from the ones of the last evaluation.
+ *
+ * The final values of the previous bars are kept (within the maximum bar count
+ * of the series) and returned for indices lower than the end index; as for the
+ * bars themselves, removed indices return the value of the first retained bar.
+ * If bars are removed from the series before they have been pushed, the
+ * streaming indicator is reset and the retained bars are replayed.
+ *
+ * This indicator is not thread-safe.
+ */
+public class StreamingSeriesIndicator extends AbstractIndicator<Double> implements DoubleIndicator {
+
+    private final StreamingIndicator streaming;
+
+    /** The index of the last bar pushed to the streaming indicator */
+    private int lastIndex = -1;
+
+    /** The final values of the bars from <code>firstIndex</code> to <code>lastIndex - 1</code> */
+    private double[] values = new double[16];
+
+    private int firstIndex;
+
+    private int valueCount;
+
+    private double open;
+
+    private double high;
+
+    private double low;
+
+    private double close;
+
+    private double volume;
+
+    private double amount;
+
+    /**
+     * Constructor.
+     *
+     * @param series    the bar series
+     * @param streaming the streaming indicator (exclusively fed by this
+     *                  indicator)
+     */
+    public StreamingSeriesIndicator(BarSeries series, StreamingIndicator streaming) {
+        super(series);
+        this.streaming = streaming;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        synchronize();
+        if (index > lastIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %s is after the end index %s of the series", index, lastIndex));
+        }
+        // Removed bars return the value of the first retained bar
+        int retainedIndex = Math.max(index, Math.max(firstIndex, getBarSeries().getRemovedBarsCount()));
+        if (retainedIndex >= lastIndex) {
+            return streaming.getValue();
+        }
+        return values[retainedIndex - firstIndex];
+    }
+
+    /**
+     * @return the streaming indicator
+     */
+    public StreamingIndicator getStreamingIndicator() {
+        return streaming;
+    }
+
+    /**
+     * Pushes the new bars and the modifications of the last bar to the streaming
+     * indicator.
+     */
+    private void synchronize() {
+        BarSeries series = getBarSeries();
+        int endIndex = series.getEndIndex();
+        int beginIndex = Math.max(series.getBeginIndex(), series.getRemovedBarsCount());
+        if (endIndex < lastIndex || (lastIndex >= 0 && lastIndex < beginIndex)) {
+            // The last pushed bar is not part of the series anymore
+            restart(beginIndex);
+        }
+        if (lastIndex < 0) {
+            if (series.isEmpty()) {
+                return;
+            }
+            streaming.onBar(snapshot(series.getBar(beginIndex)));
+            lastIndex = beginIndex;
+            firstIndex = beginIndex;
+        } else if (changed(series.getBar(lastIndex))) {
+            streaming.onBarUpdate(snapshot(series.getBar(lastIndex)));
+        }
+        while (lastIndex < endIndex) {
+            store(streaming.getValue(), series.getMaximumBarCount());
+            lastIndex++;
+            streaming.onBar(snapshot(series.getBar(lastIndex)));
+        }
+    }
+
+    private void restart(int beginIndex) {
+        streaming.reset();
+        lastIndex = -1;
+        firstIndex = beginIndex;
+        valueCount = 0;
+    }
+
+    /**
+     * @param value           the final value of the bar <code>lastIndex</code>
+     * @param maximumBarCount the maximum bar count of the series
+     */
+    private void store(double value, int maximumBarCount) {
+        if (valueCount == values.length) {
+            if (maximumBarCount <= values.length / 2) {
+                // Drops the values of the bars removed from the series (at most
+                // once every maximumBarCount bars)
+                int removed = valueCount - maximumBarCount + 1;
+                System.arraycopy(values, removed, values, 0, valueCount - removed);
+                valueCount -= removed;
+                firstIndex += removed;
+            } else {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+        }
+        values[valueCount++] = value;
+    }
+
+    private boolean changed(Bar bar) {
+        return Double.compare(open, bar.getOpenPrice()) != 0 || Double.compare(high, bar.getHighPrice()) != 0
+                || Double.compare(low, bar.getLowPrice()) != 0 || Double.compare(close, bar.getClosePrice()) != 0
+                || Double.compare(volume, bar.getVolume()) != 0 || Double.compare(amount, bar.getAmount()) != 0;
+    }
+
+    private Bar snapshot(Bar bar) {
+        open = bar.getOpenPrice();
+        high = bar.getHighPrice();
+        low = bar.getLowPrice();
+        close = bar.getClosePrice();
+        volume = bar.getVolume();
+        amount = bar.getAmount();
+        return bar;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " " + streaming;
+    }
+}
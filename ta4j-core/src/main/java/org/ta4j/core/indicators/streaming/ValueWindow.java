@@ -0,0 +1,99 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+/**
+ * Ring buffer of the last <code>barCount</code> committed values of a streaming
+ * indicator.
+ */
+class ValueWindow {
+
+    private final double[] values;
+
+    /** The next write position, which is also the oldest value once full */
+    private int head;
+
+    private int count;
+
+    /**
+     * Constructor.
+     *
+     * @param barCount the size of the window
+     * @throws IllegalArgumentException if <code>barCount &lt; 1</code>
+     */
+    ValueWindow(int barCount) {
+        if (barCount < 1) {
+            throw new IllegalArgumentException(String.format("Invalid bar count: %s", barCount));
+        }
+        this.values = new double[barCount];
+    }
+
+    /**
+     * @return the number of values in the window
+     */
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * @return true if the window holds <code>barCount</code> values
+     */
+    boolean isFull() {
+        return count == values.length;
+    }
+
+    /**
+     * @return the value leaving the window on the next {@link #push(double)} (only
+     *         meaningful if the window is full)
+     */
+    double oldest() {
+        return values[head];
+    }
+
+    /**
+     * @param value the value entering the window (evicting the oldest one if the
+     *              window is full)
+     */
+    void push(double value) {
+        values[head] = value;
+        head = head + 1 == values.length ? 0 : head + 1;
+        if (count < values.length) {
+            count++;
+        }
+    }
+
+    /**
+     * @param i the position in the window, from 0 to <code>getCount() - 1</code>
+     *          (in no particular order)
+     * @return the value at this position
+     */
+    double get(int i) {
+        return values[i];
+    }
+
+    void clear() {
+        head = 0;
+        count = 0;
+    }
+}
@@ -24,14 +24,14 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.CloseLocationValueIndicator;
 
 
 /**
  * Accumulation-distribution indicator.
  */
-public class AccumulationDistributionIndicator extends RecursiveCachedIndicator<Double> {
+public class AccumulationDistributionIndicator extends RecursiveCachedDoubleIndicator {
 
     private final CloseLocationValueIndicator clvIndicator;
 
@@ -41,17 +41,17 @@ public class AccumulationDistributionIndicator extends RecursiveCachedIndicator<
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == 0) {
             return 0d;
         }
 
         // Calculating the money flow multiplier
-        Double moneyFlowMultiplier = clvIndicator.getValue(index);
+        Double moneyFlowMultiplier = clvIndicator.getDouble(index);
 
         // Calculating the money flow volume
         Double moneyFlowVolume = moneyFlowMultiplier*(getBarSeries().getBar(index).getVolume());
 
-        return moneyFlowVolume+(getValue(index - 1));
+        return moneyFlowVolume+(getDouble(index - 1));
     }
 }
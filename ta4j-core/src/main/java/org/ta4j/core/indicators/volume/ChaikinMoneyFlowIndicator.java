@@ -24,9 +24,10 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.CloseLocationValueIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.utils.RollingSum;
 
 
 /**
@@ -39,37 +40,32 @@ import org.ta4j.core.indicators.helpers.VolumeIndicator;
  *      "http://www.fmlabs.com/reference/default.htm?url=ChaikinMoneyFlow.htm">
  *      http://www.fmlabs.com/reference/default.htm?url=ChaikinMoneyFlow.htm</a>
  */
-public class ChaikinMoneyFlowIndicator extends CachedIndicator<Double> {
+public class ChaikinMoneyFlowIndicator extends CachedDoubleIndicator {
 
     private final CloseLocationValueIndicator clvIndicator;
     private final VolumeIndicator volumeIndicator;
     private final int barCount;
+    private final RollingSum sumOfMoneyFlowVolume;
 
     public ChaikinMoneyFlowIndicator(BarSeries series, int barCount) {
         super(series);
         this.barCount = barCount;
         this.clvIndicator = new CloseLocationValueIndicator(series);
         this.volumeIndicator = new VolumeIndicator(series, barCount);
+        this.sumOfMoneyFlowVolume = new RollingSum(series, this::getMoneyFlowVolume, barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
-        int startIndex = Math.max(0, index - barCount + 1);
-        double sumOfMoneyFlowVolume = 0;
-        for (int i = startIndex; i <= index; i++) {
-            sumOfMoneyFlowVolume = sumOfMoneyFlowVolume+(getMoneyFlowVolume(i));
-        }
-        Double sumOfVolume = volumeIndicator.getValue(index);
-
-        return sumOfMoneyFlowVolume / (sumOfVolume);
+    protected double calculate(int index) {
+        return sumOfMoneyFlowVolume.getSum(index) / volumeIndicator.getDouble(index);
     }
 
     /**
      * @param index the bar index
      * @return the money flow volume for the i-th period/bar
      */
-    private Double getMoneyFlowVolume(int index) {
-        return clvIndicator.getValue(index)*(getBarSeries().getBar(index).getVolume());
+    private double getMoneyFlowVolume(int index) {
+        return clvIndicator.getDouble(index)*(getBarSeries().getBar(index).getVolume());
     }
 
     @Override
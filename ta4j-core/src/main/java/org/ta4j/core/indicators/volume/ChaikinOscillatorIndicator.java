@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.EMAIndicator;
 
 
@@ -35,7 +35,7 @@ import org.ta4j.core.indicators.EMAIndicator;
  *      "http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chaikin_oscillator">
  *      http://stockcharts.com/school/doku.php?id=chart_school:technical_indicators:chaikin_oscillator</a>
  */
-public class ChaikinOscillatorIndicator extends CachedIndicator<Double> {
+public class ChaikinOscillatorIndicator extends CachedDoubleIndicator {
 
     private final EMAIndicator emaShort;
     private final EMAIndicator emaLong;
@@ -63,7 +63,7 @@ public class ChaikinOscillatorIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return emaShort.getValue(index) - (emaLong.getValue(index));
+    protected double calculate(int index) {
+        return emaShort.getDouble(index) - (emaLong.getDouble(index));
     }
 }
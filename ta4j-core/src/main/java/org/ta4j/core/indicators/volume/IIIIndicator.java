@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.indicators.helpers.HighPriceIndicator;
 import org.ta4j.core.indicators.helpers.LowPriceIndicator;
@@ -37,7 +37,7 @@ import org.ta4j.core.indicators.helpers.VolumeIndicator;
  * @see <a href=
  *      "https://www.investopedia.com/terms/i/intradayintensityindex.asp">https://www.investopedia.com/terms/i/intradayintensityindex.asp</a>
  */
-public class IIIIndicator extends CachedIndicator<Double> {
+public class IIIIndicator extends CachedDoubleIndicator {
 
     private final ClosePriceIndicator closePriceIndicator;
     private final HighPriceIndicator highPriceIndicator;
@@ -53,16 +53,16 @@ public class IIIIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == getBarSeries().getBeginIndex()) {
             return 0d;
         }
-        final Double doubledClosePrice = 2 * closePriceIndicator.getValue(index);
-        final Double high = highPriceIndicator.getValue(index);
-        final Double low = lowPriceIndicator.getValue(index);
+        final Double doubledClosePrice = 2 * closePriceIndicator.getDouble(index);
+        final Double high = highPriceIndicator.getDouble(index);
+        final Double low = lowPriceIndicator.getDouble(index);
         final Double highMinusLow = high - low;
         final Double highPlusLow = high + low;
 
-        return (doubledClosePrice - highPlusLow) / (highMinusLow * volumeIndicator.getValue(index));
+        return (doubledClosePrice - highPlusLow) / (highMinusLow * volumeIndicator.getDouble(index));
     }
 }
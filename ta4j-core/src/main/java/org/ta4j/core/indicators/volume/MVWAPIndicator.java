@@ -23,8 +23,9 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.SMAIndicator;
 
 
@@ -35,9 +36,9 @@ import org.ta4j.core.indicators.SMAIndicator;
  *      "http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp">
  *      http://www.investopedia.com/articles/trading/11/trading-with-vwap-mvwap.asp</a>
  */
-public class MVWAPIndicator extends CachedIndicator<Double> {
+public class MVWAPIndicator extends CachedDoubleIndicator {
 
-    private final Indicator<Double> sma;
+    private final DoubleIndicator sma;
 
     /**
      * Constructor.
@@ -51,8 +52,8 @@ public class MVWAPIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
-        return sma.getValue(index);
+    protected double calculate(int index) {
+        return sma.getDouble(index);
     }
 
 }
@@ -25,7 +25,7 @@ package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.Bar;
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 
 
 /**
@@ -40,21 +40,21 @@ import org.ta4j.core.indicators.RecursiveCachedIndicator;
  * @see <a href="http://www.investopedia.com/terms/n/nvi.asp">
  *      http://www.investopedia.com/terms/n/nvi.asp</a>
  */
-public class NVIIndicator extends RecursiveCachedIndicator<Double> {
+public class NVIIndicator extends RecursiveCachedDoubleIndicator {
 
     public NVIIndicator(BarSeries series) {
         super(series);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == 0) {
             return 1000d;
         }
 
         Bar currentBar = getBarSeries().getBar(index);
         Bar previousBar = getBarSeries().getBar(index - 1);
-        Double previousValue = getValue(index - 1);
+        Double previousValue = getDouble(index - 1);
 
         if (currentBar.getVolume() < (previousBar.getVolume())) {
             Double currentPrice = currentBar.getClosePrice();
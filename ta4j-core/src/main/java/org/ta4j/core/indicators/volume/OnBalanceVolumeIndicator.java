@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.RecursiveCachedIndicator;
+import org.ta4j.core.indicators.RecursiveCachedDoubleIndicator;
 
 
 /**
@@ -33,21 +33,21 @@ import org.ta4j.core.indicators.RecursiveCachedIndicator;
  * @see <a href="https://www.investopedia.com/terms/o/onbalancevolume.asp">
  *      https://www.investopedia.com/terms/o/onbalancevolume.asp</a>
  */
-public class OnBalanceVolumeIndicator extends RecursiveCachedIndicator<Double> {
+public class OnBalanceVolumeIndicator extends RecursiveCachedDoubleIndicator {
 
     public OnBalanceVolumeIndicator(BarSeries series) {
         super(series);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index == 0) {
             return 0d;
         }
         final Double prevClose = getBarSeries().getBar(index - 1).getClosePrice();
         final Double currentClose = getBarSeries().getBar(index).getClosePrice();
 
-        final Double obvPrev = getValue(index - 1);
+        final Double obvPrev = getDouble(index - 1);
         if (prevClose> (currentClose)) {
             return obvPrev - (getBarSeries().getBar(index).getVolume());
         } else if (prevClose < currentClose) {
@@ -24,7 +24,7 @@
 package org.ta4j.core.indicators.volume;
 
 import org.ta4j.core.BarSeries;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 
 
 /**
@@ -33,7 +33,7 @@ import org.ta4j.core.indicators.CachedIndicator;
  * The ROCVIndicator calculation compares the current volume with the volume "n"
  * periods ago.
  */
-public class ROCVIndicator extends CachedIndicator<Double> {
+public class ROCVIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
 
@@ -49,7 +49,7 @@ public class ROCVIndicator extends CachedIndicator<Double> {
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         int nIndex = Math.max(index - barCount, 0);
         double nPeriodsAgoValue = getBarSeries().getBar(nIndex).getVolume();
         double currentValue = getBarSeries().getBar(index).getVolume();
@@ -23,11 +23,13 @@
  */
 package org.ta4j.core.indicators.volume;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.BarSeries;
 import org.ta4j.core.Indicator;
-import org.ta4j.core.indicators.CachedIndicator;
+import org.ta4j.core.indicators.CachedDoubleIndicator;
 import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
 import org.ta4j.core.indicators.helpers.VolumeIndicator;
+import org.ta4j.core.utils.RollingSum;
 
 
 /**
@@ -42,11 +44,13 @@ import org.ta4j.core.indicators.helpers.VolumeIndicator;
  * @see <a href="https://en.wikipedia.org/wiki/Volume-weighted_average_price">
  *      https://en.wikipedia.org/wiki/Volume-weighted_average_price</a>
  */
-public class VWAPIndicator extends CachedIndicator<Double> {
+public class VWAPIndicator extends CachedDoubleIndicator {
 
     private final int barCount;
-    private final Indicator<Double> typicalPrice;
-    private final Indicator<Double> volume;
+    private final DoubleIndicator typicalPrice;
+    private final DoubleIndicator volume;
+    private final RollingSum cumulativeTPV;
+    private final RollingSum cumulativeVolume;
 
     /**
      * Constructor.
@@ -59,22 +63,16 @@ public class VWAPIndicator extends CachedIndicator<Double> {
         this.barCount = barCount;
         this.typicalPrice = new TypicalPriceIndicator(series);
         this.volume = new VolumeIndicator(series);
+        this.cumulativeTPV = new RollingSum(series, i -> typicalPrice.getDouble(i) * volume.getDouble(i), barCount);
+        this.cumulativeVolume = new RollingSum(series, volume::getDouble, barCount);
     }
 
     @Override
-    protected Double calculate(int index) {
+    protected double calculate(int index) {
         if (index <= 0) {
-            return typicalPrice.getValue(index);
+            return typicalPrice.getDouble(index);
         }
-        int startIndex = Math.max(0, index - barCount + 1);
-        double cumulativeTPV = 0;
-        double cumulativeVolume = 0;
-        for (int i = startIndex; i <= index; i++) {
-            Double currentVolume = volume.getValue(i);
-            cumulativeTPV = cumulativeTPV+(typicalPrice.getValue(i)*(currentVolume));
-            cumulativeVolume = cumulativeVolume+(currentVolume);
-        }
-        return cumulativeTPV / (cumulativeVolume);
+        return cumulativeTPV.getSum(index) / cumulativeVolume.getSum(index);
     }
 
     @Override
@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+/**
+ * Criterion value of a combination of parameters.
+ */
+public final class OptimizationResult {
+
+    private final int combination;
+
+    private final Parameters parameters;
+
+    private final double criterionValue;
+
+    /**
+     * Constructor.
+     *
+     * @param combination    the index of the combination in its parameter space
+     * @param parameters     the parameters
+     * @param criterionValue the criterion value of the strategy
+     */
+    public OptimizationResult(int combination, Parameters parameters, double criterionValue) {
+        this.combination = combination;
+        this.parameters = parameters;
+        this.criterionValue = criterionValue;
+    }
+
+    /**
+     * @return the index of the combination in its parameter space
+     */
+    public int getCombination() {
+        return combination;
+    }
+
+    /**
+     * @return the parameters
+     */
+    public Parameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the criterion value of the strategy
+     */
+    public double getCriterionValue() {
+        return criterionValue;
+    }
+
+    @Override
+    public String toString() {
+        return "{" + parameters + "}: " + criterionValue;
+    }
+}
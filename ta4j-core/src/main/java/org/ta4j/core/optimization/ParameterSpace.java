@@ -0,0 +1,172 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Grid of strategy parameters.
+ *
+ * Each parameter has a name and a list of values; the combinations are the
+ * cartesian product of the values, the last parameter varying fastest.
+ *
+ * <pre>
+ * ParameterSpace space = new ParameterSpace()
+ *         .addRange("short", 5, 30, 5)
+ *         .addRange("long", 50, 200, 10)
+ *         .add("threshold", 20.0, 30.0);
+ * </pre>
+ */
+public class ParameterSpace {
+
+    private final List<String> names = new ArrayList<>();
+
+    private final List<List<Object>> values = new ArrayList<>();
+
+    /**
+     * Adds a parameter.
+     *
+     * @param name   the name of the parameter
+     * @param values the values of the parameter
+     * @return this space
+     * @throws IllegalArgumentException if the name is already used or if there
+     *                                  is no value
+     */
+    public ParameterSpace add(String name, Object... values) {
+        return add(name, Arrays.asList(values));
+    }
+
+    /**
+     * Adds a parameter.
+     *
+     * @param name   the name of the parameter
+     * @param values the values of the parameter
+     * @return this space
+     * @throws IllegalArgumentException if the name is already used or if there
+     *                                  is no value
+     */
+    public ParameterSpace add(String name, List<?> values) {
+        if (names.contains(name)) {
+            throw new IllegalArgumentException(String.format("Parameter %s already defined", name));
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException(String.format("No value for parameter %s", name));
+        }
+        names.add(name);
+        this.values.add(Collections.unmodifiableList(new ArrayList<>(values)));
+        return this;
+    }
+
+    /**
+     * Adds an integer parameter.
+     *
+     * @param name the name of the parameter
+     * @param from the first value
+     * @param to   the last value (included if reached by the steps)
+     * @param step the difference between two values
+     * @return this space
+     * @throws IllegalArgumentException if the name is already used or if the
+     *                                  range is empty
+     */
+    public ParameterSpace addRange(String name, int from, int to, int step) {
+        if (step <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid step: %s", step));
+        }
+        List<Integer> range = new ArrayList<>();
+        for (long value = from; value <= to; value += step) {
+            range.add((int) value);
+        }
+        return add(name, range);
+    }
+
+    /**
+     * Adds a decimal parameter.
+     *
+     * @param name the name of the parameter
+     * @param from the first value
+     * @param to   the last value (included if reached by the steps, with a
+     *             tolerance of a millionth of a step)
+     * @param step the difference between two values
+     * @return this space
+     * @throws IllegalArgumentException if the name is already used or if the
+     *                                  range is empty
+     */
+    public ParameterSpace addRange(String name, double from, double to, double step) {
+        if (!(step > 0)) {
+            throw new IllegalArgumentException(String.format("Invalid step: %s", step));
+        }
+        List<Double> range = new ArrayList<>();
+        for (int i = 0; from + i * step <= to + step * 1e-6; i++) {
+            range.add(from + i * step);
+        }
+        return add(name, range);
+    }
+
+    /**
+     * @return the names of the parameters
+     */
+    public List<String> getNames() {
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * @return the number of combinations
+     * @throws IllegalStateException if there are more than
+     *                               {@link Integer#MAX_VALUE} combinations
+     */
+    public int size() {
+        long size = 1;
+        for (List<Object> parameterValues : values) {
+            size *= parameterValues.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Too many combinations");
+            }
+        }
+        return (int) size;
+    }
+
+    /**
+     * @param combination the index of a combination, from 0 to
+     *                    <code>size() - 1</code>
+     * @return the parameters of the combination
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public Parameters get(int combination) {
+        if (combination < 0 || combination >= size()) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Combination %s out of range [0, %s[", combination, size()));
+        }
+        Object[] combinationValues = new Object[names.size()];
+        int remainder = combination;
+        for (int i = names.size() - 1; i >= 0; i--) {
+            List<Object> parameterValues = values.get(i);
+            combinationValues[i] = parameterValues.get(remainder % parameterValues.size());
+            remainder /= parameterValues.size();
+        }
+        return new Parameters(names.toArray(new String[0]), combinationValues);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Values of the parameters of a strategy (a combination of a
+ * {@link ParameterSpace}).
+ */
+public final class Parameters {
+
+    private final String[] names;
+
+    private final Object[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param names  the names of the parameters
+     * @param values the values of the parameters, in the same order
+     * @throws IllegalArgumentException if the arrays have different lengths
+     */
+    public Parameters(String[] names, Object[] values) {
+        if (names.length != values.length) {
+            throw new IllegalArgumentException(
+                    String.format("%s names for %s values", names.length, values.length));
+        }
+        this.names = names.clone();
+        this.values = values.clone();
+    }
+
+    /**
+     * @param name the name of a parameter
+     * @return the value of the parameter
+     * @throws IllegalArgumentException if there is no such parameter
+     */
+    public Object get(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return values[i];
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown parameter: %s", name));
+    }
+
+    /**
+     * @param name the name of a numeric parameter
+     * @return the value of the parameter as an int
+     * @throws IllegalArgumentException if there is no such parameter
+     */
+    public int getInt(String name) {
+        return ((Number) get(name)).intValue();
+    }
+
+    /**
+     * @param name the name of a numeric parameter
+     * @return the value of the parameter as a double
+     * @throws IllegalArgumentException if there is no such parameter
+     */
+    public double getDouble(String name) {
+        return ((Number) get(name)).doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Parameters)) {
+            return false;
+        }
+        Parameters other = (Parameters) obj;
+        return Arrays.equals(names, other.names) && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(names) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(names[i]).append('=').append(values[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.Strategy;
+
+/**
+ * Builds the strategy of a combination of parameters.
+ *
+ * The factory should take its indicators from the
+ * {@link BarSeries#getIndicatorRegistry() indicator registry} of the series, so
+ * that the combinations sharing an indicator (e.g. the close price or an SMA of
+ * the same length) share its instance and its cached values.
+ *
+ * <pre>
+ * StrategyFactory factory = (series, parameters) -&gt; {
+ *     IndicatorRegistry registry = series.getIndicatorRegistry();
+ *     SMAIndicator shortSma = registry.sma(registry.closePrice(), parameters.getInt("short"));
+ *     SMAIndicator longSma = registry.sma(registry.closePrice(), parameters.getInt("long"));
+ *     return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+ *             new CrossedDownIndicatorRule(shortSma, longSma));
+ * };
+ * </pre>
+ */
+@FunctionalInterface
+public interface StrategyFactory {
+
+    /**
+     * @param series     the bar series
+     * @param parameters the parameters of the strategy
+     * @return the strategy, or null to skip the combination (e.g. if the short
+     *         length is not lower than the long one)
+     */
+    Strategy create(BarSeries series, Parameters parameters);
+}
@@ -0,0 +1,213 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesManager;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.utils.ParallelTasks;
+
+/**
+ * Parameter-sweep optimizer.
+ *
+ * Runs the strategy of each combination of a {@link ParameterSpace} over the
+ * series of a {@link BarSeriesManager} and keeps the best combinations
+ * according to an {@link AnalysisCriterion}. Only the top results are kept in
+ * memory (the trading records are discarded after their evaluation), so that
+ * large spaces can be swept.
+ *
+ * The combinations can be evaluated in parallel. In this case the series must
+ * be {@link BarSeries#isConcurrent() concurrent} (before building the
+ * indicators), so that the indicators shared between the combinations through
+ * the {@link BarSeries#getIndicatorRegistry() indicator registry} are
+ * evaluated safely.
+ */
+public class StrategyOptimizer {
+
+    private final BarSeriesManager manager;
+
+    private final AnalysisCriterion criterion;
+
+    private final TradeType tradeType;
+
+    /**
+     * Constructor. The positions are opened with a {@link TradeType} BUY trade.
+     *
+     * @param manager   the manager running the strategies
+     * @param criterion the criterion to optimize
+     */
+    public StrategyOptimizer(BarSeriesManager manager, AnalysisCriterion criterion) {
+        this(manager, criterion, TradeType.BUY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param manager   the manager running the strategies
+     * @param criterion the criterion to optimize
+     * @param tradeType the {@link TradeType} used to open the positions
+     */
+    public StrategyOptimizer(BarSeriesManager manager, AnalysisCriterion criterion, TradeType tradeType) {
+        this.manager = manager;
+        this.criterion = criterion;
+        this.tradeType = tradeType;
+    }
+
+    /**
+     * Evaluates all the combinations of the space, one after the other.
+     *
+     * @param factory the factory building the strategy of a combination
+     * @param space   the parameter space
+     * @param topK    the number of results to keep
+     * @return the best results, the best first
+     * @throws IllegalArgumentException if topK is not positive
+     */
+    public List<OptimizationResult> optimize(StrategyFactory factory, ParameterSpace space, int topK) {
+        checkTopK(topK);
+        PriorityQueue<OptimizationResult> best = new PriorityQueue<>(topK + 1, worstFirst());
+        int size = space.size();
+        for (int combination = 0; combination < size; combination++) {
+            offer(best, topK, evaluate(factory, space, combination));
+        }
+        return sortBestFirst(best);
+    }
+
+    /**
+     * Evaluates all the combinations of the space in parallel. The combinations
+     * are split in a few chunks per thread of the executor, each chunk keeping
+     * its own top results.
+     *
+     * @param factory     the factory building the strategy of a combination
+     * @param space       the parameter space
+     * @param topK        the number of results to keep
+     * @param executor    the executor evaluating the combinations
+     * @param parallelism the number of threads of the executor
+     * @return the best results, the best first (the same as the ones of
+     *         {@link #optimize(StrategyFactory, ParameterSpace, int)})
+     * @throws IllegalArgumentException if topK or parallelism is not positive
+     * @throws IllegalStateException    if the series is not concurrent
+     * @throws CompletionException      if an evaluation failed with a checked
+     *                                  exception or the current thread was
+     *                                  interrupted
+     */
+    public List<OptimizationResult> optimize(StrategyFactory factory, ParameterSpace space, int topK,
+            ExecutorService executor, int parallelism) {
+        checkTopK(topK);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid parallelism: %s", parallelism));
+        }
+        if (!manager.getBarSeries().isConcurrent()) {
+            throw new IllegalStateException("The series must be concurrent to be optimized in parallel");
+        }
+        int size = space.size();
+        // A few chunks per thread, to balance the uneven costs of the strategies
+        int chunkCount = (int) Math.min(size, 4L * parallelism);
+        List<Callable<PriorityQueue<OptimizationResult>>> tasks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            final int from = (int) ((long) size * chunk / chunkCount);
+            final int to = (int) ((long) size * (chunk + 1) / chunkCount);
+            tasks.add(() -> {
+                PriorityQueue<OptimizationResult> chunkBest = new PriorityQueue<>(topK + 1, worstFirst());
+                for (int combination = from; combination < to; combination++) {
+                    offer(chunkBest, topK, evaluate(factory, space, combination));
+                }
+                return chunkBest;
+            });
+        }
+        PriorityQueue<OptimizationResult> best = new PriorityQueue<>(topK + 1, worstFirst());
+        for (PriorityQueue<OptimizationResult> chunkBest : ParallelTasks.invokeAll(executor, tasks)) {
+            for (OptimizationResult result : chunkBest) {
+                offer(best, topK, result);
+            }
+        }
+        return sortBestFirst(best);
+    }
+
+    /**
+     * @param factory     the factory building the strategy of a combination
+     * @param space       the parameter space
+     * @param combination the index of the combination
+     * @return the result of the combination, or null if the factory skipped it
+     */
+    private OptimizationResult evaluate(StrategyFactory factory, ParameterSpace space, int combination) {
+        Parameters parameters = space.get(combination);
+        Strategy strategy = factory.create(manager.getBarSeries(), parameters);
+        if (strategy == null) {
+            return null;
+        }
+        double value = criterion.calculate(manager.getBarSeries(), manager.run(strategy, tradeType));
+        return new OptimizationResult(combination, parameters, value);
+    }
+
+    private static void checkTopK(int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid number of results: %s", topK));
+        }
+    }
+
+    private static void offer(PriorityQueue<OptimizationResult> best, int topK, OptimizationResult result) {
+        if (result != null) {
+            best.add(result);
+            if (best.size() > topK) {
+                // Removing the worst result
+                best.poll();
+            }
+        }
+    }
+
+    /**
+     * @return a comparator ordering the worst results first (the combinations
+     *         with the highest indexes first in case of a tie)
+     */
+    private Comparator<OptimizationResult> worstFirst() {
+        return (r1, r2) -> {
+            double v1 = r1.getCriterionValue();
+            double v2 = r2.getCriterionValue();
+            if (criterion.betterThan(v1, v2)) {
+                return 1;
+            }
+            if (criterion.betterThan(v2, v1)) {
+                return -1;
+            }
+            return Integer.compare(r2.getCombination(), r1.getCombination());
+        };
+    }
+
+    private List<OptimizationResult> sortBestFirst(PriorityQueue<OptimizationResult> best) {
+        List<OptimizationResult> results = new ArrayList<>(best);
+        results.sort(Collections.reverseOrder(worstFirst()));
+        return results;
+    }
+}
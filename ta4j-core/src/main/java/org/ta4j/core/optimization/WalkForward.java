@@ -0,0 +1,319 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesManager;
+import org.ta4j.core.BarSeriesView;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Position;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.utils.ParallelTasks;
+
+/**
+ * Walk-forward (rolling-origin) analysis.
+ *
+ * For each {@link WalkForwardFold fold}, the combinations of a
+ * {@link ParameterSpace} are evaluated on the in-sample window, and the best
+ * one is run on the following out-of-sample window. The out-of-sample
+ * positions of the folds are then gathered into a single trading record.
+ *
+ * The windows are index ranges of the series of the manager: the strategies
+ * are built on the whole series, so that their indicators are warmed by the
+ * bars preceding the windows (and computed once for all the folds), and no bar
+ * is copied. A run does not look after the end of its window: a position still
+ * open at the end of a window is closed on its last bar.
+ *
+ * The criterion values are calculated on a {@link BarSeries#getView(int, int)
+ * view} of the window, with the trading record re-indexed to the view, so that
+ * the criteria depending on the bars (e.g. versus buy and hold, maximum
+ * drawdown) only see the bars of the window. The values of the gathered
+ * out-of-sample record are calculated on the view from the first to the last
+ * out-of-sample bar.
+ *
+ * The folds can be evaluated in parallel. In this case the series must be
+ * {@link BarSeries#isConcurrent() concurrent} (before building the
+ * indicators), so that the indicators shared between the folds through the
+ * {@link BarSeries#getIndicatorRegistry() indicator registry} are evaluated
+ * safely.
+ */
+public class WalkForward {
+
+    private final BarSeriesManager manager;
+
+    private final AnalysisCriterion criterion;
+
+    private final TradeType tradeType;
+
+    /**
+     * Constructor. The positions are opened with a {@link TradeType} BUY trade.
+     *
+     * @param manager   the manager of the series (and of the cost models)
+     * @param criterion the criterion to optimize
+     */
+    public WalkForward(BarSeriesManager manager, AnalysisCriterion criterion) {
+        this(manager, criterion, TradeType.BUY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param manager   the manager of the series (and of the cost models)
+     * @param criterion the criterion to optimize
+     * @param tradeType the {@link TradeType} used to open the positions
+     */
+    public WalkForward(BarSeriesManager manager, AnalysisCriterion criterion, TradeType tradeType) {
+        this.manager = manager;
+        this.criterion = criterion;
+        this.tradeType = tradeType;
+    }
+
+    /**
+     * Builds the folds covering the series, the out-of-sample windows following
+     * each other.
+     *
+     * @param series              the bar series
+     * @param inSampleBarCount    the number of bars of the in-sample windows (of
+     *                            the first one if anchored)
+     * @param outOfSampleBarCount the number of bars of the out-of-sample windows
+     *                            (the last one may be shorter)
+     * @param anchored            true to start all the in-sample windows at the
+     *                            beginning of the series, false to roll them
+     * @return the folds
+     * @throws IllegalArgumentException if a bar count is not positive or if the
+     *                                  series is too short for a fold
+     */
+    public static List<WalkForwardFold> folds(BarSeries series, int inSampleBarCount, int outOfSampleBarCount,
+            boolean anchored) {
+        return folds(series.getBeginIndex(), series.getEndIndex(), inSampleBarCount, outOfSampleBarCount, anchored);
+    }
+
+    /**
+     * Builds the folds covering an index range, the out-of-sample windows
+     * following each other.
+     *
+     * @param beginIndex          the first index of the range
+     * @param endIndex            the last index of the range
+     * @param inSampleBarCount    the number of bars of the in-sample windows (of
+     *                            the first one if anchored)
+     * @param outOfSampleBarCount the number of bars of the out-of-sample windows
+     *                            (the last one may be shorter)
+     * @param anchored            true to start all the in-sample windows at the
+     *                            beginning of the range, false to roll them
+     * @return the folds
+     * @throws IllegalArgumentException if a bar count is not positive or if the
+     *                                  range is too short for a fold
+     */
+    public static List<WalkForwardFold> folds(int beginIndex, int endIndex, int inSampleBarCount,
+            int outOfSampleBarCount, boolean anchored) {
+        if (inSampleBarCount <= 0 || outOfSampleBarCount <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid bar counts: %s, %s", inSampleBarCount, outOfSampleBarCount));
+        }
+        List<WalkForwardFold> folds = new ArrayList<>();
+        long inSampleBegin = beginIndex;
+        long outOfSampleBegin = (long) beginIndex + inSampleBarCount;
+        while (outOfSampleBegin <= endIndex) {
+            int outOfSampleEnd = (int) Math.min(outOfSampleBegin + outOfSampleBarCount - 1, endIndex);
+            folds.add(new WalkForwardFold(folds.size(), (int) inSampleBegin, (int) outOfSampleBegin - 1,
+                    (int) outOfSampleBegin, outOfSampleEnd));
+            if (!anchored) {
+                inSampleBegin += outOfSampleBarCount;
+            }
+            outOfSampleBegin += outOfSampleBarCount;
+        }
+        if (folds.isEmpty()) {
+            throw new IllegalArgumentException(String.format("No fold of %s + %s bars in [%s, %s]", inSampleBarCount,
+                    outOfSampleBarCount, beginIndex, endIndex));
+        }
+        return folds;
+    }
+
+    /**
+     * Evaluates the folds one after the other.
+     *
+     * @param factory the factory building the strategy of a combination
+     * @param space   the parameter space
+     * @param folds   the folds
+     * @return the report of the analysis
+     * @throws IllegalArgumentException if the factory skipped all the
+     *                                  combinations
+     */
+    public WalkForwardReport run(StrategyFactory factory, ParameterSpace space, List<WalkForwardFold> folds) {
+        List<WalkForwardResult> results = new ArrayList<>(folds.size());
+        for (WalkForwardFold fold : folds) {
+            results.add(evaluate(factory, space, fold));
+        }
+        return report(results);
+    }
+
+    /**
+     * Evaluates the folds in parallel.
+     *
+     * @param factory  the factory building the strategy of a combination
+     * @param space    the parameter space
+     * @param folds    the folds
+     * @param executor the executor evaluating the folds
+     * @return the report of the analysis (the same as the one of
+     *         {@link #run(StrategyFactory, ParameterSpace, List)})
+     * @throws IllegalArgumentException if the factory skipped all the
+     *                                  combinations
+     * @throws IllegalStateException    if the series is not concurrent
+     * @throws CompletionException      if an evaluation failed with a checked
+     *                                  exception or the current thread was
+     *                                  interrupted
+     */
+    public WalkForwardReport run(StrategyFactory factory, ParameterSpace space, List<WalkForwardFold> folds,
+            ExecutorService executor) {
+        if (!manager.getBarSeries().isConcurrent()) {
+            throw new IllegalStateException("The series must be concurrent to be analyzed in parallel");
+        }
+        List<Callable<WalkForwardResult>> tasks = new ArrayList<>(folds.size());
+        for (WalkForwardFold fold : folds) {
+            tasks.add(() -> evaluate(factory, space, fold));
+        }
+        return report(ParallelTasks.invokeAll(executor, tasks));
+    }
+
+    /**
+     * @param factory the factory building the strategy of a combination
+     * @param space   the parameter space
+     * @param fold    the fold
+     * @return the result of the fold
+     */
+    private WalkForwardResult evaluate(StrategyFactory factory, ParameterSpace space, WalkForwardFold fold) {
+        BarSeries series = manager.getBarSeries();
+        Strategy bestStrategy = null;
+        Parameters bestParameters = null;
+        double bestValue = Double.NaN;
+        int size = space.size();
+        for (int combination = 0; combination < size; combination++) {
+            Parameters parameters = space.get(combination);
+            Strategy strategy = factory.create(series, parameters);
+            if (strategy == null) {
+                continue;
+            }
+            TradingRecord record = run(strategy, fold.getInSampleBegin(), fold.getInSampleEnd());
+            double value = calculate(fold.getInSampleBegin(), fold.getInSampleEnd(), record);
+            if (bestStrategy == null || criterion.betterThan(value, bestValue)) {
+                bestStrategy = strategy;
+                bestParameters = parameters;
+                bestValue = value;
+            }
+        }
+        if (bestStrategy == null) {
+            throw new IllegalArgumentException("No strategy built for the parameter space");
+        }
+        TradingRecord outOfSampleRecord = run(bestStrategy, fold.getOutOfSampleBegin(), fold.getOutOfSampleEnd());
+        return new WalkForwardResult(fold, bestParameters, bestValue,
+                calculate(fold.getOutOfSampleBegin(), fold.getOutOfSampleEnd(), outOfSampleRecord), outOfSampleRecord);
+    }
+
+    /**
+     * Calculates the criterion on a window.
+     *
+     * @param beginIndex the first index of the window
+     * @param endIndex   the last index of the window
+     * @param record     the trading record of the window (indexes of the series
+     *                   of the manager)
+     * @return the criterion value of the record on the view of the window
+     */
+    private double calculate(int beginIndex, int endIndex, TradingRecord record) {
+        BarSeriesView view = manager.getBarSeries().getView(beginIndex, endIndex + 1);
+        // The view starts with the first retained bar of the window
+        int offset = view.getOffset();
+        TradingRecord viewRecord = newTradingRecord();
+        for (Position position : record.getPositions()) {
+            Trade entry = position.getEntry();
+            Trade exit = position.getExit();
+            viewRecord.enter(entry.getIndex() - offset, entry.getPricePerAsset(), entry.getAmount());
+            viewRecord.exit(exit.getIndex() - offset, exit.getPricePerAsset(), exit.getAmount());
+        }
+        return criterion.calculate(view, viewRecord);
+    }
+
+    /**
+     * Runs a strategy over a window, closing the last position on the last bar
+     * of the window if needed.
+     *
+     * @param strategy   the trading strategy
+     * @param beginIndex the first index of the window
+     * @param endIndex   the last index of the window
+     * @return the trading record of the window
+     */
+    private TradingRecord run(Strategy strategy, int beginIndex, int endIndex) {
+        BarSeries series = manager.getBarSeries();
+        TradingRecord record = newTradingRecord();
+        for (int i = beginIndex; i <= endIndex; i++) {
+            if (strategy.shouldOperate(i, record)) {
+                record.operate(i, series.getBar(i).getClosePrice(), 1d);
+            }
+        }
+        if (!record.isClosed()) {
+            record.exit(endIndex, series.getBar(endIndex).getClosePrice(), 1d);
+        }
+        return record;
+    }
+
+    /**
+     * @param results the results of the folds
+     * @return the report gathering the out-of-sample positions of the folds
+     */
+    private WalkForwardReport report(List<WalkForwardResult> results) {
+        TradingRecord outOfSampleRecord = newTradingRecord();
+        for (WalkForwardResult result : results) {
+            for (Position position : result.getOutOfSampleRecord().getPositions()) {
+                Trade entry = position.getEntry();
+                Trade exit = position.getExit();
+                outOfSampleRecord.enter(entry.getIndex(), entry.getPricePerAsset(), entry.getAmount());
+                outOfSampleRecord.exit(exit.getIndex(), exit.getPricePerAsset(), exit.getAmount());
+            }
+        }
+        if (results.isEmpty()) {
+            return new WalkForwardReport(results, outOfSampleRecord,
+                    criterion.calculate(manager.getBarSeries(), outOfSampleRecord));
+        }
+        int beginIndex = Integer.MAX_VALUE;
+        int endIndex = Integer.MIN_VALUE;
+        for (WalkForwardResult result : results) {
+            beginIndex = Math.min(beginIndex, result.getFold().getOutOfSampleBegin());
+            endIndex = Math.max(endIndex, result.getFold().getOutOfSampleEnd());
+        }
+        return new WalkForwardReport(results, outOfSampleRecord, calculate(beginIndex, endIndex, outOfSampleRecord));
+    }
+
+    private TradingRecord newTradingRecord() {
+        return new BaseTradingRecord(tradeType, manager.getTransactionCostModel(), manager.getHoldingCostModel());
+    }
+}
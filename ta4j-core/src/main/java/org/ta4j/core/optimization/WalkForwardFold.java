@@ -0,0 +1,109 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+/**
+ * In-sample and out-of-sample windows of a walk-forward fold.
+ *
+ * The windows are index ranges (bounds included) of the parent series: no bar
+ * is copied and the indicators built on the parent series are warmed by the
+ * bars preceding the windows.
+ */
+public final class WalkForwardFold {
+
+    private final int index;
+
+    private final int inSampleBegin;
+
+    private final int inSampleEnd;
+
+    private final int outOfSampleBegin;
+
+    private final int outOfSampleEnd;
+
+    /**
+     * Constructor.
+     *
+     * @param index            the index of the fold
+     * @param inSampleBegin    the first index of the in-sample window
+     * @param inSampleEnd      the last index of the in-sample window
+     * @param outOfSampleBegin the first index of the out-of-sample window
+     * @param outOfSampleEnd   the last index of the out-of-sample window
+     * @throws IllegalArgumentException if a window is empty or if the
+     *                                  out-of-sample window does not follow the
+     *                                  in-sample one
+     */
+    public WalkForwardFold(int index, int inSampleBegin, int inSampleEnd, int outOfSampleBegin, int outOfSampleEnd) {
+        if (inSampleBegin > inSampleEnd || outOfSampleBegin > outOfSampleEnd || outOfSampleBegin <= inSampleEnd) {
+            throw new IllegalArgumentException(String.format("Invalid fold: in-sample [%s, %s], out-of-sample [%s, %s]",
+                    inSampleBegin, inSampleEnd, outOfSampleBegin, outOfSampleEnd));
+        }
+        this.index = index;
+        this.inSampleBegin = inSampleBegin;
+        this.inSampleEnd = inSampleEnd;
+        this.outOfSampleBegin = outOfSampleBegin;
+        this.outOfSampleEnd = outOfSampleEnd;
+    }
+
+    /**
+     * @return the index of the fold
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the first index of the in-sample window
+     */
+    public int getInSampleBegin() {
+        return inSampleBegin;
+    }
+
+    /**
+     * @return the last index of the in-sample window
+     */
+    public int getInSampleEnd() {
+        return inSampleEnd;
+    }
+
+    /**
+     * @return the first index of the out-of-sample window
+     */
+    public int getOutOfSampleBegin() {
+        return outOfSampleBegin;
+    }
+
+    /**
+     * @return the last index of the out-of-sample window
+     */
+    public int getOutOfSampleEnd() {
+        return outOfSampleEnd;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Fold %s: in-sample [%s, %s], out-of-sample [%s, %s]", index, inSampleBegin, inSampleEnd,
+                outOfSampleBegin, outOfSampleEnd);
+    }
+}
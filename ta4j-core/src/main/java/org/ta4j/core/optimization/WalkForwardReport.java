@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.ta4j.core.TradingRecord;
+
+/**
+ * Per-fold and aggregated results of a walk-forward analysis.
+ */
+public final class WalkForwardReport {
+
+    private final List<WalkForwardResult> results;
+
+    private final TradingRecord outOfSampleRecord;
+
+    private final double outOfSampleValue;
+
+    /**
+     * Constructor.
+     *
+     * @param results           the results of the folds, in the order of the
+     *                          folds
+     * @param outOfSampleRecord the trading record of all the out-of-sample
+     *                          windows
+     * @param outOfSampleValue  the criterion value of the out-of-sample record
+     */
+    public WalkForwardReport(List<WalkForwardResult> results, TradingRecord outOfSampleRecord,
+            double outOfSampleValue) {
+        this.results = Collections.unmodifiableList(results);
+        this.outOfSampleRecord = outOfSampleRecord;
+        this.outOfSampleValue = outOfSampleValue;
+    }
+
+    /**
+     * @return the results of the folds, in the order of the folds
+     */
+    public List<WalkForwardResult> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the trading record of all the out-of-sample windows (their
+     *         positions one after the other)
+     */
+    public TradingRecord getOutOfSampleRecord() {
+        return outOfSampleRecord;
+    }
+
+    /**
+     * @return the criterion value of the out-of-sample record
+     */
+    public double getOutOfSampleValue() {
+        return outOfSampleValue;
+    }
+
+    /**
+     * @return the average of the in-sample criterion values of the folds
+     */
+    public double getAverageInSampleValue() {
+        double sum = 0;
+        for (WalkForwardResult result : results) {
+            sum += result.getInSampleValue();
+        }
+        return sum / results.size();
+    }
+
+    /**
+     * @return the average of the out-of-sample criterion values of the folds
+     */
+    public double getAverageOutOfSampleValue() {
+        double sum = 0;
+        for (WalkForwardResult result : results) {
+            sum += result.getOutOfSampleValue();
+        }
+        return sum / results.size();
+    }
+}
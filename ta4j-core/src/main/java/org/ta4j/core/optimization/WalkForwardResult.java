@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import org.ta4j.core.TradingRecord;
+
+/**
+ * Result of a walk-forward fold: the parameters chosen on the in-sample window
+ * and their performance on the out-of-sample window.
+ */
+public final class WalkForwardResult {
+
+    private final WalkForwardFold fold;
+
+    private final Parameters parameters;
+
+    private final double inSampleValue;
+
+    private final double outOfSampleValue;
+
+    private final TradingRecord outOfSampleRecord;
+
+    /**
+     * Constructor.
+     *
+     * @param fold              the fold
+     * @param parameters        the best parameters of the in-sample window
+     * @param inSampleValue     the in-sample criterion value of the parameters
+     * @param outOfSampleValue  the out-of-sample criterion value of the
+     *                          parameters
+     * @param outOfSampleRecord the trading record of the out-of-sample window
+     */
+    public WalkForwardResult(WalkForwardFold fold, Parameters parameters, double inSampleValue,
+            double outOfSampleValue, TradingRecord outOfSampleRecord) {
+        this.fold = fold;
+        this.parameters = parameters;
+        this.inSampleValue = inSampleValue;
+        this.outOfSampleValue = outOfSampleValue;
+        this.outOfSampleRecord = outOfSampleRecord;
+    }
+
+    /**
+     * @return the fold
+     */
+    public WalkForwardFold getFold() {
+        return fold;
+    }
+
+    /**
+     * @return the best parameters of the in-sample window
+     */
+    public Parameters getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return the in-sample criterion value of the parameters
+     */
+    public double getInSampleValue() {
+        return inSampleValue;
+    }
+
+    /**
+     * @return the out-of-sample criterion value of the parameters
+     */
+    public double getOutOfSampleValue() {
+        return outOfSampleValue;
+    }
+
+    /**
+     * @return the trading record of the out-of-sample window
+     */
+    public TradingRecord getOutOfSampleRecord() {
+        return outOfSampleRecord;
+    }
+
+    @Override
+    public String toString() {
+        return fold + " {" + parameters + "}: in-sample " + inSampleValue + ", out-of-sample " + outOfSampleValue;
+    }
+}
@@ -48,6 +48,11 @@ public class AndRule extends AbstractRule {
         this.rule2 = rule2;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return rule1.usesTradingRecord() || rule2.usesTradingRecord();
+    }
+
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
         final boolean satisfied = rule1.isSatisfied(index, tradingRecord) && rule2.isSatisfied(index, tradingRecord);
@@ -55,6 +60,31 @@ public class AndRule extends AbstractRule {
         return satisfied;
     }
 
+    /**
+     * If the rules do not depend on the trading record, alternately looks for the
+     * next index satisfying each of them until they agree. The subclasses are
+     * evaluated bar by bar.
+     */
+    @Override
+    public int nextSatisfiedIndex(int from, int to, TradingRecord tradingRecord) {
+        if (getClass() != AndRule.class || usesTradingRecord()) {
+            return super.nextSatisfiedIndex(from, to, tradingRecord);
+        }
+        int index = from;
+        while (index <= to) {
+            int next1 = rule1.nextSatisfiedIndex(index, to, tradingRecord);
+            if (next1 < 0) {
+                return -1;
+            }
+            int next2 = rule2.nextSatisfiedIndex(next1, to, tradingRecord);
+            if (next2 < 0 || next2 == next1) {
+                return next2;
+            }
+            index = next2;
+        }
+        return -1;
+    }
+
     public Rule getRule1() {
         return rule1;
     }
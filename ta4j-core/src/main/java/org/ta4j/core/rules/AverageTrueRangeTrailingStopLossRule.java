@@ -0,0 +1,145 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.Position;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.utils.RunningExtremum;
+
+/**
+ * An average-true-range based trailing stop-loss rule.
+ *
+ * For a long position, the stop level of a bar is the reference price minus
+ * <code>atrCoefficient</code> times the ATR; the stop follows the highest of
+ * these levels since the entry (it only moves up). Satisfied when the
+ * reference price falls to the stop. Short positions use the lowest of the
+ * reference prices plus the ATR distance.
+ *
+ * As for the {@link TrailingStopLossRule}, the stop is updated incrementally
+ * while the bars are evaluated in order, and restarted on each new entry.
+ */
+public class AverageTrueRangeTrailingStopLossRule extends AbstractRule {
+
+    /** The reference price indicator */
+    private final DoubleIndicator referencePrice;
+
+    /** The average true range indicator */
+    private final DoubleIndicator atr;
+
+    /** The number of ATRs between the price and the stop */
+    private final double atrCoefficient;
+
+    /** The stop levels since the entry */
+    private final RunningExtremum stop;
+
+    /** The entry of the tracked position */
+    private Trade trackedEntry;
+
+    /** True if the tracked position is long */
+    private boolean trackedBuy;
+
+    /** The current stop loss price activation */
+    private double currentStopLossLimitActivation = Double.NaN;
+
+    /**
+     * Constructor. The reference price is the close price.
+     *
+     * @param series         the bar series
+     * @param atrBarCount    the bar count of the ATR
+     * @param atrCoefficient the number of ATRs between the price and the stop
+     */
+    public AverageTrueRangeTrailingStopLossRule(BarSeries series, int atrBarCount, double atrCoefficient) {
+        this(new ClosePriceIndicator(series), atrBarCount, atrCoefficient);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param referencePrice the reference price indicator (e.g. close price)
+     * @param atrBarCount    the bar count of the ATR
+     * @param atrCoefficient the number of ATRs between the price and the stop
+     */
+    public AverageTrueRangeTrailingStopLossRule(Indicator<Double> referencePrice, int atrBarCount,
+            double atrCoefficient) {
+        this.referencePrice = DoubleIndicator.of(referencePrice);
+        this.atr = new ATRIndicator(referencePrice.getBarSeries(), atrBarCount);
+        this.atrCoefficient = atrCoefficient;
+        this.stop = new RunningExtremum(this::stopLevel, 0, true);
+    }
+
+    /** This rule uses the {@code tradingRecord}. */
+    @Override
+    public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+        boolean satisfied = false;
+        // No trading history or no position opened, no loss
+        if (tradingRecord != null) {
+            Position currentPosition = tradingRecord.getCurrentPosition();
+            if (currentPosition.isOpened()) {
+                Trade entry = currentPosition.getEntry();
+                if (entry != trackedEntry) {
+                    trackedEntry = entry;
+                    trackedBuy = entry.isBuy();
+                    stop.reset(entry.getIndex(), trackedBuy);
+                }
+                currentStopLossLimitActivation = stop.getValue(index);
+                double currentPrice = referencePrice.getDouble(index);
+                satisfied = trackedBuy ? currentPrice <= currentStopLossLimitActivation
+                        : currentPrice >= currentStopLossLimitActivation;
+            }
+        }
+        traceIsSatisfied(index, satisfied);
+        return satisfied;
+    }
+
+    /**
+     * @return the last computed stop loss price activation, null if none
+     */
+    public Double getCurrentStopLossLimitActivation() {
+        return Double.isNaN(currentStopLossLimitActivation) ? null : currentStopLossLimitActivation;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the stop level of the bar for the tracked position
+     */
+    private double stopLevel(int index) {
+        double distance = atrCoefficient * atr.getDouble(index);
+        return trackedBuy ? referencePrice.getDouble(index) - distance : referencePrice.getDouble(index) + distance;
+    }
+
+    @Override
+    protected void traceIsSatisfied(int index, boolean isSatisfied) {
+        if (log.isTraceEnabled()) {
+            log.trace("{}#isSatisfied({}): {}. Current price: {}, Current stop loss activation: {}",
+                    getClass().getSimpleName(), index, isSatisfied, referencePrice.getDouble(index),
+                    currentStopLossLimitActivation);
+        }
+    }
+}
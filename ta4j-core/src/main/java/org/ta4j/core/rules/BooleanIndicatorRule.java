@@ -44,6 +44,11 @@ public class BooleanIndicatorRule extends AbstractRule {
         this.indicator = indicator;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
@@ -51,4 +56,18 @@ public class BooleanIndicatorRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /** Reads the values of the indicator directly (the subclasses bar by bar). */
+    @Override
+    public int nextSatisfiedIndex(int from, int to, TradingRecord tradingRecord) {
+        if (getClass() != BooleanIndicatorRule.class) {
+            return super.nextSatisfiedIndex(from, to, tradingRecord);
+        }
+        for (int i = from; i <= to; i++) {
+            if (indicator.getValue(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
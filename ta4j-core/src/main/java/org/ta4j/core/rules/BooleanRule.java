@@ -54,10 +54,24 @@ public class BooleanRule extends AbstractRule {
         this.satisfied = satisfied;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /** The subclasses are evaluated bar by bar. */
+    @Override
+    public int nextSatisfiedIndex(int from, int to, TradingRecord tradingRecord) {
+        if (getClass() != BooleanRule.class) {
+            return super.nextSatisfiedIndex(from, to, tradingRecord);
+        }
+        return satisfied && from <= to ? from : -1;
+    }
 }
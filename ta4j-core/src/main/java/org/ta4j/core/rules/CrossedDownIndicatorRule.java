@@ -60,6 +60,11 @@ public class CrossedDownIndicatorRule extends AbstractRule {
         this.cross = new CrossIndicator(first, second);
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
@@ -59,6 +59,11 @@ public class CrossedUpIndicatorRule extends AbstractRule {
         this.cross = new CrossIndicator(second, first);
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
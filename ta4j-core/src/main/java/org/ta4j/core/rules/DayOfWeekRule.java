@@ -48,6 +48,11 @@ public class DayOfWeekRule extends AbstractRule {
         this.timeIndicator = timeIndicator;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
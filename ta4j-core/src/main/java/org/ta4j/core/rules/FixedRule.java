@@ -45,6 +45,11 @@ public class FixedRule extends AbstractRule {
         this.indexes = Arrays.copyOf(indexes, indexes.length);
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
@@ -58,4 +63,19 @@ public class FixedRule extends AbstractRule {
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /** Looks for the next index in the indexes (the subclasses bar by bar). */
+    @Override
+    public int nextSatisfiedIndex(int from, int to, TradingRecord tradingRecord) {
+        if (getClass() != FixedRule.class) {
+            return super.nextSatisfiedIndex(from, to, tradingRecord);
+        }
+        int next = -1;
+        for (int idx : indexes) {
+            if (idx >= from && idx <= to && (next < 0 || idx < next)) {
+                next = idx;
+            }
+        }
+        return next;
+    }
 }
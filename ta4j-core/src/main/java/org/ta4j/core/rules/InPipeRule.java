@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.rules;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
@@ -37,11 +38,11 @@ import org.ta4j.core.indicators.helpers.ConstantIndicator;
 public class InPipeRule extends AbstractRule {
 
     /** The upper indicator */
-    private Indicator<Double> upper;
+    private DoubleIndicator upper;
     /** The lower indicator */
-    private Indicator<Double> lower;
+    private DoubleIndicator lower;
     /** The evaluated indicator */
-    private Indicator<Double> ref;
+    private DoubleIndicator ref;
 
     /**
      * Constructor.
@@ -74,16 +75,21 @@ public class InPipeRule extends AbstractRule {
      * @param lower the lower indicator
      */
     public InPipeRule(Indicator<Double> ref, Indicator<Double> upper, Indicator<Double> lower) {
-        this.upper = upper;
-        this.lower = lower;
-        this.ref = ref;
+        this.upper = DoubleIndicator.of(upper);
+        this.lower = DoubleIndicator.of(lower);
+        this.ref = DoubleIndicator.of(ref);
+    }
+
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        final boolean satisfied = ref.getValue(index)<=(upper.getValue(index))
-                && ref.getValue(index) >= (lower.getValue(index));
+        final boolean satisfied = ref.getDouble(index)<=(upper.getDouble(index))
+                && ref.getDouble(index) >= (lower.getDouble(index));
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.rules;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.PreviousValueIndicator;
@@ -42,9 +43,11 @@ import static java.lang.Double.NaN;
 public class InSlopeRule extends AbstractRule {
 
     /** The actual indicator */
-    private Indicator<Double> ref;
+    private DoubleIndicator ref;
     /** The previous n-th value of ref */
     private PreviousValueIndicator prev;
+    /** The difference between ref and prev */
+    private NumericIndicator diff;
     /** The minimum slope between ref and prev */
     private Double minSlope;
     /** The maximum slope between ref and prev */
@@ -89,17 +92,22 @@ public class InSlopeRule extends AbstractRule {
      * @param maxSlope    maximum slope between value of reference and previous
      */
     public InSlopeRule(Indicator<Double> ref, int nthPrevious, double minSlope, double maxSlope) {
-        this.ref = ref;
+        this.ref = DoubleIndicator.of(ref);
         this.prev = new PreviousValueIndicator(ref, nthPrevious);
+        this.diff = NumericIndicator.of(this.ref).minus(prev);
         this.minSlope = minSlope;
         this.maxSlope = maxSlope;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        NumericIndicator diff = NumericIndicator.of(ref).minus(prev);
-        Double val = diff.getValue(index);
+        Double val = diff.getDouble(index);
         boolean minSlopeSatisfied = minSlope.isNaN() || val >= minSlope;
         boolean maxSlopeSatisfied = maxSlope.isNaN() || val <= maxSlope;
         boolean isNaN = minSlope.isNaN() && maxSlope.isNaN();
@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.rules;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 
@@ -36,7 +37,7 @@ import org.ta4j.core.TradingRecord;
 public class IsFallingRule extends AbstractRule {
 
     /** The actual indicator */
-    private final Indicator<Double> ref;
+    private final DoubleIndicator ref;
     /** The barCount */
     private final int barCount;
     /** The minimum required strenght of the falling */
@@ -61,11 +62,16 @@ public class IsFallingRule extends AbstractRule {
      *                    '1', e.g. '1' for strict falling)
      */
     public IsFallingRule(Indicator<Double> ref, int barCount, Double minStrenght) {
-        this.ref = ref;
+        this.ref = DoubleIndicator.of(ref);
         this.barCount = barCount;
         this.minStrenght = minStrenght;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
@@ -75,7 +81,7 @@ public class IsFallingRule extends AbstractRule {
 
         int count = 0;
         for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
-            if (ref.getValue(i) < (ref.getValue(Math.max(0, i - 1)))) {
+            if (ref.getDouble(i) < (ref.getDouble(Math.max(0, i - 1)))) {
                 count += 1;
             }
         }
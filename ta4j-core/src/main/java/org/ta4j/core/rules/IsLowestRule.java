@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.rules;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.LowestValueIndicator;
@@ -39,7 +40,7 @@ public class IsLowestRule extends AbstractRule {
     /**
      * The actual indicator
      */
-    private final Indicator<Double> ref;
+    private final DoubleIndicator ref;
     /**
      * The barCount
      */
@@ -52,16 +53,21 @@ public class IsLowestRule extends AbstractRule {
      * @param barCount the time frame
      */
     public IsLowestRule(Indicator<Double> ref, int barCount) {
-        this.ref = ref;
+        this.ref = DoubleIndicator.of(ref);
         this.barCount = barCount;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
         LowestValueIndicator lowest = new LowestValueIndicator(ref, barCount);
-        Double lowestVal = lowest.getValue(index);
-        Double refVal = ref.getValue(index);
+        Double lowestVal = lowest.getDouble(index);
+        Double refVal = ref.getDouble(index);
 
         final boolean satisfied = !refVal.isNaN() && !lowestVal.isNaN() && refVal.equals(lowestVal);
         traceIsSatisfied(index, satisfied);
@@ -45,6 +45,11 @@ public class NotRule extends AbstractRule {
         this.ruleToNegate = ruleToNegate;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return ruleToNegate.usesTradingRecord();
+    }
+
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
         final boolean satisfied = !ruleToNegate.isSatisfied(index, tradingRecord);
@@ -48,6 +48,11 @@ public class OrRule extends AbstractRule {
         this.rule2 = rule2;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return rule1.usesTradingRecord() || rule2.usesTradingRecord();
+    }
+
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
         final boolean satisfied = rule1.isSatisfied(index, tradingRecord) || rule2.isSatisfied(index, tradingRecord);
@@ -55,6 +60,20 @@ public class OrRule extends AbstractRule {
         return satisfied;
     }
 
+    /**
+     * If the rules do not depend on the trading record, returns the first of
+     * their next satisfied indexes. The subclasses are evaluated bar by bar.
+     */
+    @Override
+    public int nextSatisfiedIndex(int from, int to, TradingRecord tradingRecord) {
+        if (getClass() != OrRule.class || usesTradingRecord()) {
+            return super.nextSatisfiedIndex(from, to, tradingRecord);
+        }
+        int next1 = rule1.nextSatisfiedIndex(from, to, tradingRecord);
+        int next2 = rule2.nextSatisfiedIndex(from, next1 < 0 ? to : next1 - 1, tradingRecord);
+        return next2 >= 0 ? next2 : next1;
+    }
+
     /**
      * @return first trading rule
      */
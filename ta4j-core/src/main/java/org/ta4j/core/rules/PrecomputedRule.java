@@ -0,0 +1,139 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import java.util.BitSet;
+
+import org.ta4j.core.Rule;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * A rule precomputed over a range of bars.
+ *
+ * Satisfied for the indexes of the range whose bit is set (the bit
+ * <code>i</code> standing for the index <code>beginIndex + i</code>). Outside
+ * of the range, the original rule is evaluated.
+ *
+ * @see RuleCompiler
+ */
+public class PrecomputedRule extends AbstractRule {
+
+    private final Rule rule;
+
+    private final BitSet satisfied;
+
+    private final int beginIndex;
+
+    private final int endIndex;
+
+    /**
+     * Constructor.
+     *
+     * @param rule       the original rule (not depending on the trading record)
+     * @param satisfied  the satisfied indexes of the range, relative to its
+     *                   beginning
+     * @param beginIndex the first index of the range
+     * @param endIndex   the last index of the range
+     */
+    public PrecomputedRule(Rule rule, BitSet satisfied, int beginIndex, int endIndex) {
+        this.rule = rule;
+        this.satisfied = satisfied;
+        this.beginIndex = beginIndex;
+        this.endIndex = endIndex;
+    }
+
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
+    /** This rule does not use the {@code tradingRecord}. */
+    @Override
+    public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+        if (index < beginIndex || index > endIndex) {
+            return rule.isSatisfied(index, tradingRecord);
+        }
+        final boolean isSatisfied = satisfied.get(index - beginIndex);
+        traceIsSatisfied(index, isSatisfied);
+        return isSatisfied;
+    }
+
+    /**
+     * Looks for the next satisfied index in the bits of the range, and with the
+     * original rule outside of it. The subclasses are evaluated bar by bar.
+     */
+    @Override
+    public int nextSatisfiedIndex(int from, int to, TradingRecord tradingRecord) {
+        if (getClass() != PrecomputedRule.class) {
+            return super.nextSatisfiedIndex(from, to, tradingRecord);
+        }
+        if (from < beginIndex) {
+            int next = rule.nextSatisfiedIndex(from, Math.min(to, beginIndex - 1), tradingRecord);
+            if (next >= 0) {
+                return next;
+            }
+        }
+        int last = Math.min(to, endIndex);
+        int first = Math.max(from, beginIndex);
+        if (first <= last) {
+            int next = satisfied.nextSetBit(first - beginIndex);
+            if (next >= 0 && next <= last - beginIndex) {
+                return beginIndex + next;
+            }
+        }
+        if (to > endIndex) {
+            return rule.nextSatisfiedIndex(Math.max(from, endIndex + 1), to, tradingRecord);
+        }
+        return -1;
+    }
+
+    /**
+     * @return the original rule
+     */
+    public Rule getRule() {
+        return rule;
+    }
+
+    /**
+     * @return the first index of the range
+     */
+    public int getBeginIndex() {
+        return beginIndex;
+    }
+
+    /**
+     * @return the last index of the range
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+
+    /**
+     * @return a copy of the satisfied indexes of the range, relative to its
+     *         beginning
+     */
+    public BitSet getSatisfied() {
+        return (BitSet) satisfied.clone();
+    }
+}
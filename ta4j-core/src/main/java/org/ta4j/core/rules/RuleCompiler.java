@@ -0,0 +1,253 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import java.util.BitSet;
+
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.TradingRecord;
+
+/**
+ * Precomputes the rules which do not depend on the trading record.
+ *
+ * The {@link Rule#usesTradingRecord() record-independent} parts of a rule are
+ * evaluated over a range of bars in one sweep and stored in a {@link BitSet}
+ * ({@link PrecomputedRule}); their AND/OR/XOR/NOT combinations are computed
+ * with bitwise operations on the words of the bit sets. The rules depending on
+ * the trading record (stops, {@link WaitForRule}, ...) remain evaluated bar by
+ * bar:
+ *
+ * <pre>
+ * // Precomputes the crossing, keeps the stop loss as it is
+ * Rule exit = new CrossedDownIndicatorRule(shortSma, longSma).or(new StopLossRule(closePrice, 3));
+ * Rule compiled = RuleCompiler.compile(exit, series.getBeginIndex(), series.getEndIndex());
+ * </pre>
+ *
+ * The indicators of the precomputed rules are evaluated on all the bars of the
+ * range (e.g. both sides of an {@link AndRule} are evaluated, even where the
+ * first one is not satisfied). The rules are matched on their exact class: the
+ * subclasses of the built-in rules, which may override
+ * {@link Rule#isSatisfied(int, TradingRecord) isSatisfied}, are evaluated bar
+ * by bar. A rule is only considered record-independent if the class declaring
+ * its <code>isSatisfied</code> method also declares
+ * {@link Rule#usesTradingRecord()}: a subclass reading the trading record
+ * without overriding it is left uncompiled.
+ */
+public final class RuleCompiler {
+
+    /**
+     * True if the class declaring the <code>isSatisfied</code> method of a rule
+     * class also declares <code>usesTradingRecord</code>.
+     */
+    private static final ClassValue<Boolean> DECLARES_USES_TRADING_RECORD = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaring = type.getMethod("isSatisfied", int.class, TradingRecord.class)
+                        .getDeclaringClass();
+                declaring.getDeclaredMethod("usesTradingRecord");
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    private RuleCompiler() {
+    }
+
+    /**
+     * Compiles the entry and exit rules of a strategy.
+     *
+     * @param strategy   the strategy
+     * @param beginIndex the first index of the range
+     * @param endIndex   the last index of the range
+     * @return a {@link BaseStrategy} with the compiled rules, the name and the
+     *         unstable period of the strategy
+     * @throws IllegalArgumentException if endIndex &lt; beginIndex
+     */
+    public static Strategy compile(Strategy strategy, int beginIndex, int endIndex) {
+        return new BaseStrategy(strategy.getName(), compile(strategy.getEntryRule(), beginIndex, endIndex),
+                compile(strategy.getExitRule(), beginIndex, endIndex), strategy.getUnstablePeriod());
+    }
+
+    /**
+     * Compiles a rule: its largest record-independent parts are replaced by
+     * {@link PrecomputedRule precomputed rules}.
+     *
+     * @param rule       the rule
+     * @param beginIndex the first index of the range
+     * @param endIndex   the last index of the range
+     * @return the compiled rule, equivalent to the provided one
+     * @throws IllegalArgumentException if endIndex &lt; beginIndex
+     */
+    public static Rule compile(Rule rule, int beginIndex, int endIndex) {
+        checkRange(beginIndex, endIndex);
+        if (isRecordIndependent(rule)) {
+            if (rule.getClass() == PrecomputedRule.class && ((PrecomputedRule) rule).getBeginIndex() == beginIndex
+                    && ((PrecomputedRule) rule).getEndIndex() == endIndex) {
+                return rule;
+            }
+            return new PrecomputedRule(rule, evaluate(rule, beginIndex, endIndex), beginIndex, endIndex);
+        }
+        if (rule.getClass() == AndRule.class) {
+            AndRule and = (AndRule) rule;
+            return new AndRule(compile(and.getRule1(), beginIndex, endIndex),
+                    compile(and.getRule2(), beginIndex, endIndex));
+        }
+        if (rule.getClass() == OrRule.class) {
+            OrRule or = (OrRule) rule;
+            return new OrRule(compile(or.getRule1(), beginIndex, endIndex),
+                    compile(or.getRule2(), beginIndex, endIndex));
+        }
+        if (rule.getClass() == XorRule.class) {
+            XorRule xor = (XorRule) rule;
+            return new XorRule(compile(xor.getRule1(), beginIndex, endIndex),
+                    compile(xor.getRule2(), beginIndex, endIndex));
+        }
+        if (rule.getClass() == NotRule.class) {
+            return new NotRule(compile(((NotRule) rule).getRuleToNegate(), beginIndex, endIndex));
+        }
+        return rule;
+    }
+
+    /**
+     * Evaluates a record-independent rule over a range of bars.
+     *
+     * @param rule       the rule
+     * @param beginIndex the first index of the range
+     * @param endIndex   the last index of the range
+     * @return the satisfied indexes, the bit <code>i</code> standing for the index
+     *         <code>beginIndex + i</code>
+     * @throws IllegalArgumentException if the rule uses the trading record or if
+     *                                  endIndex &lt; beginIndex
+     */
+    public static BitSet evaluate(Rule rule, int beginIndex, int endIndex) {
+        checkRange(beginIndex, endIndex);
+        if (!isRecordIndependent(rule)) {
+            throw new IllegalArgumentException(
+                    String.format("%s uses the trading record", rule.getClass().getSimpleName()));
+        }
+        int length = endIndex - beginIndex + 1;
+        if (rule.getClass() == AndRule.class) {
+            BitSet bits = evaluate(((AndRule) rule).getRule1(), beginIndex, endIndex);
+            bits.and(evaluate(((AndRule) rule).getRule2(), beginIndex, endIndex));
+            return bits;
+        }
+        if (rule.getClass() == OrRule.class) {
+            BitSet bits = evaluate(((OrRule) rule).getRule1(), beginIndex, endIndex);
+            bits.or(evaluate(((OrRule) rule).getRule2(), beginIndex, endIndex));
+            return bits;
+        }
+        if (rule.getClass() == XorRule.class) {
+            BitSet bits = evaluate(((XorRule) rule).getRule1(), beginIndex, endIndex);
+            bits.xor(evaluate(((XorRule) rule).getRule2(), beginIndex, endIndex));
+            return bits;
+        }
+        if (rule.getClass() == NotRule.class) {
+            BitSet bits = evaluate(((NotRule) rule).getRuleToNegate(), beginIndex, endIndex);
+            bits.flip(0, length);
+            return bits;
+        }
+        BitSet bits = new BitSet(length);
+        if (rule.getClass() == BooleanRule.class) {
+            if (rule.isSatisfied(beginIndex)) {
+                bits.set(0, length);
+            }
+        } else if (rule.getClass() == OverIndicatorRule.class) {
+            OverIndicatorRule over = (OverIndicatorRule) rule;
+            compare(over.getSecond(), over.getFirst(), beginIndex, endIndex, bits);
+        } else if (rule.getClass() == UnderIndicatorRule.class) {
+            UnderIndicatorRule under = (UnderIndicatorRule) rule;
+            compare(under.getFirst(), under.getSecond(), beginIndex, endIndex, bits);
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (rule.isSatisfied(beginIndex + i, null)) {
+                    bits.set(i);
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Sets the bits of the indexes where <code>lower &lt; upper</code>.
+     *
+     * @param lower      the indicator expected to be lower
+     * @param upper      the indicator expected to be upper
+     * @param beginIndex the first index of the range
+     * @param endIndex   the last index of the range
+     * @param bits       the bits to set
+     */
+    private static void compare(DoubleIndicator lower, DoubleIndicator upper, int beginIndex, int endIndex,
+            BitSet bits) {
+        int length = endIndex - beginIndex + 1;
+        double[] lowerValues = new double[length];
+        double[] upperValues = new double[length];
+        lower.fill(beginIndex, endIndex, lowerValues);
+        upper.fill(beginIndex, endIndex, upperValues);
+        for (int i = 0; i < length; i++) {
+            if (lowerValues[i] < upperValues[i]) {
+                bits.set(i);
+            }
+        }
+    }
+
+    /**
+     * @param rule a rule
+     * @return true if the rule, and all the rules it combines, do not depend on
+     *         the trading record
+     */
+    private static boolean isRecordIndependent(Rule rule) {
+        if (rule.usesTradingRecord() || !DECLARES_USES_TRADING_RECORD.get(rule.getClass())) {
+            return false;
+        }
+        // The combinations derive usesTradingRecord from their rules
+        if (rule instanceof AndRule) {
+            return isRecordIndependent(((AndRule) rule).getRule1())
+                    && isRecordIndependent(((AndRule) rule).getRule2());
+        }
+        if (rule instanceof OrRule) {
+            return isRecordIndependent(((OrRule) rule).getRule1()) && isRecordIndependent(((OrRule) rule).getRule2());
+        }
+        if (rule instanceof XorRule) {
+            return isRecordIndependent(((XorRule) rule).getRule1())
+                    && isRecordIndependent(((XorRule) rule).getRule2());
+        }
+        if (rule instanceof NotRule) {
+            return isRecordIndependent(((NotRule) rule).getRuleToNegate());
+        }
+        return true;
+    }
+
+    private static void checkRange(int beginIndex, int endIndex) {
+        if (beginIndex > endIndex) {
+            throw new IllegalArgumentException(String.format("Invalid range [%s, %s]", beginIndex, endIndex));
+        }
+    }
+}
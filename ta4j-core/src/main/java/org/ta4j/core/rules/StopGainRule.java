@@ -24,18 +24,20 @@
 package org.ta4j.core.rules;
 
 import org.ta4j.core.Position;
+import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 
-
 /**
  * A stop-gain rule.
  *
  * Satisfied when the close price reaches the gain threshold.
+ *
+ * The threshold is computed once per position, on the first evaluation after
+ * its entry.
  */
 public class StopGainRule extends AbstractRule {
 
-
     /**
      * The close price indicator
      */
@@ -46,6 +48,12 @@ public class StopGainRule extends AbstractRule {
      */
     private final double gainPercentage;
 
+    /** The entry of the tracked position */
+    private Trade trackedEntry;
+
+    /** The gain threshold of the tracked position */
+    private double threshold;
+
     /**
      * Constructor.
      *
@@ -75,30 +83,18 @@ public class StopGainRule extends AbstractRule {
         if (tradingRecord != null) {
             Position currentPosition = tradingRecord.getCurrentPosition();
             if (currentPosition.isOpened()) {
-
-                double entryPrice = currentPosition.getEntry().getNetPrice();
-                double currentPrice = closePrice.getValue(index);
-
-                if (currentPosition.getEntry().isBuy()) {
-                    satisfied = isBuyGainSatisfied(entryPrice, currentPrice);
-                } else {
-                    satisfied = isSellGainSatisfied(entryPrice, currentPrice);
+                Trade entry = currentPosition.getEntry();
+                if (entry != trackedEntry) {
+                    trackedEntry = entry;
+                    double gainRatioThreshold = entry.isBuy() ? (100 + gainPercentage) / 100
+                            : (100 - gainPercentage) / 100;
+                    threshold = entry.getNetPrice() * gainRatioThreshold;
                 }
+                double currentPrice = closePrice.getDouble(index);
+                satisfied = entry.isBuy() ? currentPrice >= threshold : currentPrice <= threshold;
             }
         }
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
-
-    private boolean isBuyGainSatisfied(double entryPrice, double currentPrice) {
-        double lossRatioThreshold = (100 + gainPercentage) / 100;
-        double threshold = entryPrice * lossRatioThreshold;
-        return currentPrice >= (threshold);
-    }
-
-    private boolean isSellGainSatisfied(double entryPrice, double currentPrice) {
-        double lossRatioThreshold = (100 - gainPercentage) / 100;
-        double threshold = entryPrice * lossRatioThreshold;
-        return currentPrice<=(threshold);
-    }
 }
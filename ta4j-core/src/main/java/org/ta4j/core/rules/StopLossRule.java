@@ -24,6 +24,7 @@
 package org.ta4j.core.rules;
 
 import org.ta4j.core.Position;
+import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 
@@ -31,6 +32,9 @@ import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
  * A stop-loss rule.
  *
  * Satisfied when the close price reaches the loss threshold.
+ *
+ * The threshold is computed once per position, on the first evaluation after
+ * its entry.
  */
 public class StopLossRule extends AbstractRule {
 
@@ -42,7 +46,13 @@ public class StopLossRule extends AbstractRule {
     /**
      * The loss percentage
      */
-    private Double lossPercentage;
+    private final double lossPercentage;
+
+    /** The entry of the tracked position */
+    private Trade trackedEntry;
+
+    /** The loss threshold of the tracked position */
+    private double threshold;
 
     /**
      * Constructor.
@@ -63,30 +73,18 @@ public class StopLossRule extends AbstractRule {
         if (tradingRecord != null) {
             Position currentPosition = tradingRecord.getCurrentPosition();
             if (currentPosition.isOpened()) {
-
-                Double entryPrice = currentPosition.getEntry().getNetPrice();
-                Double currentPrice = closePrice.getValue(index);
-
-                if (currentPosition.getEntry().isBuy()) {
-                    satisfied = isBuyStopSatisfied(entryPrice, currentPrice);
-                } else {
-                    satisfied = isSellStopSatisfied(entryPrice, currentPrice);
+                Trade entry = currentPosition.getEntry();
+                if (entry != trackedEntry) {
+                    trackedEntry = entry;
+                    double lossRatioThreshold = entry.isBuy() ? (100 - lossPercentage) / 100
+                            : (100 + lossPercentage) / 100;
+                    threshold = entry.getNetPrice() * lossRatioThreshold;
                 }
+                double currentPrice = closePrice.getDouble(index);
+                satisfied = entry.isBuy() ? currentPrice <= threshold : currentPrice >= threshold;
             }
         }
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
-
-    private boolean isBuyStopSatisfied(Double entryPrice, Double currentPrice) {
-        Double lossRatioThreshold = (100 - lossPercentage) / 100;
-        Double threshold = entryPrice * lossRatioThreshold;
-        return currentPrice <= threshold;
-    }
-
-    private boolean isSellStopSatisfied(Double entryPrice, Double currentPrice) {
-        Double lossRatioThreshold = (100 + lossPercentage) / 100;
-        Double threshold = entryPrice * lossRatioThreshold;
-        return currentPrice >= threshold;
-    }
 }
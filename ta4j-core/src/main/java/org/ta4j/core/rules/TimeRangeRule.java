@@ -46,6 +46,11 @@ public class TimeRangeRule extends AbstractRule {
         this.timeIndicator = beginTimeIndicator;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
+    }
+
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
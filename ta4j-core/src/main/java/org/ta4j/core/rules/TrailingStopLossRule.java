@@ -23,35 +23,53 @@
  */
 package org.ta4j.core.rules;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.Position;
+import org.ta4j.core.Trade;
 import org.ta4j.core.TradingRecord;
-import org.ta4j.core.indicators.helpers.HighestValueIndicator;
-import org.ta4j.core.indicators.helpers.LowestValueIndicator;
-
+import org.ta4j.core.utils.RollingExtremum;
+import org.ta4j.core.utils.RunningExtremum;
 
 /**
  * A trailing stop-loss rule
  *
  * Satisfied when the price reaches the trailing loss threshold.
+ *
+ * The highest (or lowest) price since the entry of the current position is
+ * updated incrementally while the bars are evaluated in order, and restarted
+ * on each new entry. Evaluating a previous bar falls back to a scan.
  */
 public class TrailingStopLossRule extends AbstractRule {
 
     /**
      * The price indicator
      */
-    private final Indicator<Double> priceIndicator;
+    private final DoubleIndicator priceIndicator;
 
     /** The barCount */
     private final int barCount;
 
     /** the loss-distance as percentage */
-    private final Double lossPercentage;
+    private final double lossPercentage;
 
     /**
      * the current stop loss price activation
      */
-    private Double currentStopLossLimitActivation;
+    private double currentStopLossLimitActivation = Double.NaN;
+
+    /** The entry of the tracked position */
+    private Trade trackedEntry;
+
+    /** The entry index of the tracked position */
+    private int trackedEntryIndex;
+
+    /** The extremum of the prices since the entry (unlimited bar count) */
+    private final RunningExtremum sinceEntry;
+
+    /** The extremums of the last barCount prices since the entry (created on first use) */
+    private RollingExtremum highest;
+    private RollingExtremum lowest;
 
     /**
      * Constructor.
@@ -61,9 +79,10 @@ public class TrailingStopLossRule extends AbstractRule {
      * @param barCount       number of bars to look back for the calculation
      */
     public TrailingStopLossRule(Indicator<Double> indicator, double lossPercentage, int barCount) {
-        this.priceIndicator = indicator;
+        this.priceIndicator = DoubleIndicator.of(indicator);
         this.barCount = barCount;
         this.lossPercentage = lossPercentage;
+        this.sinceEntry = new RunningExtremum(priceIndicator::getDouble, 0, true);
     }
 
     /**
@@ -84,13 +103,15 @@ public class TrailingStopLossRule extends AbstractRule {
         if (tradingRecord != null) {
             Position currentPosition = tradingRecord.getCurrentPosition();
             if (currentPosition.isOpened()) {
-                double currentPrice = priceIndicator.getValue(index);
-                int positionIndex = currentPosition.getEntry().getIndex();
-
-                if (currentPosition.getEntry().isBuy()) {
-                    satisfied = isBuySatisfied(currentPrice, index, positionIndex);
+                Trade entry = currentPosition.getEntry();
+                if (entry != trackedEntry) {
+                    track(entry);
+                }
+                double currentPrice = priceIndicator.getDouble(index);
+                if (entry.isBuy()) {
+                    satisfied = isBuySatisfied(currentPrice, index);
                 } else {
-                    satisfied = isSellSatisfied(currentPrice, index, positionIndex);
+                    satisfied = isSellSatisfied(currentPrice, index);
                 }
             }
         }
@@ -98,37 +119,78 @@ public class TrailingStopLossRule extends AbstractRule {
         return satisfied;
     }
 
-    private boolean isBuySatisfied(Double currentPrice, int index, int positionIndex) {
-        HighestValueIndicator highest = new HighestValueIndicator(priceIndicator,
-                getValueIndicatorBarCount(index, positionIndex));
-        double highestClose = highest.getValue(index);
+    /**
+     * Restarts the extremums from the entry of a new position.
+     */
+    private void track(Trade entry) {
+        trackedEntry = entry;
+        trackedEntryIndex = entry.getIndex();
+        sinceEntry.reset(trackedEntryIndex, entry.isBuy());
+        if (highest != null) {
+            highest.reset();
+        }
+        if (lowest != null) {
+            lowest.reset();
+        }
+    }
+
+    private boolean isBuySatisfied(double currentPrice, int index) {
+        double highestClose = extremum(index, true);
         double lossRatioThreshold = (100 - lossPercentage) / 100;
         currentStopLossLimitActivation = highestClose * lossRatioThreshold;
         return currentPrice <= currentStopLossLimitActivation;
     }
 
+    /**
+     * @return the last computed stop loss price activation, null if none
+     */
     public Double getCurrentStopLossLimitActivation() {
-        return currentStopLossLimitActivation;
+        return Double.isNaN(currentStopLossLimitActivation) ? null : currentStopLossLimitActivation;
     }
 
-    private boolean isSellSatisfied(Double currentPrice, int index, int positionIndex) {
-        LowestValueIndicator lowest = new LowestValueIndicator(priceIndicator,
-                getValueIndicatorBarCount(index, positionIndex));
-        Double lowestClose= lowest.getValue(index);
-        Double lossRatioThreshold = (100 + lossPercentage) / 100;
+    private boolean isSellSatisfied(double currentPrice, int index) {
+        double lowestClose = extremum(index, false);
+        double lossRatioThreshold = (100 + lossPercentage) / 100;
         currentStopLossLimitActivation = lowestClose * lossRatioThreshold;
         return currentPrice >= currentStopLossLimitActivation;
     }
 
-    private int getValueIndicatorBarCount(int index, int positionIndex) {
-        return Math.min(index - positionIndex + 1, this.barCount);
+    /**
+     * @param index the bar index
+     * @param buy   true for the highest price, false for the lowest one
+     * @return the extremum of the prices of the last barCount bars since the
+     *         entry
+     */
+    private double extremum(int index, boolean buy) {
+        if (index - trackedEntryIndex < barCount) {
+            // All the bars since the entry
+            return sinceEntry.getValue(index);
+        }
+        if (buy) {
+            if (highest == null) {
+                highest = new RollingExtremum(priceIndicator.getBarSeries(), this::priceSinceEntry, barCount, true);
+            }
+            return highest.getValue(index);
+        }
+        if (lowest == null) {
+            lowest = new RollingExtremum(priceIndicator.getBarSeries(), this::priceSinceEntry, barCount, false);
+        }
+        return lowest.getValue(index);
+    }
+
+    /**
+     * @param index the bar index
+     * @return the price, NaN (ignored by the extremums) before the entry
+     */
+    private double priceSinceEntry(int index) {
+        return index < trackedEntryIndex ? Double.NaN : priceIndicator.getDouble(index);
     }
 
     @Override
     protected void traceIsSatisfied(int index, boolean isSatisfied) {
         if (log.isTraceEnabled()) {
             log.trace("{}#isSatisfied({}): {}. Current price: {}, Current stop loss activation: {}",
-                    getClass().getSimpleName(), index, isSatisfied, priceIndicator.getValue(index),
+                    getClass().getSimpleName(), index, isSatisfied, priceIndicator.getDouble(index),
                     currentStopLossLimitActivation);
         }
     }
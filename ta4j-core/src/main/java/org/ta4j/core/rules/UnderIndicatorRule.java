@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.rules;
 
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.TradingRecord;
 import org.ta4j.core.indicators.helpers.ConstantIndicator;
@@ -38,11 +39,11 @@ public class UnderIndicatorRule extends AbstractRule {
     /**
      * The first indicator
      */
-    private final Indicator<Double> first;
+    private final DoubleIndicator first;
     /**
      * The second indicator
      */
-    private final Indicator<Double> second;
+    private final DoubleIndicator second;
 
     /**
      * Constructor.
@@ -61,15 +62,34 @@ public class UnderIndicatorRule extends AbstractRule {
      * @param second the second indicator
      */
     public UnderIndicatorRule(Indicator<Double> first, Indicator<Double> second) {
-        this.first = first;
-        this.second = second;
+        this.first = DoubleIndicator.of(first);
+        this.second = DoubleIndicator.of(second);
+    }
+
+    @Override
+    public boolean usesTradingRecord() {
+        return false;
     }
 
     /** This rule does not use the {@code tradingRecord}. */
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
-        final boolean satisfied = first.getValue(index) < (second.getValue(index));
+        final boolean satisfied = first.getDouble(index) < (second.getDouble(index));
         traceIsSatisfied(index, satisfied);
         return satisfied;
     }
+
+    /**
+     * @return the first indicator
+     */
+    public DoubleIndicator getFirst() {
+        return first;
+    }
+
+    /**
+     * @return the second indicator
+     */
+    public DoubleIndicator getSecond() {
+        return second;
+    }
 }
@@ -47,6 +47,11 @@ public class XorRule extends AbstractRule {
         this.rule2 = rule2;
     }
 
+    @Override
+    public boolean usesTradingRecord() {
+        return rule1.usesTradingRecord() || rule2.usesTradingRecord();
+    }
+
     @Override
     public boolean isSatisfied(int index, TradingRecord tradingRecord) {
         final boolean satisfied = rule1.isSatisfied(index, tradingRecord) ^ rule2.isSatisfied(index, tradingRecord);
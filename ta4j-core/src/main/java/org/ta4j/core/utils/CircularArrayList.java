@@ -0,0 +1,219 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A {@link java.util.List list} backed by a circular array.
+ *
+ * Unlike an {@link java.util.ArrayList}, removing elements from the head of
+ * the list (e.g. <code>remove(0)</code> or <code>subList(0, n).clear()</code>)
+ * does not shift the remaining elements. It only moves the head of the
+ * circular array. Appending is amortized O(1) and does not allocate as long as
+ * the size stays below the capacity, which makes this list suited for moving
+ * windows of a fixed length (e.g. bar series with a maximum bar count).
+ *
+ * @param <E> the type of the elements
+ */
+public class CircularArrayList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = -3385719648296015326L;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The circular array */
+    private Object[] elements;
+    /** Position of the first element in the circular array */
+    private int head;
+    /** Number of elements */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    public CircularArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param initialCapacity the number of elements the list can hold before
+     *                        growing
+     */
+    public CircularArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+        this.elements = new Object[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param elements        the initial elements of the list
+     * @param initialCapacity the number of elements the list can hold before
+     *                        growing
+     */
+    public CircularArrayList(Collection<? extends E> elements, int initialCapacity) {
+        this(Math.max(initialCapacity, elements.size()));
+        for (E element : elements) {
+            this.elements[size++] = element;
+        }
+    }
+
+    /**
+     * @return the number of elements the list can hold before growing
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) elements[physicalIndex(index)];
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index, size);
+        int i = physicalIndex(index);
+        @SuppressWarnings("unchecked")
+        E previous = (E) elements[i];
+        elements[i] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        ensureCapacity(size + 1);
+        elements[physicalIndex(size)] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        ensureCapacity(size + 1);
+        if (index == 0) {
+            head = head == 0 ? elements.length - 1 : head - 1;
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i - 1)];
+            }
+        }
+        elements[physicalIndex(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = get(index);
+        removeRange(index, index + 1);
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+        head = 0;
+    }
+
+    /**
+     * Removes the elements between <tt>fromIndex</tt> (inclusive) and
+     * <tt>toIndex</tt> (exclusive). Removing from the head or the tail of the list
+     * does not move the other elements.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    String.format("fromIndex: %s, toIndex: %s, size: %s", fromIndex, toIndex, size));
+        }
+        int count = toIndex - fromIndex;
+        if (count == 0) {
+            return;
+        }
+        if (fromIndex == 0) {
+            for (int i = 0; i < count; i++) {
+                elements[physicalIndex(i)] = null;
+            }
+            head = physicalIndex(count);
+        } else {
+            for (int i = toIndex; i < size; i++) {
+                elements[physicalIndex(i - count)] = elements[physicalIndex(i)];
+            }
+            for (int i = size - count; i < size; i++) {
+                elements[physicalIndex(i)] = null;
+            }
+        }
+        size -= count;
+        modCount++;
+    }
+
+    /**
+     * @param index the index of an element in the list
+     * @return the position of the element in the circular array
+     */
+    private int physicalIndex(int index) {
+        int i = head + index;
+        return i < elements.length ? i : i - elements.length;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= elements.length) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+        Object[] newElements = new Object[newCapacity];
+        for (int i = 0; i < size; i++) {
+            newElements[i] = elements[physicalIndex(i)];
+        }
+        elements = newElements;
+        head = 0;
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.format("Index: %s, size: %s", index, length));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.util.Arrays;
+
+/**
+ * Streaming estimation of a quantile in constant memory (P² algorithm).
+ *
+ * Five markers (the minimum, the maximum, the estimated quantile and two
+ * intermediate quantiles) are moved at each added value, their heights being
+ * adjusted by a piecewise-parabolic interpolation. The estimator keeps no
+ * value, so that it suits unbounded streams (e.g. the return rates of a live
+ * trading session) where the exact
+ * {@link org.ta4j.core.analysis.TailRiskEstimator} would grow without bound.
+ * With fewer than five values, the estimate is exact (nearest rank).
+ *
+ * The value at risk of a confidence level <code>c</code> is approximated by
+ * <code>min(0, estimate)</code> of the quantile <code>1 - c</code> of the
+ * return rates.
+ *
+ * @see <a href="https://doi.org/10.1145/4372.4378">R. Jain and I. Chlamtac,
+ *      The P² algorithm for dynamic calculation of quantiles and histograms
+ *      without storing observations</a>
+ */
+public class P2QuantileEstimator {
+
+    /** The probability of the estimated quantile, in [0, 1] */
+    private final double probability;
+
+    /** The heights of the markers */
+    private final double[] heights = new double[5];
+
+    /** The actual positions of the markers (from 1) */
+    private final int[] positions = new int[5];
+
+    /** The desired positions of the markers */
+    private final double[] desiredPositions = new double[5];
+
+    /** The increments of the desired positions */
+    private final double[] increments;
+
+    /** The number of added values */
+    private long count;
+
+    /**
+     * Constructor.
+     *
+     * @param probability the probability of the quantile (e.g. 0.05)
+     */
+    public P2QuantileEstimator(double probability) {
+        if (!(probability >= 0 && probability <= 1)) {
+            throw new IllegalArgumentException(String.format("Probability must be in [0, 1]: %s", probability));
+        }
+        this.probability = probability;
+        this.increments = new double[] { 0, probability / 2, probability, (1 + probability) / 2, 1 };
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value
+     */
+    public void add(double value) {
+        if (count < 5) {
+            heights[(int) count] = value;
+            count++;
+            if (count == 5) {
+                Arrays.sort(heights);
+                for (int i = 0; i < 5; i++) {
+                    positions[i] = i + 1;
+                }
+                desiredPositions[0] = 1;
+                desiredPositions[1] = 1 + 2 * probability;
+                desiredPositions[2] = 1 + 4 * probability;
+                desiredPositions[3] = 3 + 2 * probability;
+                desiredPositions[4] = 5;
+            }
+            return;
+        }
+        count++;
+
+        // Cell of the value, extending the extreme markers if needed
+        int cell;
+        if (value < heights[0]) {
+            heights[0] = value;
+            cell = 0;
+        } else if (value >= heights[4]) {
+            heights[4] = value;
+            cell = 3;
+        } else {
+            cell = 0;
+            while (value >= heights[cell + 1]) {
+                cell++;
+            }
+        }
+        for (int i = cell + 1; i < 5; i++) {
+            positions[i]++;
+        }
+        for (int i = 0; i < 5; i++) {
+            desiredPositions[i] += increments[i];
+        }
+
+        // Moves the intermediate markers towards their desired positions
+        for (int i = 1; i < 4; i++) {
+            final double offset = desiredPositions[i] - positions[i];
+            if ((offset >= 1 && positions[i + 1] - positions[i] > 1)
+                    || (offset <= -1 && positions[i - 1] - positions[i] < -1)) {
+                final int step = offset > 0 ? 1 : -1;
+                final double height = parabolic(i, step);
+                if (heights[i - 1] < height && height < heights[i + 1]) {
+                    heights[i] = height;
+                } else {
+                    heights[i] = linear(i, step);
+                }
+                positions[i] += step;
+            }
+        }
+    }
+
+    private double parabolic(int i, int step) {
+        final double left = positions[i] - positions[i - 1];
+        final double right = positions[i + 1] - positions[i];
+        return heights[i] + step / (double) (positions[i + 1] - positions[i - 1])
+                * ((left + step) * (heights[i + 1] - heights[i]) / right
+                        + (right - step) * (heights[i] - heights[i - 1]) / left);
+    }
+
+    private double linear(int i, int step) {
+        return heights[i] + step * (heights[i + step] - heights[i]) / (positions[i + step] - positions[i]);
+    }
+
+    /**
+     * Forgets all the values.
+     */
+    public void reset() {
+        count = 0;
+    }
+
+    /**
+     * @return the number of added values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the probability of the estimated quantile
+     */
+    public double getProbability() {
+        return probability;
+    }
+
+    /**
+     * @return the estimated quantile, NaN if no value has been added
+     */
+    public double getQuantile() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (count < 5) {
+            final int n = (int) count;
+            final double[] values = Arrays.copyOf(heights, n);
+            Arrays.sort(values);
+            final int rank = (int) Math.ceil(probability * n);
+            return values[Math.max(0, rank - 1)];
+        }
+        return heights[2];
+    }
+}
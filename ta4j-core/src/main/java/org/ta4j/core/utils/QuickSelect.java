@@ -0,0 +1,102 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+/**
+ * Selection of the k-th smallest value of a primitive array.
+ *
+ * Finds an order statistic in O(n) on average (instead of O(n log n) for a
+ * sort), by partitioning the array in place around median-of-three pivots
+ * (Hoare's FIND). The values are ordered as by
+ * {@link Double#compare(double, double)}, i.e. as by
+ * {@link java.util.Arrays#sort(double[])}.
+ */
+public final class QuickSelect {
+
+    private QuickSelect() {
+    }
+
+    /**
+     * Reorders the values of the range so that the value at the index
+     * <code>k</code> is the one a sort of the range would put there, the values
+     * before it being lower or equal and the values after it greater or equal.
+     *
+     * @param values the values (reordered)
+     * @param from   the first index of the range (inclusive)
+     * @param to     the last index of the range (exclusive)
+     * @param k      the index of the value to select, within the range
+     * @return the k-th smallest value of the range (counted from
+     *         <code>from</code>)
+     * @throws IndexOutOfBoundsException if k is not within the range
+     */
+    public static double select(double[] values, int from, int to, int k) {
+        if (k < from || k >= to || to > values.length) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Index %s is not within the range [%s, %s) of %s values", k, from, to,
+                            values.length));
+        }
+        int left = from;
+        int right = to - 1;
+        while (left < right) {
+            final double pivot = medianOfThree(values[left], values[(left + right) >>> 1], values[right]);
+            int i = left;
+            int j = right;
+            do {
+                while (Double.compare(values[i], pivot) < 0) {
+                    i++;
+                }
+                while (Double.compare(pivot, values[j]) < 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    double value = values[i];
+                    values[i] = values[j];
+                    values[j] = value;
+                    i++;
+                    j--;
+                }
+            } while (i <= j);
+            // [left, j] <= pivot <= [i, right]
+            if (j < k) {
+                left = i;
+            }
+            if (k < i) {
+                right = j;
+            }
+        }
+        return values[k];
+    }
+
+    private static double medianOfThree(double a, double b, double c) {
+        if (Double.compare(a, b) > 0) {
+            double t = a;
+            a = b;
+            b = t;
+        }
+        if (Double.compare(b, c) > 0) {
+            b = c;
+        }
+        return Double.compare(a, b) > 0 ? a : b;
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.util.function.IntToDoubleFunction;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * Highest or lowest value over a sliding window of bars.
+ *
+ * The candidates of the window are kept in a monotonic deque: a value is
+ * dropped as soon as a newer value dominates it, so that the head of the deque
+ * is always the extremum of the window. When the indices are evaluated
+ * sequentially, each step is amortized O(1) instead of O(barCount).
+ *
+ * NaN values are ignored, the extremum of a window containing only NaN values
+ * is NaN.
+ *
+ * Random access and windows reaching bars removed from a moving series fall
+ * back to a full scan of the window (which also re-seeds the deque). The last
+ * bar of the series is never pushed into the deque since its value may still
+ * change.
+ */
+public class RollingExtremum {
+
+    private final BarSeries series;
+
+    private final IntToDoubleFunction values;
+
+    private final int barCount;
+
+    /** True for the highest value, false for the lowest one */
+    private final boolean highest;
+
+    /** The index of the deque state, -1 if there is no state */
+    private int lastIndex = -1;
+
+    /** Circular buffers of the deque */
+    private int[] indices;
+    private double[] candidates;
+    private int head;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param series   the bar series
+     * @param values   the value of each bar index
+     * @param barCount the number of bars of the window
+     * @param highest  true for the highest value, false for the lowest one
+     */
+    public RollingExtremum(BarSeries series, IntToDoubleFunction values, int barCount, boolean highest) {
+        if (barCount < 1) {
+            throw new IllegalArgumentException(String.format("Bar count must be positive: %s", barCount));
+        }
+        this.series = series;
+        this.values = values;
+        this.barCount = barCount;
+        this.highest = highest;
+        int capacity = (int) Math.min(barCount + 1L, 16);
+        this.indices = new int[capacity];
+        this.candidates = new double[capacity];
+    }
+
+    /**
+     * @param index the bar index
+     * @return the extremum of the values from
+     *         <code>max(0, index - barCount + 1)</code> to <code>index</code>
+     */
+    public double getValue(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        if (series != null && index >= series.getEndIndex()) {
+            if (index > series.getEndIndex() || index == 0) {
+                return scan(startIndex, index);
+            }
+            // Provisional value of the last bar: the deque stays on the previous index
+            getValue(index - 1);
+            double result = values.applyAsDouble(index);
+            for (int k = 0; k < size; k++) {
+                int slot = (head + k) % indices.length;
+                if (indices[slot] >= startIndex) {
+                    if (Double.isNaN(result) || dominates(candidates[slot], result)) {
+                        result = candidates[slot];
+                    }
+                    break;
+                }
+            }
+            return result;
+        }
+        final boolean retained = series == null || startIndex >= series.getRemovedBarsCount();
+        if (retained && lastIndex >= 0 && index == lastIndex + 1) {
+            push(index, values.applyAsDouble(index));
+        } else if (!retained || lastIndex < 0 || index != lastIndex) {
+            size = 0;
+            for (int i = startIndex; i <= index; i++) {
+                push(i, values.applyAsDouble(i));
+            }
+        }
+        lastIndex = index;
+        while (size > 0 && indices[head] < startIndex) {
+            head = (head + 1) % indices.length;
+            size--;
+        }
+        return size > 0 ? candidates[head] : Double.NaN;
+    }
+
+    /**
+     * Forgets the deque, the next call to {@link #getValue(int)} scans the whole
+     * window.
+     */
+    public void reset() {
+        lastIndex = -1;
+    }
+
+    /**
+     * Pushes a value at the tail of the deque, dropping the dominated ones.
+     */
+    private void push(int index, double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        while (size > 0 && dominates(value, candidates[(head + size - 1) % indices.length])) {
+            size--;
+        }
+        if (size == indices.length) {
+            grow();
+        }
+        int slot = (head + size) % indices.length;
+        indices[slot] = index;
+        candidates[slot] = value;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(indices.length * 2L, barCount + 1L);
+        int[] newIndices = new int[capacity];
+        double[] newCandidates = new double[capacity];
+        for (int k = 0; k < size; k++) {
+            int slot = (head + k) % indices.length;
+            newIndices[k] = indices[slot];
+            newCandidates[k] = candidates[slot];
+        }
+        indices = newIndices;
+        candidates = newCandidates;
+        head = 0;
+    }
+
+    private boolean dominates(double value, double other) {
+        return highest ? value >= other : value <= other;
+    }
+
+    /**
+     * Scans the window without touching the deque.
+     */
+    private double scan(int startIndex, int index) {
+        double result = Double.NaN;
+        for (int i = startIndex; i <= index; i++) {
+            double value = values.applyAsDouble(i);
+            if (!Double.isNaN(value) && (Double.isNaN(result) || dominates(value, result))) {
+                result = value;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.util.function.IntToDoubleFunction;
+
+import org.ta4j.core.BarSeries;
+
+/**
+ * Sum of values over a sliding window of bars.
+ *
+ * When the indices are evaluated sequentially, the sum of index <i>i</i> is
+ * derived from the sum of index <i>i - 1</i> by adding the entering value and
+ * subtracting the leaving one, so that each step is O(1) instead of
+ * O(barCount). The running sum uses Neumaier compensation to keep the rounding
+ * drift in check.
+ *
+ * Random access, windows reaching bars removed from a moving series and
+ * non-finite running sums fall back to a full scan of the window (which also
+ * re-seeds the running sum). The last bar of the series is never included in
+ * the running state since its values may still change.
+ */
+public class RollingSum {
+
+    private final BarSeries series;
+
+    private final IntToDoubleFunction values;
+
+    private final int barCount;
+
+    /** The index of the running sum, -1 if there is no running sum */
+    private int lastIndex = -1;
+
+    private double sum;
+
+    private double compensation;
+
+    /**
+     * Constructor.
+     *
+     * @param series   the bar series
+     * @param values   the value of each bar index
+     * @param barCount the number of bars of the window
+     */
+    public RollingSum(BarSeries series, IntToDoubleFunction values, int barCount) {
+        if (barCount < 1) {
+            throw new IllegalArgumentException(String.format("Bar count must be positive: %s", barCount));
+        }
+        this.series = series;
+        this.values = values;
+        this.barCount = barCount;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the sum of the values from
+     *         <code>max(0, index - barCount + 1)</code> to <code>index</code>
+     */
+    public double getSum(int index) {
+        final int startIndex = Math.max(0, index - barCount + 1);
+        if (series != null && index >= series.getEndIndex()) {
+            if (index > series.getEndIndex() || index == 0) {
+                return scan(startIndex, index);
+            }
+            if (!isRetained(index - barCount)) {
+                return scan(startIndex, index);
+            }
+            // Provisional value of the last bar: the running sum stays on the
+            // previous index
+            final double leaving = index - barCount >= 0 ? values.applyAsDouble(index - barCount) : 0;
+            return getSum(index - 1) + values.applyAsDouble(index) - leaving;
+        }
+        final boolean retained = series == null || startIndex >= series.getRemovedBarsCount();
+        if (retained && lastIndex >= 0) {
+            if (index == lastIndex) {
+                return sum + compensation;
+            }
+            // The leaving value must still be in the series to be subtracted
+            if (index == lastIndex + 1 && isRetained(index - barCount)) {
+                add(values.applyAsDouble(index));
+                if (index - barCount >= 0) {
+                    add(-values.applyAsDouble(index - barCount));
+                }
+                final double result = sum + compensation;
+                if (Double.isFinite(result)) {
+                    lastIndex = index;
+                    return result;
+                }
+            }
+        }
+        return seed(startIndex, index);
+    }
+
+    /**
+     * @param index a bar index
+     * @return true if the bar of the index has not been removed from the series
+     *         (or is before the first bar)
+     */
+    private boolean isRetained(int index) {
+        return series == null || index < 0 || index >= series.getRemovedBarsCount();
+    }
+
+    /**
+     * Forgets the running sum, the next call to {@link #getSum(int)} scans the
+     * whole window.
+     */
+    public void reset() {
+        lastIndex = -1;
+    }
+
+    /**
+     * Scans the window and uses it as the new running sum.
+     */
+    private double seed(int startIndex, int index) {
+        sum = 0;
+        compensation = 0;
+        for (int i = startIndex; i <= index; i++) {
+            add(values.applyAsDouble(i));
+        }
+        final double result = sum + compensation;
+        // A non-finite value cannot be removed from the running sum later
+        lastIndex = Double.isFinite(result) ? index : -1;
+        return result;
+    }
+
+    /**
+     * Scans the window without touching the running sum.
+     */
+    private double scan(int startIndex, int index) {
+        double total = 0;
+        for (int i = startIndex; i <= index; i++) {
+            total = total + values.applyAsDouble(i);
+        }
+        return total;
+    }
+
+    private void add(double value) {
+        final double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Highest or lowest value since a begin index (e.g. the entry of a position).
+ *
+ * The extremum is updated incrementally when the indices are evaluated in
+ * increasing order, each step costing O(1). Evaluating the same index again
+ * recomputes its value (the last bar of a series may still change), and going
+ * back to a previous index falls back to a full scan.
+ *
+ * NaN values are ignored, the extremum of NaN values only is NaN.
+ */
+public class RunningExtremum {
+
+    private final IntToDoubleFunction values;
+
+    /** True for the highest value, false for the lowest one */
+    private boolean highest;
+
+    private int beginIndex;
+
+    /** The last evaluated index, -1 if there is no state */
+    private int lastIndex = -1;
+
+    /** The extremum up to lastIndex */
+    private double extremum = Double.NaN;
+
+    /** The extremum up to lastIndex - 1 */
+    private double previousExtremum = Double.NaN;
+
+    /**
+     * Constructor.
+     *
+     * @param values     the value of each bar index
+     * @param beginIndex the first index of the values
+     * @param highest    true for the highest value, false for the lowest one
+     */
+    public RunningExtremum(IntToDoubleFunction values, int beginIndex, boolean highest) {
+        this.values = values;
+        this.beginIndex = beginIndex;
+        this.highest = highest;
+    }
+
+    /**
+     * Restarts from a new begin index.
+     *
+     * @param beginIndex the first index of the values
+     * @param highest    true for the highest value, false for the lowest one
+     */
+    public void reset(int beginIndex, boolean highest) {
+        this.beginIndex = beginIndex;
+        this.highest = highest;
+        this.lastIndex = -1;
+    }
+
+    /**
+     * @param index the bar index
+     * @return the extremum of the values from the begin index to
+     *         <code>index</code> (NaN if <code>index</code> is before the begin
+     *         index)
+     */
+    public double getValue(int index) {
+        if (lastIndex < 0 || index < lastIndex) {
+            // First evaluation or random access: full scan
+            double result = Double.NaN;
+            for (int i = beginIndex; i < index; i++) {
+                result = combine(result, values.applyAsDouble(i));
+            }
+            previousExtremum = result;
+        } else if (index > lastIndex) {
+            double result = extremum;
+            for (int i = lastIndex + 1; i < index; i++) {
+                result = combine(result, values.applyAsDouble(i));
+            }
+            previousExtremum = result;
+        }
+        extremum = index < beginIndex ? Double.NaN : combine(previousExtremum, values.applyAsDouble(index));
+        lastIndex = index;
+        return extremum;
+    }
+
+    private double combine(double current, double value) {
+        if (Double.isNaN(value)) {
+            return current;
+        }
+        if (Double.isNaN(current)) {
+            return value;
+        }
+        return highest ? Math.max(current, value) : Math.min(current, value);
+    }
+}
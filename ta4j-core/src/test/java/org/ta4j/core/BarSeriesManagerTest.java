@@ -26,13 +26,28 @@ package org.ta4j.core;
 import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.criteria.pnl.GrossReturnCriterion;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.rules.BooleanRule;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
 import org.ta4j.core.rules.FixedRule;
+import org.ta4j.core.rules.OrRule;
+import org.ta4j.core.rules.OverIndicatorRule;
+import org.ta4j.core.rules.StopLossRule;
+import org.ta4j.core.rules.UnderIndicatorRule;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 public class BarSeriesManagerTest extends AbstractIndicatorTest {
 
@@ -169,4 +184,152 @@ public class BarSeriesManagerTest extends AbstractIndicatorTest {
         positions = manager.run(aStrategy, 9, 9).getPositions();
         assertTrue(positions.isEmpty());
     }
+
+    @Test
+    public void runAllReturnsTheRecordsInTheOrderOfTheStrategies() {
+        double[] data = new double[500];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 100 + 10 * Math.sin(i / 10.0);
+        }
+        List<Strategy> strategies = new ArrayList<>();
+        List<Strategy> sequentialStrategies = new ArrayList<>();
+        BarSeries series = new MockBarSeries(data);
+        series.setConcurrent(true);
+        BarSeries sequentialSeries = new MockBarSeries(data);
+        for (int barCount = 2; barCount < 30; barCount++) {
+            strategies.add(smaCrossStrategy(new MockBarSeries(data), barCount));
+            sequentialStrategies.add(smaCrossStrategy(sequentialSeries, barCount));
+        }
+        BarSeriesManager parallelManager = new BarSeriesManager(series);
+        BarSeriesManager sequentialManager = new BarSeriesManager(sequentialSeries);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<TradingRecord> records = parallelManager.runAll(strategies, TradeType.SELL, executor);
+            double[] values = parallelManager.analyzeAll(strategies, TradeType.SELL, new GrossReturnCriterion(),
+                    executor);
+            assertEquals(strategies.size(), records.size());
+            for (int i = 0; i < strategies.size(); i++) {
+                TradingRecord expected = sequentialManager.run(sequentialStrategies.get(i), TradeType.SELL);
+                assertEquals(expected.getPositionCount(), records.get(i).getPositionCount());
+                assertEquals(expected.getPositions(), records.get(i).getPositions());
+                assertEquals(new GrossReturnCriterion().calculate(sequentialSeries, expected), values[i], 1e-12);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void runAllOnStrategiesOfTheManagedSeries() {
+        double[] data = new double[300];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 100 + 10 * Math.sin(i / 7.0);
+        }
+        BarSeries series = new MockBarSeries(data);
+        BarSeries sequentialSeries = new MockBarSeries(data);
+        series.setConcurrent(true);
+        List<Strategy> strategies = new ArrayList<>();
+        for (int barCount = 2; barCount < 20; barCount++) {
+            strategies.add(smaCrossStrategy(series, barCount));
+        }
+        BarSeriesManager parallelManager = new BarSeriesManager(series);
+        BarSeriesManager sequentialManager = new BarSeriesManager(sequentialSeries);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<TradingRecord> records = parallelManager.runAll(strategies, executor);
+            for (int i = 0; i < strategies.size(); i++) {
+                TradingRecord expected = sequentialManager.run(smaCrossStrategy(sequentialSeries, i + 2));
+                assertEquals(expected.getPositions(), records.get(i).getPositions());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void runAllRequiresAConcurrentSeries() {
+        List<Strategy> strategies = new ArrayList<>();
+        strategies.add(smaCrossStrategy(seriesForRun, 2));
+        strategies.add(smaCrossStrategy(seriesForRun, 3));
+        manager.runAll(strategies, ForkJoinPool.commonPool());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void analyzeAllRequiresAConcurrentSeries() {
+        List<Strategy> strategies = new ArrayList<>();
+        strategies.add(smaCrossStrategy(seriesForRun, 2));
+        manager.analyzeAll(strategies, TradeType.BUY, new GrossReturnCriterion(), ForkJoinPool.commonPool());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void runAllRethrowsTheFailures() {
+        seriesForRun.setConcurrent(true);
+        Strategy failing = new BaseStrategy((index, tradingRecord) -> {
+            throw new IllegalStateException("failing rule");
+        }, BooleanRule.FALSE);
+        List<Strategy> strategies = new ArrayList<>();
+        strategies.add(strategy);
+        strategies.add(failing);
+        manager.runAll(strategies, ForkJoinPool.commonPool());
+    }
+
+    private static Strategy smaCrossStrategy(BarSeries series, int barCount) {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator sma = new SMAIndicator(closePrice, barCount);
+        return new BaseStrategy(new OverIndicatorRule(closePrice, sma), new UnderIndicatorRule(closePrice, sma));
+    }
+
+    @Test
+    public void skipAheadGivesTheSameRecords() {
+        Random random = new Random(7);
+        double[] prices = new double[2000];
+        prices[0] = 100;
+        for (int i = 1; i < prices.length; i++) {
+            prices[i] = prices[i - 1] * (1 + (random.nextDouble() - 0.5) * 0.03);
+        }
+        BarSeries series = new MockBarSeries(prices);
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        SMAIndicator shortSma = new SMAIndicator(closePrice, 10);
+        SMAIndicator longSma = new SMAIndicator(closePrice, 50);
+        Strategy crossStrategy = new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma).or(new StopLossRule(closePrice, 2d)), 50);
+
+        BarSeriesManager perBar = new BarSeriesManager(series);
+        BarSeriesManager skipping = new BarSeriesManager(series);
+        skipping.setSkipAhead(true);
+        assertTrue(skipping.isSkipAhead());
+
+        List<Position> expected = perBar.run(crossStrategy).getPositions();
+        assertTrue(expected.size() > 10);
+        assertEquals(expected, skipping.run(crossStrategy).getPositions());
+        // Position still open at the end of the run: closed after it
+        assertEquals(perBar.run(crossStrategy, 100, 1000).getPositions(),
+                skipping.run(crossStrategy, 100, 1000).getPositions());
+        assertEquals(perBar.run(crossStrategy, TradeType.SELL).getPositions(),
+                skipping.run(crossStrategy, TradeType.SELL).getPositions());
+
+        // Subclass of OrRule: satisfied when both rules are
+        Rule strictOr = new OrRule(new CrossedUpIndicatorRule(shortSma, longSma),
+                new OverIndicatorRule(closePrice, longSma)) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                return getRule1().isSatisfied(index, tradingRecord) && getRule2().isSatisfied(index, tradingRecord);
+            }
+        };
+        Strategy strictOrStrategy = new BaseStrategy(strictOr, crossStrategy.getExitRule(), 50);
+        assertEquals(perBar.run(strictOrStrategy).getPositions(), skipping.run(strictOrStrategy).getPositions());
+
+        // Subclass of BaseStrategy: only enters on even indexes
+        Strategy evenEntries = new BaseStrategy(crossStrategy.getEntryRule(), crossStrategy.getExitRule(), 50) {
+            @Override
+            public boolean shouldEnter(int index, TradingRecord tradingRecord) {
+                return index % 2 == 0 && super.shouldEnter(index, tradingRecord);
+            }
+        };
+        assertEquals(perBar.run(evenEntries).getPositions(), skipping.run(evenEntries).getPositions());
+
+        skipping = new BarSeriesManager(seriesForRun);
+        skipping.setSkipAhead(true);
+        assertEquals(manager.run(strategy).getPositions(), skipping.run(strategy).getPositions());
+    }
 }
@@ -165,7 +165,7 @@ public class BarSeriesTest extends AbstractIndicatorTest{
     @Test(expected = IndexOutOfBoundsException.class)
     public void getBarOnMovingAndEmptySeriesShouldThrowExceptionTest() {
         defaultSeries.setMaximumBarCount(2);
-        bars.clear(); // Should not be used like this
+        defaultSeries.getBarData().clear(); // Should not be used like this
         defaultSeries.getBar(1);
     }
 
@@ -186,6 +186,21 @@ public class BarSeriesTest extends AbstractIndicatorTest{
         assertEquals(bar, defaultSeries.getBar(4));
     }
 
+    @Test
+    public void movingSeriesShouldKeepLastBarsTest() {
+        BarSeries series = new BaseBarSeriesBuilder().withMaxBarCount(3).build();
+        ZonedDateTime time = ZonedDateTime.of(2014, 6, 13, 0, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 100; i++) {
+            series.addBar(new MockBar(time.plusDays(i), (double) i));
+        }
+        assertEquals(3, series.getBarCount());
+        assertEquals(97, series.getRemovedBarsCount());
+        assertEquals(97d, series.getBar(97).getClosePrice(), EPS);
+        assertEquals(98d, series.getBar(98).getClosePrice(), EPS);
+        assertEquals(99d, series.getBar(99).getClosePrice(), EPS);
+        assertEquals(97d, series.getBar(10).getClosePrice(), EPS);
+    }
+
     @Test
     public void subSeriesCreationTest() {
         BarSeries subSeries = defaultSeries.getSubSeries(2, 5);
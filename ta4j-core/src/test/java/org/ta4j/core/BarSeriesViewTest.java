@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+
+public class BarSeriesViewTest {
+
+    private BarSeries series;
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d, 10d);
+    }
+
+    @Test
+    public void viewSharesTheBars() {
+        BarSeriesView view = series.getView(3, 7);
+        assertEquals(4, view.getBarCount());
+        assertEquals(0, view.getBeginIndex());
+        assertEquals(3, view.getEndIndex());
+        assertEquals(3, view.getOffset());
+        assertEquals(5, view.toParentIndex(2));
+        for (int i = 0; i < 4; i++) {
+            assertSame(series.getBar(3 + i), view.getBar(i));
+            assertSame(series.getBar(3 + i), view.getBarData().get(i));
+        }
+        assertEquals(4, view.getBarData().size());
+        assertEquals(series.getName(), view.getName());
+    }
+
+    @Test
+    public void viewIsClampedToTheParent() {
+        BarSeriesView view = series.getView(8, 20);
+        assertEquals(8, view.getOffset());
+        assertEquals(2, view.getBarCount());
+    }
+
+    @Test
+    public void subSeriesOfAView() {
+        BarSeriesView view = series.getView(2, 9).getSubSeries(1, 3);
+        assertSame(series, view.getParent());
+        assertEquals(3, view.getOffset());
+        assertEquals(2, view.getBarCount());
+        assertSame(series.getBar(4), view.getLastBar());
+    }
+
+    @Test
+    public void indicatorsOnTheViewStartAtTheWindow() {
+        BarSeriesView view = series.getView(4, 10);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(view), 3);
+        // First bars of the window: average of the available bars only
+        assertEquals(5, sma.getValue(0), 1e-12);
+        assertEquals(5.5, sma.getValue(1), 1e-12);
+        assertEquals(6, sma.getValue(2), 1e-12);
+        assertEquals(9, sma.getValue(5), 1e-12);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void barAfterTheWindow() {
+        series.getView(2, 5).getBar(3);
+    }
+
+    @Test
+    public void barRemovedFromTheParent() {
+        series.setMaximumBarCount(8);
+        BarSeriesView view = series.getView(2, 6);
+        assertEquals(3d, view.getBar(0).getClosePrice(), 1e-12);
+        series.addBar(series.getLastBar().getEndTime().plusDays(1), 11d, 11d, 11d, 11d, 1d, 1d);
+        // The bar 2 of the parent is the first one of the view
+        assertEquals(3, series.getRemovedBarsCount());
+        assertEquals(4d, view.getBar(1).getClosePrice(), 1e-12);
+        try {
+            view.getBar(0);
+            fail("The bar has been removed from the parent series");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewIsReadOnly() {
+        series.getView(2, 5).addPrice(1d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyWindow() {
+        series.getView(5, 5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windowAfterTheSeries() {
+        series.getView(10, 12);
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.indicators.helpers.LowPriceIndicator;
+import org.ta4j.core.indicators.helpers.OpenPriceIndicator;
+import org.ta4j.core.indicators.helpers.TypicalPriceIndicator;
+import org.ta4j.core.indicators.helpers.VolumeIndicator;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.ta4j.core.TestUtils.assertIndicatorEquals;
+
+public class ColumnarBarSeriesTest extends AbstractIndicatorTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2021, 3, 1, 9, 0, 0, 0, ZoneId.of("UTC"));
+
+    private BaseBarSeries baseSeries;
+    private ColumnarBarSeries columnarSeries;
+
+    @Before
+    public void setUp() {
+        baseSeries = new BaseBarSeries("base");
+        for (int i = 0; i < 50; i++) {
+            double close = 100 + Math.sin(i) * 10;
+            baseSeries.addBar(new BaseBar(Duration.ofMinutes(1), START.plusMinutes(i), close - 1, close + 2, close - 3,
+                    close, 10d + i, 20d + i, (double) i));
+        }
+        columnarSeries = new ColumnarBarSeries(baseSeries);
+    }
+
+    @Test
+    public void copiedSeriesShouldMatchOriginal() {
+        assertEquals(baseSeries.getName(), columnarSeries.getName());
+        assertEquals(baseSeries.getBeginIndex(), columnarSeries.getBeginIndex());
+        assertEquals(baseSeries.getEndIndex(), columnarSeries.getEndIndex());
+        assertEquals(baseSeries.getBarCount(), columnarSeries.getBarCount());
+        assertEquals(Duration.ofMinutes(1), columnarSeries.getTimePeriod());
+        for (int i = 0; i <= baseSeries.getEndIndex(); i++) {
+            Bar expected = baseSeries.getBar(i);
+            Bar actual = columnarSeries.getBar(i);
+            assertEquals(expected.getOpenPrice(), actual.getOpenPrice(), EPS);
+            assertEquals(expected.getHighPrice(), actual.getHighPrice(), EPS);
+            assertEquals(expected.getLowPrice(), actual.getLowPrice(), EPS);
+            assertEquals(expected.getClosePrice(), actual.getClosePrice(), EPS);
+            assertEquals(expected.getVolume(), actual.getVolume(), EPS);
+            assertEquals(expected.getAmount(), actual.getAmount(), EPS);
+            assertEquals(expected.getTrades(), actual.getTrades(), EPS);
+            assertTrue(expected.getEndTime().isEqual(actual.getEndTime()));
+            assertTrue(expected.getBeginTime().isEqual(actual.getBeginTime()));
+        }
+        assertEquals(baseSeries.getBarCount(), columnarSeries.getBarData().size());
+    }
+
+    @Test
+    public void priceIndicatorsShouldReadColumns() {
+        assertIndicatorEquals(new ClosePriceIndicator(baseSeries), new ClosePriceIndicator(columnarSeries));
+        assertIndicatorEquals(new OpenPriceIndicator(baseSeries), new OpenPriceIndicator(columnarSeries));
+        assertIndicatorEquals(new HighPriceIndicator(baseSeries), new HighPriceIndicator(columnarSeries));
+        assertIndicatorEquals(new LowPriceIndicator(baseSeries), new LowPriceIndicator(columnarSeries));
+        assertIndicatorEquals(new TypicalPriceIndicator(baseSeries), new TypicalPriceIndicator(columnarSeries));
+        assertIndicatorEquals(new VolumeIndicator(baseSeries, 5), new VolumeIndicator(columnarSeries, 5));
+        assertIndicatorEquals(new SMAIndicator(new ClosePriceIndicator(baseSeries), 7),
+                new SMAIndicator(new ClosePriceIndicator(columnarSeries), 7));
+    }
+
+    @Test
+    public void fillShouldCopyColumns() {
+        double[] out = new double[10];
+        new ClosePriceIndicator(columnarSeries).fill(20, 29, out);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(baseSeries.getBar(20 + i).getClosePrice(), out[i], 0);
+        }
+        columnarSeries.setMaximumBarCount(30);
+        // Removed bars are clamped to the first retained one
+        columnarSeries.fillVolumes(18, 27, out);
+        Assert.assertEquals(30, out[0], 0);
+        Assert.assertEquals(30, out[2], 0);
+        Assert.assertEquals(37, out[9], 0);
+    }
+
+    @Test
+    public void addPriceAndTradeShouldUpdateLastBar() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(columnarSeries);
+        HighPriceIndicator highPrice = new HighPriceIndicator(columnarSeries);
+        int endIndex = columnarSeries.getEndIndex();
+        double volume = columnarSeries.getLastBar().getVolume();
+
+        columnarSeries.addPrice(500);
+        assertEquals(500d, closePrice.getValue(endIndex), EPS);
+        assertEquals(500d, highPrice.getValue(endIndex), EPS);
+
+        columnarSeries.addTrade(20, 1d);
+        assertEquals(1d, closePrice.getValue(endIndex), EPS);
+        assertEquals(1d, columnarSeries.getLowPrice(endIndex), EPS);
+        assertEquals(volume + 20, columnarSeries.getLastBar().getVolume(), EPS);
+
+        columnarSeries.getLastBar().addPrice(2d);
+        assertEquals(2d, columnarSeries.getClosePrice(endIndex), EPS);
+    }
+
+    @Test
+    public void emptyBarShouldBeFilledByTrades() {
+        ColumnarBarSeries series = new ColumnarBarSeries("trades", Duration.ofMinutes(1));
+        series.addBar(Duration.ofMinutes(1), START);
+        series.addTrade(5, 10d);
+        series.addTrade(5, 12d);
+        series.addTrade(5, 9d);
+        Bar bar = series.getBar(0);
+        assertEquals(10d, bar.getOpenPrice(), EPS);
+        assertEquals(12d, bar.getHighPrice(), EPS);
+        assertEquals(9d, bar.getLowPrice(), EPS);
+        assertEquals(9d, bar.getClosePrice(), EPS);
+        assertEquals(15d, bar.getVolume(), EPS);
+        assertEquals(3d, bar.getTrades(), EPS);
+    }
+
+    @Test
+    public void replaceBarTest() {
+        columnarSeries.addBar(new BaseBar(Duration.ofMinutes(1), START.plusMinutes(49), 1d, 1d, 1d, 1d, 1d), true);
+        assertEquals(50, columnarSeries.getBarCount());
+        assertEquals(1d, columnarSeries.getLastBar().getClosePrice(), EPS);
+    }
+
+    @Test
+    public void maximumBarCountShouldRemoveOldestBars() {
+        ColumnarBarSeries series = new ColumnarBarSeries("moving", Duration.ofMinutes(1));
+        series.setMaximumBarCount(10);
+        Bar firstRetained = null;
+        for (int i = 0; i < 1000; i++) {
+            series.addBar(START.plusMinutes(i), (double) i, (double) i, (double) i, (double) i, 1d);
+            if (i == 995) {
+                firstRetained = series.getBar(i);
+            }
+        }
+        assertEquals(10, series.getBarCount());
+        assertEquals(990, series.getRemovedBarsCount());
+        assertEquals(999, series.getEndIndex());
+        assertEquals(999d, series.getLastBar().getClosePrice(), EPS);
+        // removed bars are replaced by the first retained one
+        assertEquals(990d, series.getBar(0).getClosePrice(), EPS);
+        // views stay attached to their index
+        assertEquals(995d, firstRetained.getClosePrice(), EPS);
+        assertEquals(10, series.getBarData().size());
+        assertEquals(990d, series.getBarData().get(0).getClosePrice(), EPS);
+    }
+
+    @Test
+    public void subSeriesTest() {
+        ColumnarBarSeries subSeries = columnarSeries.getSubSeries(10, 20);
+        assertEquals(10, subSeries.getBarCount());
+        assertEquals(0, subSeries.getBeginIndex());
+        assertEquals(9, subSeries.getEndIndex());
+        assertEquals(columnarSeries.getClosePrice(10), subSeries.getClosePrice(0), EPS);
+        assertEquals(columnarSeries.getClosePrice(19), subSeries.getClosePrice(9), EPS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addBarWithOtherTimePeriodShouldThrowException() {
+        columnarSeries.addBar(new BaseBar(Duration.ofDays(1), START.plusDays(1), 1d, 1d, 1d, 1d, 1d));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addBarWithEndTimePriorToSeriesEndTimeShouldThrowException() {
+        columnarSeries.addBar(new BaseBar(Duration.ofMinutes(1), START, 1d, 1d, 1d, 1d, 1d));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getBarAfterEndIndexShouldThrowException() {
+        columnarSeries.getBar(50);
+    }
+
+    @Test
+    public void emptySeriesTest() {
+        ColumnarBarSeries series = new ColumnarBarSeries();
+        assertTrue(series.isEmpty());
+        assertEquals(-1, series.getBeginIndex());
+        assertEquals(-1, series.getEndIndex());
+        assertFalse(series.getSubSeries(0, 1).getBarCount() > 0);
+    }
+}
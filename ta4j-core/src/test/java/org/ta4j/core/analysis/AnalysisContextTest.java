@@ -0,0 +1,71 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.ExpectedShortfallCriterion;
+import org.ta4j.core.criteria.MaximumDrawdownCriterion;
+import org.ta4j.core.criteria.NumberOfPositionsCriterion;
+import org.ta4j.core.criteria.ReturnOverMaxDrawdownCriterion;
+import org.ta4j.core.criteria.ValueAtRiskCriterion;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class AnalysisContextTest {
+
+    @Test
+    public void cashFlowAndReturnsAreCalculatedOnce() {
+        BarSeries series = new MockBarSeries(100, 105, 98, 110, 95, 102, 120);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(2, series));
+        AnalysisContext context = new AnalysisContext(series, tradingRecord);
+        assertSame(series, context.getBarSeries());
+        assertSame(tradingRecord, context.getTradingRecord());
+        assertSame(context.getCashFlow(), context.getCashFlow());
+        assertSame(context.getReturns(Returns.ReturnType.LOG), context.getReturns(Returns.ReturnType.LOG));
+        assertNotSame(context.getReturns(Returns.ReturnType.LOG), context.getReturns(Returns.ReturnType.ARITHMETIC));
+    }
+
+    @Test
+    public void criteriaMatchTheirTradingRecordValues() {
+        BarSeries series = new MockBarSeries(100, 105, 98, 110, 95, 102, 120, 90, 93, 99);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(3, series),
+                Trade.sellAt(4, series), Trade.buyAt(7, series), Trade.buyAt(8, series), Trade.sellAt(9, series));
+        AnalysisContext context = new AnalysisContext(series, tradingRecord);
+        AnalysisCriterion[] criteria = { new MaximumDrawdownCriterion(), new ReturnOverMaxDrawdownCriterion(),
+                new ValueAtRiskCriterion(0.9), new ExpectedShortfallCriterion(0.9),
+                new NumberOfPositionsCriterion() };
+        for (AnalysisCriterion criterion : criteria) {
+            assertEquals(criterion.toString(), criterion.calculate(series, tradingRecord),
+                    criterion.calculate(context), 0);
+        }
+    }
+}
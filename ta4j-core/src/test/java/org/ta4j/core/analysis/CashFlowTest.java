@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.analysis;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.ta4j.core.*;
 import org.ta4j.core.mocks.MockBar;
@@ -290,4 +291,17 @@ public class CashFlowTest extends AbstractIndicatorTest {
         assertEquals(1, cashFlow.getValue(size - 1));
     }
 
+
+    @Test
+    public void fill() {
+        BarSeries series = new MockBarSeries(2, 1, 3, 5, 6, 3, 20);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(3, series),
+                Trade.sellAt(4, series), Trade.buyAt(6, series));
+        CashFlow cashFlow = new CashFlow(series, tradingRecord);
+        double[] values = new double[7];
+        cashFlow.fill(0, 6, values);
+        for (int i = 0; i <= 6; i++) {
+            Assert.assertEquals(cashFlow.getDouble(i), values[i], 0);
+        }
+    }
 }
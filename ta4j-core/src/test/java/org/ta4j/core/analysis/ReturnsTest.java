@@ -23,6 +23,7 @@
  */
 package org.ta4j.core.analysis;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.ta4j.core.*;
 import org.ta4j.core.mocks.MockBarSeries;
@@ -119,4 +120,25 @@ public class ReturnsTest extends AbstractIndicatorTest {
 
         assertEquals(logDouble , -0.08701137698962969);
     }
+
+    @Test
+    public void fillAndReadOnlyValues() {
+        BarSeries series = new MockBarSeries(2, 1, 3, 5, 6, 3, 20);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series), Trade.sellAt(3, series),
+                Trade.sellAt(4, series), Trade.buyAt(6, series));
+        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
+        double[] values = new double[5];
+        returns.fill(1, 5, values);
+        for (int i = 1; i <= 5; i++) {
+            Assert.assertEquals(returns.getDouble(i), values[i - 1], 0);
+            Assert.assertEquals(returns.getDouble(i), returns.getValues().get(i), 0);
+        }
+        Assert.assertEquals(7, returns.getValues().size());
+        try {
+            returns.getValues().set(1, 0d);
+            Assert.fail("The values are read-only");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.analysis;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.ExpectedShortfallCriterion;
+import org.ta4j.core.criteria.ValueAtRiskCriterion;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TailRiskEstimatorTest {
+
+    @Test
+    public void matchesTheCriteria() {
+        Random random = new Random(7);
+        double[] prices = new double[300];
+        prices[0] = 100;
+        for (int i = 1; i < prices.length; i++) {
+            prices[i] = prices[i - 1] * (1 + random.nextGaussian() * 0.02);
+        }
+        BarSeries series = new MockBarSeries(prices);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(10, series), Trade.sellAt(120, series),
+                Trade.buyAt(150, series), Trade.sellAt(290, series));
+        Returns returns = new Returns(series, tradingRecord, Returns.ReturnType.LOG);
+        for (double confidence : new double[] { 0.9, 0.95, 0.99 }) {
+            TailRiskEstimator estimator = new TailRiskEstimator(confidence);
+            for (int i = 1; i <= returns.getSize(); i++) {
+                estimator.add(returns.getDouble(i));
+            }
+            assertEquals(returns.getSize(), estimator.getCount());
+            assertEquals(new ValueAtRiskCriterion(confidence).calculate(series, tradingRecord),
+                    estimator.getValueAtRisk(), 0);
+            assertEquals(new ExpectedShortfallCriterion(confidence).calculate(series, tradingRecord),
+                    estimator.getExpectedShortfall(), 0);
+        }
+    }
+
+    @Test
+    public void rollingWindowMatchesRecalculation() {
+        Random random = new Random(13);
+        double[] returnRates = new double[400];
+        for (int i = 0; i < returnRates.length; i++) {
+            // Duplicates to exercise the removals
+            returnRates[i] = (random.nextInt(41) - 20) / 1000d;
+        }
+        int windowSize = 50;
+        TailRiskEstimator estimator = new TailRiskEstimator(0.95, windowSize);
+        for (int i = 0; i < returnRates.length; i++) {
+            estimator.add(returnRates[i]);
+            int from = Math.max(0, i + 1 - windowSize);
+            double[] window = Arrays.copyOfRange(returnRates, from, i + 1);
+            assertEquals(window.length, estimator.getCount());
+            assertEquals(TailRiskEstimator.valueAtRisk(window.clone(), window.length, 0.95),
+                    estimator.getValueAtRisk(), 0);
+            assertEquals(TailRiskEstimator.expectedShortfall(window.clone(), window.length, 0.95),
+                    estimator.getExpectedShortfall(), 0);
+        }
+        estimator.reset();
+        assertEquals(0, estimator.getCount());
+        assertEquals(0, estimator.getValueAtRisk(), 0);
+        assertEquals(0, estimator.getExpectedShortfall(), 0);
+    }
+
+    @Test
+    public void selectionMatchesSort() {
+        double[] returnRates = { 0.01, -0.03, 0.02, -0.01, -0.05, 0.04, -0.02, 0.0, 0.03, -0.04 };
+        double[] sorted = returnRates.clone();
+        Arrays.sort(sorted);
+        // 10 - (int) (10 * 0.8) = 2 return rates in the tail
+        assertEquals(-0.04, TailRiskEstimator.valueAtRisk(returnRates.clone(), returnRates.length, 0.8), 0);
+        assertEquals((sorted[0] + sorted[1]) / 2,
+                TailRiskEstimator.expectedShortfall(returnRates.clone(), returnRates.length, 0.8), 0);
+        assertEquals(0, TailRiskEstimator.valueAtRisk(new double[] { 0.01, 0.02 }, 2, 0.5), 0);
+        assertEquals(0, TailRiskEstimator.expectedShortfall(new double[0], 0, 0.95), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windowSizeMustBePositive() {
+        new TailRiskEstimator(0.95, 0);
+    }
+}
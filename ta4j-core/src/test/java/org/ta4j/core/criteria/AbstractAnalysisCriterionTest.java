@@ -36,6 +36,8 @@ import org.ta4j.core.rules.FixedRule;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 import static junit.framework.TestCase.assertEquals;
@@ -71,6 +73,24 @@ public class AbstractAnalysisCriterionTest extends AbstractCriterionTest {
         assertEquals(buyAndHoldStrategy, bestStrategy);
     }
 
+    @Test
+    public void chooseBestInParallel() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            GrossReturnCriterion criterion = new GrossReturnCriterion();
+            MockBarSeries profitSeries = new MockBarSeries(6.0, 9.0, 6.0, 6.0);
+            profitSeries.setConcurrent(true);
+            BarSeriesManager profit = new BarSeriesManager(profitSeries);
+            assertEquals(alwaysStrategy, criterion.chooseBest(profit, TradeType.BUY, strategies, executor));
+            MockBarSeries lossSeries = new MockBarSeries(6.0, 3.0, 6.0, 6.0);
+            lossSeries.setConcurrent(true);
+            BarSeriesManager loss = new BarSeriesManager(lossSeries);
+            assertEquals(buyAndHoldStrategy, criterion.chooseBest(loss, TradeType.BUY, strategies, executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void toStringMethod() {
         AbstractAnalysisCriterion c1 = new AverageReturnPerBarCriterion();
@@ -0,0 +1,164 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Position;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.cost.LinearBorrowingCostModel;
+import org.ta4j.core.analysis.cost.LinearTransactionCostModel;
+import org.ta4j.core.criteria.helpers.AverageCriterion;
+import org.ta4j.core.criteria.helpers.RelativeStandardDeviationCriterion;
+import org.ta4j.core.criteria.helpers.StandardDeviationCriterion;
+import org.ta4j.core.criteria.helpers.StandardErrorCriterion;
+import org.ta4j.core.criteria.helpers.VarianceCriterion;
+import org.ta4j.core.criteria.pnl.AverageLossCriterion;
+import org.ta4j.core.criteria.pnl.AverageProfitCriterion;
+import org.ta4j.core.criteria.pnl.GrossLossCriterion;
+import org.ta4j.core.criteria.pnl.GrossProfitCriterion;
+import org.ta4j.core.criteria.pnl.GrossReturnCriterion;
+import org.ta4j.core.criteria.pnl.NetLossCriterion;
+import org.ta4j.core.criteria.pnl.NetProfitCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossPercentageCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossRatioCriterion;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CriteriaReportTest {
+
+    static final List<AnalysisCriterion> CRITERIA = Arrays.asList(new AverageReturnPerBarCriterion(),
+            new EnterAndHoldReturnCriterion(), new ExpectancyCriterion(), new ExpectedShortfallCriterion(0.95),
+            new LinearTransactionCostCriterion(1000, 0.005, 0.2), new LosingPositionsRatioCriterion(),
+            new MaximumDrawdownCriterion(), new NumberOfBarsCriterion(), new NumberOfBreakEvenPositionsCriterion(),
+            new NumberOfConsecutiveWinningPositionsCriterion(), new NumberOfLosingPositionsCriterion(),
+            new NumberOfPositionsCriterion(), new NumberOfWinningPositionsCriterion(),
+            new ReturnOverMaxDrawdownCriterion(), new SqnCriterion(), new ValueAtRiskCriterion(0.9),
+            new VersusBuyAndHoldCriterion(new GrossReturnCriterion()), new WinningPositionsRatioCriterion(),
+            new AverageLossCriterion(), new AverageProfitCriterion(), new GrossLossCriterion(),
+            new GrossProfitCriterion(), new GrossReturnCriterion(), new NetLossCriterion(), new NetProfitCriterion(),
+            new ProfitLossCriterion(), new ProfitLossPercentageCriterion(), new ProfitLossRatioCriterion(),
+            new StandardDeviationCriterion(new ProfitLossCriterion()), new SqnCriterion(new ExpectancyCriterion()),
+            new SqnCriterion(new ProfitLossCriterion(), 10), new AverageCriterion(new ProfitLossCriterion()),
+            new VarianceCriterion(new GrossReturnCriterion()), new StandardErrorCriterion(new ProfitLossCriterion()),
+            new RelativeStandardDeviationCriterion(new ProfitLossCriterion()));
+
+    private static double[] randomPrices(Random random, int barCount) {
+        double[] prices = new double[barCount];
+        prices[0] = 100;
+        for (int i = 1; i < barCount; i++) {
+            prices[i] = prices[i - 1] * (1 + (random.nextDouble() - 0.5) * 0.05);
+        }
+        return prices;
+    }
+
+    private static TradingRecord randomRecord(Random random, BarSeries series, TradingRecord tradingRecord) {
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            if (random.nextInt(6) == 0) {
+                tradingRecord.operate(i, series.getBar(i).getClosePrice(), 1d);
+            }
+        }
+        return tradingRecord;
+    }
+
+    private static double[] calculateOneByOne(BarSeries series, TradingRecord tradingRecord) {
+        double[] values = new double[CRITERIA.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = CRITERIA.get(i).calculate(series, tradingRecord);
+        }
+        return values;
+    }
+
+    @Test
+    public void sameValuesAsTheCriteria() {
+        Random random = new Random(13);
+        CriteriaReport report = new CriteriaReport(CRITERIA);
+        for (int k = 0; k < 20; k++) {
+            BarSeries series = new MockBarSeries(randomPrices(random, 200));
+            TradeType tradeType = k % 2 == 0 ? TradeType.BUY : TradeType.SELL;
+            TradingRecord tradingRecord = k % 4 < 2 ? new BaseTradingRecord(tradeType)
+                    : new BaseTradingRecord(tradeType, new LinearTransactionCostModel(0.01),
+                            new LinearBorrowingCostModel(0.001));
+            randomRecord(random, series, tradingRecord);
+            assertArrayEquals(calculateOneByOne(series, tradingRecord), report.calculate(series, tradingRecord), 0);
+        }
+    }
+
+    @Test
+    public void emptyRecord() {
+        BarSeries series = new MockBarSeries(1d, 2d, 3d);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        assertArrayEquals(calculateOneByOne(series, tradingRecord),
+                new CriteriaReport(CRITERIA).calculate(series, tradingRecord), 0);
+    }
+
+    @Test
+    public void barsAndPositionsAreWalkedOnce() {
+        BarSeries series = new MockBarSeries(randomPrices(new Random(2), 50));
+        TradingRecord tradingRecord = randomRecord(new Random(3), series, new BaseTradingRecord());
+        int[] bars = new int[1];
+        int[] positions = new int[1];
+        AnalysisCriterion counting = new ProfitLossCriterion() {
+            @Override
+            public CriterionAccumulator accumulator(BarSeries series, TradingRecord tradingRecord) {
+                return new CriterionAccumulator() {
+                    @Override
+                    public boolean usesBars() {
+                        return true;
+                    }
+
+                    @Override
+                    public void onBar(int index, double cashFlow, double logReturn) {
+                        assertEquals(bars[0], index);
+                        bars[0]++;
+                    }
+
+                    @Override
+                    public void onPosition(Position position) {
+                        positions[0]++;
+                    }
+
+                    @Override
+                    public double getValue() {
+                        return 0;
+                    }
+                };
+            }
+        };
+        new CriteriaReport(counting, new MaximumDrawdownCriterion(), new ValueAtRiskCriterion(0.95))
+                .calculate(series, tradingRecord);
+        assertEquals(series.getBarCount(), bars[0]);
+        assertEquals(tradingRecord.getPositionCount(), positions[0]);
+    }
+}
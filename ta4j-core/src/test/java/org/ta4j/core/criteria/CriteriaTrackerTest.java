@@ -0,0 +1,111 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.analysis.cost.LinearBorrowingCostModel;
+import org.ta4j.core.analysis.cost.LinearTransactionCostModel;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.mocks.MockBar;
+
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CriteriaTrackerTest {
+
+    private static double[] calculateOneByOne(BarSeries series, TradingRecord tradingRecord) {
+        double[] values = new double[CriteriaReportTest.CRITERIA.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = CriteriaReportTest.CRITERIA.get(i).calculate(series, tradingRecord);
+        }
+        return values;
+    }
+
+    @Test
+    public void sameValuesAsTheCriteriaAtEachBar() {
+        Random random = new Random(17);
+        ZonedDateTime time = ZonedDateTime.now();
+        for (int k = 0; k < 8; k++) {
+            BarSeries series = new BaseBarSeries();
+            TradeType tradeType = k % 2 == 0 ? TradeType.BUY : TradeType.SELL;
+            TradingRecord tradingRecord = k % 4 < 2 ? new BaseTradingRecord(tradeType)
+                    : new BaseTradingRecord(tradeType, new LinearTransactionCostModel(0.01),
+                            new LinearBorrowingCostModel(0.001));
+            CriteriaTracker tracker = new CriteriaTracker(series, tradingRecord, CriteriaReportTest.CRITERIA);
+            double price = 100;
+            for (int i = 0; i < 150; i++) {
+                price = price * (1 + (random.nextDouble() - 0.5) * 0.05);
+                series.addBar(new MockBar(time.plusDays(i), price));
+                tracker.onBar();
+                if (random.nextInt(5) == 0) {
+                    tradingRecord.operate(i, price, 1d);
+                    tracker.onTrade();
+                }
+                assertArrayEquals(calculateOneByOne(series, tradingRecord), tracker.getValues(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void catchesUpWithTheSeriesAndTheRecord() {
+        BarSeries series = new BaseBarSeries();
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        CriteriaTracker tracker = new CriteriaTracker(series, tradingRecord, new MaximumDrawdownCriterion(),
+                new ProfitLossCriterion(), new ValueAtRiskCriterion(0.9));
+        assertArrayEquals(new double[] { 0, 0, 0 }, tracker.getValues(), 0);
+        ZonedDateTime time = ZonedDateTime.now();
+        double[] prices = { 100, 90, 95, 80, 110, 100, 70, 75 };
+        for (int i = 0; i < prices.length; i++) {
+            series.addBar(new MockBar(time.plusDays(i), prices[i]));
+        }
+        tradingRecord.enter(0, 100d, 1d);
+        tradingRecord.exit(3, 80d, 1d);
+        tradingRecord.enter(4, 110d, 1d);
+        // Several bars and trades reported at once
+        tracker.onTrade();
+        assertArrayEquals(calculateOneByOne(series, tradingRecord, tracker), tracker.getValues(), 0);
+        assertEquals(-20, tracker.getValue(1), 0);
+        tradingRecord.exit(6, 70d, 1d);
+        tracker.onTrade();
+        assertArrayEquals(calculateOneByOne(series, tradingRecord, tracker), tracker.getValues(), 0);
+        assertEquals(-60, tracker.getValue(1), 0);
+    }
+
+    private static double[] calculateOneByOne(BarSeries series, TradingRecord tradingRecord,
+            CriteriaTracker tracker) {
+        double[] values = new double[tracker.getCriteria().size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = tracker.getCriteria().get(i).calculate(series, tradingRecord);
+        }
+        return values;
+    }
+}
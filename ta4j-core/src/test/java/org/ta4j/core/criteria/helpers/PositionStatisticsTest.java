@@ -0,0 +1,115 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.criteria.helpers;
+
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Position;
+import org.ta4j.core.Trade;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.criteria.ExpectancyCriterion;
+import org.ta4j.core.criteria.SqnCriterion;
+import org.ta4j.core.criteria.pnl.ProfitLossCriterion;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PositionStatisticsTest {
+
+    @Test
+    public void statisticsOfThePositions() {
+        MockBarSeries series = new MockBarSeries(100, 105, 110, 100, 95, 105);
+        TradingRecord tradingRecord = new BaseTradingRecord(Trade.buyAt(0, series, 1d), Trade.sellAt(2, series, 1d),
+                Trade.buyAt(3, series, 1d), Trade.sellAt(5, series, 1d));
+        PositionStatistics statistics = PositionStatistics.of(new ProfitLossCriterion(), series, tradingRecord);
+        assertEquals(2, statistics.getCount());
+        assertEquals(15, statistics.getTotal(), 0);
+        assertEquals(10, statistics.getValue(0), 0);
+        assertEquals(5, statistics.getValue(1), 0);
+        assertEquals(7.5, statistics.getAverage(), 0);
+        assertEquals(6.25, statistics.getVariance(), 0);
+        assertEquals(2.5, statistics.getStandardDeviation(), 0);
+        assertEquals(2.5 / Math.sqrt(2), statistics.getStandardError(), 0);
+        assertEquals(2.5 / 7.5, statistics.getRelativeStandardDeviation(), 0);
+    }
+
+    @Test
+    public void noPosition() {
+        PositionStatistics statistics = PositionStatistics.of(new ProfitLossCriterion(), new MockBarSeries(1d, 2d),
+                new BaseTradingRecord());
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getAverage(), 0);
+        assertEquals(0, statistics.getVariance(), 0);
+        assertEquals(0, statistics.getStandardDeviation(), 0);
+        assertEquals(0, statistics.getStandardError(), 0);
+        assertEquals(0, statistics.getRelativeStandardDeviation(), 0);
+    }
+
+    @Test
+    public void sameValuesAsCalculatingTheCriterionForEachStatistic() {
+        Random random = new Random(23);
+        double[] prices = new double[300];
+        prices[0] = 100;
+        for (int i = 1; i < prices.length; i++) {
+            prices[i] = prices[i - 1] * (1 + (random.nextDouble() - 0.5) * 0.05);
+        }
+        BarSeries series = new MockBarSeries(prices);
+        TradingRecord tradingRecord = new BaseTradingRecord();
+        for (int i = 0; i < prices.length; i++) {
+            if (random.nextInt(4) == 0) {
+                tradingRecord.operate(i, prices[i], 1d);
+            }
+        }
+        for (AnalysisCriterion criterion : new AnalysisCriterion[] { new ProfitLossCriterion(),
+                new ExpectancyCriterion() }) {
+            // The values of the criteria before the metric vector
+            double numberOfPositions = tradingRecord.getPositionCount();
+            double average = criterion.calculate(series, tradingRecord) / numberOfPositions;
+            double variance = 0;
+            for (Position position : tradingRecord.getPositions()) {
+                variance = variance + Math.pow(criterion.calculate(series, position) - average, 2);
+            }
+            variance = variance / numberOfPositions;
+            double standardDeviation = Math.sqrt(variance);
+
+            assertEquals(average, new AverageCriterion(criterion).calculate(series, tradingRecord), 0);
+            assertEquals(variance, new VarianceCriterion(criterion).calculate(series, tradingRecord), 0);
+            assertEquals(standardDeviation,
+                    new StandardDeviationCriterion(criterion).calculate(series, tradingRecord), 0);
+            assertEquals(standardDeviation / Math.sqrt(numberOfPositions),
+                    new StandardErrorCriterion(criterion).calculate(series, tradingRecord), 0);
+            assertEquals(standardDeviation / average,
+                    new RelativeStandardDeviationCriterion(criterion).calculate(series, tradingRecord), 0);
+            assertEquals(average / standardDeviation * Math.sqrt(numberOfPositions),
+                    new SqnCriterion(criterion).calculate(series, tradingRecord), 0);
+            // Fewer than 100 positions: the actual number of positions is used
+            assertEquals(average / standardDeviation * Math.sqrt(numberOfPositions),
+                    new SqnCriterion(criterion, 10).calculate(series, tradingRecord), 0);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.mocks.MockBar;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ATRBankIndicatorTest {
+
+    private static final ZonedDateTime START = ZonedDateTime.of(2022, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static MockBar randomBar(Random random, int index) {
+        double open = 100 + random.nextDouble() * 10;
+        double close = 100 + random.nextDouble() * 10;
+        double high = Math.max(open, close) + random.nextDouble();
+        double low = Math.min(open, close) - random.nextDouble();
+        return new MockBar(START.plusDays(index), open, close, high, low, 0, 1, 0);
+    }
+
+    private static BarSeries randomSeries(long seed, int barCount) {
+        Random random = new Random(seed);
+        BarSeries series = new BaseBarSeries();
+        for (int i = 0; i < barCount; i++) {
+            series.addBar(randomBar(random, i));
+        }
+        return series;
+    }
+
+    @Test
+    public void sameValuesAsTheATRIndicators() {
+        BarSeries series = randomSeries(1, 300);
+        ATRBankIndicator bank = new ATRBankIndicator(series, 20);
+        ATRIndicator[] atrs = new ATRIndicator[20];
+        for (int n = 1; n <= 20; n++) {
+            atrs[n - 1] = new ATRIndicator(series, n);
+        }
+        for (int i = 0; i < series.getBarCount(); i++) {
+            for (int n = 1; n <= 20; n++) {
+                assertEquals(atrs[n - 1].getDouble(i), bank.getDouble(i, n), 0);
+            }
+        }
+        // Random access
+        Random random = new Random(2);
+        for (int k = 0; k < 50; k++) {
+            int i = random.nextInt(series.getBarCount());
+            double[] row = bank.getValue(i);
+            for (int n = 1; n <= 20; n++) {
+                assertEquals(atrs[n - 1].getDouble(i), row[n - 1], 0);
+            }
+        }
+    }
+
+    @Test
+    public void lastBarReplacement() {
+        Random random = new Random(3);
+        BarSeries series = new BaseBarSeries();
+        ATRBankIndicator bank = new ATRBankIndicator(series, 5);
+        for (int i = 0; i < 50; i++) {
+            series.addBar(randomBar(random, i));
+            bank.getValue(i);
+            series.addBar(randomBar(random, i), true);
+            ATRBankIndicator expected = new ATRBankIndicator(series, 5);
+            assertArrayEquals(expected.getValue(i), bank.getValue(i), 0);
+            if (i > 0) {
+                assertArrayEquals(expected.getValue(i - 1), bank.getValue(i - 1), 0);
+            }
+        }
+    }
+
+    @Test
+    public void randomWalkIndexesSharingABank() {
+        BarSeries series = randomSeries(5, 100);
+        ATRBankIndicator bank = new ATRBankIndicator(series, 10);
+        RWIHighIndicator sharedHigh = new RWIHighIndicator(bank, 10);
+        RWILowIndicator sharedLow = new RWILowIndicator(bank, 8);
+        RWIHighIndicator high = new RWIHighIndicator(series, 10);
+        RWILowIndicator low = new RWILowIndicator(series, 8);
+        for (int i = 0; i < series.getBarCount(); i++) {
+            assertEquals(high.getDouble(i), sharedHigh.getDouble(i), 0);
+            assertEquals(low.getDouble(i), sharedLow.getDouble(i), 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void randomWalkIndexOutOfTheBank() {
+        new RWIHighIndicator(new ATRBankIndicator(randomSeries(4, 10), 5), 6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void barCountOutOfTheBank() {
+        new ATRBankIndicator(randomSeries(4, 10), 5).getDouble(3, 6);
+    }
+}
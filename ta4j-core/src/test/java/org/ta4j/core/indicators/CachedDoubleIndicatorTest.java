@@ -0,0 +1,165 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.ConstantIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class CachedDoubleIndicatorTest {
+
+    private BarSeries series;
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+    }
+
+    @Test
+    public void getValueBoxesPrimitiveValue() {
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+        for (int i = series.getBeginIndex(); i <= series.getEndIndex(); i++) {
+            assertEquals(sma.getDouble(i), sma.getValue(i), 0);
+        }
+    }
+
+    @Test
+    public void nanResultsAreCached() {
+        CountingIndicator nan = new CountingIndicator(series, Double.NaN);
+        assertTrue(Double.isNaN(nan.getDouble(3)));
+        assertTrue(Double.isNaN(nan.getDouble(3)));
+        assertEquals(1, nan.calculations);
+    }
+
+    @Test
+    public void lastBarIsNotCached() {
+        CountingIndicator counting = new CountingIndicator(series, 1);
+        counting.getDouble(series.getEndIndex());
+        counting.getDouble(series.getEndIndex());
+        assertEquals(2, counting.calculations);
+    }
+
+    @Test
+    public void getDoubleOnMovingBarSeries() {
+        double[] data = new double[50];
+        Arrays.fill(data, 1);
+        BarSeries barSeries = new MockBarSeries(data);
+        barSeries.setMaximumBarCount(12);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(barSeries), 10);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(1, sma.getDouble(i), 0);
+        }
+    }
+
+    @Test
+    public void ofReturnsDoubleIndicatorsAsTheyAre() {
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+        assertSame(closePrice, DoubleIndicator.of(closePrice));
+    }
+
+    @Test
+    public void ofWrapsGenericIndicators() {
+        Indicator<Double> constant = new ConstantIndicator<>(series, 7d);
+        DoubleIndicator wrapped = DoubleIndicator.of(constant);
+        assertEquals(7, wrapped.getDouble(2), 0);
+        assertEquals(Double.valueOf(7), wrapped.getValue(2));
+        assertSame(series, wrapped.getBarSeries());
+    }
+
+    @Test
+    public void fillMatchesGetDoubleAndPopulatesCache() {
+        CountingIndicator counting = new CountingIndicator(series, 2);
+        double[] out = new double[series.getBarCount()];
+        counting.fill(0, series.getEndIndex(), out);
+        for (double value : out) {
+            assertEquals(2, value, 0);
+        }
+        assertEquals(series.getBarCount(), counting.calculations);
+        counting.getDouble(4);
+        counting.fill(2, 6, new double[5]);
+        assertEquals(series.getBarCount(), counting.calculations);
+    }
+
+    @Test
+    public void fillRecursiveIndicatorFarFromCache() {
+        double[] data = new double[20000];
+        Arrays.fill(data, 3);
+        BarSeries barSeries = new MockBarSeries(data);
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(barSeries), 10);
+        double[] out = new double[100];
+        ema.fill(19900, 19999, out);
+        for (double value : out) {
+            assertEquals(3, value, 1e-12);
+        }
+    }
+
+    @Test
+    public void fillOnMovingBarSeries() {
+        double[] data = new double[50];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        BarSeries barSeries = new MockBarSeries(data);
+        barSeries.setMaximumBarCount(20);
+        SMAIndicator sma = new SMAIndicator(new ClosePriceIndicator(barSeries), 3);
+        SMAIndicator expected = new SMAIndicator(new ClosePriceIndicator(barSeries), 3);
+        double[] out = new double[50];
+        sma.fill(0, 49, out);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(expected.getDouble(i), out[i], 1e-12);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fillRangeMustFitTheArray() {
+        new SMAIndicator(new ClosePriceIndicator(series), 3).fill(0, 5, new double[5]);
+    }
+
+    private static class CountingIndicator extends CachedDoubleIndicator {
+
+        private final double value;
+
+        private int calculations;
+
+        CountingIndicator(BarSeries series, double value) {
+            super(series);
+            this.value = value;
+        }
+
+        @Override
+        protected double calculate(int index) {
+            calculations++;
+            return value;
+        }
+    }
+}
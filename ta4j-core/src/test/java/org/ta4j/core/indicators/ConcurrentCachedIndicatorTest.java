@@ -0,0 +1,229 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.CrossIndicator;
+import org.ta4j.core.indicators.helpers.HighestValueIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+
+/**
+ * Stress tests of the concurrent mode of the cached indicators: several
+ * threads evaluate the same indicators at the same time, in different orders,
+ * and must get the values of a sequential evaluation.
+ */
+public class ConcurrentCachedIndicatorTest {
+
+    private static final int THREADS = 8;
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentModeIsOptIn() {
+        BarSeries series = new MockBarSeries(data(10));
+        assertFalse(series.isConcurrent());
+        assertEquals(null, new SMAIndicator(new ClosePriceIndicator(series), 3).lock);
+        series.setConcurrent(true);
+        assertTrue(series.isConcurrent());
+        assertTrue(new SMAIndicator(new ClosePriceIndicator(series), 3).lock != null);
+    }
+
+    @Test
+    public void sharedIndicatorTreeUnderContention() throws Exception {
+        double[] data = data(3000);
+        assertConcurrentEvaluation(data, 0, series -> {
+            ClosePriceIndicator close = new ClosePriceIndicator(series);
+            return new DoubleIndicator[] { new EMAIndicator(new SMAIndicator(close, 10), 20),
+                    new RSIIndicator(close, 14), new MACDIndicator(close, 12, 26),
+                    new StandardDeviationIndicator(close, 30), new HighestValueIndicator(close, 50) };
+        });
+    }
+
+    @Test
+    public void movingSeriesUnderContention() throws Exception {
+        double[] data = data(2000);
+        assertConcurrentEvaluation(data, 200, series -> {
+            ClosePriceIndicator close = new ClosePriceIndicator(series);
+            return new DoubleIndicator[] { new SMAIndicator(close, 10), new StandardDeviationIndicator(close, 20) };
+        });
+    }
+
+    @Test
+    public void recursiveFillIsDoneOnce() throws Exception {
+        double[] data = data(20000);
+        BarSeries series = new MockBarSeries(data);
+        series.setConcurrent(true);
+        EMAIndicator ema = new EMAIndicator(new ClosePriceIndicator(series), 10);
+        EMAIndicator expected = new EMAIndicator(new ClosePriceIndicator(new MockBarSeries(data)), 10);
+        int index = series.getEndIndex() - 1;
+        List<Double> values = runConcurrently(() -> ema.getDouble(index));
+        for (double value : values) {
+            assertEquals(expected.getDouble(index), value, 0);
+        }
+    }
+
+    @Test
+    public void genericCachedIndicatorUnderContention() throws Exception {
+        double[] data = data(3000);
+        BarSeries series = new MockBarSeries(data);
+        series.setConcurrent(true);
+        CrossIndicator cross = new CrossIndicator(new SMAIndicator(new ClosePriceIndicator(series), 5),
+                new SMAIndicator(new ClosePriceIndicator(series), 20));
+        BarSeries reference = new MockBarSeries(data);
+        CrossIndicator expected = new CrossIndicator(new SMAIndicator(new ClosePriceIndicator(reference), 5),
+                new SMAIndicator(new ClosePriceIndicator(reference), 20));
+        boolean[] expectedValues = new boolean[series.getBarCount()];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = expected.getValue(i);
+        }
+        List<Integer> mismatches = runConcurrently(() -> {
+            int count = 0;
+            for (int i : shuffledIndices(series, new Random())) {
+                if (expectedValues[i] != cross.getValue(i)) {
+                    count++;
+                }
+            }
+            return count;
+        });
+        for (int count : mismatches) {
+            assertEquals(0, count);
+        }
+    }
+
+    /**
+     * Evaluates the indicators of a concurrent series from several threads (each
+     * one in a random order) and compares them to the ones of a sequential series.
+     */
+    private void assertConcurrentEvaluation(double[] data, int maximumBarCount,
+            Function<BarSeries, DoubleIndicator[]> indicators) throws Exception {
+        BarSeries series = new MockBarSeries(data);
+        BarSeries reference = new MockBarSeries(data);
+        if (maximumBarCount > 0) {
+            series.setMaximumBarCount(maximumBarCount);
+            reference.setMaximumBarCount(maximumBarCount);
+        }
+        series.setConcurrent(true);
+        DoubleIndicator[] shared = indicators.apply(series);
+        DoubleIndicator[] expected = indicators.apply(reference);
+        double[][] expectedValues = new double[expected.length][series.getEndIndex() + 1];
+        for (int i = series.getRemovedBarsCount(); i <= series.getEndIndex(); i++) {
+            for (int j = 0; j < expected.length; j++) {
+                expectedValues[j][i] = expected[j].getDouble(i);
+            }
+        }
+        List<Integer> mismatches = runConcurrently(() -> {
+            int count = 0;
+            for (int i : shuffledIndices(series, new Random())) {
+                for (int j = 0; j < shared.length; j++) {
+                    double value = shared[j].getDouble(i);
+                    if (Math.abs(value - expectedValues[j][i]) > 1e-9 * Math.max(1, Math.abs(value))) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        });
+        for (int count : mismatches) {
+            assertEquals(0, count);
+        }
+    }
+
+    /**
+     * Runs the task on all the threads, released at the same time.
+     */
+    private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    /**
+     * @return the retained indices of the series, partly sequential and partly
+     *         shuffled
+     */
+    private static int[] shuffledIndices(BarSeries series, Random random) {
+        int first = series.getRemovedBarsCount();
+        int[] indices = new int[series.getEndIndex() - first + 1];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = first + i;
+        }
+        for (int i = indices.length - 1; i > indices.length / 2; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = indices[i];
+            indices[i] = indices[j];
+            indices[j] = tmp;
+        }
+        return indices;
+    }
+
+    private static double[] data(int count) {
+        double[] data = new double[count];
+        for (int i = 0; i < count; i++) {
+            data[i] = 100 + 10 * Math.sin(i / 15.0) + 3 * Math.cos(i * 0.7);
+        }
+        return data;
+    }
+}
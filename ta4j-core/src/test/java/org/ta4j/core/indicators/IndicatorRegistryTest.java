@@ -0,0 +1,132 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.HighPriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import static org.junit.Assert.*;
+
+public class IndicatorRegistryTest {
+
+    private BarSeries series;
+
+    private IndicatorRegistry registry;
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(1, 2, 3, 4, 3, 4, 5, 4, 3, 3, 4, 3, 2);
+        registry = series.getIndicatorRegistry();
+    }
+
+    @Test
+    public void registryIsScopedToTheSeries() {
+        assertSame(registry, series.getIndicatorRegistry());
+        assertSame(series, registry.getBarSeries());
+        assertNotSame(registry, new MockBarSeries(1, 2, 3).getIndicatorRegistry());
+    }
+
+    @Test
+    public void sameParametersAndInputsShareTheInstance() {
+        ClosePriceIndicator close = registry.closePrice();
+        assertSame(close, registry.closePrice());
+        assertSame(registry.sma(close, 3), registry.sma(close, 3));
+        assertNotSame(registry.sma(close, 3), registry.sma(close, 4));
+        assertNotSame(registry.sma(close, 3), registry.ema(close, 3));
+        assertSame(registry.atr(14), registry.atr(14));
+    }
+
+    @Test
+    public void inputsAreComparedByIdentity() {
+        ClosePriceIndicator other = new ClosePriceIndicator(series);
+        assertNotSame(registry.sma(registry.closePrice(), 3), registry.sma(other, 3));
+        assertSame(registry.sma(other, 3), registry.sma(other, 3));
+    }
+
+    @Test
+    public void customIndicators() {
+        HighPriceIndicator high = registry.highPrice();
+        HMAIndicator hma = registry.get(HMAIndicator.class, () -> new HMAIndicator(high, 4), high, 4);
+        assertSame(hma, registry.get(HMAIndicator.class, () -> new HMAIndicator(high, 4), high, 4));
+        assertEquals(hma.getValue(10), new HMAIndicator(high, 4).getValue(10));
+    }
+
+    @Test
+    public void builtInIndicatorsDoNotUseTheRegistry() {
+        new ChandelierExitLongIndicator(series, 5, 3);
+        new MACDIndicator(new ClosePriceIndicator(series), 3, 6);
+        new ATRIndicator(series, 5);
+        new RWIHighIndicator(series, 5);
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void indicatorsAreForgottenWhenTheConcurrentModeChanges() {
+        ClosePriceIndicator close = registry.closePrice();
+        SMAIndicator sma = registry.sma(close, 3);
+        series.setConcurrent(true);
+        ClosePriceIndicator concurrentClose = registry.closePrice();
+        assertNotSame(close, concurrentClose);
+        assertNotSame(sma, registry.sma(concurrentClose, 3));
+        assertSame(concurrentClose, registry.closePrice());
+    }
+
+    @Test
+    public void leastRecentlyUsedIndicatorsAreForgotten() {
+        IndicatorRegistry bounded = new IndicatorRegistry(series, 3);
+        assertEquals(3, bounded.getMaximumSize());
+        ClosePriceIndicator close = bounded.closePrice();
+        SMAIndicator sma3 = bounded.sma(close, 3);
+        SMAIndicator sma4 = bounded.sma(close, 4);
+        assertSame(close, bounded.closePrice());
+        // Forgets the SMA(3), the least recently used
+        bounded.sma(close, 5);
+        assertEquals(3, bounded.size());
+        assertSame(close, bounded.closePrice());
+        assertSame(sma4, bounded.sma(close, 4));
+        assertNotSame(sma3, bounded.sma(close, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaximumSize() {
+        new IndicatorRegistry(series, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void inputOfAnotherSeries() {
+        registry.sma(new ClosePriceIndicator(new MockBarSeries(1, 2, 3)), 3);
+    }
+
+    @Test
+    public void clear() {
+        ClosePriceIndicator close = registry.closePrice();
+        registry.clear();
+        assertEquals(0, registry.size());
+        assertNotSame(close, registry.closePrice());
+    }
+}
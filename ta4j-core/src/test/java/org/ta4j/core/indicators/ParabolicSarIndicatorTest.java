@@ -23,14 +23,20 @@
  */
 package org.ta4j.core.indicators;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.ta4j.core.AbstractIndicatorTest;
 import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
 import org.ta4j.core.mocks.MockBar;
 import org.ta4j.core.mocks.MockBarSeries;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 public class ParabolicSarIndicatorTest extends AbstractIndicatorTest {
 
@@ -115,4 +121,66 @@ public class ParabolicSarIndicatorTest extends AbstractIndicatorTest {
         assertEquals(3460.81265600, sar.getValue(9));
     }
 
-}
\ No newline at end of file
+    private static List<Bar> randomBars(long seed, int barCount) {
+        Random random = new Random(seed);
+        List<Bar> bars = new ArrayList<>();
+        ZonedDateTime time = ZonedDateTime.of(2022, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        double close = 100;
+        for (int i = 0; i < barCount; i++) {
+            double open = close;
+            close = open * (1 + (random.nextDouble() - 0.5) * 0.04);
+            double high = Math.max(open, close) * (1 + random.nextDouble() * 0.01);
+            double low = Math.min(open, close) * (1 - random.nextDouble() * 0.01);
+            bars.add(new MockBar(time.plusDays(i), open, close, high, low, 0, 1, 0));
+        }
+        return bars;
+    }
+
+    @Test
+    public void randomAccessMatchesSequentialPass() {
+        BarSeries series = new MockBarSeries(randomBars(17, 500));
+        ParabolicSarIndicator sequential = new ParabolicSarIndicator(series);
+        double[] expected = new double[series.getBarCount()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = sequential.getDouble(i);
+        }
+        Random random = new Random(3);
+        ParabolicSarIndicator sar = new ParabolicSarIndicator(series);
+        Assert.assertEquals(expected[expected.length - 1], sar.getDouble(series.getEndIndex()), 0);
+        for (int k = 0; k < 200; k++) {
+            int i = random.nextInt(expected.length);
+            Assert.assertEquals(expected[i], sar.getDouble(i), 0);
+        }
+    }
+
+    @Test
+    public void lastBarReplacement() {
+        List<Bar> bars = randomBars(23, 200);
+        List<Bar> replacements = randomBars(29, 200);
+        BarSeries series = new BaseBarSeries();
+        ParabolicSarIndicator sar = new ParabolicSarIndicator(series);
+        for (int i = 0; i < bars.size(); i++) {
+            series.addBar(replacements.get(i));
+            Assert.assertEquals(new ParabolicSarIndicator(series).getDouble(i), sar.getDouble(i), 0);
+            series.addBar(bars.get(i), true);
+            Assert.assertEquals(new ParabolicSarIndicator(series).getDouble(i), sar.getDouble(i), 0);
+        }
+    }
+
+    @Test
+    public void movingSeries() {
+        List<Bar> bars = randomBars(31, 500);
+        ParabolicSarIndicator expected = new ParabolicSarIndicator(new MockBarSeries(bars));
+        BarSeries series = new BaseBarSeries();
+        series.setMaximumBarCount(20);
+        ParabolicSarIndicator sar = new ParabolicSarIndicator(series);
+        for (int i = 0; i < bars.size(); i++) {
+            series.addBar(bars.get(i));
+            Assert.assertEquals(expected.getDouble(i), sar.getDouble(i), 0);
+            // First retained bar
+            int beginIndex = series.getBeginIndex();
+            Assert.assertEquals(beginIndex == 0 ? Double.NaN : expected.getDouble(beginIndex),
+                    sar.getDouble(beginIndex), 0);
+        }
+    }
+}
@@ -23,10 +23,17 @@
  */
 package org.ta4j.core.indicators;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.ta4j.core.AbstractIndicatorTest;
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
 import org.ta4j.core.ExternalIndicatorTest;
+import org.ta4j.core.mocks.MockBar;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
 
 
 
@@ -38,4 +45,29 @@ import static org.ta4j.core.TestUtils.assertIndicatorEquals;
  */
 public class RWIHighIndicatorTest extends AbstractIndicatorTest {
 
+    @Test
+    public void sameValuesAsThePerLengthATRs() {
+        Random random = new Random(5);
+        BarSeries series = new BaseBarSeries();
+        ZonedDateTime time = ZonedDateTime.of(2022, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < 200; i++) {
+            double open = 100 + random.nextDouble() * 10;
+            double close = 100 + random.nextDouble() * 10;
+            series.addBar(new MockBar(time.plusDays(i), open, close, Math.max(open, close) + random.nextDouble(),
+                    Math.min(open, close) - random.nextDouble(), 0, 1, 0));
+        }
+        RWIHighIndicator indicator = new RWIHighIndicator(series, 16);
+        for (int i = 0; i < series.getBarCount(); i++) {
+            if (i < 15) {
+                Assert.assertTrue(Double.isNaN(indicator.getDouble(i)));
+                continue;
+            }
+            double expected = 0;
+            for (int n = 2; n <= 16; n++) {
+                double atr = new ATRIndicator(series, n).getDouble(i);
+                expected = Math.max(expected, series.getBar(i).getHighPrice() - series.getBar(i + 1 - n).getLowPrice() / (atr * Math.sqrt(n)));
+            }
+            Assert.assertEquals(expected, indicator.getDouble(i), 0);
+        }
+    }
 }
@@ -0,0 +1,77 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.helpers;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesView;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+
+public class ParentIndicatorTest {
+
+    private BarSeries series;
+
+    private SMAIndicator sma;
+
+    @Before
+    public void setUp() {
+        series = new MockBarSeries(1d, 2d, 3d, 4d, 5d, 6d, 7d, 8d, 9d, 10d);
+        sma = new SMAIndicator(new ClosePriceIndicator(series), 3);
+    }
+
+    @Test
+    public void valuesWarmedByThePrecedingBars() {
+        BarSeriesView view = series.getView(4, 9);
+        ParentIndicator indicator = view.fromParent(sma);
+        assertEquals(view, indicator.getBarSeries());
+        // The first value of the window averages bars 2, 3 and 4 of the parent
+        assertEquals(4, indicator.getDouble(0), 1e-12);
+        assertEquals(8, indicator.getDouble(4), 1e-12);
+        assertEquals(sma.getValue(6), indicator.getValue(2));
+    }
+
+    @Test
+    public void fillTranslatesTheRange() {
+        ParentIndicator indicator = series.getView(5, 10).fromParent(sma);
+        double[] values = new double[3];
+        indicator.fill(1, 3, values);
+        assertEquals(6, values[0], 1e-12);
+        assertEquals(7, values[1], 1e-12);
+        assertEquals(8, values[2], 1e-12);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexAfterTheView() {
+        series.getView(2, 5).fromParent(sma).getDouble(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indicatorOfAnotherSeries() {
+        series.getView(2, 5).fromParent(new ClosePriceIndicator(new MockBarSeries(1d, 2d, 3d)));
+    }
+}
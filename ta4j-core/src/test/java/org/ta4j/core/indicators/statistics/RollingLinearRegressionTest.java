@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RollingLinearRegressionTest {
+
+    private static void assertRegression(DoubleIndicator y, int barCount, int index,
+            RollingLinearRegression regression) {
+        int startIndex = Math.max(0, index - barCount + 1);
+        double n = index - startIndex + 1;
+        double xBar = 0;
+        double yBar = 0;
+        for (int i = startIndex; i <= index; i++) {
+            xBar += i / n;
+            yBar += y.getDouble(i) / n;
+        }
+        double xx = 0;
+        double xy = 0;
+        for (int i = startIndex; i <= index; i++) {
+            xx += (i - xBar) * (i - xBar);
+            xy += (i - xBar) * (y.getDouble(i) - yBar);
+        }
+        double slope = xy / xx;
+        double intercept = yBar - slope * xBar;
+        regression.moveTo(index);
+        assertEquals(slope, regression.getSlope(), 1e-9);
+        assertEquals(intercept, regression.getIntercept(), 1e-6);
+        assertEquals(slope * index + intercept, regression.getY(), 1e-9);
+    }
+
+    @Test
+    public void movingSeriesDoesNotRemoveEvictedBars() {
+        Random random = new Random(12);
+        BarSeries series = new BaseBarSeries();
+        series.setMaximumBarCount(4);
+        DoubleIndicator close = new ClosePriceIndicator(series);
+        RollingLinearRegression regression = new RollingLinearRegression(close, 3);
+        ZonedDateTime time = ZonedDateTime.now();
+        for (int i = 0; i < 50; i++) {
+            series.addBar(new MockBar(time.plusDays(i), 1 + random.nextInt(20)));
+            if (i > 1) {
+                assertRegression(close, 3, i - 1, regression);
+            }
+            if (i > 0) {
+                assertRegression(close, 3, i, regression);
+            }
+        }
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchTwoPassRegression() {
+        Random random = new Random(11);
+        double[] closes = new double[2000];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 100 + 0.05 * i + random.nextGaussian();
+        }
+        BarSeries series = new MockBarSeries(closes);
+        DoubleIndicator close = new ClosePriceIndicator(series);
+        RollingLinearRegression regression = new RollingLinearRegression(close, 50);
+        for (int i = 1; i <= series.getEndIndex(); i++) {
+            assertRegression(close, 50, i, regression);
+        }
+        for (int k = 0; k < 200; k++) {
+            assertRegression(close, 50, 1 + random.nextInt(closes.length - 1), regression);
+        }
+    }
+
+    @Test
+    public void notEnoughObservations() {
+        BarSeries series = new MockBarSeries(1, 2, 3);
+        RollingLinearRegression regression = new RollingLinearRegression(new ClosePriceIndicator(series), 3);
+        assertEquals(1, regression.moveTo(0).getCount());
+        assertTrue(Double.isNaN(regression.getSlope()));
+        assertEquals(1, regression.moveTo(2).getSlope(), 0);
+    }
+
+    @Test
+    public void lastBarIsProvisional() {
+        BarSeries series = new MockBarSeries(1, 2, 3, 4, 5);
+        RollingLinearRegression regression = new RollingLinearRegression(new ClosePriceIndicator(series), 3);
+        assertEquals(1, regression.moveTo(4).getSlope(), 1e-12);
+        series.getLastBar().addTrade(10d, 7d);
+        assertEquals(2, regression.moveTo(4).getSlope(), 1e-12);
+        assertEquals(1, regression.moveTo(3).getSlope(), 1e-12);
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.statistics;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.helpers.FixedDecimalIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RollingMomentsTest {
+
+    private static void assertMoments(DoubleIndicator x, DoubleIndicator y, int barCount, int index,
+            RollingMoments moments) {
+        int startIndex = Math.max(0, index - barCount + 1);
+        int count = index - startIndex + 1;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = startIndex; i <= index; i++) {
+            meanX += x.getDouble(i) / count;
+            meanY += y.getDouble(i) / count;
+        }
+        double varX = 0;
+        double varY = 0;
+        double cov = 0;
+        for (int i = startIndex; i <= index; i++) {
+            varX += (x.getDouble(i) - meanX) * (x.getDouble(i) - meanX) / count;
+            varY += (y.getDouble(i) - meanY) * (y.getDouble(i) - meanY) / count;
+            cov += (x.getDouble(i) - meanX) * (y.getDouble(i) - meanY) / count;
+        }
+        moments.moveTo(index);
+        assertEquals(count, moments.getCount());
+        assertEquals(meanX, moments.getMeanX(), 1e-9);
+        assertEquals(meanY, moments.getMeanY(), 1e-9);
+        assertEquals(varX, moments.getVarianceX(), 1e-9);
+        assertEquals(varY, moments.getVarianceY(), 1e-9);
+        assertEquals(cov, moments.getCovariance(), 1e-9);
+    }
+
+    @Test
+    public void movingSeriesDoesNotRemoveEvictedBars() {
+        Random random = new Random(4);
+        BarSeries series = new BaseBarSeries();
+        series.setMaximumBarCount(4);
+        ClosePriceIndicator close = new ClosePriceIndicator(series);
+        RollingMoments moments = new RollingMoments(close, 3);
+        ZonedDateTime time = ZonedDateTime.now();
+        for (int i = 0; i < 50; i++) {
+            series.addBar(new MockBar(time.plusDays(i), 1 + random.nextInt(20)));
+            if (i > 0) {
+                assertMoments(close, close, 3, i - 1, moments);
+            }
+            assertMoments(close, close, 3, i, moments);
+        }
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchTwoPassMoments() {
+        Random random = new Random(3);
+        double[] closes = new double[600];
+        double[] others = new double[600];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = 1000 + random.nextGaussian();
+            others[i] = 0.5 * closes[i] + random.nextGaussian();
+        }
+        BarSeries series = new MockBarSeries(closes);
+        DoubleIndicator x = new ClosePriceIndicator(series);
+        DoubleIndicator y = new FixedDecimalIndicator(series, others);
+        RollingMoments moments = new RollingMoments(x, y, 20);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertMoments(x, y, 20, i, moments);
+        }
+        for (int k = 0; k < 200; k++) {
+            assertMoments(x, y, 20, random.nextInt(closes.length), moments);
+        }
+    }
+
+    @Test
+    public void movingSeriesMatchesTwoPassMoments() {
+        double[] closes = new double[100];
+        for (int i = 0; i < closes.length; i++) {
+            closes[i] = (i * 13) % 7;
+        }
+        BarSeries series = new MockBarSeries(closes);
+        series.setMaximumBarCount(30);
+        DoubleIndicator x = new ClosePriceIndicator(series);
+        RollingMoments moments = new RollingMoments(x, 10);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertMoments(x, x, 10, i, moments);
+        }
+    }
+
+    @Test
+    public void lastBarIsProvisional() {
+        BarSeries series = new MockBarSeries(1, 2, 3, 4, 5);
+        RollingMoments moments = new RollingMoments(new ClosePriceIndicator(series), 3);
+        assertEquals(4, moments.moveTo(4).getMeanX(), 0);
+        series.getLastBar().addTrade(10d, 8d);
+        assertEquals(5, moments.moveTo(4).getMeanX(), 0);
+        assertEquals(3, moments.moveTo(3).getMeanX(), 0);
+    }
+
+    @Test
+    public void nanLeavesTheWindow() {
+        BarSeries series = new MockBarSeries(1, 2, Double.NaN, 4, 5, 6, 7, 8);
+        RollingMoments moments = new RollingMoments(new ClosePriceIndicator(series), 2);
+        assertEquals(1.5, moments.moveTo(1).getMeanX(), 0);
+        assertTrue(Double.isNaN(moments.moveTo(2).getMeanX()));
+        assertTrue(Double.isNaN(moments.moveTo(3).getMeanX()));
+        assertEquals(4.5, moments.moveTo(4).getMeanX(), 0);
+        assertEquals(0.25, moments.moveTo(5).getVarianceX(), 1e-12);
+    }
+}
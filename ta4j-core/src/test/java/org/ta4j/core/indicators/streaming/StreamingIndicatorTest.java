@@ -0,0 +1,167 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.DoubleIndicator;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+
+public class StreamingIndicatorTest {
+
+    private static final double EPS = 1e-9;
+
+    private BarSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    @Before
+    public void setUp() {
+        series = new BaseBarSeries();
+        ZonedDateTime time = ZonedDateTime.parse("2021-01-01T00:00:00Z");
+        double close = 100;
+        for (int i = 0; i < 300; i++) {
+            double open = close;
+            close = 100 + 20 * Math.sin(i / 7.0) + 5 * Math.cos(i * 1.3);
+            double high = Math.max(open, close) + (i % 5) * 0.7;
+            double low = Math.min(open, close) - (i % 3) * 0.9;
+            series.addBar(Duration.ofMinutes(1), time.plusMinutes(i), open, high, low, close, 1000d + i);
+        }
+        closePrice = new ClosePriceIndicator(series);
+    }
+
+    @Test
+    public void smaMatchesBatchIndicator() {
+        assertStreams(new SMAIndicator(closePrice, 14), new StreamingSMAIndicator(14));
+        assertStreams(new SMAIndicator(closePrice, 1), new StreamingSMAIndicator(1));
+    }
+
+    @Test
+    public void emaMatchesBatchIndicator() {
+        assertStreams(new EMAIndicator(closePrice, 10), new StreamingEMAIndicator(10));
+    }
+
+    @Test
+    public void rsiMatchesBatchIndicator() {
+        assertStreams(new RSIIndicator(closePrice, 14), new StreamingRSIIndicator(14));
+    }
+
+    @Test
+    public void atrMatchesBatchIndicator() {
+        assertStreams(new ATRIndicator(series, 14), new StreamingATRIndicator(14));
+    }
+
+    @Test
+    public void macdMatchesBatchIndicator() {
+        MACDIndicator macd = new MACDIndicator(closePrice, 12, 26);
+        EMAIndicator signal = new EMAIndicator(macd, 9);
+        StreamingMACDIndicator streaming = new StreamingMACDIndicator();
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(macd.getDouble(i), streaming.onBar(series.getBar(i)), EPS);
+            assertEquals(signal.getDouble(i), streaming.getSignal(), EPS);
+            assertEquals(macd.getDouble(i) - signal.getDouble(i), streaming.getHistogram(), EPS);
+        }
+    }
+
+    @Test
+    public void bollingerBandsMatchBatchIndicators() {
+        BollingerBandsMiddleIndicator middle = new BollingerBandsMiddleIndicator(new SMAIndicator(closePrice, 20));
+        StandardDeviationIndicator deviation = new StandardDeviationIndicator(closePrice, 20);
+        BollingerBandsUpperIndicator upper = new BollingerBandsUpperIndicator(middle, deviation, 2);
+        BollingerBandsLowerIndicator lower = new BollingerBandsLowerIndicator(middle, deviation, 2);
+        StreamingBollingerBandsIndicator streaming = new StreamingBollingerBandsIndicator(20, 2);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            if (i > 0) {
+                streaming.onBarUpdate(series.getBar(i - 1));
+            }
+            streaming.onBar(series.getBar(i));
+            assertEquals(middle.getDouble(i), streaming.getMiddle(), EPS);
+            assertEquals(deviation.getDouble(i), streaming.getDeviation(), EPS);
+            assertEquals(upper.getDouble(i), streaming.getUpper(), EPS);
+            assertEquals(lower.getDouble(i), streaming.getLower(), EPS);
+        }
+    }
+
+    @Test
+    public void valuesCanBePushedDirectly() {
+        StreamingEMAIndicator ema = new StreamingEMAIndicator(10);
+        EMAIndicator expected = new EMAIndicator(closePrice, 10);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            ema.onValue(0);
+            ema.onValueUpdate(series.getBar(i).getClosePrice());
+            assertEquals(expected.getDouble(i), ema.getValue(), EPS);
+        }
+    }
+
+    @Test
+    public void resetForgetsTheBars() {
+        StreamingRSIIndicator rsi = new StreamingRSIIndicator(14);
+        assertTrue(Double.isNaN(rsi.getValue()));
+        for (int i = 0; i < 50; i++) {
+            rsi.onBar(series.getBar(i));
+        }
+        rsi.reset();
+        assertTrue(Double.isNaN(rsi.getValue()));
+        assertStreams(new RSIIndicator(closePrice, 14), rsi);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBarCount() {
+        new StreamingSMAIndicator(0);
+    }
+
+    /**
+     * Streams the bars of the series, each one being first pushed as a different
+     * provisional bar and then updated to its final state.
+     */
+    private void assertStreams(DoubleIndicator expected, StreamingIndicator streaming) {
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            Bar bar = series.getBar(i);
+            Bar provisional = new BaseBar(bar.getTimePeriod(), bar.getEndTime(), bar.getOpenPrice(),
+                    bar.getOpenPrice() + 50, bar.getOpenPrice() - 50, bar.getOpenPrice() + 10, 1d, 0);
+            streaming.onBar(provisional);
+            assertEquals(expected.getDouble(i), streaming.onBarUpdate(bar), EPS);
+            assertEquals(expected.getDouble(i), streaming.getValue(), EPS);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.indicators.streaming;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBar;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.indicators.EMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+
+public class StreamingSeriesIndicatorTest {
+
+    private static final double EPS = 1e-9;
+
+    private static final ZonedDateTime START = ZonedDateTime.parse("2021-01-01T00:00:00Z");
+
+    private BarSeries reference;
+
+    private BarSeries live;
+
+    private CountingEMAIndicator ema;
+
+    private StreamingSeriesIndicator indicator;
+
+    @Before
+    public void setUp() {
+        reference = new BaseBarSeries();
+        for (int i = 0; i < 100; i++) {
+            addBar(reference, i, 100 + 10 * Math.sin(i / 5.0));
+        }
+        live = new BaseBarSeries();
+        ema = new CountingEMAIndicator(10);
+        indicator = new StreamingSeriesIndicator(live, ema);
+    }
+
+    @Test
+    public void followsTheSeries() {
+        EMAIndicator expected = new EMAIndicator(new ClosePriceIndicator(reference), 10);
+        for (int i = 0; i < 100; i++) {
+            addBar(live, i, reference.getBar(i).getClosePrice() + 3);
+            double shift = i == 0 ? 3 : 3 * 2.0 / 11;
+            assertEquals(expected.getDouble(i) + shift, indicator.getDouble(i), EPS);
+            live.addPrice(reference.getBar(i).getClosePrice());
+            assertEquals(expected.getDouble(i), indicator.getDouble(i), EPS);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected.getDouble(i), indicator.getDouble(i), EPS);
+        }
+    }
+
+    @Test
+    public void lastBarValueIsCachedUntilTheBarChanges() {
+        addBar(live, 0, 10);
+        addBar(live, 1, 11);
+        assertEquals(10, indicator.getDouble(0), EPS);
+        assertEquals(10 + (11 - 10) * 2.0 / 11, indicator.getDouble(1), EPS);
+        int computations = ema.computations;
+        indicator.getDouble(1);
+        indicator.getDouble(1);
+        assertEquals(computations, ema.computations);
+
+        live.addPrice(12);
+        assertEquals(10 + (12 - 10) * 2.0 / 11, indicator.getDouble(1), EPS);
+        assertEquals(computations + 1, ema.computations);
+
+        live.addBar(new BaseBar(Duration.ofMinutes(1), START.plusMinutes(1), 12d, 12d, 12d, 13d, 1d, 0d), true);
+        assertEquals(10 + (13 - 10) * 2.0 / 11, indicator.getDouble(1), EPS);
+        assertEquals(computations + 2, ema.computations);
+
+        live.getLastBar().addTrade(1, 14);
+        assertEquals(10 + (14 - 10) * 2.0 / 11, indicator.getDouble(1), EPS);
+        assertEquals(computations + 3, ema.computations);
+    }
+
+    @Test
+    public void followsAMovingSeries() {
+        EMAIndicator expected = new EMAIndicator(new ClosePriceIndicator(reference), 10);
+        live.setMaximumBarCount(10);
+        for (int i = 0; i < 100; i++) {
+            addBar(live, i, reference.getBar(i).getClosePrice());
+            indicator.getDouble(i);
+        }
+        for (int i = 90; i < 100; i++) {
+            assertEquals(expected.getDouble(i), indicator.getDouble(i), EPS);
+        }
+        // Removed bars return the first retained value
+        assertEquals(indicator.getDouble(90), indicator.getDouble(0), EPS);
+    }
+
+    @Test
+    public void replaysTheRetainedBarsAfterAGap() {
+        live.setMaximumBarCount(10);
+        for (int i = 0; i < 100; i++) {
+            addBar(live, i, 5);
+        }
+        assertEquals(5, indicator.getDouble(99), EPS);
+        assertEquals(10, ema.computations);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexAfterTheEndIndex() {
+        addBar(live, 0, 10);
+        indicator.getDouble(1);
+    }
+
+    private static void addBar(BarSeries series, int i, double close) {
+        series.addBar(Duration.ofMinutes(1), START.plusMinutes(i), close, close, close, close, 1d);
+    }
+
+    private static class CountingEMAIndicator extends StreamingEMAIndicator {
+
+        private int computations;
+
+        CountingEMAIndicator(int barCount) {
+            super(barCount);
+        }
+
+        @Override
+        protected double compute(double value) {
+            computations++;
+            return super.compute(value);
+        }
+    }
+}
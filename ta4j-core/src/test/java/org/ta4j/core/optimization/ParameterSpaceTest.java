@@ -0,0 +1,90 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class ParameterSpaceTest {
+
+    @Test
+    public void combinations() {
+        ParameterSpace space = new ParameterSpace().addRange("short", 2, 6, 2).add("type", "a", "b");
+        assertEquals(Arrays.asList("short", "type"), space.getNames());
+        assertEquals(6, space.size());
+        Parameters first = space.get(0);
+        assertEquals(2, first.getInt("short"));
+        assertEquals("a", first.get("type"));
+        Parameters second = space.get(1);
+        assertEquals(2, second.getInt("short"));
+        assertEquals("b", second.get("type"));
+        assertEquals("short=6, type=b", space.get(5).toString());
+
+        Set<Parameters> all = new HashSet<>();
+        for (int i = 0; i < space.size(); i++) {
+            all.add(space.get(i));
+        }
+        assertEquals(6, all.size());
+        assertNotEquals(space.get(0), space.get(1));
+    }
+
+    @Test
+    public void decimalRange() {
+        ParameterSpace space = new ParameterSpace().addRange("k", 1.0, 2.0, 0.1);
+        assertEquals(11, space.size());
+        assertEquals(1.0, space.get(0).getDouble("k"), 1e-12);
+        assertEquals(2.0, space.get(10).getDouble("k"), 1e-12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateName() {
+        new ParameterSpace().add("a", 1).add("a", 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyRange() {
+        new ParameterSpace().addRange("a", 5, 4, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownParameter() {
+        new ParameterSpace().add("a", 1).get(0).get("b");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void combinationOutOfRange() {
+        new ParameterSpace().add("a", 1, 2).get(2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void tooManyCombinations() {
+        new ParameterSpace().addRange("a", 0, 99_999, 1).addRange("b", 0, 99_999, 1).size();
+    }
+}
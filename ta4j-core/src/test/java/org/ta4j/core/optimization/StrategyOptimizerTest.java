@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesManager;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.criteria.pnl.GrossReturnCriterion;
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+
+public class StrategyOptimizerTest {
+
+    private final AnalysisCriterion criterion = new GrossReturnCriterion();
+
+    private final ParameterSpace space = new ParameterSpace().addRange("short", 2, 10, 2).addRange("long", 5, 30,
+            5);
+
+    private final StrategyFactory factory = (series, parameters) -> {
+        int shortBarCount = parameters.getInt("short");
+        int longBarCount = parameters.getInt("long");
+        if (shortBarCount >= longBarCount) {
+            return null;
+        }
+        IndicatorRegistry registry = series.getIndicatorRegistry();
+        SMAIndicator shortSma = registry.sma(registry.closePrice(), shortBarCount);
+        SMAIndicator longSma = registry.sma(registry.closePrice(), longBarCount);
+        return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma));
+    };
+
+    private BarSeries series;
+
+    @Before
+    public void setUp() {
+        double[] prices = new double[300];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 100 + 10 * Math.sin(i / 7.0) + 5 * Math.sin(i / 23.0) + i * 0.05;
+        }
+        series = new MockBarSeries(prices);
+    }
+
+    @Test
+    public void sequentialMatchesBruteForce() {
+        BarSeriesManager manager = new BarSeriesManager(series);
+        List<OptimizationResult> results = new StrategyOptimizer(manager, criterion).optimize(factory, space, 5);
+        assertEquals(5, results.size());
+
+        List<OptimizationResult> all = new ArrayList<>();
+        for (int i = 0; i < space.size(); i++) {
+            Strategy strategy = factory.create(series, space.get(i));
+            if (strategy != null) {
+                all.add(new OptimizationResult(i, space.get(i), criterion.calculate(series, manager.run(strategy))));
+            }
+        }
+        all.sort((r1, r2) -> Double.compare(r2.getCriterionValue(), r1.getCriterionValue()));
+        assertEquals(all.get(0).getCriterionValue(), results.get(0).getCriterionValue(), 0);
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(all.get(i).getCriterionValue(), results.get(i).getCriterionValue(), 0);
+            if (i > 0) {
+                assertTrue(results.get(i - 1).getCriterionValue() >= results.get(i).getCriterionValue());
+            }
+        }
+    }
+
+    @Test
+    public void topKLargerThanSpace() {
+        BarSeriesManager manager = new BarSeriesManager(series);
+        List<OptimizationResult> results = new StrategyOptimizer(manager, criterion).optimize(factory, space, 100);
+        // The combinations with short >= long are skipped
+        assertEquals(26, results.size());
+    }
+
+    @Test
+    public void parallelMatchesSequential() {
+        series.setConcurrent(true);
+        BarSeriesManager manager = new BarSeriesManager(series);
+        StrategyOptimizer optimizer = new StrategyOptimizer(manager, criterion);
+        List<OptimizationResult> sequential = optimizer.optimize(factory, space, 7);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<OptimizationResult> parallel = optimizer.optimize(factory, space, 7, executor, 4);
+            assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).getCombination(), parallel.get(i).getCombination());
+                assertEquals(sequential.get(i).getParameters(), parallel.get(i).getParameters());
+                assertEquals(sequential.get(i).getCriterionValue(), parallel.get(i).getCriterionValue(), 0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void indicatorsSharedBetweenCombinations() {
+        new StrategyOptimizer(new BarSeriesManager(series), criterion).optimize(factory, space, 1);
+        IndicatorRegistry registry = series.getIndicatorRegistry();
+        // Close price + 5 short SMAs + 6 long SMAs (the 10-bar one being shared)
+        assertEquals(11, registry.size());
+        assertSame(registry.sma(registry.closePrice(), 10), registry.sma(registry.closePrice(), 10));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void parallelNeedsConcurrentSeries() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            new StrategyOptimizer(new BarSeriesManager(series), criterion).optimize(factory, space, 1, executor, 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidTopK() {
+        new StrategyOptimizer(new BarSeriesManager(series), criterion).optimize(factory, space, 0);
+    }
+}
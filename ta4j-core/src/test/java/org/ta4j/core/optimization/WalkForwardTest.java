@@ -0,0 +1,188 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.optimization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.AnalysisCriterion;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesManager;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Position;
+import org.ta4j.core.criteria.EnterAndHoldReturnCriterion;
+import org.ta4j.core.criteria.pnl.GrossReturnCriterion;
+import org.ta4j.core.indicators.IndicatorRegistry;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+import org.ta4j.core.rules.BooleanRule;
+import org.ta4j.core.rules.CrossedDownIndicatorRule;
+import org.ta4j.core.rules.CrossedUpIndicatorRule;
+import org.ta4j.core.rules.FixedRule;
+
+public class WalkForwardTest {
+
+    private final AnalysisCriterion criterion = new GrossReturnCriterion();
+
+    private final ParameterSpace space = new ParameterSpace().addRange("short", 2, 8, 2).addRange("long", 10, 40,
+            10);
+
+    private final StrategyFactory factory = (series, parameters) -> {
+        IndicatorRegistry registry = series.getIndicatorRegistry();
+        SMAIndicator shortSma = registry.sma(registry.closePrice(), parameters.getInt("short"));
+        SMAIndicator longSma = registry.sma(registry.closePrice(), parameters.getInt("long"));
+        return new BaseStrategy(new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma));
+    };
+
+    private BarSeries series;
+
+    @Before
+    public void setUp() {
+        double[] prices = new double[600];
+        for (int i = 0; i < prices.length; i++) {
+            prices[i] = 100 + 10 * Math.sin(i / 9.0) + 4 * Math.sin(i / 31.0) + i * 0.02;
+        }
+        series = new MockBarSeries(prices);
+    }
+
+    @Test
+    public void rollingFolds() {
+        List<WalkForwardFold> folds = WalkForward.folds(0, 104, 40, 20, false);
+        assertEquals(4, folds.size());
+        assertFold(folds.get(0), 0, 39, 40, 59);
+        assertFold(folds.get(1), 20, 59, 60, 79);
+        assertFold(folds.get(3), 60, 99, 100, 104);
+    }
+
+    @Test
+    public void anchoredFolds() {
+        List<WalkForwardFold> folds = WalkForward.folds(series, 300, 100, true);
+        assertEquals(3, folds.size());
+        assertFold(folds.get(0), 0, 299, 300, 399);
+        assertFold(folds.get(2), 0, 499, 500, 599);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void seriesTooShort() {
+        WalkForward.folds(0, 39, 40, 20, false);
+    }
+
+    @Test
+    public void outOfSamplePositionsStayInTheirWindows() {
+        List<WalkForwardFold> folds = WalkForward.folds(series, 150, 50, false);
+        WalkForwardReport report = new WalkForward(new BarSeriesManager(series), criterion).run(factory, space,
+                folds);
+        assertEquals(folds.size(), report.getResults().size());
+        int positionCount = 0;
+        for (WalkForwardResult result : report.getResults()) {
+            WalkForwardFold fold = result.getFold();
+            for (Position position : result.getOutOfSampleRecord().getPositions()) {
+                assertTrue(position.getEntry().getIndex() >= fold.getOutOfSampleBegin());
+                assertTrue(position.getExit().getIndex() <= fold.getOutOfSampleEnd());
+            }
+            assertTrue(result.getOutOfSampleRecord().isClosed());
+            positionCount += result.getOutOfSampleRecord().getPositionCount();
+        }
+        assertEquals(positionCount, report.getOutOfSampleRecord().getPositionCount());
+        assertEquals(criterion.calculate(series, report.getOutOfSampleRecord()), report.getOutOfSampleValue(), 0);
+    }
+
+    @Test
+    public void parallelMatchesSequential() {
+        series.setConcurrent(true);
+        List<WalkForwardFold> folds = WalkForward.folds(series, 150, 50, false);
+        WalkForward walkForward = new WalkForward(new BarSeriesManager(series), criterion);
+        WalkForwardReport sequential = walkForward.run(factory, space, folds);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            WalkForwardReport parallel = walkForward.run(factory, space, folds, executor);
+            for (int i = 0; i < folds.size(); i++) {
+                WalkForwardResult expected = sequential.getResults().get(i);
+                WalkForwardResult actual = parallel.getResults().get(i);
+                assertEquals(expected.getParameters(), actual.getParameters());
+                assertEquals(expected.getInSampleValue(), actual.getInSampleValue(), 0);
+                assertEquals(expected.getOutOfSampleValue(), actual.getOutOfSampleValue(), 0);
+            }
+            assertEquals(sequential.getOutOfSampleValue(), parallel.getOutOfSampleValue(), 0);
+            assertEquals(sequential.getAverageOutOfSampleValue(), parallel.getAverageOutOfSampleValue(), 0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void openPositionClosedAtTheEndOfTheWindow() {
+        StrategyFactory holdFactory = (s, parameters) -> new BaseStrategy(new FixedRule(parameters.getInt("entry")),
+                BooleanRule.FALSE);
+        ParameterSpace entries = new ParameterSpace().add("entry", 25);
+        List<WalkForwardFold> folds = WalkForward.folds(0, 59, 20, 20, false);
+        WalkForwardReport report = new WalkForward(new BarSeriesManager(series), criterion).run(holdFactory, entries,
+                folds);
+        // Entering at 25: in the out-of-sample window of the first fold and in the
+        // in-sample window of the second one, both ending at 39
+        WalkForwardResult first = report.getResults().get(0);
+        assertEquals(1, first.getOutOfSampleRecord().getPositionCount());
+        assertEquals(39, first.getOutOfSampleRecord().getPositions().get(0).getExit().getIndex());
+        WalkForwardResult second = report.getResults().get(1);
+        assertEquals(series.getBar(39).getClosePrice() / series.getBar(25).getClosePrice(), second.getInSampleValue(),
+                1e-12);
+        assertEquals(0, second.getOutOfSampleRecord().getPositionCount());
+    }
+
+    @Test
+    public void criteriaAreCalculatedOnTheWindows() {
+        // Only depends on the bars of the series
+        AnalysisCriterion enterAndHold = new EnterAndHoldReturnCriterion();
+        List<WalkForwardFold> folds = WalkForward.folds(series, 150, 50, false);
+        WalkForwardReport report = new WalkForward(new BarSeriesManager(series), enterAndHold).run(factory, space,
+                folds);
+        for (WalkForwardResult result : report.getResults()) {
+            WalkForwardFold fold = result.getFold();
+            assertEquals(closeRatio(fold.getInSampleBegin(), fold.getInSampleEnd()), result.getInSampleValue(),
+                    1e-12);
+            assertEquals(closeRatio(fold.getOutOfSampleBegin(), fold.getOutOfSampleEnd()),
+                    result.getOutOfSampleValue(), 1e-12);
+        }
+        assertEquals(closeRatio(150, 599), report.getOutOfSampleValue(), 1e-12);
+    }
+
+    private double closeRatio(int beginIndex, int endIndex) {
+        return series.getBar(endIndex).getClosePrice() / series.getBar(beginIndex).getClosePrice();
+    }
+
+    private static void assertFold(WalkForwardFold fold, int inSampleBegin, int inSampleEnd, int outOfSampleBegin,
+            int outOfSampleEnd) {
+        assertEquals(inSampleBegin, fold.getInSampleBegin());
+        assertEquals(inSampleEnd, fold.getInSampleEnd());
+        assertEquals(outOfSampleBegin, fold.getOutOfSampleBegin());
+        assertEquals(outOfSampleEnd, fold.getOutOfSampleEnd());
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.Rule;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -53,4 +54,13 @@ public class AndRuleTest {
         assertFalse(unsatisfiedRule.and(BooleanRule.TRUE).isSatisfied(10));
         assertFalse(BooleanRule.TRUE.and(unsatisfiedRule).isSatisfied(10));
     }
+
+    @Test
+    public void nextSatisfiedIndex() {
+        Rule rule = new FixedRule(2, 5, 9, 12).and(new FixedRule(3, 9, 12));
+        assertEquals(9, rule.nextSatisfiedIndex(0, 20, null));
+        assertEquals(12, rule.nextSatisfiedIndex(10, 20, null));
+        assertEquals(-1, rule.nextSatisfiedIndex(10, 11, null));
+        assertEquals(-1, satisfiedRule.and(unsatisfiedRule).nextSatisfiedIndex(0, 20, null));
+    }
 }
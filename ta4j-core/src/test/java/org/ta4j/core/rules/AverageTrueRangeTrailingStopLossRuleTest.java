@@ -0,0 +1,101 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import org.junit.Test;
+import org.ta4j.core.Bar;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseTradingRecord;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.ATRIndicator;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class AverageTrueRangeTrailingStopLossRuleTest {
+
+    private static BarSeries randomSeries(long seed, int barCount) {
+        Random random = new Random(seed);
+        List<Bar> bars = new ArrayList<>();
+        double close = 100;
+        for (int i = 0; i < barCount; i++) {
+            double open = close;
+            close = open * (1 + (random.nextDouble() - 0.5) * 0.04);
+            double high = Math.max(open, close) * (1 + random.nextDouble() * 0.01);
+            double low = Math.min(open, close) * (1 - random.nextDouble() * 0.01);
+            bars.add(new MockBar(open, close, high, low));
+        }
+        return new MockBarSeries(bars);
+    }
+
+    @Test
+    public void notSatisfiedWithoutOpenedPosition() {
+        BarSeries series = randomSeries(1, 20);
+        AverageTrueRangeTrailingStopLossRule rule = new AverageTrueRangeTrailingStopLossRule(series, 5, 2);
+        assertFalse(rule.isSatisfied(10, null));
+        assertFalse(rule.isSatisfied(10, new BaseTradingRecord()));
+        assertNull(rule.getCurrentStopLossLimitActivation());
+    }
+
+    @Test
+    public void stopFollowsTheBestLevelSinceEntry() {
+        BarSeries series = randomSeries(5, 300);
+        ATRIndicator atr = new ATRIndicator(series, 14);
+        Random random = new Random(7);
+        for (TradeType type : TradeType.values()) {
+            AverageTrueRangeTrailingStopLossRule rule = new AverageTrueRangeTrailingStopLossRule(series, 14, 1.5);
+            TradingRecord tradingRecord = new BaseTradingRecord(type);
+            for (int i = 0; i < series.getBarCount(); i++) {
+                double close = series.getBar(i).getClosePrice();
+                if (tradingRecord.getCurrentPosition().isNew()) {
+                    if (random.nextInt(8) == 0) {
+                        tradingRecord.enter(i, close, 1);
+                    }
+                    continue;
+                }
+                boolean satisfied = rule.isSatisfied(i, tradingRecord);
+                double expected = type == TradeType.BUY ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                for (int j = tradingRecord.getCurrentPosition().getEntry().getIndex(); j <= i; j++) {
+                    double distance = 1.5 * atr.getValue(j);
+                    double price = series.getBar(j).getClosePrice();
+                    expected = type == TradeType.BUY ? Math.max(expected, price - distance)
+                            : Math.min(expected, price + distance);
+                }
+                assertEquals(expected, rule.getCurrentStopLossLimitActivation(), 1e-9);
+                assertEquals(type == TradeType.BUY ? close <= expected : close >= expected, satisfied);
+                if (satisfied) {
+                    tradingRecord.exit(i, close, 1);
+                }
+            }
+        }
+    }
+}
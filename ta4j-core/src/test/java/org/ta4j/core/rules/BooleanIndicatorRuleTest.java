@@ -29,6 +29,7 @@ import org.ta4j.core.BaseBarSeries;
 import org.ta4j.core.Indicator;
 import org.ta4j.core.indicators.helpers.FixedIndicator;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -50,4 +51,11 @@ public class BooleanIndicatorRuleTest {
         assertFalse(rule.isSatisfied(3));
         assertTrue(rule.isSatisfied(4));
     }
+
+    @Test
+    public void nextSatisfiedIndex() {
+        assertEquals(0, rule.nextSatisfiedIndex(0, 4, null));
+        assertEquals(4, rule.nextSatisfiedIndex(2, 4, null));
+        assertEquals(-1, rule.nextSatisfiedIndex(2, 3, null));
+    }
 }
@@ -27,6 +27,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.ta4j.core.Rule;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -53,4 +54,13 @@ public class OrRuleTest {
         assertTrue(unsatisfiedRule.or(BooleanRule.TRUE).isSatisfied(10));
         assertTrue(BooleanRule.TRUE.or(unsatisfiedRule).isSatisfied(10));
     }
+
+    @Test
+    public void nextSatisfiedIndex() {
+        Rule rule = new FixedRule(7, 12).or(new FixedRule(4, 15));
+        assertEquals(4, rule.nextSatisfiedIndex(0, 20, null));
+        assertEquals(7, rule.nextSatisfiedIndex(5, 20, null));
+        assertEquals(15, rule.nextSatisfiedIndex(13, 20, null));
+        assertEquals(-1, rule.nextSatisfiedIndex(16, 20, null));
+    }
 }
@@ -0,0 +1,213 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BarSeriesManager;
+import org.ta4j.core.BaseStrategy;
+import org.ta4j.core.Rule;
+import org.ta4j.core.Strategy;
+import org.ta4j.core.Trade.TradeType;
+import org.ta4j.core.TradingRecord;
+import org.ta4j.core.indicators.SMAIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.mocks.MockBarSeries;
+
+public class RuleCompilerTest {
+
+    private BarSeries series;
+
+    private ClosePriceIndicator closePrice;
+
+    private SMAIndicator shortSma;
+
+    private SMAIndicator longSma;
+
+    @Before
+    public void setUp() {
+        Random random = new Random(42);
+        double[] prices = new double[500];
+        prices[0] = 100;
+        for (int i = 1; i < prices.length; i++) {
+            prices[i] = prices[i - 1] * (1 + (random.nextDouble() - 0.5) * 0.04);
+        }
+        series = new MockBarSeries(prices);
+        closePrice = new ClosePriceIndicator(series);
+        shortSma = new SMAIndicator(closePrice, 5);
+        longSma = new SMAIndicator(closePrice, 20);
+    }
+
+    @Test
+    public void evaluateMatchesIsSatisfied() {
+        Rule over = new OverIndicatorRule(shortSma, longSma);
+        Rule under = new UnderIndicatorRule(closePrice, 100);
+        Rule rule = over.and(under.negation()).or(new FixedRule(3, 7)).xor(new CrossedUpIndicatorRule(closePrice,
+                shortSma));
+        BitSet bits = RuleCompiler.evaluate(rule, 10, 400);
+        for (int i = 10; i <= 400; i++) {
+            assertEquals(rule.isSatisfied(i), bits.get(i - 10));
+        }
+    }
+
+    @Test
+    public void recordDependentRulesAreKept() {
+        Rule crossDown = new CrossedDownIndicatorRule(shortSma, longSma);
+        StopLossRule stopLoss = new StopLossRule(closePrice, 3d);
+        Rule compiled = RuleCompiler.compile(crossDown.or(stopLoss), 0, 499);
+        assertTrue(compiled instanceof OrRule);
+        assertTrue(((OrRule) compiled).getRule1() instanceof PrecomputedRule);
+        assertSame(stopLoss, ((OrRule) compiled).getRule2());
+        assertTrue(compiled.usesTradingRecord());
+
+        Rule independent = RuleCompiler.compile(crossDown.and(BooleanRule.TRUE), 0, 499);
+        assertTrue(independent instanceof PrecomputedRule);
+        assertFalse(independent.usesTradingRecord());
+    }
+
+    @Test
+    public void compiledStrategyGivesTheSameTrades() {
+        Strategy strategy = new BaseStrategy("sma", new CrossedUpIndicatorRule(shortSma, longSma),
+                new CrossedDownIndicatorRule(shortSma, longSma).or(new StopLossRule(closePrice, 2d)), 20);
+        Strategy compiled = RuleCompiler.compile(strategy, 0, 300);
+        assertEquals("sma", compiled.getName());
+        assertEquals(20, compiled.getUnstablePeriod());
+
+        BarSeriesManager manager = new BarSeriesManager(series);
+        TradingRecord expected = manager.run(strategy);
+        // Partially compiled: the indexes after 300 are evaluated by the original rules
+        TradingRecord actual = manager.run(compiled);
+        assertTrue(expected.getPositionCount() > 5);
+        assertEquals(expected.getPositions(), actual.getPositions());
+    }
+
+    @Test
+    public void nextSatisfiedIndex() {
+        PrecomputedRule rule = (PrecomputedRule) RuleCompiler.compile(new FixedRule(2, 15, 40), 10, 30);
+        assertEquals(15, rule.nextSatisfiedIndex(3, 50, null));
+        assertEquals(15, rule.nextSatisfiedIndex(15, 15, null));
+        assertEquals(-1, rule.nextSatisfiedIndex(16, 30, null));
+        // Outside of the range: evaluated by the original rule
+        assertEquals(2, rule.nextSatisfiedIndex(0, 50, null));
+        assertEquals(40, rule.nextSatisfiedIndex(16, 50, null));
+        assertTrue(rule.isSatisfied(2));
+        assertTrue(rule.isSatisfied(40));
+        assertFalse(rule.isSatisfied(14));
+    }
+
+    @Test
+    public void subclassesOfBuiltInRulesAreEvaluatedBarByBar() {
+        // Only satisfied on even indexes
+        Rule evenOver = new OverIndicatorRule(shortSma, longSma) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                return index % 2 == 0 && super.isSatisfied(index, tradingRecord);
+            }
+
+            @Override
+            public boolean usesTradingRecord() {
+                return false;
+            }
+        };
+        // Satisfied when both rules are
+        Rule strictOr = new OrRule(evenOver, new FixedRule(5, 6)) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                return getRule1().isSatisfied(index, tradingRecord) && getRule2().isSatisfied(index, tradingRecord);
+            }
+
+            @Override
+            public boolean usesTradingRecord() {
+                return false;
+            }
+        };
+        for (Rule rule : new Rule[] { evenOver, strictOr, evenOver.and(BooleanRule.TRUE) }) {
+            BitSet bits = RuleCompiler.evaluate(rule, 0, 499);
+            for (int i = 0; i <= 499; i++) {
+                assertEquals(rule.isSatisfied(i), bits.get(i));
+            }
+        }
+        Rule withStop = new OrRule(evenOver, new StopLossRule(closePrice, 3d)) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                return getRule1().isSatisfied(index, tradingRecord);
+            }
+        };
+        assertSame(withStop, RuleCompiler.compile(withStop, 0, 499));
+    }
+
+    @Test
+    public void subclassesReadingTheRecordAreNotCompiled() {
+        // Inherits usesTradingRecord() == false from BooleanRule
+        Rule whileClosed = new BooleanRule(true) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                return tradingRecord.getCurrentPosition().isNew();
+            }
+        };
+        assertSame(whileClosed, RuleCompiler.compile(whileClosed, 0, 10));
+        Rule compiled = RuleCompiler.compile(whileClosed.and(new OverIndicatorRule(shortSma, longSma)), 0, 10);
+        assertTrue(compiled instanceof AndRule);
+        assertSame(whileClosed, ((AndRule) compiled).getRule1());
+        assertTrue(((AndRule) compiled).getRule2() instanceof PrecomputedRule);
+
+        // Overrides isSatisfied without declaring whether it reads the record
+        Rule evenOver = new OverIndicatorRule(shortSma, longSma) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                return index % 2 == 0 && super.isSatisfied(index, tradingRecord);
+            }
+        };
+        assertSame(evenOver, RuleCompiler.compile(evenOver, 0, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ruleReadingTheRecordCannotBeEvaluated() {
+        RuleCompiler.evaluate(new BooleanRule(false) {
+            @Override
+            public boolean isSatisfied(int index, TradingRecord tradingRecord) {
+                return tradingRecord.isClosed();
+            }
+        }.or(BooleanRule.TRUE), 0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void recordDependentRuleCannotBeEvaluated() {
+        RuleCompiler.evaluate(new WaitForRule(TradeType.BUY, 2), 0, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidRange() {
+        RuleCompiler.compile(BooleanRule.TRUE, 10, 9);
+    }
+}
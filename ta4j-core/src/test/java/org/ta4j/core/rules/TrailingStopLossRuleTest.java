@@ -45,6 +45,7 @@
  */
 package org.ta4j.core.rules;
 
+import org.junit.Assert;
 import org.junit.Test;
 import org.ta4j.core.AbstractIndicatorTest;
 import org.ta4j.core.BaseTradingRecord;
@@ -52,6 +53,8 @@ import org.ta4j.core.Trade.TradeType;
 import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
 import org.ta4j.core.mocks.MockBarSeries;
 
+import java.util.Random;
+
 import static org.junit.Assert.*;
 
 
@@ -184,4 +187,41 @@ public class TrailingStopLossRuleTest extends AbstractIndicatorTest {
         assertFalse(rule.isSatisfied(7, tradingRecord));
         assertTrue(rule.isSatisfied(8, tradingRecord));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void matchesScanOfThePricesSinceEntry() {
+        Random random = new Random(11);
+        double[] prices = new double[400];
+        prices[0] = 100;
+        for (int i = 1; i < prices.length; i++) {
+            prices[i] = prices[i - 1] * (1 + (random.nextDouble() - 0.5) * 0.02);
+        }
+        ClosePriceIndicator closePrice = new ClosePriceIndicator(new MockBarSeries(prices));
+        for (TradeType type : TradeType.values()) {
+            for (int barCount : new int[] { 7, Integer.MAX_VALUE }) {
+                TrailingStopLossRule rule = new TrailingStopLossRule(closePrice, 3, barCount);
+                BaseTradingRecord tradingRecord = new BaseTradingRecord(type);
+                for (int i = 0; i < prices.length; i++) {
+                    if (tradingRecord.getCurrentPosition().isNew()) {
+                        if (random.nextInt(10) == 0) {
+                            tradingRecord.enter(i, prices[i], 1);
+                        }
+                        continue;
+                    }
+                    boolean satisfied = rule.isSatisfied(i, tradingRecord);
+                    int entryIndex = tradingRecord.getCurrentPosition().getEntry().getIndex();
+                    double extremum = prices[i];
+                    for (int j = Math.max(entryIndex, i - barCount + 1); j <= i; j++) {
+                        extremum = type == TradeType.BUY ? Math.max(extremum, prices[j]) : Math.min(extremum, prices[j]);
+                    }
+                    double activation = extremum * (type == TradeType.BUY ? 0.97 : 1.03);
+                    Assert.assertEquals(activation, rule.getCurrentStopLossLimitActivation(), 1e-9);
+                    assertEquals(type == TradeType.BUY ? prices[i] <= activation : prices[i] >= activation, satisfied);
+                    if (satisfied) {
+                        tradingRecord.exit(i, prices[i], 1);
+                    }
+                }
+            }
+        }
+    }
+}
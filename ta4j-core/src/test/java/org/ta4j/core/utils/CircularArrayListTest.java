@@ -0,0 +1,116 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CircularArrayListTest {
+
+    @Test
+    public void addAndGet() {
+        List<Integer> list = new CircularArrayList<>(2);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, (int) list.get(i));
+        }
+    }
+
+    @Test
+    public void removeFromHeadShouldNotGrow() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(4);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            if (list.size() > 3) {
+                list.remove(0);
+            }
+        }
+        assertEquals(Arrays.asList(997, 998, 999), list);
+        assertEquals(4, list.capacity());
+    }
+
+    @Test
+    public void subListClearShouldRemoveHead() {
+        CircularArrayList<Integer> list = new CircularArrayList<>(8);
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+            if (list.size() > 5) {
+                list.subList(0, 2).clear();
+            }
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 20 - list.size(); i < 20; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, list);
+        assertEquals(8, list.capacity());
+    }
+
+    @Test
+    public void behavesLikeArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        List<Integer> actual = new CircularArrayList<>(3);
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+            actual.add(i);
+            if (i % 7 == 0) {
+                expected.remove(0);
+                actual.remove(0);
+            }
+            if (i % 5 == 0) {
+                expected.add(0, -i);
+                actual.add(0, -i);
+            }
+            if (i % 11 == 0 && expected.size() > 3) {
+                expected.remove(2);
+                actual.remove(2);
+                expected.add(1, i);
+                actual.add(1, i);
+                expected.set(0, i * 2);
+                actual.set(0, i * 2);
+            }
+            assertEquals(expected, actual);
+        }
+        actual.clear();
+        assertTrue(actual.isEmpty());
+        actual.add(1);
+        assertEquals(Arrays.asList(1), actual);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBounds() {
+        List<Integer> list = new CircularArrayList<>();
+        list.add(1);
+        list.get(1);
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class P2QuantileEstimatorTest {
+
+    @Test
+    public void exactWithFewValues() {
+        P2QuantileEstimator estimator = new P2QuantileEstimator(0.5);
+        assertTrue(Double.isNaN(estimator.getQuantile()));
+        estimator.add(3);
+        assertEquals(3, estimator.getQuantile(), 0);
+        estimator.add(1);
+        estimator.add(2);
+        assertEquals(2, estimator.getQuantile(), 0);
+        estimator.add(4);
+        assertEquals(2, estimator.getQuantile(), 0);
+        assertEquals(4, estimator.getCount());
+        estimator.reset();
+        assertEquals(0, estimator.getCount());
+        assertTrue(Double.isNaN(estimator.getQuantile()));
+    }
+
+    @Test
+    public void approximatesTheQuantileOfManyValues() {
+        Random random = new Random(11);
+        double[] values = new double[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * 0.01;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double probability : new double[] { 0.01, 0.05, 0.5, 0.95 }) {
+            P2QuantileEstimator estimator = new P2QuantileEstimator(probability);
+            for (double value : values) {
+                estimator.add(value);
+            }
+            double exact = sorted[(int) Math.ceil(probability * values.length) - 1];
+            assertEquals(exact, estimator.getQuantile(), 0.0005);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void probabilityOutOfRange() {
+        new P2QuantileEstimator(1.5);
+    }
+}
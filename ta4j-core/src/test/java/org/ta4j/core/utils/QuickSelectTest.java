@@ -0,0 +1,84 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QuickSelectTest {
+
+    @Test
+    public void selectsTheValueOfTheSortedRange() {
+        Random random = new Random(5);
+        for (int n = 1; n < 60; n++) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                // Many duplicates
+                values[i] = random.nextInt(n / 2 + 1) - n / 4;
+            }
+            double[] sorted = values.clone();
+            Arrays.sort(sorted);
+            for (int k = 0; k < n; k++) {
+                double[] selected = values.clone();
+                assertEquals(sorted[k], QuickSelect.select(selected, 0, n, k), 0);
+                for (int i = 0; i < k; i++) {
+                    assertTrue(selected[i] <= selected[k]);
+                }
+                for (int i = k + 1; i < n; i++) {
+                    assertTrue(selected[i] >= selected[k]);
+                }
+                Arrays.sort(selected);
+                assertTrue(Arrays.equals(sorted, selected));
+            }
+        }
+    }
+
+    @Test
+    public void selectsWithinARange() {
+        double[] values = { 9, 5, 3, 8, 1, 7, -4 };
+        assertEquals(5, QuickSelect.select(values, 1, 5, 3), 0);
+        assertEquals(9, values[0], 0);
+        assertEquals(7, values[5], 0);
+        assertEquals(-4, values[6], 0);
+    }
+
+    @Test
+    public void ordersAsArraysSort() {
+        double[] values = { Double.NaN, 0d, -0d, Double.NEGATIVE_INFINITY, 1 };
+        assertEquals(Double.NEGATIVE_INFINITY, QuickSelect.select(values.clone(), 0, 5, 0), 0);
+        assertEquals(Double.doubleToLongBits(-0d),
+                Double.doubleToLongBits(QuickSelect.select(values.clone(), 0, 5, 1)));
+        assertTrue(Double.isNaN(QuickSelect.select(values.clone(), 0, 5, 4)));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexOutOfTheRange() {
+        QuickSelect.select(new double[] { 1, 2, 3 }, 0, 2, 2);
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RollingExtremumTest {
+
+    private static double scan(IntToDoubleFunction values, int index, int barCount, boolean highest) {
+        double result = Double.NaN;
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+            double value = values.applyAsDouble(i);
+            if (!Double.isNaN(value) && (Double.isNaN(result) || (highest ? value > result : value < result))) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchFullScan() {
+        Random random = new Random(7);
+        double[] data = new double[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(50);
+        }
+        IntToDoubleFunction values = i -> data[i];
+        for (boolean highest : new boolean[] { true, false }) {
+            RollingExtremum extremum = new RollingExtremum(null, values, 14, highest);
+            for (int i = 0; i < data.length; i++) {
+                assertEquals(scan(values, i, 14, highest), extremum.getValue(i), 0);
+            }
+            for (int k = 0; k < 300; k++) {
+                int i = random.nextInt(data.length);
+                assertEquals(scan(values, i, 14, highest), extremum.getValue(i), 0);
+            }
+        }
+    }
+
+    @Test
+    public void onlyNaNValues() {
+        double[] data = { 1, Double.NaN, Double.NaN, Double.NaN, 5 };
+        RollingExtremum highest = new RollingExtremum(null, i -> data[i], 2, true);
+        assertEquals(1, highest.getValue(0), 0);
+        assertEquals(1, highest.getValue(1), 0);
+        assertTrue(Double.isNaN(highest.getValue(2)));
+        assertTrue(Double.isNaN(highest.getValue(3)));
+        assertEquals(5, highest.getValue(4), 0);
+    }
+
+    @Test
+    public void lastBarIsProvisional() {
+        BarSeries series = new MockBarSeries(1, 5, 3, 4, 2);
+        IntToDoubleFunction close = i -> series.getBar(i).getClosePrice();
+        RollingExtremum highest = new RollingExtremum(series, close, 3, true);
+        assertEquals(5, highest.getValue(3), 0);
+        assertEquals(4, highest.getValue(4), 0);
+        series.getLastBar().addTrade(10d, 8d);
+        assertEquals(8, highest.getValue(4), 0);
+    }
+
+    @Test
+    public void movingSeriesMatchesFullScan() {
+        double[] data = new double[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (i * 37) % 11;
+        }
+        BarSeries series = new MockBarSeries(data);
+        series.setMaximumBarCount(30);
+        IntToDoubleFunction close = i -> series.getBar(i).getClosePrice();
+        RollingExtremum lowest = new RollingExtremum(series, close, 10, false);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(scan(close, i, 10, false), lowest.getValue(i), 0);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import org.junit.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeries;
+import org.ta4j.core.mocks.MockBar;
+import org.ta4j.core.mocks.MockBarSeries;
+
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RollingSumTest {
+
+    private static double scan(IntToDoubleFunction values, int index, int barCount) {
+        double sum = 0;
+        for (int i = Math.max(0, index - barCount + 1); i <= index; i++) {
+            sum += values.applyAsDouble(i);
+        }
+        return sum;
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchFullScan() {
+        Random random = new Random(42);
+        double[] data = new double[500];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = 100 + random.nextGaussian();
+        }
+        BarSeries series = new MockBarSeries(data);
+        IntToDoubleFunction close = i -> series.getBar(i).getClosePrice();
+        RollingSum sum = new RollingSum(series, close, 20);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(scan(close, i, 20), sum.getSum(i), 1e-9);
+        }
+        for (int k = 0; k < 200; k++) {
+            int i = random.nextInt(data.length);
+            assertEquals(scan(close, i, 20), sum.getSum(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void movingSeriesDoesNotSubtractEvictedBars() {
+        Random random = new Random(8);
+        BarSeries series = new BaseBarSeries();
+        series.setMaximumBarCount(4);
+        IntToDoubleFunction close = i -> series.getBar(i).getClosePrice();
+        RollingSum sum = new RollingSum(series, close, 3);
+        ZonedDateTime time = ZonedDateTime.now();
+        for (int i = 0; i < 50; i++) {
+            series.addBar(new MockBar(time.plusDays(i), 1 + random.nextInt(20)));
+            if (i > 0) {
+                assertEquals(scan(close, i - 1, 3), sum.getSum(i - 1), 1e-9);
+            }
+            assertEquals(scan(close, i, 3), sum.getSum(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void lastBarIsProvisional() {
+        BarSeries series = new MockBarSeries(1, 2, 3, 4, 5);
+        IntToDoubleFunction close = i -> series.getBar(i).getClosePrice();
+        RollingSum sum = new RollingSum(series, close, 3);
+        assertEquals(9, sum.getSum(3), 0);
+        assertEquals(12, sum.getSum(4), 0);
+        series.getLastBar().addTrade(10d, 8d);
+        assertEquals(15, sum.getSum(4), 0);
+    }
+
+    @Test
+    public void nanLeavesTheWindow() {
+        double[] data = { 1, 2, Double.NaN, 4, 5, 6, 7, 8 };
+        RollingSum sum = new RollingSum(null, i -> data[i], 3);
+        assertEquals(3, sum.getSum(1), 0);
+        assertTrue(Double.isNaN(sum.getSum(2)));
+        assertTrue(Double.isNaN(sum.getSum(3)));
+        assertTrue(Double.isNaN(sum.getSum(4)));
+        assertEquals(15, sum.getSum(5), 0);
+        assertEquals(18, sum.getSum(6), 0);
+    }
+
+    @Test
+    public void movingSeriesMatchesFullScan() {
+        double[] data = new double[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+        BarSeries series = new MockBarSeries(data);
+        series.setMaximumBarCount(30);
+        IntToDoubleFunction close = i -> series.getBar(i).getClosePrice();
+        RollingSum sum = new RollingSum(series, close, 10);
+        for (int i = 0; i <= series.getEndIndex(); i++) {
+            assertEquals(scan(close, i, 10), sum.getSum(i), 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void barCountMustBePositive() {
+        new RollingSum(null, i -> i, 0);
+    }
+}
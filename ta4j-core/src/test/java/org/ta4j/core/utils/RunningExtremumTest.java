@@ -0,0 +1,87 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017-2022 Ta4j Organization & respective
+ * authors (see AUTHORS)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.ta4j.core.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RunningExtremumTest {
+
+    private static double scan(IntToDoubleFunction values, int beginIndex, int index, boolean highest) {
+        double result = Double.NaN;
+        for (int i = beginIndex; i <= index; i++) {
+            double value = values.applyAsDouble(i);
+            if (!Double.isNaN(value) && (Double.isNaN(result) || (highest ? value > result : value < result))) {
+                result = value;
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void sequentialAndRandomAccessMatchFullScan() {
+        Random random = new Random(3);
+        double[] data = new double[500];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(50);
+        }
+        IntToDoubleFunction values = i -> data[i];
+        for (boolean highest : new boolean[] { true, false }) {
+            RunningExtremum extremum = new RunningExtremum(values, 20, highest);
+            for (int i = 20; i < data.length; i += 1 + random.nextInt(3)) {
+                assertEquals(scan(values, 20, i, highest), extremum.getValue(i), 0);
+            }
+            for (int k = 0; k < 100; k++) {
+                int i = 20 + random.nextInt(data.length - 20);
+                assertEquals(scan(values, 20, i, highest), extremum.getValue(i), 0);
+            }
+            extremum.reset(100, !highest);
+            for (int i = 100; i < data.length; i++) {
+                assertEquals(scan(values, 100, i, !highest), extremum.getValue(i), 0);
+            }
+        }
+    }
+
+    @Test
+    public void lastValueMayChange() {
+        double[] data = { 3, 1, 4, 1 };
+        RunningExtremum highest = new RunningExtremum(i -> data[i], 0, true);
+        assertEquals(4, highest.getValue(2), 0);
+        data[2] = 2;
+        assertEquals(3, highest.getValue(2), 0);
+        assertEquals(3, highest.getValue(3), 0);
+    }
+
+    @Test
+    public void beforeTheBeginIndex() {
+        RunningExtremum lowest = new RunningExtremum(i -> i, 5, false);
+        assertTrue(Double.isNaN(lowest.getValue(4)));
+        assertEquals(5, lowest.getValue(7), 0);
+    }
+}
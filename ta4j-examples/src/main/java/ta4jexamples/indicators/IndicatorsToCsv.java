@@ -31,6 +31,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.ta4j.core.BarSeries;
+import org.ta4j.core.DoubleIndicator;
 import org.ta4j.core.indicators.ATRIndicator;
 import org.ta4j.core.indicators.EMAIndicator;
 import org.ta4j.core.indicators.PPOIndicator;
@@ -92,38 +93,25 @@ public class IndicatorsToCsv {
                 "timestamp,close,typical,variation,sma8,sma20,ema8,ema20,ppo,roc,rsi,williamsr,atr,sd\n");
 
         /*
-         * Adding indicators values
+         * Computing indicators values (one sweep per indicator)
          */
+        final DoubleIndicator[] indicators = { closePrice, typicalPrice, priceVariation, shortSma, longSma, shortEma,
+                longEma, ppo, roc, rsi, williamsR, atr, sd };
         final int nbBars = series.getBarCount();
+        final double[][] values = new double[indicators.length][nbBars];
+        for (int k = 0; k < indicators.length; k++) {
+            indicators[k].fill(0, nbBars - 1, values[k]);
+        }
+
+        /*
+         * Adding indicators values
+         */
         for (int i = 0; i < nbBars; i++) {
-            sb.append(series.getBar(i).getEndTime())
-                    .append(',')
-                    .append(closePrice.getValue(i))
-                    .append(',')
-                    .append(typicalPrice.getValue(i))
-                    .append(',')
-                    .append(priceVariation.getValue(i))
-                    .append(',')
-                    .append(shortSma.getValue(i))
-                    .append(',')
-                    .append(longSma.getValue(i))
-                    .append(',')
-                    .append(shortEma.getValue(i))
-                    .append(',')
-                    .append(longEma.getValue(i))
-                    .append(',')
-                    .append(ppo.getValue(i))
-                    .append(',')
-                    .append(roc.getValue(i))
-                    .append(',')
-                    .append(rsi.getValue(i))
-                    .append(',')
-                    .append(williamsR.getValue(i))
-                    .append(',')
-                    .append(atr.getValue(i))
-                    .append(',')
-                    .append(sd.getValue(i))
-                    .append('\n');
+            sb.append(series.getBar(i).getEndTime());
+            for (double[] indicatorValues : values) {
+                sb.append(',').append(indicatorValues[i]);
+            }
+            sb.append('\n');
         }
 
         /*